@@ -0,0 +1,132 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.course.CourseName;
+import seedu.address.model.course.CourseNameContainsKeywordsPredicate;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Compares filtering whole student and course lists with the compiled name predicates against the previous approach
+ * of lower-casing the name and every keyword for each element.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSearchBenchmark {
+
+    private static final String[] GIVEN_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ming",
+        "Siti", "Arjun", "Mei Ling"};
+    private static final String[] FAMILY_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Nair", "Wong"};
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"tan", "alex li nair"})
+    private String query;
+
+    private List<Person> persons;
+    private List<Course> courses;
+    private List<String> keywords;
+
+    /**
+     * Generates {@code size} students and courses with names drawn from a fixed pool.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(2103);
+        persons = new ArrayList<>(size);
+        courses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " "
+                    + FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)];
+            persons.add(new Person(new Name(name), new Phone("91234567"), new Gender("male"),
+                    StudentId.fromNumber(i % StudentId.MAX_NUMBER + 1)));
+            courses.add(new Course(new CourseName(name + " Studies"), CourseId.fromNumber(i % CourseId.MAX_NUMBER),
+                    List.of(), Set.of()));
+        }
+        keywords = List.of(query.split(" "));
+    }
+
+    /**
+     * Filters the students the way the predicate did before, lower-casing the name and every keyword per element.
+     */
+    @Benchmark
+    public int personsLowerCasePerElement() {
+        int count = 0;
+        for (Person person : persons) {
+            if (keywords.stream().anyMatch(keyword ->
+                    person.getName().fullName.toLowerCase().contains(keyword.toLowerCase()))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Filters the students with {@code NameContainsKeywordsPredicate}.
+     */
+    @Benchmark
+    public int personsCompiledPredicate() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+        int count = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Filters the courses the way the predicate did before, lower-casing the name and every keyword per element.
+     */
+    @Benchmark
+    public int coursesLowerCasePerElement() {
+        int count = 0;
+        for (Course course : courses) {
+            if (keywords.stream().anyMatch(keyword ->
+                    course.getName().fullName.toLowerCase().contains(keyword.toLowerCase()))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Filters the courses with {@code CourseNameContainsKeywordsPredicate}.
+     */
+    @Benchmark
+    public int coursesCompiledPredicate() {
+        CourseNameContainsKeywordsPredicate predicate = new CourseNameContainsKeywordsPredicate(keywords);
+        int count = 0;
+        for (Course course : courses) {
+            if (predicate.test(course)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CourseBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyCourseBook;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.course.CourseName;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares saving and loading the address book and the course book through the JSON storage against the binary
+ * storage. Each save writes, forces and replaces a file in a temporary directory, and each load reads the file saved
+ * by the setup and builds the book from it, indexes included.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+
+    private static final String[] GIVEN_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ming",
+        "Siti", "Arjun", "Mei Ling"};
+    private static final String[] FAMILY_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Nair", "Wong"};
+    private static final int STUDENTS_PER_COURSE = 50;
+
+    @Param({"10000", "99999"})
+    private int size;
+
+    private Path directory;
+    private AddressBook addressBook;
+    private CourseBook courseBook;
+    private JsonAddressBookStorage jsonAddressBookStorage;
+    private BinaryAddressBookStorage binaryAddressBookStorage;
+    private JsonCourseBookStorage jsonCourseBookStorage;
+    private BinaryCourseBookStorage binaryCourseBookStorage;
+
+    /**
+     * Generates {@code size} students with names drawn from a fixed pool and distinct phone numbers, and enough
+     * courses of {@value #STUDENTS_PER_COURSE} students for every student to be enrolled in one, then saves them in
+     * both formats for the load benchmarks.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(2103);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " "
+                    + FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)];
+            persons.add(new Person(new Name(name), new Phone(String.valueOf(80000000 + i)),
+                    new Gender(random.nextBoolean() ? "Male" : "Female"), StudentId.fromNumber(i + 1)));
+        }
+        addressBook = new AddressBook();
+        addressBook.addPersons(persons);
+
+        courseBook = new CourseBook();
+        for (int first = 0; first < size; first += STUDENTS_PER_COURSE) {
+            List<StudentId> roster = new ArrayList<>(STUDENTS_PER_COURSE);
+            for (int i = first; i < Math.min(first + STUDENTS_PER_COURSE, size); i++) {
+                roster.add(persons.get(i).getStudentId());
+            }
+            int number = first / STUDENTS_PER_COURSE;
+            courseBook.addCourse(new Course(new CourseName("Course " + number), CourseId.fromNumber(number), roster,
+                    Set.of(new Tag(number % 2 == 0 ? "core" : "elective"))));
+        }
+
+        directory = Files.createTempDirectory("storage-benchmark");
+        jsonAddressBookStorage = new JsonAddressBookStorage(directory.resolve("addressbook.json"));
+        binaryAddressBookStorage = new BinaryAddressBookStorage(directory.resolve("addressbook.bin"));
+        jsonCourseBookStorage = new JsonCourseBookStorage(directory.resolve("coursebook.json"));
+        binaryCourseBookStorage = new BinaryCourseBookStorage(directory.resolve("coursebook.bin"));
+        saveAddressBookJson();
+        saveAddressBookBinary();
+        saveCourseBookJson();
+        saveCourseBookBinary();
+    }
+
+    /**
+     * Deletes the files saved by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void saveAddressBookJson() throws IOException {
+        jsonAddressBookStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void saveAddressBookBinary() throws IOException {
+        binaryAddressBookStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> loadAddressBookJson() throws DataLoadingException {
+        return jsonAddressBookStorage.readAddressBook();
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> loadAddressBookBinary() throws DataLoadingException {
+        return binaryAddressBookStorage.readAddressBook();
+    }
+
+    @Benchmark
+    public void saveCourseBookJson() throws IOException {
+        jsonCourseBookStorage.saveCourseBook(courseBook);
+    }
+
+    @Benchmark
+    public void saveCourseBookBinary() throws IOException {
+        binaryCourseBookStorage.saveCourseBook(courseBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyCourseBook> loadCourseBookJson() throws DataLoadingException {
+        return jsonCourseBookStorage.readCourseBook(addressBook.getPersonList());
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyCourseBook> loadCourseBookBinary() throws DataLoadingException {
+        return binaryCourseBookStorage.readCourseBook(addressBook.getPersonList());
+    }
+}
@@ -22,12 +22,19 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyCourseBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.StorageFormat;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.BinaryCourseBookStorage;
+import seedu.address.storage.ConvertingAddressBookStorage;
+import seedu.address.storage.ConvertingCourseBookStorage;
 import seedu.address.storage.CourseBookStorage;
+import seedu.address.storage.JournalStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonCourseBookStorage;
+import seedu.address.storage.JsonJournalStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -61,28 +68,58 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        CourseBookStorage courseBookStorage = new JsonCourseBookStorage(userPrefs.getCourseBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, courseBookStorage);
+        storage = new StorageManager(initAddressBookStorage(userPrefs), userPrefsStorage,
+                initCourseBookStorage(userPrefs));
+        JournalStorage journal = new JsonJournalStorage(userPrefs.getJournalFilePath());
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, journal, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = userPrefs.isJournalEnabled() || !foldJournal(storage, journal, model)
+                ? new LogicManager(model, storage, journal)
+                : new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the address book storage in {@code userPrefs}'s storage format, which converts the data saved in the
+     * other format if that was saved last.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        AddressBookStorage json = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage binary = new BinaryAddressBookStorage(userPrefs.getBinaryAddressBookFilePath());
+        return userPrefs.getStorageFormat() == StorageFormat.BINARY
+                ? new ConvertingAddressBookStorage(binary, json)
+                : new ConvertingAddressBookStorage(json, binary);
+    }
+
+    /**
+     * Returns the course book storage in {@code userPrefs}'s storage format, which converts the data saved in the
+     * other format if that was saved last.
+     */
+    private CourseBookStorage initCourseBookStorage(ReadOnlyUserPrefs userPrefs) {
+        CourseBookStorage json = new JsonCourseBookStorage(userPrefs.getCourseBookFilePath());
+        CourseBookStorage binary = new BinaryCourseBookStorage(userPrefs.getBinaryCourseBookFilePath());
+        return userPrefs.getStorageFormat() == StorageFormat.BINARY
+                ? new ConvertingCourseBookStorage(binary, json)
+                : new ConvertingCourseBookStorage(json, binary);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book, course book and {@code
-     * userPrefs}. <br>
+     * userPrefs}, with the changes in {@code journal} made to it. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The journal is then moved aside rather than replayed, as it applies to the data in the files only, and is the
+     * only copy of the changes made since they were last saved in full. It is also moved aside if it cannot be
+     * replayed in full, as the first save would otherwise drop the changes that could not.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, JournalStorage journal, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialAddressBook;
+        boolean isDataFromFiles = false;
         try {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
@@ -90,6 +127,7 @@ public class MainApp extends Application {
                         + " populated with a sample AddressBook.");
             }
             initialAddressBook = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            isDataFromFiles = addressBookOptional.isPresent();
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
@@ -106,13 +144,63 @@ public class MainApp extends Application {
                 logger.info("Creating a new data file " + storage.getCourseBookFilePath() + " adding new sample data.");
             }
             initialCourseBook = courseBookOptional.orElseGet(SampleDataUtil::getSampleCourseBook);
+            isDataFromFiles &= courseBookOptional.isPresent();
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getCourseBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty CourseBook.");
             initialCourseBook = new CourseBook();
+            isDataFromFiles = false;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.resetData(initialAddressBook);
+        CourseBook courseBook = new CourseBook(initialCourseBook);
+        if (isDataFromFiles) {
+            try {
+                int count = journal.replayJournal(addressBook, courseBook);
+                logger.info("Replayed " + count + " change set(s) from journal " + journal.getJournalFilePath());
+            } catch (DataLoadingException e) {
+                logger.warning("Journal at " + journal.getJournalFilePath() + " could not be replayed in full."
+                        + " Will be starting with the changes that could.");
+                moveJournalAside(journal);
+            }
+        } else {
+            moveJournalAside(journal);
         }
 
-        return new ModelManager(initialAddressBook, initialCourseBook, userPrefs);
+        return new ModelManager(addressBook, courseBook, userPrefs);
+    }
+
+    /**
+     * Writes the data in {@code model}, which includes the changes replayed from {@code journal}, in full and
+     * empties the journal, so that saving without it can start. Returns false if the journal could not be emptied,
+     * as it must then be kept up to date for the rest of the session.
+     */
+    private boolean foldJournal(Storage storage, JournalStorage journal, Model model) {
+        try {
+            if (journal.getJournalSize() > 0) {
+                storage.saveAddressBook(model.getAddressBook());
+                storage.saveCourseBook(model.getCourseBook());
+                journal.clearJournal();
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warning("Journal at " + journal.getJournalFilePath() + " could not be folded into the data files."
+                    + " Will keep journaling until it is: " + e);
+            return false;
+        }
+    }
+
+    private void moveJournalAside(JournalStorage journal) {
+        try {
+            Path backupPath = journal.moveJournalAside();
+            if (backupPath != null) {
+                logger.warning("Journal at " + journal.getJournalFilePath() + " was not replayed in full."
+                        + " Keeping it at " + backupPath);
+            }
+        } catch (IOException e) {
+            logger.warning("Journal at " + journal.getJournalFilePath() + " could not be moved aside: " + e);
+        }
     }
 
     private void initLogging(Config config) {
@@ -199,6 +287,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -4,7 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +36,19 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns a map from the key of each of {@code values}, as given by {@code keyOf}, to that value, or null if two
+     * of {@code values} have the same key. The map is sized for {@code values} up front.
+     */
+    public static <K, V> Map<K, V> indexBy(List<V> values, Function<? super V, ? extends K> keyOf) {
+        requireAllNonNull(values, keyOf);
+        Map<K, V> index = new HashMap<>(Math.max(16, values.size() * 4 / 3 + 1));
+        for (V value : values) {
+            if (index.putIfAbsent(keyOf.apply(value), value) != null) {
+                return null;
+            }
+        }
+        return index;
+    }
 }
@@ -0,0 +1,154 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads delimiter-separated values, such as CSV or TSV, one row at a time, so that only the current row is held in
+ * memory however long the input is.
+ *
+ * Fields may be enclosed in double quotes to hold delimiters, line breaks or, written twice, double quotes. Rows end
+ * with {@code \n}, {@code \r\n} or {@code \r}. A row whose quoted field is never closed is reported with a
+ * {@link MalformedRowException}, after which reading resumes at the line after the one the row started on.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int END = -1;
+
+    private final Reader reader;
+    private final char delimiter;
+    private int pending = END - 1;
+    private int lineNumber = 1;
+    private int rowLineNumber;
+    /** The input read since the first line break of the current row, while it is inside a quoted field. */
+    private StringBuilder rowRest;
+    /** Input read once already, to be read again before the rest of {@code reader}. */
+    private String replay;
+    private int replayPosition;
+
+    /**
+     * Creates a reader of the rows of {@code reader}, whose fields are separated by {@code delimiter}.
+     * The reader should be buffered.
+     */
+    public CsvReader(Reader reader, char delimiter) {
+        requireNonNull(reader);
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Returns the fields of the next row, or null if there are no more rows.
+     *
+     * @throws MalformedRowException if the input ends inside a quoted field of the row.
+     * @throws IOException if the input cannot be read.
+     */
+    public List<String> readRow() throws IOException {
+        rowRest = null;
+        int next = read();
+        if (next == END) {
+            return null;
+        }
+        rowLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (next == END) {
+                    skipRow();
+                    throw new MalformedRowException("Unterminated quoted field");
+                }
+                if (next == '"') {
+                    next = read();
+                    if (next != '"') {
+                        isQuoted = false;
+                        continue;
+                    }
+                }
+                if (next == '\n') {
+                    lineNumber++;
+                    if (rowRest == null) {
+                        rowRest = new StringBuilder();
+                    }
+                }
+                field.append((char) next);
+            } else if (next == '"' && field.length() == 0) {
+                isQuoted = true;
+            } else if (next == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (next == '\n' || next == '\r' || next == END) {
+                if (next == '\r') {
+                    int afterReturn = read();
+                    if (afterReturn != '\n') {
+                        pending = afterReturn;
+                    }
+                }
+                if (next != END) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) next);
+            }
+            next = read();
+        }
+    }
+
+    /**
+     * Returns the line number, counted from 1, at which the row last returned by {@link #readRow()} starts.
+     */
+    public int getRowLineNumber() {
+        return rowLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Goes back to the line after the one the current row started on, to read the lines that its unclosed quote
+     * swallowed again.
+     */
+    private void skipRow() {
+        if (rowRest != null) {
+            replay = rowRest.toString();
+            replayPosition = 0;
+            rowRest = null;
+        }
+        lineNumber = rowLineNumber + 1;
+    }
+
+    private int read() throws IOException {
+        int next;
+        if (pending >= END) {
+            next = pending;
+            pending = END - 1;
+        } else if (replay != null && replayPosition < replay.length()) {
+            next = replay.charAt(replayPosition++);
+        } else {
+            replay = null;
+            next = reader.read();
+        }
+        if (rowRest != null && next != END) {
+            rowRest.append((char) next);
+        }
+        return next;
+    }
+
+    /**
+     * Signals that a row is malformed. Reading can go on with the next row.
+     */
+    public static class MalformedRowException extends IOException {
+        public MalformedRowException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes delimiter-separated values, such as CSV or TSV, one row at a time, in the form read by {@link CsvReader}.
+ *
+ * A field is enclosed in double quotes only if it holds the delimiter, a double quote or a line break, and double
+ * quotes inside it are written twice. Rows end with {@code \n}.
+ */
+public class CsvWriter implements RowWriter {
+
+    private final Writer writer;
+    private final char delimiter;
+
+    /**
+     * Creates a writer of rows to {@code writer}, whose fields are separated by {@code delimiter}.
+     * The writer should be buffered.
+     */
+    public CsvWriter(Writer writer, char delimiter) {
+        requireNonNull(writer);
+        this.writer = writer;
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public void writeRow(List<String> fields) throws IOException {
+        requireNonNull(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(delimiter);
+            }
+            writeField(fields.get(i));
+        }
+        writer.write('\n');
+    }
+
+    private void writeField(String field) throws IOException {
+        boolean needsQuotes = field.indexOf(delimiter) >= 0 || field.indexOf('"') >= 0
+                || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,246 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A typo-tolerant index from the words of short texts, such as names, to the numeric ids of the texts containing them.
+ *
+ * The distinct words are held in a BK-tree keyed by Levenshtein distance. A lookup with a distance bound only visits
+ * the subtrees that the triangle inequality allows to hold a close enough word, so it computes distances against a
+ * small part of the vocabulary rather than against every text. Texts are split into words after normalising them with
+ * {@link StringUtil#toSearchKey(String)}.
+ *
+ * Words left without any text are kept in the tree, which cannot drop a node without rebuilding the subtree below
+ * it, until they outnumber the live words, at which point the tree is rebuilt.
+ */
+public class FuzzyWordIndex {
+
+    private static final int MIN_WORDS_TO_REBUILD = 64;
+
+    private final Map<Integer, String[]> words = new HashMap<>();
+    private final Map<String, Node> nodes = new HashMap<>();
+    private Node root;
+    private int deadWords;
+
+    /**
+     * Indexes the words of {@code text} under {@code id}, replacing any text already indexed under it.
+     */
+    public void add(int id, String text) {
+        requireNonNull(text);
+        checkArgument(id >= 0, "Id must not be negative");
+        remove(id);
+        String searchKey = StringUtil.toSearchKey(text);
+        String[] textWords = searchKey.isEmpty() ? new String[0] : searchKey.split(" ");
+        words.put(id, textWords);
+        for (String word : textWords) {
+            Node node = nodes.get(word);
+            if (node == null) {
+                node = new Node(word);
+                nodes.put(word, node);
+                insert(node);
+            } else if (node.ids.isEmpty()) {
+                deadWords--;
+            }
+            node.ids.add(id);
+        }
+    }
+
+    /**
+     * Removes the text indexed under {@code id}, if any.
+     */
+    public void remove(int id) {
+        String[] textWords = words.remove(id);
+        if (textWords == null) {
+            return;
+        }
+        for (String word : textWords) {
+            Node node = nodes.get(word);
+            if (node.ids.remove(id) && node.ids.isEmpty()) {
+                deadWords++;
+            }
+        }
+        if (deadWords >= MIN_WORDS_TO_REBUILD && deadWords > nodes.size() - deadWords) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Removes every indexed text.
+     */
+    public void clear() {
+        words.clear();
+        nodes.clear();
+        root = null;
+        deadWords = 0;
+    }
+
+    /**
+     * Returns the ids of at most {@code limit} texts that contain a word within the allowed edit distance of any of
+     * {@code keywords}, best first. Texts close to more keywords come first, then those with the smaller total
+     * distance to them, then those with the smaller id.
+     *
+     * @see #maxDistance(String)
+     */
+    public List<Integer> search(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        checkArgument(limit > 0, "Limit must be positive");
+        Map<Integer, int[]> matches = new HashMap<>();
+        for (String keyword : keywords) {
+            String key = StringUtil.toSearchKey(keyword);
+            if (key.isEmpty() || key.indexOf(' ') >= 0) {
+                continue;
+            }
+            Map<Integer, Integer> bestDistances = new HashMap<>();
+            forEachWithin(key, maxDistance(key), (node, distance) -> node.ids.forEach(id ->
+                    bestDistances.merge(id, distance, Math::min)));
+            bestDistances.forEach((id, distance) -> {
+                int[] match = matches.computeIfAbsent(id, unused -> new int[2]);
+                match[0]++;
+                match[1] += distance;
+            });
+        }
+
+        Comparator<Map.Entry<Integer, int[]>> betterFirst = Comparator
+                .comparingInt((Map.Entry<Integer, int[]> entry) -> -entry.getValue()[0])
+                .thenComparingInt(entry -> entry.getValue()[1])
+                .thenComparingInt(Map.Entry::getKey);
+        PriorityQueue<Map.Entry<Integer, int[]>> best = new PriorityQueue<>(betterFirst.reversed());
+        for (Map.Entry<Integer, int[]> entry : matches.entrySet()) {
+            best.add(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Map.Entry<Integer, int[]>> ranked = new ArrayList<>(best);
+        ranked.sort(betterFirst);
+        List<Integer> ids = new ArrayList<>(ranked.size());
+        ranked.forEach(entry -> ids.add(entry.getKey()));
+        return ids;
+    }
+
+    /**
+     * Returns the largest edit distance tolerated for {@code keyword}: none for up to 2 characters, 1 for up to 5 and
+     * 2 for longer keywords, so that short keywords do not match almost every word.
+     */
+    public static int maxDistance(String keyword) {
+        int length = keyword.length();
+        return length <= 2 ? 0 : length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, or {@code bound + 1} if it is larger
+     * than {@code bound}.
+     */
+    static int distance(String first, String second, int bound) {
+        if (Math.abs(first.length() - second.length()) > bound) {
+            return bound + 1;
+        }
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > bound) {
+                return bound + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[second.length()], bound + 1);
+    }
+
+    private void forEachWithin(String key, int bound, NodeVisitor visitor) {
+        if (root == null) {
+            return;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            // The exact distance is needed to choose the children to visit, so only cap it at the longest it can be.
+            int distance = distance(key, node.word, Math.max(key.length(), node.word.length()));
+            if (distance <= bound && !node.ids.isEmpty()) {
+                visitor.visit(node, distance);
+            }
+            for (int childDistance = Math.max(1, distance - bound); childDistance <= distance + bound;
+                    childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+    }
+
+    private void insert(Node node) {
+        if (root == null) {
+            root = node;
+            return;
+        }
+        Node current = root;
+        while (true) {
+            int distance = distance(node.word, current.word, Math.max(node.word.length(), current.word.length()));
+            Node child = current.children.get(distance);
+            if (child == null) {
+                current.children.put(distance, node);
+                return;
+            }
+            current = child;
+        }
+    }
+
+    private void rebuild() {
+        List<Node> liveNodes = new ArrayList<>();
+        for (Node node : nodes.values()) {
+            if (!node.ids.isEmpty()) {
+                liveNodes.add(new Node(node.word, node.ids));
+            }
+        }
+        nodes.clear();
+        root = null;
+        deadWords = 0;
+        for (Node node : liveNodes) {
+            nodes.put(node.word, node);
+            insert(node);
+        }
+    }
+
+    @FunctionalInterface
+    private interface NodeVisitor {
+        void visit(Node node, int distance);
+    }
+
+    private static class Node {
+        private final String word;
+        private final IntBitmap ids;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this(word, new IntBitmap());
+        }
+
+        Node(String word, IntBitmap ids) {
+            this.word = word;
+            this.ids = ids;
+        }
+    }
+}
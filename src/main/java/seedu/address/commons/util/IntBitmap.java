@@ -0,0 +1,747 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A compressed set of non-negative {@code int}s.
+ *
+ * Values are partitioned by their high 16 bits into chunks. Each chunk stores the low 16 bits of its values either
+ * as a sorted array, while it holds at most {@value #ARRAY_CHUNK_MAX_CARDINALITY} values, or as a 65536-bit bitset
+ * once it becomes denser. Sparse sets therefore cost two bytes per value, dense sets one bit per possible value, and
+ * union, intersection and difference of dense chunks are computed a 64-bit word at a time.
+ */
+public class IntBitmap {
+
+    private static final int ARRAY_CHUNK_MAX_CARDINALITY = 4096;
+    private static final int BITSET_WORDS = 1 << 10;
+
+    /** High 16 bits of the values in each chunk, in ascending order. */
+    private char[] keys;
+    private Chunk[] chunks;
+    private int chunkCount;
+
+    /**
+     * Creates an empty {@code IntBitmap}.
+     */
+    public IntBitmap() {
+        keys = new char[4];
+        chunks = new Chunk[4];
+        chunkCount = 0;
+    }
+
+    /**
+     * Returns an {@code IntBitmap} containing the given {@code values}.
+     */
+    public static IntBitmap of(int... values) {
+        IntBitmap bitmap = new IntBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds {@code value} to this bitmap.
+     *
+     * @return true if the bitmap did not already contain {@code value}.
+     */
+    public boolean add(int value) {
+        checkArgument(value >= 0, "IntBitmap only holds non-negative values");
+        char key = highBits(value);
+        int position = findChunk(key);
+        if (position < 0) {
+            position = -position - 1;
+            insertChunk(position, key, new ArrayChunk());
+        }
+        Chunk chunk = chunks[position];
+        int before = chunk.cardinality();
+        chunks[position] = chunk.add(lowBits(value));
+        return chunks[position].cardinality() != before;
+    }
+
+    /**
+     * Removes {@code value} from this bitmap.
+     *
+     * @return true if the bitmap contained {@code value}.
+     */
+    public boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int position = findChunk(highBits(value));
+        if (position < 0) {
+            return false;
+        }
+        Chunk chunk = chunks[position];
+        int before = chunk.cardinality();
+        Chunk updated = chunk.remove(lowBits(value));
+        if (updated.cardinality() == before) {
+            return false;
+        }
+        if (updated.cardinality() == 0) {
+            removeChunk(position);
+        } else {
+            chunks[position] = updated;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if this bitmap contains {@code value}.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int position = findChunk(highBits(value));
+        return position >= 0 && chunks[position].contains(lowBits(value));
+    }
+
+    /**
+     * Returns the number of values in this bitmap.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            cardinality += chunks[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+    /**
+     * Removes all values from this bitmap.
+     */
+    public void clear() {
+        Arrays.fill(chunks, 0, chunkCount, null);
+        chunkCount = 0;
+    }
+
+    /**
+     * Returns the smallest value in this bitmap, or -1 if it is empty.
+     */
+    public int first() {
+        return chunkCount == 0 ? -1 : (keys[0] << 16) | chunks[0].first();
+    }
+
+    /**
+     * Returns the largest value in this bitmap, or -1 if it is empty.
+     */
+    public int last() {
+        return chunkCount == 0 ? -1 : (keys[chunkCount - 1] << 16) | chunks[chunkCount - 1].last();
+    }
+
+    /**
+     * Returns the smallest non-negative value that is not in this bitmap and is at least {@code fromValue}.
+     */
+    public int nextAbsent(int fromValue) {
+        checkArgument(fromValue >= 0, "IntBitmap only holds non-negative values");
+        int candidate = fromValue;
+        int position = findChunk(highBits(candidate));
+        if (position < 0) {
+            return candidate;
+        }
+        while (position < chunkCount && keys[position] == highBits(candidate)) {
+            int low = chunks[position].nextAbsent(lowBits(candidate));
+            if (low <= Character.MAX_VALUE) {
+                return (keys[position] << 16) | low;
+            }
+            candidate = (keys[position] + 1) << 16;
+            position++;
+        }
+        return candidate;
+    }
+
+    /**
+     * Returns the smallest value in this bitmap that is at least {@code fromValue}, or -1 if there is none.
+     */
+    public int nextValue(int fromValue) {
+        checkArgument(fromValue >= 0, "IntBitmap only holds non-negative values");
+        int position = findChunk(highBits(fromValue));
+        if (position >= 0) {
+            int low = chunks[position].nextPresent(lowBits(fromValue));
+            if (low <= Character.MAX_VALUE) {
+                return (keys[position] << 16) | low;
+            }
+            position++;
+        } else {
+            position = -position - 1;
+        }
+        return position < chunkCount ? (keys[position] << 16) | chunks[position].first() : -1;
+    }
+
+    /**
+     * Returns a new bitmap holding the values present in both this bitmap and {@code other}.
+     */
+    public IntBitmap and(IntBitmap other) {
+        IntBitmap result = new IntBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Chunk chunk = chunks[i].and(other.chunks[j]);
+                if (chunk.cardinality() > 0) {
+                    result.appendChunk(keys[i], chunk);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap holding the values present in this bitmap, {@code other}, or both.
+     */
+    public IntBitmap or(IntBitmap other) {
+        IntBitmap result = new IntBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount || j < other.chunkCount) {
+            if (j >= other.chunkCount || (i < chunkCount && keys[i] < other.keys[j])) {
+                result.appendChunk(keys[i], chunks[i].copy());
+                i++;
+            } else if (i >= chunkCount || keys[i] > other.keys[j]) {
+                result.appendChunk(other.keys[j], other.chunks[j].copy());
+                j++;
+            } else {
+                result.appendChunk(keys[i], chunks[i].or(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap holding the values present in this bitmap but not in {@code other}.
+     */
+    public IntBitmap andNot(IntBitmap other) {
+        IntBitmap result = new IntBitmap();
+        int j = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            while (j < other.chunkCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Chunk chunk = j < other.chunkCount && other.keys[j] == keys[i]
+                    ? chunks[i].andNot(other.chunks[j])
+                    : chunks[i].copy();
+            if (chunk.cardinality() > 0) {
+                result.appendChunk(keys[i], chunk);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns an independent copy of this bitmap.
+     */
+    public IntBitmap copy() {
+        IntBitmap copy = new IntBitmap();
+        for (int i = 0; i < chunkCount; i++) {
+            copy.appendChunk(keys[i], chunks[i].copy());
+        }
+        return copy;
+    }
+
+    /**
+     * Performs {@code action} on every value in this bitmap, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns the values in this bitmap in ascending order.
+     */
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int[] next = {0};
+        forEach(value -> values[next[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Returns a sequential stream of the values in this bitmap in ascending order.
+     */
+    public IntStream stream() {
+        return Arrays.stream(toArray());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IntBitmap otherBitmap)) {
+            return false;
+        }
+
+        if (chunkCount != otherBitmap.chunkCount) {
+            return false;
+        }
+        for (int i = 0; i < chunkCount; i++) {
+            if (keys[i] != otherBitmap.keys[i] || !chunks[i].hasSameValues(otherBitmap.chunks[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int[] hash = {1};
+        forEach(value -> hash[0] = 31 * hash[0] + value);
+        return hash[0];
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private static char highBits(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    private int findChunk(char key) {
+        return Arrays.binarySearch(keys, 0, chunkCount, key);
+    }
+
+    private void insertChunk(int position, char key, Chunk chunk) {
+        ensureChunkCapacity();
+        System.arraycopy(keys, position, keys, position + 1, chunkCount - position);
+        System.arraycopy(chunks, position, chunks, position + 1, chunkCount - position);
+        keys[position] = key;
+        chunks[position] = chunk;
+        chunkCount++;
+    }
+
+    private void appendChunk(char key, Chunk chunk) {
+        ensureChunkCapacity();
+        keys[chunkCount] = key;
+        chunks[chunkCount] = chunk;
+        chunkCount++;
+    }
+
+    private void removeChunk(int position) {
+        System.arraycopy(keys, position + 1, keys, position, chunkCount - position - 1);
+        System.arraycopy(chunks, position + 1, chunks, position, chunkCount - position - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    private void ensureChunkCapacity() {
+        if (chunkCount == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+    }
+
+    /**
+     * The low 16 bits of the values sharing one high 16-bit key.
+     * Chunks are kept in canonical form: an {@code ArrayChunk} iff the cardinality is at most
+     * {@value #ARRAY_CHUNK_MAX_CARDINALITY}, so two chunks hold the same values only if they have the same form.
+     */
+    private abstract static class Chunk {
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        /** Returns the chunk holding this chunk's values plus {@code low}, which may be this chunk. */
+        abstract Chunk add(char low);
+
+        /** Returns the chunk holding this chunk's values minus {@code low}, which may be this chunk. */
+        abstract Chunk remove(char low);
+
+        abstract int first();
+
+        abstract int last();
+
+        /** Returns the smallest absent low value at least {@code from}, or 65536 if there is none. */
+        abstract int nextAbsent(int from);
+
+        /** Returns the smallest present low value at least {@code from}, or 65536 if there is none. */
+        abstract int nextPresent(int from);
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract Chunk copy();
+
+        abstract boolean hasSameValues(Chunk other);
+
+        abstract BitsetChunk toBitset();
+
+        Chunk and(Chunk other) {
+            if (this instanceof ArrayChunk array && other instanceof ArrayChunk otherArray) {
+                return array.intersect(otherArray);
+            }
+            if (this instanceof ArrayChunk array) {
+                return array.filter(other, true);
+            }
+            if (other instanceof ArrayChunk otherArray) {
+                return otherArray.filter(this, true);
+            }
+            return ((BitsetChunk) this).combine((BitsetChunk) other, (a, b) -> a & b);
+        }
+
+        Chunk or(Chunk other) {
+            if (this instanceof ArrayChunk array && other instanceof ArrayChunk otherArray) {
+                return array.union(otherArray);
+            }
+            return toBitset().combine(other.toBitset(), (a, b) -> a | b);
+        }
+
+        Chunk andNot(Chunk other) {
+            if (this instanceof ArrayChunk array) {
+                return array.filter(other, false);
+            }
+            return ((BitsetChunk) this).combine(other.toBitset(), (a, b) -> a & ~b);
+        }
+    }
+
+    /**
+     * A sparse chunk holding its low values in a sorted array.
+     */
+    private static class ArrayChunk extends Chunk {
+        private char[] values;
+        private int cardinality;
+
+        ArrayChunk() {
+            this(new char[4], 0);
+        }
+
+        ArrayChunk(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        Chunk add(char low) {
+            int position = Arrays.binarySearch(values, 0, cardinality, low);
+            if (position >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_CHUNK_MAX_CARDINALITY) {
+                return toBitset().add(low);
+            }
+            position = -position - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_CHUNK_MAX_CARDINALITY));
+            }
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Chunk remove(char low) {
+            int position = Arrays.binarySearch(values, 0, cardinality, low);
+            if (position < 0) {
+                return this;
+            }
+            System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+            cardinality--;
+            return this;
+        }
+
+        @Override
+        int first() {
+            return values[0];
+        }
+
+        @Override
+        int last() {
+            return values[cardinality - 1];
+        }
+
+        @Override
+        int nextAbsent(int from) {
+            int position = Arrays.binarySearch(values, 0, cardinality, (char) from);
+            if (position < 0) {
+                return from;
+            }
+            int candidate = from;
+            while (position < cardinality && values[position] == candidate) {
+                candidate++;
+                position++;
+            }
+            return candidate;
+        }
+
+        @Override
+        int nextPresent(int from) {
+            int position = Arrays.binarySearch(values, 0, cardinality, (char) from);
+            if (position < 0) {
+                position = -position - 1;
+            }
+            return position < cardinality ? values[position] : Character.MAX_VALUE + 1;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        Chunk copy() {
+            return new ArrayChunk(Arrays.copyOf(values, Math.max(cardinality, 4)), cardinality);
+        }
+
+        @Override
+        boolean hasSameValues(Chunk other) {
+            return other instanceof ArrayChunk otherArray
+                    && Arrays.equals(values, 0, cardinality, otherArray.values, 0, otherArray.cardinality);
+        }
+
+        @Override
+        BitsetChunk toBitset() {
+            BitsetChunk bitset = new BitsetChunk();
+            for (int i = 0; i < cardinality; i++) {
+                bitset.set(values[i]);
+            }
+            return bitset;
+        }
+
+        ArrayChunk intersect(ArrayChunk other) {
+            char[] result = new char[Math.max(Math.min(cardinality, other.cardinality), 4)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < other.cardinality) {
+                if (values[i] < other.values[j]) {
+                    i++;
+                } else if (values[i] > other.values[j]) {
+                    j++;
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayChunk(result, count);
+        }
+
+        Chunk union(ArrayChunk other) {
+            char[] result = new char[Math.max(cardinality + other.cardinality, 4)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < other.cardinality) {
+                if (j >= other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i >= cardinality || values[i] > other.values[j]) {
+                    result[count++] = other.values[j++];
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            ArrayChunk merged = new ArrayChunk(result, count);
+            return count > ARRAY_CHUNK_MAX_CARDINALITY ? merged.toBitset() : merged;
+        }
+
+        /**
+         * Returns the values of this chunk that are ({@code keep} true) or are not ({@code keep} false) in
+         * {@code other}.
+         */
+        ArrayChunk filter(Chunk other, boolean keep) {
+            char[] result = new char[Math.max(cardinality, 4)];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == keep) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayChunk(result, count);
+        }
+    }
+
+    /**
+     * A dense chunk holding its low values as a 65536-bit bitset.
+     */
+    private static class BitsetChunk extends Chunk {
+        private final long[] words;
+        private int cardinality;
+
+        BitsetChunk() {
+            this(new long[BITSET_WORDS], 0);
+        }
+
+        BitsetChunk(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        void set(char low) {
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) == 0) {
+                words[low >>> 6] |= mask;
+                cardinality++;
+            }
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Chunk add(char low) {
+            set(low);
+            return this;
+        }
+
+        @Override
+        Chunk remove(char low) {
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) == 0) {
+                return this;
+            }
+            words[low >>> 6] &= ~mask;
+            cardinality--;
+            return cardinality > ARRAY_CHUNK_MAX_CARDINALITY ? this : toArrayChunk();
+        }
+
+        @Override
+        int first() {
+            for (int i = 0; i < BITSET_WORDS; i++) {
+                if (words[i] != 0) {
+                    return (i << 6) + Long.numberOfTrailingZeros(words[i]);
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int last() {
+            for (int i = BITSET_WORDS - 1; i >= 0; i--) {
+                if (words[i] != 0) {
+                    return (i << 6) + 63 - Long.numberOfLeadingZeros(words[i]);
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int nextAbsent(int from) {
+            int wordIndex = from >>> 6;
+            long word = ~words[wordIndex] & (-1L << from);
+            while (word == 0) {
+                wordIndex++;
+                if (wordIndex == BITSET_WORDS) {
+                    return Character.MAX_VALUE + 1;
+                }
+                word = ~words[wordIndex];
+            }
+            return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        int nextPresent(int from) {
+            int wordIndex = from >>> 6;
+            long word = words[wordIndex] & (-1L << from);
+            while (word == 0) {
+                wordIndex++;
+                if (wordIndex == BITSET_WORDS) {
+                    return Character.MAX_VALUE + 1;
+                }
+                word = words[wordIndex];
+            }
+            return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < BITSET_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Chunk copy() {
+            return new BitsetChunk(words.clone(), cardinality);
+        }
+
+        @Override
+        boolean hasSameValues(Chunk other) {
+            return other instanceof BitsetChunk otherBitset && Arrays.equals(words, otherBitset.words);
+        }
+
+        @Override
+        BitsetChunk toBitset() {
+            return this;
+        }
+
+        /**
+         * Returns the canonical chunk whose words are {@code operator} applied to the words of both chunks.
+         */
+        Chunk combine(BitsetChunk other, WordOperator operator) {
+            long[] result = new long[BITSET_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITSET_WORDS; i++) {
+                result[i] = operator.apply(words[i], other.words[i]);
+                count += Long.bitCount(result[i]);
+            }
+            BitsetChunk combined = new BitsetChunk(result, count);
+            return count > ARRAY_CHUNK_MAX_CARDINALITY ? combined : combined.toArrayChunk();
+        }
+
+        private ArrayChunk toArrayChunk() {
+            char[] values = new char[Math.max(cardinality, 4)];
+            int[] count = {0};
+            forEach(0, value -> values[count[0]++] = (char) value);
+            return new ArrayChunk(values, cardinality);
+        }
+    }
+
+    /**
+     * A bitwise operation on two 64-bit words.
+     */
+    @FunctionalInterface
+    private interface WordOperator {
+        long apply(long word, long otherWord);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes records as JSON Lines: one JSON object per line, whose members are named by the field names given on
+ * construction. Each record is streamed straight to the underlying writer without building a tree first.
+ */
+public class JsonLinesWriter implements RowWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+    private final List<String> fieldNames;
+
+    /**
+     * Creates a writer of records to {@code writer}, whose fields are named {@code fieldNames}.
+     * The writer should be buffered.
+     */
+    public JsonLinesWriter(Writer writer, List<String> fieldNames) throws IOException {
+        requireAllNonNull(writer, fieldNames);
+        this.generator = JSON_FACTORY.createGenerator(writer);
+        // Records are separated by the line break written after each of them instead.
+        this.generator.setRootValueSeparator(null);
+        this.fieldNames = List.copyOf(fieldNames);
+    }
+
+    @Override
+    public void writeRow(List<String> fields) throws IOException {
+        checkArgument(fields.size() == fieldNames.size(), "Expected one field per field name");
+        generator.writeStartObject();
+        for (int i = 0; i < fields.size(); i++) {
+            generator.writeStringField(fieldNames.get(i), fields.get(i));
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,7 +12,12 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,9 +28,14 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
+ *
+ * Files are read and written as streams of tokens, without holding their text in memory. Large documents can be
+ * converted to and from model objects one element at a time with {@link #readJsonFile(Path, StreamReader)} and
+ * {@link #saveJsonFile(StreamWriter, Path)}.
  */
 public class JsonUtil {
 
@@ -33,6 +44,8 @@ public class JsonUtil {
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            // Elements written one at a time to a file must not flush its buffer after each.
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
             .registerModule(new SimpleModule("SimpleModule")
@@ -40,12 +53,14 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        saveJsonFile(generator -> generator.writeObject(objectToSerialize), jsonFile);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -91,6 +106,94 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Returns the object that {@code reader} builds from the given file as it parses it, or {@code Optional.empty()}
+     * if the file is not found.
+     *
+     * @param filePath cannot be null.
+     * @throws DataLoadingException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if {@code reader} found values that violate data constraints.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, StreamReader<T> reader)
+            throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = objectMapper.createParser(Files.newInputStream(filePath))) {
+            return Optional.of(reader.read(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Saves the JSON document that {@code writer} generates to the specified file, pretty-printed in the same way as
+     * {@link #saveJsonFile(Object, Path)}. The document is written to a temporary file next to it, which then
+     * replaces the file, so that a failure part way leaves the existing file intact.
+     *
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void saveJsonFile(StreamWriter writer, Path filePath) throws IOException {
+        requireNonNull(writer);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+                generator.useDefaultPrettyPrinter();
+                writer.write(generator);
+            }
+        });
+    }
+
+    /**
+     * Moves {@code parser} to the start of the next JSON object, if it is not already there.
+     *
+     * @throws IOException if the next value is not an object.
+     */
+    public static void startObject(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object but found " + token);
+        }
+    }
+
+    /**
+     * Moves {@code parser} to the value of the next field of the current object and returns the field's name, or
+     * returns null at the end of the object. The value must be read, or skipped with
+     * {@link JsonParser#skipChildren()}, before the next call.
+     */
+    public static String nextField(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME) {
+            return null;
+        }
+        String fieldName = parser.currentName();
+        parser.nextToken();
+        return fieldName;
+    }
+
+    /**
+     * Reads the elements of the array that {@code parser} is on as {@code elementClass}, passing each to
+     * {@code handler} before reading the next, so that only one is held in memory at a time.
+     *
+     * @throws IOException if the value is not an array, or an element could not be read.
+     */
+    public static <T> void readArray(JsonParser parser, Class<T> elementClass, ElementHandler<T> handler)
+            throws IOException, IllegalValueException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a JSON array but found " + parser.currentToken());
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            handler.handle(parser.readValueAs(elementClass));
+        }
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +214,38 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, without any
+     * whitespace between tokens, e.g. for one record of a JSON Lines file.
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Builds an object from the JSON document that a parser is about to read.
+     */
+    @FunctionalInterface
+    public interface StreamReader<T> {
+        T read(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes a JSON document to a generator.
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Receives the elements of a JSON array as they are read.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,125 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Tests whether a search key contains any of a fixed set of keywords.
+ *
+ * The keywords are normalised with {@link StringUtil#toSearchKey(String)} and compiled once into a deterministic
+ * Aho-Corasick automaton, so each test is a single allocation-free pass over the key, however many keywords there
+ * are. Keys passed to {@link #matches(String)} must already be normalised, e.g. by {@code Name#getSearchKey()}.
+ */
+public class KeywordMatcher {
+
+    private static final int ROOT = 0;
+
+    private final char[] alphabet;
+    private final int[] transitions;
+    private final boolean[] accepting;
+
+    /**
+     * Compiles a matcher for {@code keywords}. An empty keyword matches every key; no keywords match no key.
+     */
+    public KeywordMatcher(List<String> keywords) {
+        requireAllNonNull(keywords);
+        List<String> normalised = new ArrayList<>();
+        TreeSet<Character> symbols = new TreeSet<>();
+        for (String keyword : keywords) {
+            String searchKey = StringUtil.toSearchKey(keyword);
+            normalised.add(searchKey);
+            for (int i = 0; i < searchKey.length(); i++) {
+                symbols.add(searchKey.charAt(i));
+            }
+        }
+        alphabet = new char[symbols.size()];
+        int symbolIndex = 0;
+        for (char symbol : symbols) {
+            alphabet[symbolIndex++] = symbol;
+        }
+
+        // Build the trie of the keywords; -1 marks a missing edge.
+        int width = Math.max(1, alphabet.length);
+        List<int[]> edges = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        edges.add(newRow(width));
+        terminal.add(false);
+        for (String keyword : normalised) {
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                int symbol = Arrays.binarySearch(alphabet, keyword.charAt(i));
+                if (edges.get(state)[symbol] < 0) {
+                    edges.get(state)[symbol] = edges.size();
+                    edges.add(newRow(width));
+                    terminal.add(false);
+                }
+                state = edges.get(state)[symbol];
+            }
+            terminal.set(state, true);
+        }
+
+        // Complete the trie into a DFA breadth-first, following failure links for missing edges.
+        int stateCount = edges.size();
+        transitions = new int[stateCount * width];
+        accepting = new boolean[stateCount];
+        int[] failure = new int[stateCount];
+        Deque<Integer> queue = new ArrayDeque<>();
+        accepting[ROOT] = terminal.get(ROOT);
+        for (int symbol = 0; symbol < alphabet.length; symbol++) {
+            int child = edges.get(ROOT)[symbol];
+            if (child < 0) {
+                transitions[symbol] = ROOT;
+            } else {
+                transitions[symbol] = child;
+                failure[child] = ROOT;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            accepting[state] = terminal.get(state) || accepting[failure[state]];
+            for (int symbol = 0; symbol < alphabet.length; symbol++) {
+                int child = edges.get(state)[symbol];
+                int fallback = transitions[failure[state] * width + symbol];
+                if (child < 0) {
+                    transitions[state * width + symbol] = fallback;
+                } else {
+                    transitions[state * width + symbol] = child;
+                    failure[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code searchKey} contains any of the keywords of this matcher.
+     */
+    public boolean matches(String searchKey) {
+        if (accepting[ROOT]) {
+            return true;
+        }
+        int width = Math.max(1, alphabet.length);
+        int state = ROOT;
+        for (int i = 0; i < searchKey.length(); i++) {
+            int symbol = Arrays.binarySearch(alphabet, searchKey.charAt(i));
+            state = symbol < 0 ? ROOT : transitions[state * width + symbol];
+            if (accepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] newRow(int width) {
+        int[] row = new int[width];
+        Arrays.fill(row, -1);
+        return row;
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the character n-grams of short texts, such as names, to the numeric ids of the texts that
+ * contain them, for case-insensitive substring search. Texts and keywords are compared in the normalised form given by
+ * {@link StringUtil#toSearchKey(String)}, which is returned unchanged, without allocating, for text already in it.
+ *
+ * Every n-gram of up to {@value #MAX_GRAM_LENGTH} characters is indexed. A keyword of up to that length is answered
+ * straight from its posting list. A longer keyword is answered by intersecting the posting lists of its trigrams,
+ * which yields a small set of candidates that are then checked against their text.
+ */
+public class NgramIndex {
+
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    private final Map<Integer, String> texts = new HashMap<>();
+    private final Map<Long, IntBitmap> postings = new HashMap<>();
+    private final IntBitmap ids = new IntBitmap();
+
+    /**
+     * Indexes {@code text} under {@code id}, replacing any text already indexed under it.
+     */
+    public void add(int id, String text) {
+        requireNonNull(text);
+        checkArgument(id >= 0, "Id must not be negative");
+        remove(id);
+        String folded = fold(text);
+        texts.put(id, folded);
+        ids.add(id);
+        for (long gram : grams(folded)) {
+            postings.computeIfAbsent(gram, unused -> new IntBitmap()).add(id);
+        }
+    }
+
+    /**
+     * Removes the text indexed under {@code id}, if any.
+     */
+    public void remove(int id) {
+        String folded = texts.remove(id);
+        if (folded == null) {
+            return;
+        }
+        ids.remove(id);
+        for (long gram : grams(folded)) {
+            IntBitmap posting = postings.get(gram);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes every indexed text.
+     */
+    public void clear() {
+        texts.clear();
+        postings.clear();
+        ids.clear();
+    }
+
+    /**
+     * Returns the ids of the texts that contain {@code keyword}, ignoring case.
+     */
+    public IntBitmap search(String keyword) {
+        requireNonNull(keyword);
+        String folded = fold(keyword);
+        if (folded.isEmpty()) {
+            return ids.copy();
+        }
+        if (folded.length() <= MAX_GRAM_LENGTH) {
+            IntBitmap posting = postings.get(encode(folded, 0, folded.length()));
+            return posting == null ? new IntBitmap() : posting.copy();
+        }
+
+        List<IntBitmap> trigramPostings = new ArrayList<>();
+        for (int start = 0; start + MAX_GRAM_LENGTH <= folded.length(); start++) {
+            IntBitmap posting = postings.get(encode(folded, start, start + MAX_GRAM_LENGTH));
+            if (posting == null) {
+                return new IntBitmap();
+            }
+            trigramPostings.add(posting);
+        }
+        trigramPostings.sort((first, second) -> Integer.compare(first.cardinality(), second.cardinality()));
+        IntBitmap candidates = trigramPostings.get(0);
+        for (IntBitmap posting : trigramPostings.subList(1, trigramPostings.size())) {
+            candidates = candidates.and(posting);
+        }
+
+        IntBitmap matches = new IntBitmap();
+        candidates.forEach(id -> {
+            if (texts.get(id).contains(folded)) {
+                matches.add(id);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Returns the ids of the texts that contain any of {@code keywords}, ignoring case.
+     */
+    public IntBitmap searchAny(List<String> keywords) {
+        requireNonNull(keywords);
+        IntBitmap matches = new IntBitmap();
+        for (String keyword : keywords) {
+            matches = matches.or(search(keyword));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of texts that contain {@code keyword}, ignoring case, read off the size of
+     * its rarest n-gram's posting list without searching.
+     */
+    public int estimate(String keyword) {
+        requireNonNull(keyword);
+        String folded = fold(keyword);
+        if (folded.isEmpty()) {
+            return ids.cardinality();
+        }
+        int length = Math.min(folded.length(), MAX_GRAM_LENGTH);
+        int estimate = Integer.MAX_VALUE;
+        for (int start = 0; start + length <= folded.length(); start++) {
+            IntBitmap posting = postings.get(encode(folded, start, start + length));
+            estimate = Math.min(estimate, posting == null ? 0 : posting.cardinality());
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns how well the text indexed under {@code id} matches {@code keywords}: each keyword found as a whole
+     * word scores 3, at the start of a word 2 and anywhere else 1. Returns 0 if there is no text under {@code id}.
+     */
+    public int score(int id, List<String> keywords) {
+        requireNonNull(keywords);
+        String folded = texts.get(id);
+        if (folded == null) {
+            return 0;
+        }
+        int score = 0;
+        for (String keyword : keywords) {
+            score += scoreKeyword(folded, fold(keyword));
+        }
+        return score;
+    }
+
+    private static int scoreKeyword(String text, String keyword) {
+        if (keyword.isEmpty()) {
+            return 0;
+        }
+        int best = 0;
+        for (int start = text.indexOf(keyword); start >= 0 && best < 3; start = text.indexOf(keyword, start + 1)) {
+            int end = start + keyword.length();
+            boolean startsWord = start == 0 || text.charAt(start - 1) == ' ';
+            boolean endsWord = end == text.length() || text.charAt(end) == ' ';
+            best = Math.max(best, startsWord ? (endsWord ? 3 : 2) : 1);
+        }
+        return best;
+    }
+
+    private static String fold(String text) {
+        return StringUtil.toSearchKey(text);
+    }
+
+    /**
+     * Returns the distinct n-grams of {@code folded}, of every length from 1 to {@value #MAX_GRAM_LENGTH}.
+     */
+    private static Set<Long> grams(String folded) {
+        Set<Long> grams = new HashSet<>();
+        for (int start = 0; start < folded.length(); start++) {
+            for (int end = start + 1; end <= Math.min(folded.length(), start + MAX_GRAM_LENGTH); end++) {
+                grams.add(encode(folded, start, end));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Packs the characters of {@code text} from {@code start} to {@code end}, at most three, into a single key.
+     * Each character is offset by one so that n-grams of different lengths never collide.
+     */
+    private static long encode(String text, int start, int end) {
+        long key = 0;
+        for (int i = start; i < end; i++) {
+            key = (key << 17) | (text.charAt(i) + 1);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,273 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable sequence of values, each stored under a {@code long} key and kept in ascending key order.
+ *
+ * Updates return a new sequence and leave the original untouched. The two share every part of the underlying
+ * balanced tree that the update did not touch, so an update costs O(log n) time and memory, and holding on to an
+ * old version costs only the memory of the changes made since. Instances can therefore be handed to other threads
+ * freely as consistent images of a changing collection.
+ */
+public final class PersistentSequence<T> implements Iterable<T> {
+
+    private static final PersistentSequence<?> EMPTY = new PersistentSequence<>(null);
+
+    private final Node<T> root;
+
+    private PersistentSequence(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty sequence.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentSequence<T> empty() {
+        return (PersistentSequence<T>) EMPTY;
+    }
+
+    /**
+     * Returns a sequence of {@code values} in order, stored under the keys 0 to {@code values.size() - 1}.
+     * Takes O(n) time.
+     */
+    public static <T> PersistentSequence<T> of(List<T> values) {
+        requireNonNull(values);
+        return new PersistentSequence<>(build(null, values, 0, values.size()));
+    }
+
+    /**
+     * Returns a sequence of {@code values}, each stored under the key at the same position in {@code keys}, which
+     * must be in strictly ascending order. Takes O(n) time.
+     */
+    public static <T> PersistentSequence<T> of(long[] keys, List<T> values) {
+        requireNonNull(keys);
+        requireNonNull(values);
+        checkArgument(keys.length == values.size(), "Each value must have one key");
+        for (int i = 1; i < keys.length; i++) {
+            checkArgument(keys[i - 1] < keys[i], "Keys must be in strictly ascending order");
+        }
+        return new PersistentSequence<>(build(keys, values, 0, values.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value stored under {@code key}, or null if there is none.
+     */
+    public T get(long key) {
+        Node<T> node = root;
+        while (node != null) {
+            if (key < node.key) {
+                node = node.left;
+            } else if (key > node.key) {
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the position of the value stored under {@code key} in key order, or -1 if there is none.
+     * Takes O(log n) time.
+     */
+    public int indexOf(long key) {
+        Node<T> node = root;
+        int before = 0;
+        while (node != null) {
+            if (key < node.key) {
+                node = node.left;
+            } else if (key > node.key) {
+                before += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return before + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a sequence with {@code value} stored under {@code key}, replacing any value already stored there.
+     */
+    public PersistentSequence<T> with(long key, T value) {
+        requireNonNull(value);
+        return new PersistentSequence<>(insert(root, key, value));
+    }
+
+    /**
+     * Returns a sequence without the value stored under {@code key}, or this sequence if there is none.
+     */
+    public PersistentSequence<T> without(long key) {
+        Node<T> newRoot = delete(root, key);
+        return newRoot == root ? this : new PersistentSequence<>(newRoot);
+    }
+
+    /**
+     * Returns the values in key order as a new mutable list.
+     */
+    public List<T> toList() {
+        List<T> values = new ArrayList<>(size());
+        forEach(values::add);
+        return values;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+
+            {
+                pushLeftSpine(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                pushLeftSpine(node.right);
+                return node.value;
+            }
+
+            private void pushLeftSpine(Node<T> node) {
+                for (Node<T> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// tree operations
+
+    /**
+     * Returns a balanced tree of {@code values} from {@code from} to {@code to}, stored under their {@code keys}, or
+     * under their positions if {@code keys} is null.
+     */
+    private static <T> Node<T> build(long[] keys, List<T> values, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(keys == null ? middle : keys[middle], values.get(middle),
+                build(keys, values, from, middle), build(keys, values, middle + 1, to));
+    }
+
+    private static <T> Node<T> insert(Node<T> node, long key, T value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        if (key < node.key) {
+            return rebalance(node.key, node.value, insert(node.left, key, value), node.right);
+        } else if (key > node.key) {
+            return rebalance(node.key, node.value, node.left, insert(node.right, key, value));
+        } else {
+            return new Node<>(key, value, node.left, node.right);
+        }
+    }
+
+    private static <T> Node<T> delete(Node<T> node, long key) {
+        if (node == null) {
+            return null;
+        }
+        if (key < node.key) {
+            Node<T> left = delete(node.left, key);
+            return left == node.left ? node : rebalance(node.key, node.value, left, node.right);
+        } else if (key > node.key) {
+            Node<T> right = delete(node.right, key);
+            return right == node.right ? node : rebalance(node.key, node.value, node.left, right);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return rebalance(successor.key, successor.value, node.left, delete(node.right, successor.key));
+    }
+
+    /**
+     * Returns a node joining {@code left} and {@code right}, whose heights differ by at most 2, rotating once or
+     * twice to restore the AVL balance.
+     */
+    private static <T> Node<T> rebalance(long key, T value, Node<T> left, Node<T> right) {
+        int balance = height(left) - height(right);
+        if (balance > 1) {
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left.key, left.value, left.left, left.right);
+            }
+            return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+        }
+        if (balance < -1) {
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right.key, right.value, right.left, right.right);
+            }
+            return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static <T> Node<T> rotateLeft(long key, T value, Node<T> left, Node<T> right) {
+        return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+    }
+
+    private static <T> Node<T> rotateRight(long key, T value, Node<T> left, Node<T> right) {
+        return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+        private final long key;
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int height;
+        private final int size;
+
+        Node(long key, T value, Node<T> left, Node<T> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A multiset of terms, such as ids and name words, that lists the terms starting with a given prefix, ignoring case.
+ *
+ * Terms are stored in a trie whose nodes keep their children sorted by character, and nodes left without any term
+ * below them are dropped as soon as their last term is removed. Listing the first k completions of a prefix therefore
+ * walks down the prefix and then along at most k paths, whatever the number of terms stored.
+ * A term added several times, e.g. a name word shared by several persons, is listed once, in the case it was first
+ * added in, until it has been removed as many times as it was added.
+ */
+public class PrefixTrie {
+
+    private Node root = new Node();
+
+    /**
+     * Adds one occurrence of {@code term}. Blank terms are ignored.
+     */
+    public void add(String term) {
+        requireNonNull(term);
+        if (term.isBlank()) {
+            return;
+        }
+        String key = term.toLowerCase(Locale.ROOT);
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        if (node.count++ == 0) {
+            node.term = term;
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code term}, if there is any.
+     */
+    public void remove(String term) {
+        requireNonNull(term);
+        String key = term.toLowerCase(Locale.ROOT);
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        Node node = path[key.length()];
+        if (node.count == 0 || --node.count > 0) {
+            return;
+        }
+        node.term = null;
+        for (int i = key.length(); i > 0 && path[i].count == 0 && path[i].size == 0; i--) {
+            path[i - 1].removeChild(key.charAt(i - 1));
+        }
+    }
+
+    /**
+     * Removes every term.
+     */
+    public void clear() {
+        root = new Node();
+    }
+
+    /**
+     * Returns at most {@code limit} distinct terms that start with {@code prefix}, ignoring case, in alphabetical
+     * order of their lower-case forms.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit > 0, "Limit must be positive");
+        String key = prefix.toLowerCase(Locale.ROOT);
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        List<String> completions = new ArrayList<>();
+        if (node != null) {
+            collect(node, limit, completions);
+        }
+        return completions;
+    }
+
+    private static void collect(Node node, int limit, List<String> completions) {
+        if (node.count > 0) {
+            completions.add(node.term);
+        }
+        for (int i = 0; i < node.size && completions.size() < limit; i++) {
+            collect(node.children[i], limit, completions);
+        }
+    }
+
+    private static class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int size;
+        private String term;
+        private int count;
+
+        Node child(char key) {
+            int position = Arrays.binarySearch(keys, 0, size, key);
+            return position >= 0 ? children[position] : null;
+        }
+
+        Node childOrCreate(char key) {
+            int position = Arrays.binarySearch(keys, 0, size, key);
+            if (position >= 0) {
+                return children[position];
+            }
+            int insertAt = -position - 1;
+            if (size == keys.length) {
+                int capacity = Math.max(2, size * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertAt, keys, insertAt + 1, size - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, size - insertAt);
+            Node child = new Node();
+            keys[insertAt] = key;
+            children[insertAt] = child;
+            size++;
+            return child;
+        }
+
+        void removeChild(char key) {
+            int position = Arrays.binarySearch(keys, 0, size, key);
+            System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+            System.arraycopy(children, position + 1, children, position, size - position - 1);
+            size--;
+            children[size] = null;
+        }
+    }
+}
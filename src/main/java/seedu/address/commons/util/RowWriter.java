@@ -0,0 +1,17 @@
+package seedu.address.commons.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes records of text fields one at a time, in some text format, so that only the current record is held in
+ * memory however many are written.
+ */
+public interface RowWriter extends Closeable {
+
+    /**
+     * Writes the next record, whose fields are given in the same order for every record.
+     */
+    void writeRow(List<String> fields) throws IOException;
+}
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +39,50 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the normalised form of {@code text} used for case-insensitive searches: lower case, without leading or
+     * trailing whitespace, and with every run of whitespace inside collapsed to a single space.
+     *   <br>examples:<pre>
+     *       toSearchKey("  Alex   YEOH ") == "alex yeoh"
+     *       </pre>
+     */
+    public static String toSearchKey(String text) {
+        requireNonNull(text);
+        if (isSearchKey(text)) {
+            return text;
+        }
+        StringBuilder key = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = key.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                key.append(' ');
+                pendingSpace = false;
+            }
+            key.append(c);
+        }
+        return key.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isSearchKey(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                boolean isInnerSingleSpace = c == ' ' && i > 0 && i < text.length() - 1 && text.charAt(i + 1) != ' ';
+                if (!isInnerSingleSpace) {
+                    return false;
+                }
+            } else if (Character.toLowerCase(c) != c || Character.isSurrogate(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
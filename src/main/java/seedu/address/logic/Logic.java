@@ -1,15 +1,19 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Page;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.course.Course;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 
 /**
  * API of the Logic component
@@ -24,6 +28,31 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler told, on a background thread, the message to show when the data saved after a command could
+     * not be written. Commands return before their changes are saved, so such failures cannot be thrown by
+     * {@link #execute(String)}.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Waits until the changes made by every command executed so far have been saved, or have failed to be.
+     */
+    void flush();
+
+    /**
+     * Saves the changes made by every command executed so far and stops saving in the background.
+     * No more commands may be executed afterwards.
+     */
+    void shutdown();
+
+    /**
+     * Returns the completions of the word being typed at the end of {@code commandText}, best first: command words
+     * for the first word, and student ids, course ids and name words for the others.
+     * Returns an empty list if {@code commandText} is empty or ends with whitespace.
+     */
+    List<String> getCompletions(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -34,6 +63,20 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns a page of the filtered list of persons, by position.
+     *
+     * @see seedu.address.model.Model#getFilteredPersonPage(int, int)
+     */
+    Page<Person> getFilteredPersonPage(int offset, int limit);
+
+    /**
+     * Returns the page of the filtered list of persons that follows the person with {@code after}, by student id.
+     *
+     * @see seedu.address.model.Model#getFilteredPersonPageAfter(StudentId, int)
+     */
+    Page<Person> getFilteredPersonPageAfter(StudentId after, int limit);
+
     /** Returns an unmodifiable view of the filtered list of courses */
     ObservableList<Course> getFilteredCourseList();
 
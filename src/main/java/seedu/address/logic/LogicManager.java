@@ -1,28 +1,38 @@
 package seedu.address.logic;
 
-import java.io.IOException;
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PrefixTrie;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.MainParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.course.Course;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.storage.BackgroundSaver;
+import seedu.address.storage.JournalStorage;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
+    public static final int MAX_COMPLETIONS = 8;
+
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
 
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
@@ -31,16 +41,31 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final BackgroundSaver saver;
     private final MainParser mainParser;
+    private final PrefixTrie commandWords = new PrefixTrie();
+    private volatile Consumer<String> saveFailureHandler = message -> { };
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the data in full
+     * after every command that changes it.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        this.saver = new BackgroundSaver(storage, this::reportSaveFailure);
+        mainParser = new MainParser();
+        MainParser.COMMAND_WORDS.forEach(commandWords::add);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, {@code Storage} and {@code JournalStorage},
+     * which journals the changes made by every command and only saves the data in full from time to time.
+     */
+    public LogicManager(Model model, Storage storage, JournalStorage journal) {
+        this.model = model;
+        this.saver = new BackgroundSaver(storage, journal, this::reportSaveFailure);
         mainParser = new MainParser();
+        MainParser.COMMAND_WORDS.forEach(commandWords::add);
     }
 
     @Override
@@ -51,18 +76,49 @@ public class LogicManager implements Logic {
         Command command = mainParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveCourseBook(model.getCourseBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
-
+        // Taking a snapshot is cheap; serialising and writing it is left to the saver's thread.
+        saver.save(model.snapshot(), model.takeChanges());
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void flush() {
+        saver.flush();
+    }
+
+    @Override
+    public void shutdown() {
+        saver.close();
+    }
+
+    private void reportSaveFailure(Exception e) {
+        String message = e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+        saveFailureHandler.accept(message);
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+        if (commandText.isBlank() || Character.isWhitespace(commandText.charAt(commandText.length() - 1))) {
+            return List.of();
+        }
+        String trimmed = commandText.stripLeading();
+        if (trimmed.indexOf(' ') < 0) {
+            return commandWords.complete(trimmed, MAX_COMPLETIONS);
+        }
+        // A word right after a prefix such as n/ is completed without the prefix.
+        String word = trimmed.substring(Math.max(trimmed.lastIndexOf(' '), trimmed.lastIndexOf('/')) + 1);
+        return word.isEmpty() ? List.of() : model.completeWord(word, MAX_COMPLETIONS);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -73,6 +129,16 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public Page<Person> getFilteredPersonPage(int offset, int limit) {
+        return model.getFilteredPersonPage(offset, limit);
+    }
+
+    @Override
+    public Page<Person> getFilteredPersonPageAfter(StudentId after, int limit) {
+        return model.getFilteredPersonPageAfter(after, limit);
+    }
+
     @Override
     public ObservableList<Course> getFilteredCourseList() {
         return model.getFilteredCourseList();
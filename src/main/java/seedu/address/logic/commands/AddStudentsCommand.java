@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Adds many students to a course at once. Every student is checked before any is added, so either all of them are
+ * added or, if any is missing or already enrolled, none is.
+ */
+public class AddStudentsCommand extends Command {
+
+    public static final String COMMAND_WORD = "add_students";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds several students to a course. "
+            + "Students are given as IDs or ranges of IDs, separated by commas or spaces.\n"
+            + "Parameters: STUDENT_ID|FIRST_ID-LAST_ID... COURSE_ID\n"
+            + "Example: " + COMMAND_WORD + " S00001-S00400,S00410 C0001";
+
+    public static final String MESSAGE_SUCCESS = "%1$d student(s) added to Course '%2$s' (%3$s) successfully.\n"
+            + "Course '%2$s' (%3$s) now have %4$d student(s) enrolled.\n"
+            + "Filter applied. Use 'list' command to view all students and courses.";
+    public static final String MESSAGE_STUDENTS_NOT_FOUND = "No student was added. Students not found: %1$s";
+    public static final String MESSAGE_DUPLICATE_STUDENTS =
+            "No student was added. Students already in this course: %1$s";
+
+    /** The number of student ids listed in an error message before the rest are only counted. */
+    static final int MAX_IDS_SHOWN = 10;
+
+    private final List<StudentId> studentIds;
+    private final CourseId courseId;
+
+    /**
+     * Creates an AddStudentsCommand to add the students with {@code studentIds}, which must be distinct, to the
+     * course with {@code courseId}.
+     */
+    public AddStudentsCommand(List<StudentId> studentIds, CourseId courseId) {
+        requireAllNonNull(studentIds, courseId);
+        this.studentIds = List.copyOf(studentIds);
+        this.courseId = courseId;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireAllNonNull(model);
+
+        Course course = model.getCourseById(courseId);
+        if (course == null) {
+            throw new CommandException(String.format(AddStudentCommand.MESSAGE_COURSE_NOT_FOUND, courseId));
+        }
+
+        List<StudentId> missing = new ArrayList<>();
+        List<StudentId> duplicates = new ArrayList<>();
+        for (StudentId studentId : studentIds) {
+            if (model.getPersonById(studentId) == null) {
+                missing.add(studentId);
+            } else if (course.containsStudentId(studentId)) {
+                duplicates.add(studentId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_STUDENTS_NOT_FOUND, describe(missing)));
+        }
+        if (!duplicates.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_STUDENTS, describe(duplicates)));
+        }
+
+        course.addStudentIds(studentIds);
+        model.updateFilteredStudentListForCourse(course);
+        model.updateFilteredCourseListForCourse(course);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, studentIds.size(), course.getName(), courseId,
+                course.getStudentCount()));
+    }
+
+    /**
+     * Lists the first {@value #MAX_IDS_SHOWN} of {@code studentIds}, and how many more there are.
+     */
+    static String describe(List<StudentId> studentIds) {
+        String shown = studentIds.stream()
+                .limit(MAX_IDS_SHOWN)
+                .map(StudentId::getValue)
+                .collect(Collectors.joining(", "));
+        int hidden = studentIds.size() - MAX_IDS_SHOWN;
+        return hidden > 0 ? shown + " and " + hidden + " more" : shown;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof AddStudentsCommand)) {
+            return false;
+        }
+        AddStudentsCommand otherCommand = (AddStudentsCommand) other;
+        return studentIds.equals(otherCommand.studentIds) && courseId.equals(otherCommand.courseId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentIds", studentIds)
+                .add("courseId", courseId)
+                .toString();
+    }
+}
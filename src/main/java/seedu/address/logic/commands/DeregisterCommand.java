@@ -45,12 +45,7 @@ public class DeregisterCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-
-        Person toDelete = allPersons.stream()
-                .filter(p -> p.getStudentId().equals(targetId))
-                .findFirst()
-                .orElse(null);
+        Person toDelete = model.getPersonById(targetId);
 
         if (toDelete == null) {
             throw new CommandException(String.format(MESSAGE_STUDENT_NOT_FOUND, targetId));
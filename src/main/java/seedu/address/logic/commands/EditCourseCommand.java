@@ -19,7 +19,7 @@ import seedu.address.model.Model;
 import seedu.address.model.course.Course;
 import seedu.address.model.course.CourseId;
 import seedu.address.model.course.CourseName;
-import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -89,9 +89,9 @@ public class EditCourseCommand extends Command {
         CourseName updatedName = editCourseDescriptor.getCourseName().orElse(courseToEdit.getName());
         CourseId updatedId = editCourseDescriptor.getCourseId().orElse(courseToEdit.getCourseId());
         Set<Tag> tags = courseToEdit.getTags(); // Preserve the original tags
-        UniquePersonList originalStudentList = courseToEdit.getStudentList(); // Preserve the original student list
+        List<StudentId> originalStudentIds = courseToEdit.getEnrolledStudentIds(); // Preserve the original roster
 
-        return new Course(updatedName, updatedId, originalStudentList, tags);
+        return new Course(updatedName, updatedId, originalStudentIds, tags);
     }
 
     @Override
@@ -0,0 +1,243 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonLinesWriter;
+import seedu.address.commons.util.RowWriter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Writes the students, the courses or the roster of one course to a CSV, TSV or JSON Lines file.
+ *
+ * Records are written one at a time through a buffered writer as the lists are walked, so memory use does not grow
+ * with the number of records. They are written to a temporary file that then replaces the target, so a failed export
+ * never leaves a half-written file behind. The files the app keeps its own data in are never written, and other
+ * existing files only when asked to.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String OVERWRITE = "overwrite";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports students, courses or a course's roster "
+            + "to a file. The file is written as JSON Lines if its name ends with .jsonl, as TSV if it ends with .tsv "
+            + "and as CSV otherwise. With 'filtered', only the students or courses currently shown are exported. "
+            + "An existing file is replaced only with '" + OVERWRITE + "'.\n"
+            + "Parameters: students|courses [filtered] [" + OVERWRITE + "] FILE_PATH, "
+            + "or roster COURSE_ID [" + OVERWRITE + "] FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " students filtered data/found.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s.";
+    public static final String MESSAGE_COURSE_NOT_FOUND = "Course with course ID %1$s not found.";
+    public static final String MESSAGE_FILE_ERROR = "Could not write %1$s: %2$s";
+    public static final String MESSAGE_DATA_FILE = "%1$s is where EduBase keeps its own data, so it cannot be "
+            + "exported to.";
+    public static final String MESSAGE_FILE_EXISTS = "%1$s already exists. Put '" + OVERWRITE
+            + "' before the file path to replace it.";
+
+    static final List<String> PERSON_FIELDS = List.of("id", "name", "phone", "gender");
+    static final List<String> COURSE_FIELDS = List.of("id", "name", "students", "tags");
+
+    /**
+     * What is exported.
+     */
+    public enum Target {
+        STUDENTS("student(s)"),
+        COURSES("course(s)"),
+        ROSTER("enrolled student(s)");
+
+        private final String description;
+
+        Target(String description) {
+            this.description = description;
+        }
+    }
+
+    private final Target target;
+    private final CourseId courseId;
+    private final boolean isFilteredOnly;
+    private final boolean isOverwrite;
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to export {@code target} to the file at {@code filePath}.
+     *
+     * @param courseId the course whose roster to export, if {@code target} is {@code ROSTER}, or null otherwise
+     * @param isFilteredOnly whether to export only the students or courses currently shown
+     * @param isOverwrite whether to replace the file if it already exists
+     */
+    public ExportCommand(Target target, CourseId courseId, boolean isFilteredOnly, boolean isOverwrite,
+            Path filePath) {
+        requireNonNull(target);
+        requireNonNull(filePath);
+        checkArgument((target == Target.ROSTER) == (courseId != null), "A course id is needed only for a roster");
+        this.target = target;
+        this.courseId = courseId;
+        this.isFilteredOnly = isFilteredOnly;
+        this.isOverwrite = isOverwrite;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Course course = null;
+        if (target == Target.ROSTER) {
+            course = model.getCourseById(courseId);
+            if (course == null) {
+                throw new CommandException(String.format(MESSAGE_COURSE_NOT_FOUND, courseId));
+            }
+        }
+
+        int[] count = new int[1];
+        try {
+            if (isDataFile(model.getUserPrefs())) {
+                throw new CommandException(String.format(MESSAGE_DATA_FILE, filePath));
+            }
+            if (!isOverwrite && Files.exists(filePath)) {
+                throw new CommandException(String.format(MESSAGE_FILE_EXISTS, filePath));
+            }
+            FileUtil.createParentDirsOfFile(filePath);
+            Course roster = course;
+            FileUtil.writeAtomically(filePath, out -> {
+                try (RowWriter writer = createWriter(out, target == Target.COURSES ? COURSE_FIELDS : PERSON_FIELDS)) {
+                    count[0] = writeRows(writer, model, roster);
+                }
+            });
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count[0], target.description, filePath));
+    }
+
+    /**
+     * Returns true if the file to export to is one of the files the app keeps its data in, under any name.
+     */
+    private boolean isDataFile(ReadOnlyUserPrefs userPrefs) throws IOException {
+        Path target = filePath.toAbsolutePath().normalize();
+        for (Path dataFile : List.of(userPrefs.getAddressBookFilePath(), userPrefs.getCourseBookFilePath(),
+                userPrefs.getJournalFilePath(), userPrefs.getBinaryAddressBookFilePath(),
+                userPrefs.getBinaryCourseBookFilePath())) {
+            if (target.equals(dataFile.toAbsolutePath().normalize())
+                    || Files.exists(filePath) && Files.exists(dataFile) && Files.isSameFile(filePath, dataFile)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the records of the target to {@code writer} and returns how many were written.
+     */
+    private int writeRows(RowWriter writer, Model model, Course course) throws IOException {
+        int count = 0;
+        switch (target) {
+        case STUDENTS -> {
+            for (Person person : isFilteredOnly
+                    ? model.getFilteredPersonList() : model.getAddressBook().getPersonList()) {
+                writer.writeRow(toFields(person));
+                count++;
+            }
+        }
+        case COURSES -> {
+            for (Course each : isFilteredOnly
+                    ? model.getFilteredCourseList() : model.getCourseBook().getCourseList()) {
+                writer.writeRow(toFields(each));
+                count++;
+            }
+        }
+        case ROSTER -> {
+            for (StudentId studentId : course.getEnrolledStudentIds()) {
+                Person person = model.getPersonById(studentId);
+                if (person != null) {
+                    writer.writeRow(toFields(person));
+                    count++;
+                }
+            }
+        }
+        default -> throw new AssertionError(target);
+        }
+        return count;
+    }
+
+    /**
+     * Opens {@code out} for writing in the format given by the file name, writing a header row first if it is CSV or
+     * TSV.
+     */
+    private RowWriter createWriter(OutputStream out, List<String> fieldNames) throws IOException {
+        String fileName = filePath.toString().toLowerCase(Locale.ROOT);
+        Writer fileWriter = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (fileName.endsWith(".jsonl")) {
+            return new JsonLinesWriter(fileWriter, fieldNames);
+        }
+        RowWriter writer = new CsvWriter(fileWriter, fileName.endsWith(".tsv") ? '\t' : ',');
+        writer.writeRow(fieldNames);
+        return writer;
+    }
+
+    private static List<String> toFields(Person person) {
+        return List.of(person.getStudentId().getValue(), person.getName().fullName, person.getPhone().value,
+                person.getGender().getValue());
+    }
+
+    private static List<String> toFields(Course course) {
+        String tags = course.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.joining(" "));
+        return List.of(course.getCourseId().getValue(), course.getName().fullName,
+                String.valueOf(course.getStudentCount()), tags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+        ExportCommand otherCommand = (ExportCommand) other;
+        return target == otherCommand.target
+                && Objects.equals(courseId, otherCommand.courseId)
+                && isFilteredOnly == otherCommand.isFilteredOnly
+                && isOverwrite == otherCommand.isOverwrite
+                && filePath.equals(otherCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("target", target)
+                .add("courseId", courseId)
+                .add("isFilteredOnly", isFilteredOnly)
+                .add("isOverwrite", isOverwrite)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY_COURSE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY_NAME;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryTerm;
+import seedu.address.model.query.StudentQuery;
+
+/**
+ * Finds and lists all persons matching every condition of a query, e.g. those of a gender enrolled in a course.
+ * Optionally shows how the query was answered.
+ */
+public class FindCommand extends Command {
+
+    public static final String COMMAND_WORD = "find";
+
+    public static final String EXPLAIN = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons matching every given condition. "
+            + "Several values for one condition match any of them. "
+            + "Start with '" + EXPLAIN + "' to also show how the search was carried out.\n"
+            + "Parameters: [" + EXPLAIN + "] "
+            + "[" + PREFIX_ID + "STUDENT_ID...] "
+            + "[" + PREFIX_QUERY_COURSE + "COURSE_ID|" + QueryTerm.NO_COURSE + "...] "
+            + "[" + PREFIX_QUERY_GENDER + "GENDER...] "
+            + "[" + PREFIX_QUERY_NAME + "NAME...] (at least one)\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_QUERY_GENDER + "Female "
+            + PREFIX_QUERY_COURSE + "C0001 " + PREFIX_QUERY_NAME + "ali";
+
+    private final StudentQuery query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a FindCommand to list the persons matching {@code query}, and to describe how it was answered if
+     * {@code isExplain} is true.
+     */
+    public FindCommand(StudentQuery query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan plan = model.updateFilteredPersonListByQuery(query);
+        int matchedCount = model.getFilteredPersonList().size();
+
+        String feedback = matchedCount == 0
+                ? FindStudentByNameCommand.MESSAGE_STUDENT_NOT_FOUND
+                : String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matchedCount);
+        return new CommandResult(isExplain ? feedback + "\n" + plan.explain() : feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindCommand)) {
+            return false;
+        }
+
+        FindCommand otherFindCommand = (FindCommand) other;
+        return query.equals(otherFindCommand.query) && isExplain == otherFindCommand.isExplain;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("isExplain", isExplain)
+                .toString();
+    }
+}
@@ -9,6 +9,7 @@ import seedu.address.model.course.CourseNameContainsKeywordsPredicate;
 /**
  * Finds and lists all courses whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Matches are listed from the closest, e.g. whole-word matches before partial ones.
  */
 public class FindCourseByNameCommand extends Command {
     public static final String COMMAND_WORD = "find_course_by_name";
@@ -28,7 +29,7 @@ public class FindCourseByNameCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredCourseList(predicate);
+        model.updateFilteredCourseListByName(predicate.getKeywords());
         int matchedCount = model.getFilteredCourseList().size();
 
         if (matchedCount == 0) {
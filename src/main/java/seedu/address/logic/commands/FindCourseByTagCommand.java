@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Finds and lists all courses tagged with any, or all, of the argument tags.
+ * Tag matching is case sensitive.
+ */
+public class FindCourseByTagCommand extends Command {
+    public static final String COMMAND_WORD = "find_course_by_tag";
+
+    public static final String MATCH_ALL = "all";
+    public static final String MATCH_ANY = "any";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all courses tagged with any of the specified "
+            + "tags, or with all of them if preceded by '" + MATCH_ALL + "'.\n"
+            + "Parameters: [" + MATCH_ALL + "|" + MATCH_ANY + "] " + PREFIX_TAG + "TAG [" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " " + MATCH_ALL + " " + PREFIX_TAG + "core " + PREFIX_TAG + "math";
+
+    private final Set<Tag> tags;
+    private final boolean matchAll;
+
+    /**
+     * Creates a FindCourseByTagCommand to list the courses tagged with all of {@code tags} if {@code matchAll} is
+     * true, or with any of them otherwise.
+     */
+    public FindCourseByTagCommand(Set<Tag> tags, boolean matchAll) {
+        requireNonNull(tags);
+        this.tags = tags;
+        this.matchAll = matchAll;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredCourseListByTags(tags, matchAll);
+        int matchedCount = model.getFilteredCourseList().size();
+
+        if (matchedCount == 0) {
+            return new CommandResult(FindCourseByNameCommand.MESSAGE_COURSE_NOT_FOUND);
+        }
+
+        return new CommandResult(
+                String.format(Messages.MESSAGE_COURSES_LISTED_OVERVIEW, matchedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof FindCourseByTagCommand)) {
+            return false;
+        }
+        FindCourseByTagCommand otherCommand = (FindCourseByTagCommand) other;
+        return tags.equals(otherCommand.tags) && matchAll == otherCommand.matchAll;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tags)
+                .add("matchAll", matchAll)
+                .toString();
+    }
+}
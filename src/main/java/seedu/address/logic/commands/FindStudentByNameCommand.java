@@ -10,6 +10,7 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Matches are listed from the closest, e.g. whole-word matches before partial ones.
  */
 public class FindStudentByNameCommand extends Command {
 
@@ -30,7 +31,7 @@ public class FindStudentByNameCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByName(predicate.getKeywords());
         int matchedCount = model.getFilteredPersonList().size();
 
         if (matchedCount == 0) {
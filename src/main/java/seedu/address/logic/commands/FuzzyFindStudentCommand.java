@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+
+/**
+ * Finds and lists the persons in address book whose name is close to any of the argument keywords, tolerating typos.
+ * Keyword matching is case insensitive, and at most {@value #MAX_RESULTS} persons are listed, closest first.
+ */
+public class FuzzyFindStudentCommand extends Command {
+
+    public static final String COMMAND_WORD = "fuzzy_find_student";
+
+    public static final int MAX_RESULTS = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the persons whose names contain a word close to "
+            + "any of the specified keywords, allowing for typos (case-insensitive). "
+            + "Lists at most " + MAX_RESULTS + " persons, closest first.\n"
+            + "Parameters: NAME \n"
+            + "Example: " + COMMAND_WORD + " alise bensen";
+
+    private final List<String> keywords;
+
+    public FuzzyFindStudentCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonListByFuzzyName(keywords, MAX_RESULTS);
+        int matchedCount = model.getFilteredPersonList().size();
+
+        if (matchedCount == 0) {
+            return new CommandResult(FindStudentByNameCommand.MESSAGE_STUDENT_NOT_FOUND);
+        }
+
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matchedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyFindStudentCommand)) {
+            return false;
+        }
+
+        FuzzyFindStudentCommand otherFuzzyFindStudentCommand = (FuzzyFindStudentCommand) other;
+        return keywords.equals(otherFuzzyFindStudentCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
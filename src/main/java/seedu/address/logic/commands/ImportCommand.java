@@ -0,0 +1,256 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Registers the students listed in a CSV or TSV file, and optionally enrolls them in existing courses.
+ *
+ * The file is read one row at a time and the new students are added to the model in batches of
+ * {@value #BATCH_SIZE}, so memory use does not grow with the length of the file. A row that cannot be imported is
+ * reported and skipped; the rows around it are still imported. Should the file stop being readable part way, the
+ * students read until then are kept, and the result tells where the import stopped.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Registers the students listed in a CSV file "
+            + "(or a TSV file, if its name ends with .tsv). "
+            + "Each row holds NAME, PHONE, GENDER and, optionally, the COURSE_IDs to enroll the student in, "
+            + "separated by spaces or semicolons. A first row starting with 'name' is taken as a header.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$d student(s) imported from %2$s.";
+    public static final String MESSAGE_ROWS_SKIPPED = "\n%1$d row(s) skipped:";
+    public static final String MESSAGE_MORE_ERRORS = "\n... and %1$d more";
+    public static final String MESSAGE_ROW_ERROR = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected 3 or 4 fields but found %1$d";
+    public static final String MESSAGE_COURSE_NOT_FOUND = "Course with course ID %1$s not found.";
+    public static final String MESSAGE_FILE_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_STOPPED =
+            "\nStopped after line %1$d, as the rest of the file could not be read: %2$s";
+
+    /** The number of students added to the model at a time. */
+    static final int BATCH_SIZE = 500;
+
+    /** The number of skipped rows described in the result before the rest are only counted. */
+    static final int MAX_ERRORS_SHOWN = 20;
+
+    private static final String HEADER_FIRST_FIELD = "name";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the students listed in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!(model.getAddressBook() instanceof AddressBook)) {
+            throw new CommandException("Cannot generate student ID in read-only mode");
+        }
+        AddressBook addressBook = (AddressBook) model.getAddressBook();
+
+        char delimiter = filePath.toString().toLowerCase(Locale.ROOT).endsWith(".tsv") ? '\t' : ',';
+        Batch batch = new Batch(model);
+        List<String> errors = new ArrayList<>();
+        int errorCount = 0;
+        String stopMessage = null;
+        int lastLineNumber = 0;
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8),
+                delimiter)) {
+            boolean isFirstRow = true;
+            while (true) {
+                List<String> row;
+                try {
+                    row = reader.readRow();
+                } catch (CsvReader.MalformedRowException e) {
+                    isFirstRow = false;
+                    if (errorCount++ < MAX_ERRORS_SHOWN) {
+                        errors.add(String.format(MESSAGE_ROW_ERROR, reader.getRowLineNumber(), e.getMessage()));
+                    }
+                    continue;
+                }
+                if (row == null) {
+                    break;
+                }
+                lastLineNumber = reader.getRowLineNumber();
+                if (isFirstRow) {
+                    isFirstRow = false;
+                    row.set(0, stripByteOrderMark(row.get(0)));
+                    if (row.get(0).trim().equalsIgnoreCase(HEADER_FIRST_FIELD)) {
+                        continue;
+                    }
+                }
+                if (row.size() == 1 && row.get(0).isBlank()) {
+                    continue;
+                }
+
+                String error = batch.add(row, addressBook);
+                if (error != null) {
+                    if (errorCount++ < MAX_ERRORS_SHOWN) {
+                        errors.add(String.format(MESSAGE_ROW_ERROR, reader.getRowLineNumber(), error));
+                    }
+                    continue;
+                }
+                if (batch.size() >= BATCH_SIZE) {
+                    batch.flush();
+                }
+            }
+        } catch (IOException e) {
+            if (batch.getImportedCount() == 0 && batch.size() == 0) {
+                throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath, e.getMessage()), e);
+            }
+            // The students read so far are valid, so they are kept and reported like those of a complete file.
+            stopMessage = String.format(MESSAGE_STOPPED, lastLineNumber, e.getMessage());
+        }
+        batch.flush();
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, batch.getImportedCount(), filePath));
+        if (stopMessage != null) {
+            result.append(stopMessage);
+        }
+        if (errorCount > 0) {
+            result.append(String.format(MESSAGE_ROWS_SKIPPED, errorCount));
+            errors.forEach(result::append);
+            if (errorCount > MAX_ERRORS_SHOWN) {
+                result.append(String.format(MESSAGE_MORE_ERRORS, errorCount - MAX_ERRORS_SHOWN));
+            }
+        }
+        return new CommandResult(result.toString());
+    }
+
+    private static String stripByteOrderMark(String field) {
+        return field.startsWith("\uFEFF") ? field.substring(1) : field;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+        ImportCommand otherCommand = (ImportCommand) other;
+        return filePath.equals(otherCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * The students read since the last flush, and the courses to enroll them in.
+     */
+    private static class Batch {
+        private final Model model;
+        private final List<Person> persons = new ArrayList<>();
+        private final Map<CourseId, List<StudentId>> enrollments = new LinkedHashMap<>();
+        private int importedCount;
+
+        Batch(Model model) {
+            this.model = model;
+        }
+
+        /**
+         * Validates {@code row} and, if it is valid, adds the student it describes to the batch with a newly
+         * allocated id. Returns why the row is invalid, or null if it was added.
+         */
+        String add(List<String> row, AddressBook addressBook) {
+            if (row.size() < 3 || row.size() > 4) {
+                return String.format(MESSAGE_WRONG_FIELD_COUNT, row.size());
+            }
+            String name = row.get(0).trim();
+            String phone = row.get(1).trim();
+            String gender = row.get(2).trim();
+            if (!Name.isValidName(name)) {
+                return Name.MESSAGE_CONSTRAINTS;
+            }
+            if (!Phone.isValidPhone(phone)) {
+                return Phone.MESSAGE_CONSTRAINTS;
+            }
+            if (!Gender.isValidGender(gender)) {
+                return Gender.MESSAGE_CONSTRAINTS;
+            }
+
+            Set<CourseId> courses = new LinkedHashSet<>();
+            String courseIds = row.size() == 4 ? row.get(3).trim() : "";
+            for (String courseId : courseIds.isEmpty() ? new String[0] : courseIds.split("[;\\s]+")) {
+                if (!CourseId.isValidCourseId(courseId)) {
+                    return CourseId.MESSAGE_CONSTRAINTS;
+                }
+                if (model.getCourseById(CourseId.of(courseId)) == null) {
+                    return String.format(MESSAGE_COURSE_NOT_FOUND, courseId);
+                }
+                courses.add(CourseId.of(courseId));
+            }
+
+            StudentId studentId = addressBook.allocateStudentId();
+            if (studentId == null) {
+                return RegisterCommand.MESSAGE_OUT_OF_STUDENT_ID;
+            }
+            persons.add(new Person(new Name(name), new Phone(phone), new Gender(gender), studentId));
+            for (CourseId courseId : courses) {
+                enrollments.computeIfAbsent(courseId, unused -> new ArrayList<>()).add(studentId);
+            }
+            return null;
+        }
+
+        int size() {
+            return persons.size();
+        }
+
+        int getImportedCount() {
+            return importedCount;
+        }
+
+        /**
+         * Adds the students in the batch to the model, enrolls them in their courses and empties the batch.
+         */
+        void flush() {
+            if (persons.isEmpty()) {
+                return;
+            }
+            model.addPersons(persons);
+            enrollments.forEach((courseId, studentIds) -> model.getCourseById(courseId).addStudentIds(studentIds));
+            importedCount += persons.size();
+            persons.clear();
+            enrollments.clear();
+        }
+    }
+}
@@ -50,10 +50,7 @@ public class RemoveStudentCommand extends Command {
             throw new CommandException(String.format(MESSAGE_COURSE_NOT_FOUND, courseId));
         }
 
-        Person student = model.getAddressBook().getPersonList().stream()
-                .filter(p -> p.getStudentId().equals(studentId))
-                .findFirst()
-                .orElse(null);
+        Person student = model.getPersonById(studentId);
         if (student == null) {
             throw new CommandException(String.format(MESSAGE_STUDENT_NOT_FOUND, studentId));
         }
@@ -72,7 +69,7 @@ public class RemoveStudentCommand extends Command {
                         studentId,
                         course.getName(),
                         courseId,
-                        course.getStudentList().asUnmodifiableObservableList().size()
+                        course.getStudentCount()
                 )
         );
     }
@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Removes many students from a course at once. Every student is checked before any is removed, so either all of them
+ * are removed or, if any is not in the course, none is.
+ */
+public class RemoveStudentsCommand extends Command {
+
+    public static final String COMMAND_WORD = "remove_students";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes several students from a course. "
+            + "Students are given as IDs or ranges of IDs, separated by commas or spaces.\n"
+            + "Parameters: STUDENT_ID|FIRST_ID-LAST_ID... COURSE_ID\n"
+            + "Example: " + COMMAND_WORD + " S00001-S00400,S00410 C0001";
+
+    public static final String MESSAGE_SUCCESS = "%1$d student(s) removed from Course '%2$s' (%3$s) successfully.\n"
+            + "Course '%2$s' (%3$s) now have %4$d student(s) enrolled.\n"
+            + "Filter applied. Use 'list' command to view all students and courses.";
+    public static final String MESSAGE_STUDENTS_NOT_IN_COURSE =
+            "No student was removed. Students not in this course: %1$s";
+
+    private final List<StudentId> studentIds;
+    private final CourseId courseId;
+
+    /**
+     * Creates a RemoveStudentsCommand to remove the students with {@code studentIds}, which must be distinct, from
+     * the course with {@code courseId}.
+     */
+    public RemoveStudentsCommand(List<StudentId> studentIds, CourseId courseId) {
+        requireAllNonNull(studentIds, courseId);
+        this.studentIds = List.copyOf(studentIds);
+        this.courseId = courseId;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireAllNonNull(model);
+
+        Course course = model.getCourseById(courseId);
+        if (course == null) {
+            throw new CommandException(String.format(RemoveStudentCommand.MESSAGE_COURSE_NOT_FOUND, courseId));
+        }
+
+        List<StudentId> notEnrolled = new ArrayList<>();
+        for (StudentId studentId : studentIds) {
+            if (!course.containsStudentId(studentId)) {
+                notEnrolled.add(studentId);
+            }
+        }
+        if (!notEnrolled.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_STUDENTS_NOT_IN_COURSE,
+                    AddStudentsCommand.describe(notEnrolled)));
+        }
+
+        course.removeStudentIds(studentIds);
+        model.updateFilteredStudentListForCourse(course);
+        model.updateFilteredCourseListForCourse(course);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, studentIds.size(), course.getName(), courseId,
+                course.getStudentCount()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof RemoveStudentsCommand)) {
+            return false;
+        }
+        RemoveStudentsCommand otherCommand = (RemoveStudentsCommand) other;
+        return studentIds.equals(otherCommand.studentIds) && courseId.equals(otherCommand.courseId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentIds", studentIds)
+                .add("courseId", courseId)
+                .toString();
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.course.Course;
+
+/**
+ * Sorts the displayed course list by name, course id or number of students enrolled. The order is kept up to date as
+ * courses are created, edited or deleted and as students are registered or deregistered.
+ */
+public class SortCoursesCommand extends Command {
+    public static final String COMMAND_WORD = "sort_courses";
+
+    public static final String KEY_NAME = "name";
+    public static final String KEY_ID = "id";
+    public static final String KEY_SIZE = "size";
+    public static final String DESCENDING = "desc";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed courses by name, course id or "
+            + "number of students enrolled, in ascending order unless followed by '" + DESCENDING + "'.\n"
+            + "Parameters: " + KEY_NAME + "|" + KEY_ID + "|" + KEY_SIZE + " [" + DESCENDING + "]\n"
+            + "Example: " + COMMAND_WORD + " " + KEY_SIZE + " " + DESCENDING;
+
+    public static final String MESSAGE_SUCCESS = "Sorted courses by %1$s%2$s.";
+
+    private final String key;
+    private final boolean isDescending;
+
+    /**
+     * Creates a SortCoursesCommand to sort the courses by {@code key}, which must be {@link #KEY_NAME},
+     * {@link #KEY_ID} or {@link #KEY_SIZE}, in descending order if {@code isDescending} is true.
+     */
+    public SortCoursesCommand(String key, boolean isDescending) {
+        requireNonNull(key);
+        this.key = key;
+        this.isDescending = isDescending;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Comparator<Course> comparator = switch (key) {
+        case KEY_NAME -> Comparator.comparing((Course course) -> course.getName().getSearchKey());
+        case KEY_SIZE -> Comparator.comparingInt(Course::getStudentCount);
+        default -> Comparator.comparingInt((Course course) -> course.getCourseId().getNumber());
+        };
+        model.sortFilteredCourseList(isDescending ? comparator.reversed() : comparator);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, key, isDescending ? " (descending)" : ""));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SortCoursesCommand)) {
+            return false;
+        }
+        SortCoursesCommand otherCommand = (SortCoursesCommand) other;
+        return key.equals(otherCommand.key) && isDescending == otherCommand.isDescending;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("key", key)
+                .add("isDescending", isDescending)
+                .toString();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Sorts the displayed student list by name or by student id. The order is kept up to date as students are added,
+ * edited or removed, and across later searches that do not rank their results.
+ */
+public class SortStudentsCommand extends Command {
+    public static final String COMMAND_WORD = "sort_students";
+
+    public static final String KEY_NAME = "name";
+    public static final String KEY_ID = "id";
+    public static final String DESCENDING = "desc";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed students by name or by "
+            + "student id, in ascending order unless followed by '" + DESCENDING + "'.\n"
+            + "Parameters: " + KEY_NAME + "|" + KEY_ID + " [" + DESCENDING + "]\n"
+            + "Example: " + COMMAND_WORD + " " + KEY_NAME + " " + DESCENDING;
+
+    public static final String MESSAGE_SUCCESS = "Sorted students by %1$s%2$s.";
+
+    private final String key;
+    private final boolean isDescending;
+
+    /**
+     * Creates a SortStudentsCommand to sort the students by {@code key}, which must be {@link #KEY_NAME} or
+     * {@link #KEY_ID}, in descending order if {@code isDescending} is true.
+     */
+    public SortStudentsCommand(String key, boolean isDescending) {
+        requireNonNull(key);
+        this.key = key;
+        this.isDescending = isDescending;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Comparator<Person> comparator = key.equals(KEY_NAME)
+                ? Comparator.comparing((Person person) -> person.getName().getSearchKey())
+                : Comparator.comparingInt((Person person) -> person.getStudentId().getNumber());
+        model.sortFilteredPersonList(isDescending ? comparator.reversed() : comparator);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, key, isDescending ? " (descending)" : ""));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SortStudentsCommand)) {
+            return false;
+        }
+        SortStudentsCommand otherCommand = (SortStudentsCommand) other;
+        return key.equals(otherCommand.key) && isDescending == otherCommand.isDescending;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("key", key)
+                .add("isDescending", isDescending)
+                .toString();
+    }
+}
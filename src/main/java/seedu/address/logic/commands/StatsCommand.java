@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.stats.EnrollmentStats;
+
+/**
+ * Shows enrollment statistics of one course, or of all courses together. The statistics are kept up to date by the
+ * model, so showing them does not read any roster.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how many students are enrolled, by gender, and how enrollments changed since the data was "
+            + "loaded, for the given course or for all courses.\n"
+            + "Parameters: [COURSE_ID]\n"
+            + "Example: " + COMMAND_WORD + " C1234";
+
+    public static final String MESSAGE_COURSE_STATS = "Statistics for course %1$s:\n%2$s";
+    public static final String MESSAGE_OVERALL_STATS = "Statistics for all %1$d course(s):\n%2$s";
+    public static final String MESSAGE_COURSE_NOT_FOUND = "No course found with ID: %1$s";
+    public static final String MESSAGE_STATS = "Students enrolled: %1$d\nBy gender: %2$s\n"
+            + "Since loaded: %3$d enrolled, %4$d removed (net %5$+d)";
+
+    private final CourseId courseId;
+
+    /**
+     * Creates a StatsCommand to show the statistics of the course with {@code courseId}, or of all courses if it is
+     * null.
+     */
+    public StatsCommand(CourseId courseId) {
+        this.courseId = courseId;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (courseId == null) {
+            int courseCount = model.getCourseBook().getCourseList().size();
+            return new CommandResult(String.format(MESSAGE_OVERALL_STATS, courseCount,
+                    format(model.getOverallStats())));
+        }
+
+        EnrollmentStats stats = model.getCourseStats(courseId);
+        if (stats == null) {
+            throw new CommandException(String.format(MESSAGE_COURSE_NOT_FOUND, courseId));
+        }
+        return new CommandResult(String.format(MESSAGE_COURSE_STATS, courseId, format(stats)));
+    }
+
+    private static String format(EnrollmentStats stats) {
+        String genders = stats.getGenderCounts().isEmpty()
+                ? "-"
+                : new TreeMap<>(stats.getGenderCounts()).entrySet().stream()
+                        .map((Map.Entry<String, Integer> entry) -> entry.getKey() + " " + entry.getValue())
+                        .collect(Collectors.joining(", "));
+        return String.format(MESSAGE_STATS, stats.getStudentCount(), genders, stats.getEnrollments(),
+                stats.getUnenrollments(), stats.getGrowth());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+        StatsCommand otherCommand = (StatsCommand) other;
+        return Objects.equals(courseId, otherCommand.courseId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("courseId", courseId)
+                .toString();
+    }
+}
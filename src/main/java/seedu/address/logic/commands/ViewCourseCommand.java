@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_COURSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -48,14 +50,12 @@ public class ViewCourseCommand extends Command {
                     ? new CommandResult(MESSAGE_NO_COURSES)
                     : new CommandResult(MESSAGE_SUCCESS);
         }
-        Person student = model.getAddressBook().getPersonList().stream()
-                .filter(p -> p.getStudentId().equals(studentId))
-                .findFirst()
-                .orElse(null);
+        Person student = model.getPersonById(studentId);
         if (student == null) {
             throw new CommandException(String.format(MESSAGE_STUDENT_NOT_FOUND, studentId));
         }
-        Predicate<Course> predicate = course -> course.getStudentIds().contains(studentId.getValue());
+        Set<Course> enrolledCourses = new HashSet<>(model.getCoursesOfStudent(student));
+        Predicate<Course> predicate = enrolledCourses::contains;
         Predicate<Person> studentPredicate = s -> s.isSameStudentId(studentId);
         model.updateFilteredCourseList(predicate);
         model.updateFilteredPersonList(studentPredicate);
@@ -58,8 +58,8 @@ public class ViewCourseDetailsCommand extends Command {
 
         return new CommandResult(String.format(MESSAGE_SUCCESS,
                 courseToShow.getName().fullName,
-                courseToShow.getCourseId().value,
-                courseToShow.getStudentList().asUnmodifiableObservableList().size()));
+                courseToShow.getCourseId().getValue(),
+                courseToShow.getStudentCount()));
     }
 
     @Override
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.commands.AddStudentsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Parses input arguments and creates a new AddStudentsCommand object
+ */
+public class AddStudentsCommandParser implements Parser<AddStudentsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AddStudentsCommand
+     * and returns an AddStudentsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public AddStudentsCommand parse(String args) throws ParseException {
+        String[] arguments = args.trim().split("\\s+");
+        if (arguments.length < 2) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddStudentsCommand.MESSAGE_USAGE));
+        }
+
+        List<StudentId> studentIds = ParserUtil.parseStudentIds(Arrays.asList(arguments)
+                .subList(0, arguments.length - 1));
+        CourseId courseId = ParserUtil.parseCourseId(arguments[arguments.length - 1]);
+        if (studentIds.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddStudentsCommand.MESSAGE_USAGE));
+        }
+        return new AddStudentsCommand(studentIds, courseId);
+    }
+}
@@ -14,4 +14,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_ID = new Prefix("id/");
     public static final Prefix PREFIX_GENDER = new Prefix("g/");
 
+    /* Prefix definitions of the find query language */
+    public static final Prefix PREFIX_QUERY_NAME = new Prefix("name/");
+    public static final Prefix PREFIX_QUERY_GENDER = new Prefix("gender/");
+    public static final Prefix PREFIX_QUERY_COURSE = new Prefix("course/");
+
 }
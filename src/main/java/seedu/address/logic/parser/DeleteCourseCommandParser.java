@@ -17,10 +17,10 @@ public class DeleteCourseCommandParser implements Parser<DeleteCourseCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCourseCommand.MESSAGE_USAGE));
         }
         // Validate format: C followed by 4 digits
-        if (!trimmedArgs.matches("C\\d{4}")) {
+        if (!CourseId.isValidCourseId(trimmedArgs)) {
             throw new ParseException(DeleteCourseCommand.MESSAGE_INVALID_FORMAT);
         }
-        CourseId courseId = new CourseId(trimmedArgs);
+        CourseId courseId = CourseId.of(trimmedArgs);
         return new DeleteCourseCommand(courseId);
     }
 }
@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Target;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.course.CourseId;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    private static final String FILTERED_KEYWORD = "filtered";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        String[] arguments = args.trim().split("\\s+", 2);
+        if (arguments.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Target target = parseTarget(arguments[0]);
+        String rest = arguments[1];
+        CourseId courseId = null;
+        boolean isFilteredOnly = false;
+        String[] firstAndRest = rest.split("\\s+", 2);
+        if (target == Target.ROSTER) {
+            if (firstAndRest.length < 2) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+            }
+            courseId = ParserUtil.parseCourseId(firstAndRest[0]);
+            rest = firstAndRest[1];
+        } else if (firstAndRest.length == 2 && firstAndRest[0].equals(FILTERED_KEYWORD)) {
+            isFilteredOnly = true;
+            rest = firstAndRest[1];
+        }
+        boolean isOverwrite = false;
+        firstAndRest = rest.split("\\s+", 2);
+        if (firstAndRest.length == 2 && firstAndRest[0].equals(ExportCommand.OVERWRITE)) {
+            isOverwrite = true;
+            rest = firstAndRest[1];
+        }
+        return new ExportCommand(target, courseId, isFilteredOnly, isOverwrite, parseFilePath(rest));
+    }
+
+    private static Target parseTarget(String target) throws ParseException {
+        return switch (target) {
+        case "students" -> Target.STUDENTS;
+        case "courses" -> Target.COURSES;
+        case "roster" -> Target.ROSTER;
+        default -> throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        };
+    }
+
+    private static Path parseFilePath(String filePath) throws ParseException {
+        try {
+            return Paths.get(filePath);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY_COURSE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.QueryField;
+import seedu.address.model.query.QueryTerm;
+import seedu.address.model.query.StudentQuery;
+
+/**
+ * Parses input arguments and creates a new FindCommand object
+ */
+public class FindCommandParser implements Parser<FindCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindCommand
+     * and returns a FindCommand object for execution.
+     * Values given for the same field, in one or several occurrences of its prefix, are combined into one term.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FindCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_ID, PREFIX_QUERY_COURSE, PREFIX_QUERY_GENDER, PREFIX_QUERY_NAME);
+
+        String preamble = argMultimap.getPreamble();
+        if (!preamble.isEmpty() && !preamble.equals(FindCommand.EXPLAIN)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        List<QueryTerm> terms = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        for (String value : splitValues(argMultimap.getAllValues(PREFIX_ID))) {
+            ids.add(ParserUtil.parseStudentId(value).getValue());
+        }
+        addTerm(terms, QueryField.ID, ids);
+
+        List<String> courseIds = new ArrayList<>();
+        for (String value : splitValues(argMultimap.getAllValues(PREFIX_QUERY_COURSE))) {
+            courseIds.add(value.equalsIgnoreCase(QueryTerm.NO_COURSE)
+                    ? QueryTerm.NO_COURSE
+                    : ParserUtil.parseCourseId(value).getValue());
+        }
+        addTerm(terms, QueryField.COURSE, courseIds);
+
+        List<String> genders = new ArrayList<>();
+        for (String value : splitValues(argMultimap.getAllValues(PREFIX_QUERY_GENDER))) {
+            genders.add(ParserUtil.parseGender(value).getValue());
+        }
+        addTerm(terms, QueryField.GENDER, genders);
+
+        addTerm(terms, QueryField.NAME, splitValues(argMultimap.getAllValues(PREFIX_QUERY_NAME)));
+
+        if (terms.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(new StudentQuery(terms), preamble.equals(FindCommand.EXPLAIN));
+    }
+
+    private static List<String> splitValues(List<String> values) throws ParseException {
+        List<String> words = new ArrayList<>();
+        for (String value : values) {
+            if (value.isBlank()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            words.addAll(List.of(value.trim().split("\\s+")));
+        }
+        return words;
+    }
+
+    private static void addTerm(List<QueryTerm> terms, QueryField field, List<String> values) {
+        if (!values.isEmpty()) {
+            terms.add(new QueryTerm(field, values));
+        }
+    }
+}
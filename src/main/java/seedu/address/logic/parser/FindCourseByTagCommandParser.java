@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.FindCourseByTagCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FindCourseByTagCommand object
+ */
+public class FindCourseByTagCommandParser implements Parser<FindCourseByTagCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindCourseByTagCommand
+     * and returns a FindCourseByTagCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FindCourseByTagCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+
+        String matchMode = argMultimap.getPreamble();
+        List<String> tagNames = argMultimap.getAllValues(PREFIX_TAG);
+        if (tagNames.isEmpty() || !matchMode.isEmpty() && !matchMode.equals(FindCourseByTagCommand.MATCH_ALL)
+                && !matchMode.equals(FindCourseByTagCommand.MATCH_ANY)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCourseByTagCommand.MESSAGE_USAGE));
+        }
+
+        Set<Tag> tags = ParserUtil.parseTags(tagNames);
+        return new FindCourseByTagCommand(tags, matchMode.equals(FindCourseByTagCommand.MATCH_ALL));
+    }
+}
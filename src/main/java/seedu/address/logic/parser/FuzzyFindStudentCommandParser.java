@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.FuzzyFindStudentCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FuzzyFindStudentCommand object
+ */
+public class FuzzyFindStudentCommandParser implements Parser<FuzzyFindStudentCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FuzzyFindStudentCommand
+     * and returns a FuzzyFindStudentCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FuzzyFindStudentCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindStudentCommand.MESSAGE_USAGE));
+        }
+
+        String[] nameKeywords = trimmedArgs.split("\\s+");
+
+        return new FuzzyFindStudentCommand(Arrays.asList(nameKeywords));
+    }
+
+}
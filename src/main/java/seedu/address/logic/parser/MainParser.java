@@ -3,12 +3,16 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.AddStudentsCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CreateCourseCommand;
@@ -17,13 +21,22 @@ import seedu.address.logic.commands.DeregisterCommand;
 import seedu.address.logic.commands.EditCourseCommand;
 import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCourseByNameCommand;
+import seedu.address.logic.commands.FindCourseByTagCommand;
 import seedu.address.logic.commands.FindStudentByIdCommand;
 import seedu.address.logic.commands.FindStudentByNameCommand;
+import seedu.address.logic.commands.FuzzyFindStudentCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RegisterCommand;
 import seedu.address.logic.commands.RemoveStudentCommand;
+import seedu.address.logic.commands.RemoveStudentsCommand;
+import seedu.address.logic.commands.SortCoursesCommand;
+import seedu.address.logic.commands.SortStudentsCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.ViewCourseCommand;
 import seedu.address.logic.commands.ViewCourseDetailsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -33,12 +46,53 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainParser {
 
+    /**
+     * The command words understood by {@link #parseCommand(String)}.
+     */
+    public static final List<String> COMMAND_WORDS;
+
     /**
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(MainParser.class);
 
+    /**
+     * The parser of each command word. Commands without arguments ignore them.
+     */
+    private static final Map<String, Parser<? extends Command>> PARSERS = new LinkedHashMap<>();
+
+    static {
+        PARSERS.put(AddStudentCommand.COMMAND_WORD, new AddStudentCommandParser());
+        PARSERS.put(RemoveStudentCommand.COMMAND_WORD, new RemoveStudentCommandParser());
+        PARSERS.put(AddStudentsCommand.COMMAND_WORD, new AddStudentsCommandParser());
+        PARSERS.put(RemoveStudentsCommand.COMMAND_WORD, new RemoveStudentsCommandParser());
+        PARSERS.put(RegisterCommand.COMMAND_WORD, new RegisterCommandParser());
+        PARSERS.put(EditCourseCommand.COMMAND_WORD, new EditCourseCommandParser());
+        PARSERS.put(EditStudentCommand.COMMAND_WORD, new EditStudentCommandParser());
+        PARSERS.put(DeregisterCommand.COMMAND_WORD, new DeregisterCommandParser());
+        PARSERS.put(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        PARSERS.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        PARSERS.put(FindStudentByNameCommand.COMMAND_WORD, new FindStudentByNameCommandParser());
+        PARSERS.put(FindStudentByIdCommand.COMMAND_WORD, new FindStudentByIdCommandParser());
+        PARSERS.put(FuzzyFindStudentCommand.COMMAND_WORD, new FuzzyFindStudentCommandParser());
+        PARSERS.put(CreateCourseCommand.COMMAND_WORD, new CreateCourseCommandParser());
+        PARSERS.put(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        PARSERS.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        PARSERS.put(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        PARSERS.put(DeleteCourseCommand.COMMAND_WORD, new DeleteCourseCommandParser());
+        PARSERS.put(ViewCourseCommand.COMMAND_WORD, new ViewCourseCommandParser());
+        PARSERS.put(FindCourseByNameCommand.COMMAND_WORD, new FindCourseByNameCommandParser());
+        PARSERS.put(FindCourseByTagCommand.COMMAND_WORD, new FindCourseByTagCommandParser());
+        PARSERS.put(ViewCourseDetailsCommand.COMMAND_WORD, new ViewCourseDetailsCommandParser());
+        PARSERS.put(SortStudentsCommand.COMMAND_WORD, new SortStudentsCommandParser());
+        PARSERS.put(SortCoursesCommand.COMMAND_WORD, new SortCoursesCommandParser());
+        PARSERS.put(StatsCommand.COMMAND_WORD, new StatsCommandParser());
+        PARSERS.put(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        PARSERS.put(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+        COMMAND_WORDS = List.copyOf(PARSERS.keySet());
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -60,28 +114,11 @@ public class MainParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        return switch (commandWord) {
-        case AddStudentCommand.COMMAND_WORD -> new AddStudentCommandParser().parse(arguments);
-        case RemoveStudentCommand.COMMAND_WORD -> new RemoveStudentCommandParser().parse(arguments);
-        case RegisterCommand.COMMAND_WORD -> new RegisterCommandParser().parse(arguments);
-        case EditCourseCommand.COMMAND_WORD -> new EditCourseCommandParser().parse(arguments);
-        case EditStudentCommand.COMMAND_WORD -> new EditStudentCommandParser().parse(arguments);
-        case DeregisterCommand.COMMAND_WORD -> new DeregisterCommandParser().parse(arguments);
-        case ClearCommand.COMMAND_WORD -> new ClearCommand();
-        case FindStudentByNameCommand.COMMAND_WORD -> new FindStudentByNameCommandParser().parse(arguments);
-        case FindStudentByIdCommand.COMMAND_WORD -> new FindStudentByIdCommandParser().parse(arguments);
-        case CreateCourseCommand.COMMAND_WORD -> new CreateCourseCommandParser().parse(arguments);
-        case ListCommand.COMMAND_WORD -> new ListCommand();
-        case ExitCommand.COMMAND_WORD -> new ExitCommand();
-        case HelpCommand.COMMAND_WORD -> new HelpCommand();
-        case DeleteCourseCommand.COMMAND_WORD -> new DeleteCourseCommandParser().parse(arguments);
-        case ViewCourseCommand.COMMAND_WORD -> new ViewCourseCommandParser().parse(arguments);
-        case FindCourseByNameCommand.COMMAND_WORD -> new FindCourseByNameCommandParser().parse(arguments);
-        case ViewCourseDetailsCommand.COMMAND_WORD -> new ViewCourseDetailsCommandParser().parse(arguments);
-        default -> {
+        Parser<? extends Command> parser = PARSERS.get(commandWord);
+        if (parser == null) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
-        };
+        return parser.parse(arguments);
     }
 }
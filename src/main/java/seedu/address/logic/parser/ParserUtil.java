@@ -2,8 +2,11 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -25,6 +28,8 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_STUDENT_ID_RANGE =
+            "A student ID range should be written as FIRST-LAST, e.g. S00001-S00400, with FIRST not after LAST.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -155,7 +160,7 @@ public class ParserUtil {
         if (!CourseId.isValidCourseId(trimmedId)) {
             throw new ParseException(CourseId.MESSAGE_CONSTRAINTS);
         }
-        return new CourseId(trimmedId);
+        return CourseId.of(trimmedId);
     }
 
     /**
@@ -185,6 +190,38 @@ public class ParserUtil {
         if (!StudentId.isValidStudentId(trimmedStudentId)) {
             throw new ParseException(StudentId.MESSAGE_CONSTRAINTS);
         }
-        return new StudentId(trimmedStudentId);
+        return StudentId.of(trimmedStudentId);
+    }
+
+    /**
+     * Parses {@code studentIds}, each a student ID or an inclusive range of them such as {@code S00001-S00400}, or
+     * several of these separated by commas, into a list of distinct {@code StudentId}s in the order given.
+     *
+     * @throws ParseException if any student ID or range is invalid.
+     */
+    public static List<StudentId> parseStudentIds(Collection<String> studentIds) throws ParseException {
+        requireNonNull(studentIds);
+        Set<StudentId> parsed = new LinkedHashSet<>();
+        for (String argument : studentIds) {
+            for (String item : argument.split(",")) {
+                if (item.isBlank()) {
+                    continue;
+                }
+                int dash = item.indexOf('-');
+                if (dash < 0) {
+                    parsed.add(parseStudentId(item));
+                    continue;
+                }
+                StudentId first = parseStudentId(item.substring(0, dash));
+                StudentId last = parseStudentId(item.substring(dash + 1));
+                if (first.getNumber() > last.getNumber()) {
+                    throw new ParseException(MESSAGE_INVALID_STUDENT_ID_RANGE);
+                }
+                for (int number = first.getNumber(); number <= last.getNumber(); number++) {
+                    parsed.add(StudentId.fromNumber(number));
+                }
+            }
+        }
+        return new ArrayList<>(parsed);
     }
 }
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.List;
+
+import seedu.address.logic.commands.SortCoursesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SortCoursesCommand object
+ */
+public class SortCoursesCommandParser implements Parser<SortCoursesCommand> {
+
+    private static final List<String> KEYS = List.of(SortCoursesCommand.KEY_NAME, SortCoursesCommand.KEY_ID,
+            SortCoursesCommand.KEY_SIZE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCoursesCommand
+     * and returns a SortCoursesCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public SortCoursesCommand parse(String args) throws ParseException {
+        String[] words = args.trim().split("\\s+");
+        boolean isDescending = words.length == 2 && words[1].equals(SortCoursesCommand.DESCENDING);
+        if (words.length > 2 || words.length == 2 && !isDescending || !KEYS.contains(words[0])) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCoursesCommand.MESSAGE_USAGE));
+        }
+        return new SortCoursesCommand(words[0], isDescending);
+    }
+}
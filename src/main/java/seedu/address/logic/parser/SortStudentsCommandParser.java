@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.List;
+
+import seedu.address.logic.commands.SortStudentsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SortStudentsCommand object
+ */
+public class SortStudentsCommandParser implements Parser<SortStudentsCommand> {
+
+    private static final List<String> KEYS = List.of(SortStudentsCommand.KEY_NAME, SortStudentsCommand.KEY_ID);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortStudentsCommand
+     * and returns a SortStudentsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public SortStudentsCommand parse(String args) throws ParseException {
+        String[] words = args.trim().split("\\s+");
+        boolean isDescending = words.length == 2 && words[1].equals(SortStudentsCommand.DESCENDING);
+        if (words.length > 2 || words.length == 2 && !isDescending || !KEYS.contains(words[0])) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortStudentsCommand.MESSAGE_USAGE));
+        }
+        return new SortStudentsCommand(words[0], isDescending);
+    }
+}
@@ -3,12 +3,18 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.IntBitmap;
+import seedu.address.commons.util.PersistentSequence;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Gender;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.IdAllocator;
 
 /**
  * Wraps all data at the address-book level
@@ -16,8 +22,13 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** The source of versions, shared by all address books so that their versions never coincide. */
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
     private final UniquePersonList persons;
     private final UserPrefs userPrefs;
+    private final IdAllocator studentIdAllocator = new IdAllocator(1, StudentId.MAX_NUMBER);
+    private long version = VERSIONS.incrementAndGet();
 
     /**
      * Creates an AddressBook with default values.
@@ -44,25 +55,50 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Generates a unique student ID in the format SXXXXX where XXXXX is a 5-digit number.
-     * The ID sequence uses the higher of max existing ID + 1.
+     * Returns the student ID that will be given to the next registered student, in the format SXXXXX where XXXXX is
+     * a 5-digit number. IDs are allocated above the highest ID ever used; IDs of deregistered students are only
+     * reused once S99999 has been allocated. Calling this method does not reserve the ID.
      *
-     * @return a new unique StudentId object
+     * @return the next free StudentId, or null if every ID is in use
      */
     public StudentId getLatestStudentId() {
-        int maxExistingId = getPersonList().stream()
-                .map(Person::getStudentId)
-                .mapToInt(sid -> Integer.parseInt(sid.getValue().substring(1)))
-                .max()
-                .orElse(0);
-
-        int nextId = maxExistingId + 1;
-        if (nextId > 99999) {
-            return null;
-        }
+        int nextId = studentIdAllocator.peekNext();
+        return nextId < 0 ? null : StudentId.fromNumber(nextId);
+    }
+
+    /**
+     * Reserves the student ID returned by {@link #getLatestStudentId()} and returns it, so that the following calls
+     * return other IDs even before a student with it is added, e.g. while a batch of new students is prepared.
+     *
+     * @return the reserved StudentId, or null if every ID is in use
+     */
+    public StudentId allocateStudentId() {
+        int nextId = studentIdAllocator.allocate();
+        markChanged();
+        return nextId < 0 ? null : StudentId.fromNumber(nextId);
+    }
 
-        String idString = String.format("S%05d", nextId);
-        return new StudentId(idString);
+    @Override
+    public int getStudentIdHighWaterMark() {
+        return studentIdAllocator.getHighWaterMark();
+    }
+
+    /**
+     * Sets the highest student ID considered used to {@code highWaterMark}, or to the highest ID of a student in the
+     * address book if that is higher, e.g. when restoring a saved address book, so that IDs of students deregistered
+     * before it was saved are not handed out again. The mark may end up lower than it was.
+     */
+    public void setStudentIdHighWaterMark(int highWaterMark) {
+        studentIdAllocator.reset(persons.getStudentIdBitmap(), highWaterMark);
+        markChanged();
+    }
+
+    /**
+     * Returns an immutable image of this address book as it is now, in constant time.
+     * The image may be read from any thread while this address book keeps changing.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new Snapshot(persons.snapshot(), getStudentIdHighWaterMark(), version);
     }
 
     //// list overwrite operations
@@ -73,6 +109,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        studentIdAllocator.reset(this.persons.getStudentIdBitmap(), 0);
+        markChanged();
     }
 
     /**
@@ -81,6 +119,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
         setPersons(newData.getPersonList());
+        setStudentIdHighWaterMark(newData.getStudentIdHighWaterMark());
     }
 
     //// person-level operations
@@ -93,12 +132,85 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code studentId}, or null if no such person exists in the address book.
+     */
+    public Person getPersonById(StudentId studentId) {
+        requireNonNull(studentId);
+        return persons.getPerson(studentId);
+    }
+
+    /**
+     * Returns the numeric ids of all persons in the address book.
+     */
+    public IntBitmap getStudentIdBitmap() {
+        return persons.getStudentIdBitmap();
+    }
+
+    /**
+     * Returns the numeric ids of the persons whose name contains any of {@code keywords}, ignoring case.
+     */
+    public IntBitmap findByName(List<String> keywords) {
+        return persons.findByName(keywords);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains any of {@code keywords}, ignoring case,
+     * without searching.
+     */
+    public int estimateByName(List<String> keywords) {
+        return persons.estimateByName(keywords);
+    }
+
+    /**
+     * Returns the numeric ids of the persons of the given {@code gender}.
+     */
+    public IntBitmap findByGender(Gender gender) {
+        return persons.findByGender(gender);
+    }
+
+    /**
+     * Returns how closely the name of the person with {@code studentId} matches {@code keywords}, higher being
+     * closer.
+     */
+    public int scoreName(StudentId studentId, List<String> keywords) {
+        return persons.scoreName(studentId, keywords);
+    }
+
+    /**
+     * Returns the numeric ids of at most {@code limit} persons with a name word within a small edit distance of any
+     * of {@code keywords}, closest first.
+     */
+    public List<Integer> findByFuzzyName(List<String> keywords, int limit) {
+        return persons.findByFuzzyName(keywords, limit);
+    }
+
+    /**
+     * Returns at most {@code limit} student ids and name words that start with {@code prefix}, ignoring case, in
+     * alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        return persons.complete(prefix, limit);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        studentIdAllocator.markUsed(p.getStudentId().getNumber());
+        markChanged();
+    }
+
+    /**
+     * Adds all of {@code persons} to the address book, in order, with a single change to the person list.
+     * None of them may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        persons.forEach(person -> studentIdAllocator.markUsed(person.getStudentId().getNumber()));
+        markChanged();
     }
 
     /**
@@ -109,6 +221,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
         persons.setPerson(target, editedPerson);
+        if (!target.isSamePerson(editedPerson)) {
+            studentIdAllocator.release(target.getStudentId().getNumber());
+            studentIdAllocator.markUsed(editedPerson.getStudentId().getNumber());
+        }
+        markChanged();
     }
 
     /**
@@ -117,10 +234,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        studentIdAllocator.release(key.getStudentId().getNumber());
+        markChanged();
+    }
+
+    private void markChanged() {
+        version = VERSIONS.incrementAndGet();
     }
 
     //// util methods
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean isEmpty() {
         return persons.isEmpty();
@@ -157,4 +285,53 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * An immutable image of an {@code AddressBook}. Its person list is only materialised when first asked for, on the
+     * thread reading the image.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final PersistentSequence<Person> persons;
+        private final int studentIdHighWaterMark;
+        private final long version;
+        private volatile ObservableList<Person> personList;
+
+        Snapshot(PersistentSequence<Person> persons, int studentIdHighWaterMark, long version) {
+            this.persons = persons;
+            this.studentIdHighWaterMark = studentIdHighWaterMark;
+            this.version = version;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            ObservableList<Person> list = personList;
+            if (list == null) {
+                list = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.toList()));
+                personList = list;
+            }
+            return list;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return persons.isEmpty();
+        }
+
+        @Override
+        public int getStudentIdHighWaterMark() {
+            return studentIdHighWaterMark;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("persons", persons)
+                    .toString();
+        }
+    }
 }
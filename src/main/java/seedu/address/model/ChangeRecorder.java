@@ -0,0 +1,113 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.EnrollmentListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Records the changes made to an address book and a course book as {@code ModelChange}s, by listening to their lists
+ * and to the rosters of their courses, until they are taken as a {@code ChangeSet}.
+ *
+ * Once more than {@value #MAX_RECORDED_CHANGES} changes are waiting to be taken, they are dropped and the next change
+ * set is overflowed, so that replacing the whole address book does not keep a copy of every change in memory.
+ */
+class ChangeRecorder {
+
+    /** The number of changes kept between two calls to {@link #takeChanges()}. */
+    static final int MAX_RECORDED_CHANGES = 1000;
+
+    private final AddressBook addressBook;
+    private final CourseBook courseBook;
+    private List<ModelChange> changes = new ArrayList<>();
+    private boolean isOverflowed;
+    private int studentIdHighWaterMark;
+
+    /**
+     * Creates a recorder of the changes made to {@code addressBook} and {@code courseBook} from now on.
+     */
+    ChangeRecorder(AddressBook addressBook, CourseBook courseBook) {
+        requireAllNonNull(addressBook, courseBook);
+        this.addressBook = addressBook;
+        this.courseBook = courseBook;
+        studentIdHighWaterMark = addressBook.getStudentIdHighWaterMark();
+
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                if (change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                    Person removed = change.getRemoved().get(0);
+                    record(ModelChange.setPerson(removed.getStudentId(), change.getAddedSubList().get(0)));
+                    continue;
+                }
+                change.getRemoved().forEach(removed -> record(ModelChange.removePerson(removed.getStudentId())));
+                change.getAddedSubList().forEach(added -> record(ModelChange.addPerson(added)));
+            }
+        });
+        courseBook.getCourseList().addListener((ListChangeListener<Course>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                if (change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                    Course removed = change.getRemoved().get(0);
+                    record(ModelChange.setCourse(removed.getCourseId(), change.getAddedSubList().get(0).snapshot()));
+                    continue;
+                }
+                change.getRemoved().forEach(removed -> record(ModelChange.removeCourse(removed.getCourseId())));
+                change.getAddedSubList().forEach(added -> record(ModelChange.addCourse(added.snapshot())));
+            }
+        });
+        courseBook.addEnrollmentListener(new EnrollmentListener() {
+            @Override
+            public void studentEnrolled(Course course, StudentId studentId) {
+                record(ModelChange.enroll(course.getCourseId(), studentId));
+            }
+
+            @Override
+            public void studentUnenrolled(Course course, StudentId studentId) {
+                record(ModelChange.unenroll(course.getCourseId(), studentId));
+            }
+        });
+    }
+
+    private void record(ModelChange change) {
+        if (isOverflowed) {
+            return;
+        }
+        if (changes.size() >= MAX_RECORDED_CHANGES) {
+            changes = new ArrayList<>();
+            isOverflowed = true;
+            return;
+        }
+        changes.add(change);
+    }
+
+    /**
+     * Returns the changes recorded since the previous call, or since this recorder was created, and starts recording
+     * afresh. Returns an empty change set if nothing changed, including the student id high-water mark.
+     */
+    ChangeSet takeChanges() {
+        int newStudentIdHighWaterMark = addressBook.getStudentIdHighWaterMark();
+        ChangeSet taken;
+        if (isOverflowed) {
+            taken = ChangeSet.overflowed(newStudentIdHighWaterMark);
+        } else if (changes.isEmpty() && newStudentIdHighWaterMark == studentIdHighWaterMark) {
+            taken = ChangeSet.EMPTY;
+        } else {
+            taken = new ChangeSet(changes, newStudentIdHighWaterMark);
+        }
+        changes = new ArrayList<>();
+        isOverflowed = false;
+        studentIdHighWaterMark = newStudentIdHighWaterMark;
+        return taken;
+    }
+}
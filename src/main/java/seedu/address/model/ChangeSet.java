@@ -0,0 +1,115 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The changes made to the model since the previous {@link Model#takeChanges()}, in the order they were made, with
+ * the highest student id considered used right after them.
+ *
+ * A change set may be overflowed: too many changes were made to record them one by one, e.g. when the whole address
+ * book was replaced, and the changes are not available. The data must then be saved in full.
+ */
+public final class ChangeSet {
+
+    /** The change set taken when nothing changed. Its high-water mark is -1. */
+    public static final ChangeSet EMPTY = new ChangeSet(List.of(), -1);
+
+    private final List<ModelChange> changes;
+    private final boolean isOverflowed;
+    private final int studentIdHighWaterMark;
+
+    /**
+     * Creates a change set of {@code changes}, after which the given high-water mark applies.
+     */
+    public ChangeSet(List<ModelChange> changes, int studentIdHighWaterMark) {
+        requireNonNull(changes);
+        this.changes = List.copyOf(changes);
+        this.isOverflowed = false;
+        this.studentIdHighWaterMark = studentIdHighWaterMark;
+    }
+
+    private ChangeSet(int studentIdHighWaterMark) {
+        this.changes = List.of();
+        this.isOverflowed = true;
+        this.studentIdHighWaterMark = studentIdHighWaterMark;
+    }
+
+    /**
+     * Returns an overflowed change set, after which the given high-water mark applies.
+     */
+    public static ChangeSet overflowed(int studentIdHighWaterMark) {
+        return new ChangeSet(studentIdHighWaterMark);
+    }
+
+    /**
+     * Returns the changes in this set, or an empty list if it is overflowed.
+     */
+    public List<ModelChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns true if this is the change set taken when nothing changed, not even the high-water mark.
+     */
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    public boolean isOverflowed() {
+        return isOverflowed;
+    }
+
+    public int getStudentIdHighWaterMark() {
+        return studentIdHighWaterMark;
+    }
+
+    /**
+     * Makes the changes in this set to {@code addressBook} and {@code courseBook}, then sets the student id
+     * high-water mark.
+     * Like {@link ModelChange#applyTo(AddressBook, CourseBook)}, this is idempotent.
+     * The change set must not be overflowed.
+     */
+    public void applyTo(AddressBook addressBook, CourseBook courseBook) {
+        if (isOverflowed) {
+            throw new IllegalStateException("The changes in an overflowed change set are not available");
+        }
+        if (isEmpty()) {
+            return;
+        }
+        changes.forEach(change -> change.applyTo(addressBook, courseBook));
+        addressBook.setStudentIdHighWaterMark(studentIdHighWaterMark);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ChangeSet)) {
+            return false;
+        }
+        ChangeSet otherSet = (ChangeSet) other;
+        return changes.equals(otherSet.changes)
+                && isOverflowed == otherSet.isOverflowed
+                && studentIdHighWaterMark == otherSet.studentIdHighWaterMark;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(changes, isOverflowed, studentIdHighWaterMark);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("changes", changes)
+                .add("isOverflowed", isOverflowed)
+                .add("studentIdHighWaterMark", studentIdHighWaterMark)
+                .toString();
+    }
+}
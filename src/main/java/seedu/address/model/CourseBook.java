@@ -2,14 +2,25 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.IntBitmap;
+import seedu.address.commons.util.PersistentSequence;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.course.Course;
 import seedu.address.model.course.CourseId;
 import seedu.address.model.course.CourseList;
+import seedu.address.model.course.CourseSnapshot;
+import seedu.address.model.course.EnrollmentListener;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -17,7 +28,11 @@ import seedu.address.model.person.Person;
  */
 public class CourseBook implements ReadOnlyCourseBook {
 
+    /** The source of versions, shared by all course books so that their versions never coincide. */
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
     private final CourseList courses;
+    private long version = VERSIONS.incrementAndGet();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -28,6 +43,18 @@ public class CourseBook implements ReadOnlyCourseBook {
      */
     {
         courses = new CourseList();
+        // Rosters are changed on the courses themselves rather than through this course book.
+        courses.addEnrollmentListener(new EnrollmentListener() {
+            @Override
+            public void studentEnrolled(Course course, StudentId studentId) {
+                markChanged();
+            }
+
+            @Override
+            public void studentUnenrolled(Course course, StudentId studentId) {
+                markChanged();
+            }
+        });
     }
 
     public CourseBook() {}
@@ -40,6 +67,14 @@ public class CourseBook implements ReadOnlyCourseBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Returns an immutable image of this course book, including every course's roster, as it is now, in constant
+     * time. The image may be read from any thread while this course book and its courses keep changing.
+     */
+    public ReadOnlyCourseBook snapshot() {
+        return new Snapshot(courses.snapshot(), version);
+    }
+
     //// list overwrite operations
 
     /**
@@ -48,16 +83,22 @@ public class CourseBook implements ReadOnlyCourseBook {
      */
     public void setCourses(List<Course> courses) {
         this.courses.setCourses(courses);
-
+        markChanged();
     }
 
     /**
-     * Resets the existing data of this {@code CourseBook} with {@code newData}.
+     * Resets the existing data of this {@code CourseBook} with copies of the courses in {@code newData}.
+     * The courses are copied because their rosters are mutable and notify the book that holds them, so a course
+     * shared by two books would change both and pass its enrollment events to both.
      */
     public void resetData(ReadOnlyCourseBook newData) {
         requireNonNull(newData);
 
-        setCourses(newData.getCourseList());
+        List<Course> copies = new ArrayList<>(newData.getCourseList().size());
+        for (Course course : newData.getCourseList()) {
+            copies.add(course.snapshot().toCourse());
+        }
+        setCourses(copies);
     }
 
     //// course-level operations
@@ -76,6 +117,7 @@ public class CourseBook implements ReadOnlyCourseBook {
      */
     public void addCourse(Course c) {
         courses.add(c);
+        markChanged();
     }
 
     /**
@@ -86,6 +128,7 @@ public class CourseBook implements ReadOnlyCourseBook {
     public void setCourse(Course target, Course editedCourse) {
         requireNonNull(editedCourse);
         courses.setCourse(target, editedCourse);
+        markChanged();
     }
 
     /**
@@ -94,6 +137,11 @@ public class CourseBook implements ReadOnlyCourseBook {
      */
     public void removeCourse(Course key) {
         courses.remove(key);
+        markChanged();
+    }
+
+    private void markChanged() {
+        version = VERSIONS.incrementAndGet();
     }
 
     /**
@@ -103,6 +151,44 @@ public class CourseBook implements ReadOnlyCourseBook {
         return courses.getByCourseId(courseId);
     }
 
+    /**
+     * Returns the numeric ids of the courses whose name contains any of {@code keywords}, ignoring case.
+     */
+    public IntBitmap findByName(List<String> keywords) {
+        return courses.findByName(keywords);
+    }
+
+    /**
+     * Returns how closely the name of the course with {@code courseId} matches {@code keywords}, higher being
+     * closer.
+     */
+    public int scoreName(CourseId courseId, List<String> keywords) {
+        return courses.scoreName(courseId, keywords);
+    }
+
+    /**
+     * Returns the numeric ids of the courses tagged with all of {@code tags} if {@code matchAll} is true, or with any
+     * of them otherwise.
+     */
+    public IntBitmap findByTags(Collection<Tag> tags, boolean matchAll) {
+        return courses.findByTags(tags, matchAll);
+    }
+
+    /**
+     * Registers {@code listener} to be notified whenever the roster of a course in this course book changes.
+     */
+    public void addEnrollmentListener(EnrollmentListener listener) {
+        courses.addEnrollmentListener(listener);
+    }
+
+    /**
+     * Returns at most {@code limit} course ids and course name words that start with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        return courses.complete(prefix, limit);
+    }
+
     /**
      * Returns true if the given student is in one of the course.
      */
@@ -111,6 +197,21 @@ public class CourseBook implements ReadOnlyCourseBook {
         return courses.containsStudent(student);
     }
 
+    /**
+     * Returns the courses that the given student is enrolled in.
+     */
+    public Set<Course> getCoursesOfStudent(Person student) {
+        requireNonNull(student);
+        return courses.getCoursesOfStudent(student);
+    }
+
+    /**
+     * Returns the numeric ids of the students enrolled in at least one course in this course book.
+     */
+    public IntBitmap getEnrolledStudentIds() {
+        return courses.getEnrolledStudentIds();
+    }
+
     //// util methods
 
     @Override
@@ -125,6 +226,11 @@ public class CourseBook implements ReadOnlyCourseBook {
                 .toString();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public ObservableList<Course> getCourseList() {
         return courses.asUnmodifiableObservableList();
@@ -148,4 +254,43 @@ public class CourseBook implements ReadOnlyCourseBook {
     public int hashCode() {
         return courses.hashCode();
     }
+
+    /**
+     * An immutable image of a {@code CourseBook}. Its courses are only materialised when first asked for, on the
+     * thread reading the image.
+     */
+    private static class Snapshot implements ReadOnlyCourseBook {
+        private final PersistentSequence<CourseSnapshot> courses;
+        private final long version;
+        private volatile ObservableList<Course> courseList;
+
+        Snapshot(PersistentSequence<CourseSnapshot> courses, long version) {
+            this.courses = courses;
+            this.version = version;
+        }
+
+        @Override
+        public ObservableList<Course> getCourseList() {
+            ObservableList<Course> list = courseList;
+            if (list == null) {
+                List<Course> materialised = new ArrayList<>(courses.size());
+                for (CourseSnapshot course : courses) {
+                    materialised.add(course.toCourse());
+                }
+                list = FXCollections.unmodifiableObservableList(FXCollections.observableList(materialised));
+                courseList = list;
+            }
+            return list;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return courses.isEmpty();
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
 }
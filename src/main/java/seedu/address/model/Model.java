@@ -1,7 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -9,6 +11,11 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.course.Course;
 import seedu.address.model.course.CourseId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.StudentQuery;
+import seedu.address.model.stats.EnrollmentStats;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -76,11 +83,28 @@ public interface Model {
     /** Returns the CourseBook */
     ReadOnlyCourseBook getCourseBook();
 
+    /**
+     * Returns a consistent, immutable image of the address book and course book, in constant time.
+     * Must be called on the thread that changes the model; the image itself may then be read from any thread.
+     */
+    ModelSnapshot snapshot();
+
+    /**
+     * Returns the changes made to the address book and course book since the previous call, or since the model was
+     * created, in the order they were made. Must be called on the thread that changes the model.
+     */
+    ChangeSet takeChanges();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person with the given {@code studentId}, or null if not found.
+     */
+    Person getPersonById(StudentId studentId);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -93,6 +117,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons, in order, and then shows all persons.
+     * None of them may already exist in the address book, and they must have distinct student ids.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -109,6 +139,55 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns at most {@code limit} persons of the filtered person list, in display order, starting at position
+     * {@code offset}. Takes time proportional to {@code limit}, up to a logarithmic factor.
+     * @throws IllegalArgumentException if {@code offset} is negative or {@code limit} is not positive.
+     */
+    Page<Person> getFilteredPersonPage(int offset, int limit);
+
+    /**
+     * Returns at most {@code limit} persons of the filtered person list, in student id order, starting after the
+     * person with {@code after}, or from the first person if it is null. Passing the id of the last person of a page
+     * returns the next page, which is unaffected by persons added or removed before it. Pages follow student id
+     * order whatever order the list is displayed in, as that is the only order a student id cursor can resume from
+     * once its person has been edited or deleted. Takes time proportional to {@code limit}, up to a logarithmic
+     * factor.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    Page<Person> getFilteredPersonPageAfter(StudentId after, int limit);
+
+    /**
+     * Sorts the filtered person list by {@code comparator}, which stays in force across later changes to the filter
+     * until another order is chosen or a ranked search orders the list by relevance.
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void sortFilteredPersonList(Comparator<Person> comparator);
+
+    /**
+     * Updates the filtered person list to show only the persons whose name contains any of {@code keywords},
+     * ignoring case, ordered from the closest match.
+     */
+    void updateFilteredPersonListByName(List<String> keywords);
+
+    /**
+     * Updates the filtered person list to show at most {@code limit} persons with a name word within a small edit
+     * distance of any of {@code keywords}, ordered from the closest match.
+     */
+    void updateFilteredPersonListByFuzzyName(List<String> keywords, int limit);
+
+    /**
+     * Updates the filtered person list to show only the persons matching {@code query}, answered through the most
+     * selective index first, and returns the executed plan.
+     */
+    QueryPlan updateFilteredPersonListByQuery(StudentQuery query);
+
+    /**
+     * Returns at most {@code limit} student ids, course ids and words of student or course names that start with
+     * {@code prefix}, ignoring case, in alphabetical order.
+     */
+    List<String> completeWord(String prefix, int limit);
+
     /**
      * Returns true if a course with the same identity as {@code course} exists in the address book.
      */
@@ -143,6 +222,11 @@ public interface Model {
      */
     List<Course> getCoursesOfStudent(Person student);
 
+    /**
+     * Returns the current version of each student enrolled in {@code course}, in enrollment order.
+     */
+    List<Person> getStudentsOfCourse(Course course);
+
 
     /** Returns an unmodifiable view of the filtered course list */
     ObservableList<Course> getFilteredCourseList();
@@ -153,6 +237,25 @@ public interface Model {
      */
     void updateFilteredCourseList(Predicate<Course> predicate);
 
+    /**
+     * Sorts the filtered course list by {@code comparator}, which stays in force across later changes to the filter
+     * and to course rosters until another order is chosen or a ranked search orders the list by relevance.
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void sortFilteredCourseList(Comparator<Course> comparator);
+
+    /**
+     * Updates the filtered course list to show only the courses whose name contains any of {@code keywords},
+     * ignoring case, ordered from the closest match.
+     */
+    void updateFilteredCourseListByName(List<String> keywords);
+
+    /**
+     * Updates the filtered course list to show only the courses tagged with all of {@code tags} if {@code matchAll}
+     * is true, or with any of them otherwise.
+     */
+    void updateFilteredCourseListByTags(Set<Tag> tags, boolean matchAll);
+
     /**
      * Returns the course with the given CourseId, or null if not found.
      */
@@ -162,4 +265,14 @@ public interface Model {
 
     void updateFilteredCourseListForCourse(Course course);
 
+    /**
+     * Returns the enrollment statistics of the course with {@code courseId}, or null if there is no such course.
+     */
+    EnrollmentStats getCourseStats(CourseId courseId);
+
+    /**
+     * Returns the enrollment statistics of all courses together.
+     */
+    EnrollmentStats getOverallStats();
+
 }
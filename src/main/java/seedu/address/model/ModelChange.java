@@ -0,0 +1,232 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.course.CourseSnapshot;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A single change to the address book or course book data, such as a student being added or enrolled in a course.
+ *
+ * Changes can be {@link #applyTo(AddressBook, CourseBook) applied} to other books to repeat them. Applying a change
+ * is idempotent: it sets the data it is about to what it was right after the change, so applying a sequence of
+ * changes to data that already includes some or all of them gives the same result as applying it to the data from
+ * before the first.
+ */
+public final class ModelChange {
+
+    /**
+     * The kinds of change.
+     */
+    public enum Kind {
+        ADD_PERSON, SET_PERSON, REMOVE_PERSON, ADD_COURSE, SET_COURSE, REMOVE_COURSE, ENROLL, UNENROLL
+    }
+
+    private final Kind kind;
+    private final Person person;
+    private final CourseSnapshot course;
+    private final StudentId studentId;
+    private final CourseId courseId;
+
+    private ModelChange(Kind kind, Person person, CourseSnapshot course, StudentId studentId, CourseId courseId) {
+        this.kind = kind;
+        this.person = person;
+        this.course = course;
+        this.studentId = studentId;
+        this.courseId = courseId;
+    }
+
+    /**
+     * Returns the change that adds {@code person}.
+     */
+    public static ModelChange addPerson(Person person) {
+        requireNonNull(person);
+        return new ModelChange(Kind.ADD_PERSON, person, null, person.getStudentId(), null);
+    }
+
+    /**
+     * Returns the change that replaces the student with {@code target} by {@code person}.
+     */
+    public static ModelChange setPerson(StudentId target, Person person) {
+        requireAllNonNull(target, person);
+        return new ModelChange(Kind.SET_PERSON, person, null, target, null);
+    }
+
+    /**
+     * Returns the change that removes the student with {@code studentId}.
+     */
+    public static ModelChange removePerson(StudentId studentId) {
+        requireNonNull(studentId);
+        return new ModelChange(Kind.REMOVE_PERSON, null, null, studentId, null);
+    }
+
+    /**
+     * Returns the change that adds the course captured in {@code course}, with its roster.
+     */
+    public static ModelChange addCourse(CourseSnapshot course) {
+        requireNonNull(course);
+        return new ModelChange(Kind.ADD_COURSE, null, course, null, course.getCourseId());
+    }
+
+    /**
+     * Returns the change that replaces the course with {@code target} by the course captured in {@code course}.
+     */
+    public static ModelChange setCourse(CourseId target, CourseSnapshot course) {
+        requireAllNonNull(target, course);
+        return new ModelChange(Kind.SET_COURSE, null, course, null, target);
+    }
+
+    /**
+     * Returns the change that removes the course with {@code courseId}.
+     */
+    public static ModelChange removeCourse(CourseId courseId) {
+        requireNonNull(courseId);
+        return new ModelChange(Kind.REMOVE_COURSE, null, null, null, courseId);
+    }
+
+    /**
+     * Returns the change that enrolls the student with {@code studentId} in the course with {@code courseId}.
+     */
+    public static ModelChange enroll(CourseId courseId, StudentId studentId) {
+        requireAllNonNull(courseId, studentId);
+        return new ModelChange(Kind.ENROLL, null, null, studentId, courseId);
+    }
+
+    /**
+     * Returns the change that removes the student with {@code studentId} from the course with {@code courseId}.
+     */
+    public static ModelChange unenroll(CourseId courseId, StudentId studentId) {
+        requireAllNonNull(courseId, studentId);
+        return new ModelChange(Kind.UNENROLL, null, null, studentId, courseId);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the student added or set by this change, or null if it is not about one.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the course added or set by this change, or null if it is not about one.
+     */
+    public CourseSnapshot getCourse() {
+        return course;
+    }
+
+    /**
+     * Returns the id of the student added, removed, enrolled or unenrolled, or replaced by {@link Kind#SET_PERSON},
+     * or null if this change is about a course only.
+     */
+    public StudentId getStudentId() {
+        return studentId;
+    }
+
+    /**
+     * Returns the id of the course added, removed or enrolled in or out of, or replaced by {@link Kind#SET_COURSE},
+     * or null if this change is about a student only.
+     */
+    public CourseId getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Makes this change to {@code addressBook} and {@code courseBook}, unless they already reflect it.
+     */
+    public void applyTo(AddressBook addressBook, CourseBook courseBook) {
+        requireAllNonNull(addressBook, courseBook);
+        switch (kind) {
+        case ADD_PERSON, SET_PERSON -> {
+            Person existing = addressBook.getPersonById(studentId);
+            if (existing == null) {
+                existing = addressBook.getPersonById(person.getStudentId());
+            }
+            if (existing == null) {
+                addressBook.addPerson(person);
+            } else if (!existing.equals(person)) {
+                addressBook.setPerson(existing, person);
+            }
+        }
+        case REMOVE_PERSON -> {
+            Person existing = addressBook.getPersonById(studentId);
+            if (existing != null) {
+                addressBook.removePerson(existing);
+            }
+        }
+        case ADD_COURSE, SET_COURSE -> {
+            Course existing = courseBook.getCourseById(courseId);
+            if (existing == null) {
+                existing = courseBook.getCourseById(course.getCourseId());
+            }
+            if (existing == null) {
+                courseBook.addCourse(course.toCourse());
+            } else {
+                courseBook.setCourse(existing, course.toCourse());
+            }
+        }
+        case REMOVE_COURSE -> {
+            Course existing = courseBook.getCourseById(courseId);
+            if (existing != null) {
+                courseBook.removeCourse(existing);
+            }
+        }
+        case ENROLL -> {
+            Course existing = courseBook.getCourseById(courseId);
+            if (existing != null && !existing.containsStudentId(studentId)) {
+                existing.addStudentId(studentId);
+            }
+        }
+        case UNENROLL -> {
+            Course existing = courseBook.getCourseById(courseId);
+            if (existing != null && existing.containsStudentId(studentId)) {
+                existing.removeStudentId(studentId);
+            }
+        }
+        default -> throw new AssertionError(kind);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ModelChange)) {
+            return false;
+        }
+        ModelChange otherChange = (ModelChange) other;
+        return kind == otherChange.kind
+                && Objects.equals(person, otherChange.person)
+                && Objects.equals(course == null ? null : course.toCourse(),
+                        otherChange.course == null ? null : otherChange.course.toCourse())
+                && Objects.equals(studentId, otherChange.studentId)
+                && Objects.equals(courseId, otherChange.courseId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, studentId, courseId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind)
+                .add("person", person)
+                .add("course", course == null ? null : course.toCourse())
+                .add("studentId", studentId)
+                .add("courseId", courseId)
+                .toString();
+    }
+}
@@ -1,20 +1,38 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.IntBitmap;
 import seedu.address.model.course.Course;
 import seedu.address.model.course.CourseId;
+import seedu.address.model.course.EnrollmentListener;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.StudentQuery;
+import seedu.address.model.query.StudentQueryPlanner;
+import seedu.address.model.stats.EnrollmentStatistics;
+import seedu.address.model.stats.EnrollmentStats;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SelectionList;
+import seedu.address.model.util.TreeSortedList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,8 +43,17 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final CourseBook courseBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Course> filteredCourse;
+    private final SelectionList<Person> filteredPersons;
+    private final SelectionList<Course> filteredCourse;
+    private final TreeSortedList<Person> sortedPersons;
+    private final TreeSortedList<Course> sortedCourses;
+    /** Numeric ids of the persons in {@code filteredPersons}, kept in step with it for paging by student id. */
+    private final IntBitmap filteredPersonIds = new IntBitmap();
+    private final StudentQueryPlanner queryPlanner;
+    private final EnrollmentStatistics statistics;
+    private final ChangeRecorder changeRecorder;
+    private Comparator<Person> personOrder;
+    private Comparator<Course> courseOrder;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,8 +67,18 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.addressBook = new AddressBook(addressBook, this.userPrefs);
         this.courseBook = new CourseBook(courseBook);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredCourse = new FilteredList<>(this.courseBook.getCourseList());
+        filteredPersons = new SelectionList<>(this.addressBook.getPersonList());
+        filteredCourse = new SelectionList<>(this.courseBook.getCourseList());
+        filteredPersons.forEach(person -> filteredPersonIds.add(person.getStudentId().getNumber()));
+        filteredPersons.addListener(this::filteredPersonsChanged);
+        sortedPersons = new TreeSortedList<>(filteredPersons,
+                Comparator.comparingInt(person -> person.getStudentId().getNumber()));
+        sortedCourses = new TreeSortedList<>(filteredCourse,
+                Comparator.comparingInt(course -> course.getCourseId().getNumber()));
+        this.courseBook.addEnrollmentListener(new CourseRepositioner());
+        queryPlanner = new StudentQueryPlanner(this.addressBook, this.courseBook);
+        statistics = new EnrollmentStatistics(this.addressBook, this.courseBook);
+        changeRecorder = new ChangeRecorder(this.addressBook, this.courseBook);
     }
 
     public ModelManager() {
@@ -112,6 +149,12 @@ public class ModelManager implements Model {
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Person getPersonById(StudentId studentId) {
+        requireNonNull(studentId);
+        return addressBook.getPersonById(studentId);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -123,6 +166,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -138,15 +188,144 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        applyPersonOrder(personOrder);
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public Page<Person> getFilteredPersonPage(int offset, int limit) {
+        checkArgument(offset >= 0, "Offset must not be negative");
+        checkArgument(limit > 0, "Limit must be positive");
+        int totalCount = sortedPersons.size();
+        int end = (int) Math.min(totalCount, (long) offset + limit);
+        List<Person> items = offset >= totalCount ? List.of() : sortedPersons.subList(offset, end);
+        return new Page<>(items, totalCount, end < totalCount);
+    }
+
+    @Override
+    public Page<Person> getFilteredPersonPageAfter(StudentId after, int limit) {
+        checkArgument(limit > 0, "Limit must be positive");
+        List<Person> items = new ArrayList<>(limit);
+        int next = filteredPersonIds.nextValue(after == null ? 0 : after.getNumber() + 1);
+        while (next >= 0 && items.size() < limit) {
+            items.add(addressBook.getPersonById(StudentId.fromNumber(next)));
+            next = next == Integer.MAX_VALUE ? -1 : filteredPersonIds.nextValue(next + 1);
+        }
+        return new Page<>(items, sortedPersons.size(), next >= 0);
+    }
+
+    private void filteredPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            if (change.getFrom() == 0 && change.getTo() == change.getList().size() && change.wasRemoved()) {
+                // The whole list was replaced, so start over rather than removing the old ids one by one.
+                filteredPersonIds.clear();
+                change.getList().forEach(person -> filteredPersonIds.add(person.getStudentId().getNumber()));
+                return;
+            }
+            change.getRemoved().forEach(person -> filteredPersonIds.remove(person.getStudentId().getNumber()));
+            change.getAddedSubList().forEach(person -> filteredPersonIds.add(person.getStudentId().getNumber()));
+        }
+    }
+
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        personOrder = comparator;
+        applyPersonOrder(comparator);
+    }
+
+    /**
+     * Sorts the filtered person list by {@code comparator} unless it is sorted by it already, so that repeated
+     * filtering does not re-sort the whole list.
+     */
+    private void applyPersonOrder(Comparator<Person> comparator) {
+        if (sortedPersons.getComparator() != comparator) {
+            sortedPersons.setComparator(comparator);
+        }
+    }
+
+    @Override
+    public void updateFilteredPersonListByName(List<String> keywords) {
+        requireAllNonNull(keywords);
+        IntBitmap matches = addressBook.findByName(keywords);
+        Map<StudentId, Integer> scores = new HashMap<>();
+        List<Person> ranked = new ArrayList<>();
+        matches.forEach(number -> {
+            StudentId studentId = StudentId.fromNumber(number);
+            scores.put(studentId, addressBook.scoreName(studentId, keywords));
+            ranked.add(addressBook.getPersonById(studentId));
+        });
+        // The sort is stable, so equally good matches stay in student id order.
+        ranked.sort(Comparator.comparing((Person person) -> scores.get(person.getStudentId())).reversed());
+        showPersonsRanked(ranked, person -> scores.containsKey(person.getStudentId()));
+    }
+
+    /**
+     * Shows {@code ranked} as the person list, in that order, without testing the other persons. Persons added
+     * later are shown after them if {@code isRanked} accepts them. The list is left unsorted, as the ranking is its
+     * order.
+     */
+    private void showPersonsRanked(List<Person> ranked, Predicate<Person> isRanked) {
+        applyPersonOrder(null);
+        filteredPersons.select(ranked, isRanked);
+    }
+
+    @Override
+    public void updateFilteredPersonListByFuzzyName(List<String> keywords, int limit) {
+        requireAllNonNull(keywords);
+        List<Integer> matches = addressBook.findByFuzzyName(keywords, limit);
+        Set<StudentId> matchIds = new HashSet<>();
+        List<Person> ranked = new ArrayList<>(matches.size());
+        for (int number : matches) {
+            StudentId studentId = StudentId.fromNumber(number);
+            matchIds.add(studentId);
+            ranked.add(addressBook.getPersonById(studentId));
+        }
+        showPersonsRanked(ranked, person -> matchIds.contains(person.getStudentId()));
+    }
+
+    @Override
+    public QueryPlan updateFilteredPersonListByQuery(StudentQuery query) {
+        requireNonNull(query);
+        QueryPlan plan = queryPlanner.plan(query);
+        IntBitmap matches = plan.execute();
+        applyPersonOrder(personOrder);
+        filteredPersons.setPredicate(person -> matches.contains(person.getStudentId().getNumber()));
+        return plan;
+    }
+
+    @Override
+    public List<String> completeWord(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> personWords = addressBook.complete(prefix, limit);
+        List<String> courseWords = courseBook.complete(prefix, limit);
+        List<String> words = new ArrayList<>(limit);
+        int personIndex = 0;
+        int courseIndex = 0;
+        while (words.size() < limit && (personIndex < personWords.size() || courseIndex < courseWords.size())) {
+            String next;
+            if (courseIndex == courseWords.size() || personIndex < personWords.size()
+                    && personWords.get(personIndex).compareToIgnoreCase(courseWords.get(courseIndex)) <= 0) {
+                next = personWords.get(personIndex++);
+            } else {
+                next = courseWords.get(courseIndex++);
+            }
+            if (words.isEmpty() || !words.get(words.size() - 1).equalsIgnoreCase(next)) {
+                words.add(next);
+            }
+        }
+        return words;
+    }
+
     //=========== CourseBook ================================================================================
 
     @Override
@@ -159,6 +338,16 @@ public class ModelManager implements Model {
         return courseBook;
     }
 
+    @Override
+    public ModelSnapshot snapshot() {
+        return new ModelSnapshot(addressBook.snapshot(), courseBook.snapshot());
+    }
+
+    @Override
+    public ChangeSet takeChanges() {
+        return changeRecorder.takeChanges();
+    }
+
     @Override
     public boolean hasCourse(Course course) {
         requireNonNull(course);
@@ -192,9 +381,20 @@ public class ModelManager implements Model {
     @Override
     public List<Course> getCoursesOfStudent(Person student) {
         requireNonNull(student);
-        return getCourseBook().getCourseList().stream()
-                .filter(course -> course.containsStudent(student))
-                .toList();
+        return List.copyOf(courseBook.getCoursesOfStudent(student));
+    }
+
+    @Override
+    public List<Person> getStudentsOfCourse(Course course) {
+        requireNonNull(course);
+        List<Person> students = new ArrayList<>(course.getStudentCount());
+        for (StudentId studentId : course.getEnrolledStudentIds()) {
+            Person student = addressBook.getPersonById(studentId);
+            if (student != null) {
+                students.add(student);
+            }
+        }
+        return students;
     }
 
     //=========== Filtered Course List Accessors =============================================================
@@ -205,15 +405,63 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Course> getFilteredCourseList() {
-        return filteredCourse;
+        return sortedCourses;
     }
 
     @Override
     public void updateFilteredCourseList(Predicate<Course> predicate) {
         requireNonNull(predicate);
+        applyCourseOrder(courseOrder);
         filteredCourse.setPredicate(predicate);
     }
 
+    @Override
+    public void sortFilteredCourseList(Comparator<Course> comparator) {
+        requireNonNull(comparator);
+        courseOrder = comparator;
+        applyCourseOrder(comparator);
+    }
+
+    /**
+     * Sorts the filtered course list by {@code comparator} unless it is sorted by it already.
+     */
+    private void applyCourseOrder(Comparator<Course> comparator) {
+        if (sortedCourses.getComparator() != comparator) {
+            sortedCourses.setComparator(comparator);
+        }
+    }
+
+    @Override
+    public void updateFilteredCourseListByName(List<String> keywords) {
+        requireAllNonNull(keywords);
+        IntBitmap matches = courseBook.findByName(keywords);
+        Map<CourseId, Integer> scores = new HashMap<>();
+        List<Course> ranked = new ArrayList<>();
+        matches.forEach(number -> {
+            CourseId courseId = CourseId.fromNumber(number);
+            scores.put(courseId, courseBook.scoreName(courseId, keywords));
+            ranked.add(courseBook.getCourseById(courseId));
+        });
+        ranked.sort(Comparator.comparing((Course course) -> scores.get(course.getCourseId())).reversed());
+        showCoursesRanked(ranked, course -> scores.containsKey(course.getCourseId()));
+    }
+
+    /**
+     * Shows {@code ranked} as the course list, like {@link #showPersonsRanked(List, Predicate)}.
+     */
+    private void showCoursesRanked(List<Course> ranked, Predicate<Course> isRanked) {
+        applyCourseOrder(null);
+        filteredCourse.select(ranked, isRanked);
+    }
+
+    @Override
+    public void updateFilteredCourseListByTags(Set<Tag> tags, boolean matchAll) {
+        requireAllNonNull(tags);
+        IntBitmap matches = courseBook.findByTags(tags, matchAll);
+        applyCourseOrder(courseOrder);
+        filteredCourse.setPredicate(course -> matches.contains(course.getCourseId().getNumber()));
+    }
+
     @Override
     public Course getCourseById(CourseId courseId) {
         return courseBook.getCourseById(courseId);
@@ -233,6 +481,17 @@ public class ModelManager implements Model {
         updateFilteredCourseList(isTargetCourse);
     }
 
+    @Override
+    public EnrollmentStats getCourseStats(CourseId courseId) {
+        requireNonNull(courseId);
+        return statistics.getCourseStats(courseId);
+    }
+
+    @Override
+    public EnrollmentStats getOverallStats() {
+        return statistics.getOverallStats();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -247,9 +506,24 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return courseBook.equals(otherModelManager.courseBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && addressBook.equals(otherModelManager.addressBook)
-                && filteredCourse.equals(otherModelManager.filteredCourse);
+                && sortedCourses.equals(otherModelManager.sortedCourses);
     }
 
+    /**
+     * Moves a course to its new place in the sorted course list when a change to its roster may have moved its
+     * sort key.
+     */
+    private class CourseRepositioner implements EnrollmentListener {
+        @Override
+        public void studentEnrolled(Course course, StudentId studentId) {
+            sortedCourses.reposition(course);
+        }
+
+        @Override
+        public void studentUnenrolled(Course course, StudentId studentId) {
+            sortedCourses.reposition(course);
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * A consistent, immutable image of the address book and course book data taken by {@link Model#snapshot()}.
+ * It may be read from any thread, e.g. by a background saver, while commands keep changing the model.
+ */
+public final class ModelSnapshot {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final ReadOnlyCourseBook courseBook;
+
+    /**
+     * Creates a snapshot of the given images. Both must be immutable.
+     */
+    public ModelSnapshot(ReadOnlyAddressBook addressBook, ReadOnlyCourseBook courseBook) {
+        requireAllNonNull(addressBook, courseBook);
+        this.addressBook = addressBook;
+        this.courseBook = courseBook;
+    }
+
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    public ReadOnlyCourseBook getCourseBook() {
+        return courseBook;
+    }
+}
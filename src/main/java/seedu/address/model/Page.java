@@ -0,0 +1,75 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An immutable window of at most a requested number of items of a larger result, such as the filtered person list.
+ */
+public final class Page<T> {
+
+    private final List<T> items;
+    private final int totalCount;
+    private final boolean hasMore;
+
+    /**
+     * Creates a page of {@code items} out of a result of {@code totalCount} items, with {@code hasMore} telling
+     * whether any items come after the last one of this page.
+     */
+    public Page(List<T> items, int totalCount, boolean hasMore) {
+        requireNonNull(items);
+        this.items = List.copyOf(items);
+        this.totalCount = totalCount;
+        this.hasMore = hasMore;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the number of items in the whole result, on all pages.
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns true if the result has items after the last item of this page.
+     */
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Page<?>)) {
+            return false;
+        }
+        Page<?> otherPage = (Page<?>) other;
+        return items.equals(otherPage.items)
+                && totalCount == otherPage.totalCount
+                && hasMore == otherPage.hasMore;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, totalCount, hasMore);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("items", items)
+                .add("totalCount", totalCount)
+                .add("hasMore", hasMore)
+                .toString();
+    }
+}
@@ -19,4 +19,15 @@ public interface ReadOnlyAddressBook {
      */
     boolean isEmpty();
 
+    /**
+     * Returns the numeric part of the highest student ID ever used in the address book, or 0 if none has been used.
+     */
+    int getStudentIdHighWaterMark();
+
+    /**
+     * Returns the version of the data in this address book. It changes whenever the data does, and no two states of
+     * different address books share a version, so data already saved at a version need not be saved again.
+     */
+    long getVersion();
+
 }
@@ -19,4 +19,10 @@ public interface ReadOnlyCourseBook {
      */
     boolean isEmpty();
 
+    /**
+     * Returns the version of the data in this course book. It changes whenever the data does, and no two states of
+     * different course books share a version, so data already saved at a version need not be saved again.
+     */
+    long getVersion();
+
 }
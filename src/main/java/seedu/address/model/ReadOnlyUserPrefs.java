@@ -15,4 +15,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getCourseBookFilePath();
 
+    Path getJournalFilePath();
+
+    boolean isJournalEnabled();
+
+    StorageFormat getStorageFormat();
+
+    Path getBinaryAddressBookFilePath();
+
+    Path getBinaryCourseBookFilePath();
+
 }
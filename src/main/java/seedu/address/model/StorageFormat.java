@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The format in which the address book and course book are saved.
+ */
+public enum StorageFormat {
+    /** Human-readable JSON files, which can be edited by hand. */
+    JSON,
+    /** Compact binary snapshots, which are smaller than the JSON files and cannot be edited by hand. */
+    BINARY
+}
@@ -16,6 +16,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path courseBookFilePath = Paths.get("data" , "coursebook.json");
+    private Path journalFilePath = Paths.get("data" , "journal.jsonl");
+    private boolean isJournalEnabled = false;
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private Path binaryAddressBookFilePath = Paths.get("data" , "addressbook.bin");
+    private Path binaryCourseBookFilePath = Paths.get("data" , "coursebook.bin");
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +43,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setCourseBookFilePath(newUserPrefs.getCourseBookFilePath());
+        setJournalFilePath(newUserPrefs.getJournalFilePath());
+        setJournalEnabled(newUserPrefs.isJournalEnabled());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setBinaryAddressBookFilePath(newUserPrefs.getBinaryAddressBookFilePath());
+        setBinaryCourseBookFilePath(newUserPrefs.getBinaryCourseBookFilePath());
     }
 
     public GuiSettings getGuiSettings() {
@@ -67,6 +77,50 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.courseBookFilePath = courseBookFilePath;
     }
 
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    public void setJournalFilePath(Path journalFilePath) {
+        requireNonNull(journalFilePath);
+        this.journalFilePath = journalFilePath;
+    }
+
+    public boolean isJournalEnabled() {
+        return isJournalEnabled;
+    }
+
+    public void setJournalEnabled(boolean isJournalEnabled) {
+        this.isJournalEnabled = isJournalEnabled;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public Path getBinaryAddressBookFilePath() {
+        return binaryAddressBookFilePath;
+    }
+
+    public void setBinaryAddressBookFilePath(Path binaryAddressBookFilePath) {
+        requireNonNull(binaryAddressBookFilePath);
+        this.binaryAddressBookFilePath = binaryAddressBookFilePath;
+    }
+
+    public Path getBinaryCourseBookFilePath() {
+        return binaryCourseBookFilePath;
+    }
+
+    public void setBinaryCourseBookFilePath(Path binaryCourseBookFilePath) {
+        requireNonNull(binaryCourseBookFilePath);
+        this.binaryCourseBookFilePath = binaryCourseBookFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -81,12 +135,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && courseBookFilePath.equals(otherUserPrefs.courseBookFilePath);
+                && courseBookFilePath.equals(otherUserPrefs.courseBookFilePath)
+                && journalFilePath.equals(otherUserPrefs.journalFilePath)
+                && isJournalEnabled == otherUserPrefs.isJournalEnabled
+                && storageFormat == otherUserPrefs.storageFormat
+                && binaryAddressBookFilePath.equals(otherUserPrefs.binaryAddressBookFilePath)
+                && binaryCourseBookFilePath.equals(otherUserPrefs.binaryCourseBookFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, courseBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, courseBookFilePath, journalFilePath, isJournalEnabled,
+                storageFormat, binaryAddressBookFilePath, binaryCourseBookFilePath);
     }
 
     @Override
@@ -95,6 +155,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : ").append(guiSettings);
         sb.append("\nLocal student data file location : ").append(addressBookFilePath);
         sb.append("\nLocal course data file location : ").append(courseBookFilePath);
+        sb.append("\nLocal journal file location : ").append(journalFilePath);
+        sb.append("\nJournal enabled : ").append(isJournalEnabled);
+        sb.append("\nStorage format : ").append(storageFormat);
+        sb.append("\nLocal binary student data file location : ").append(binaryAddressBookFilePath);
+        sb.append("\nLocal binary course data file location : ").append(binaryCourseBookFilePath);
         return sb.toString();
     }
 }
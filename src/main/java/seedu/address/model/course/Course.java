@@ -2,30 +2,49 @@ package seedu.address.model.course;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import seedu.address.commons.util.IntBitmap;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Course in the EduBase.
- * Guarantees: details are present and not null, field values are validated, immutable and can be
- * uniquely identified by {@code courseId}.
+ * Guarantees: details are present and not null, field values are validated and can be uniquely identified by
+ * {@code courseId}. The name, id and tags are immutable, but the roster is not: enrolling and unenrolling students
+ * change the course in place, update {@link #studentCountProperty()} and notify its {@link EnrollmentListener}s.
+ * Equality and hashing use only the {@code courseId}, so a course stays findable in hash-based collections while
+ * its roster changes; use {@link #hasSameStudents(Course)} to compare rosters.
+ *
+ * The roster holds only the {@code StudentId}s of the enrolled students, in enrollment order. The students themselves
+ * are resolved through the identity map of the address book, so editing a student never requires updating a roster.
+ * Who is enrolled is kept in a bitmap of the students' numeric ids, for constant-time membership tests and set
+ * operations across courses. Their order is kept in an immutable {@code Roster}, so that {@link #snapshot()} takes
+ * constant time.
  */
 public class Course {
     private final CourseName name;
     private final CourseId courseId;
-    private final UniquePersonList studentList;
+    private final IntBitmap rosterIds;
+    private Roster roster;
+    private final ReadOnlyIntegerWrapper studentCount = new ReadOnlyIntegerWrapper();
 
     // Data fields
     private final Set<Tag> tags = new HashSet<>();
 
+    private final List<EnrollmentListener> enrollmentListeners = new ArrayList<>();
+
 
     /**
      * Constructor for creating new course. Every field must be present and not null.
@@ -34,19 +53,41 @@ public class Course {
         requireAllNonNull(name, tags, courseId);
         this.name = name;
         this.courseId = courseId;
-        this.studentList = new UniquePersonList();
         this.tags.addAll(tags);
+        rosterIds = new IntBitmap();
+        roster = Roster.EMPTY;
     }
 
     /**
      * Constructor for loading data from storage. Every field must be present and not null.
      */
-    public Course(CourseName name, CourseId courseId, UniquePersonList studentList, Set<Tag> tags) {
-        requireAllNonNull(name, tags, courseId);
+    public Course(CourseName name, CourseId courseId, List<StudentId> studentIds, Set<Tag> tags) {
+        requireAllNonNull(name, tags, courseId, studentIds);
+        this.name = name;
+        this.courseId = courseId;
+        this.tags.addAll(tags);
+        rosterIds = new IntBitmap();
+        for (StudentId studentId : studentIds) {
+            requireAllNonNull(studentId);
+            if (!rosterIds.add(studentId.getNumber())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        roster = Roster.of(studentIds);
+        studentCount.set(roster.size());
+    }
+
+    /**
+     * Constructor for restoring a course from a snapshot, sharing its {@code roster}.
+     */
+    Course(CourseName name, CourseId courseId, Roster roster, Set<Tag> tags) {
+        requireAllNonNull(name, tags, courseId, roster);
         this.name = name;
         this.courseId = courseId;
-        this.studentList = studentList;
         this.tags.addAll(tags);
+        rosterIds = roster.toBitmap();
+        this.roster = roster;
+        studentCount.set(roster.size());
     }
 
     public CourseName getName() {
@@ -57,13 +98,50 @@ public class Course {
         return courseId;
     }
 
-    public UniquePersonList getStudentList() {
-        return studentList;
+    /**
+     * Returns the ids of the enrolled students in enrollment order, as a new unmodifiable list.
+     */
+    public List<StudentId> getEnrolledStudentIds() {
+        return Collections.unmodifiableList(roster.toList());
     }
 
     public List<String> getStudentIds() {
-        return studentList.asUnmodifiableObservableList()
-                .stream().map(person -> person.getStudentId().getValue()).toList();
+        List<String> values = new ArrayList<>(roster.size());
+        roster.forEach(studentId -> values.add(studentId.getValue()));
+        return values;
+    }
+
+    public int getStudentCount() {
+        return roster.size();
+    }
+
+    /**
+     * Returns the number of enrolled students as a property that changes as students are enrolled and unenrolled.
+     */
+    public ReadOnlyIntegerProperty studentCountProperty() {
+        return studentCount.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns a copy of the numeric ids of the students enrolled in this course, for set operations across courses.
+     */
+    public IntBitmap getStudentIdBitmap() {
+        return rosterIds.copy();
+    }
+
+    /**
+     * Returns true if the same students are enrolled in this course and {@code other}, whatever their order.
+     */
+    public boolean hasSameStudents(Course other) {
+        requireAllNonNull(other);
+        return rosterIds.equals(other.rosterIds);
+    }
+
+    /**
+     * Returns an immutable image of this course and its current roster, in constant time.
+     */
+    public CourseSnapshot snapshot() {
+        return new CourseSnapshot(name, courseId, roster, getTags());
     }
 
     /**
@@ -78,7 +156,7 @@ public class Course {
      * Returns true if there are students enrolled in this course.
      */
     public boolean hasEnrolledStudents() {
-        return !studentList.asUnmodifiableObservableList().isEmpty();
+        return roster.size() > 0;
     }
 
     /**
@@ -86,7 +164,15 @@ public class Course {
      */
     public boolean containsStudent(Person student) {
         requireAllNonNull(student);
-        return studentList.contains(student);
+        return containsStudentId(student.getStudentId());
+    }
+
+    /**
+     * Returns true if the student with {@code studentId} is enrolled in this course.
+     */
+    public boolean containsStudentId(StudentId studentId) {
+        requireAllNonNull(studentId);
+        return rosterIds.contains(studentId.getNumber());
     }
 
     /**
@@ -95,7 +181,71 @@ public class Course {
      */
     public void addStudent(Person student) {
         requireAllNonNull(student);
-        studentList.add(student);
+        addStudentId(student.getStudentId());
+    }
+
+    /**
+     * Adds the student with {@code studentId} to course.
+     * The student must not already be enrolled.
+     */
+    public void addStudentId(StudentId studentId) {
+        requireAllNonNull(studentId);
+        if (!rosterIds.add(studentId.getNumber())) {
+            throw new DuplicatePersonException();
+        }
+        roster = roster.with(studentId);
+        studentCount.set(roster.size());
+        for (EnrollmentListener listener : List.copyOf(enrollmentListeners)) {
+            listener.studentEnrolled(this, studentId);
+        }
+    }
+
+    /**
+     * Adds the students with {@code toAdd} to course, in the given order, with a single change to the roster list.
+     * None of them may already be enrolled, and {@code toAdd} must not contain duplicates. If either is not the case,
+     * the course is left unchanged.
+     */
+    public void addStudentIds(List<StudentId> toAdd) {
+        requireAllNonNull(toAdd);
+        IntBitmap added = new IntBitmap();
+        for (StudentId studentId : toAdd) {
+            requireAllNonNull(studentId);
+            if (rosterIds.contains(studentId.getNumber()) || !added.add(studentId.getNumber())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        for (StudentId studentId : toAdd) {
+            rosterIds.add(studentId.getNumber());
+            roster = roster.with(studentId);
+        }
+        studentCount.set(roster.size());
+        for (EnrollmentListener listener : List.copyOf(enrollmentListeners)) {
+            toAdd.forEach(studentId -> listener.studentEnrolled(this, studentId));
+        }
+    }
+
+    /**
+     * Removes the students with {@code toRemove} from course.
+     * All of them must be enrolled, and {@code toRemove} must not contain duplicates. If either is not the case,
+     * the course is left unchanged.
+     */
+    public void removeStudentIds(Collection<StudentId> toRemove) {
+        requireAllNonNull(toRemove);
+        IntBitmap removed = new IntBitmap();
+        for (StudentId studentId : toRemove) {
+            requireAllNonNull(studentId);
+            if (!rosterIds.contains(studentId.getNumber()) || !removed.add(studentId.getNumber())) {
+                throw new PersonNotFoundException();
+            }
+        }
+        for (StudentId studentId : toRemove) {
+            rosterIds.remove(studentId.getNumber());
+            roster = roster.without(studentId);
+        }
+        studentCount.set(roster.size());
+        for (EnrollmentListener listener : List.copyOf(enrollmentListeners)) {
+            toRemove.forEach(studentId -> listener.studentUnenrolled(this, studentId));
+        }
     }
 
     /**
@@ -104,7 +254,39 @@ public class Course {
      */
     public void removeStudent(Person student) {
         requireAllNonNull(student);
-        studentList.remove(student);
+        removeStudentId(student.getStudentId());
+    }
+
+    /**
+     * Removes the student with {@code studentId} from course.
+     * The student must be enrolled.
+     */
+    public void removeStudentId(StudentId studentId) {
+        requireAllNonNull(studentId);
+        if (!rosterIds.remove(studentId.getNumber())) {
+            throw new PersonNotFoundException();
+        }
+        roster = roster.without(studentId);
+        studentCount.set(roster.size());
+        for (EnrollmentListener listener : List.copyOf(enrollmentListeners)) {
+            listener.studentUnenrolled(this, studentId);
+        }
+    }
+
+    /**
+     * Registers {@code listener} to be notified whenever a student is added to or removed from this course.
+     */
+    public void addEnrollmentListener(EnrollmentListener listener) {
+        requireAllNonNull(listener);
+        enrollmentListeners.add(listener);
+    }
+
+    /**
+     * Stops notifying {@code listener} of changes to the roster of this course.
+     */
+    public void removeEnrollmentListener(EnrollmentListener listener) {
+        requireAllNonNull(listener);
+        enrollmentListeners.remove(listener);
     }
 
     /**
@@ -124,10 +306,13 @@ public class Course {
         return courseId.equals(otherCourse.courseId);
     }
 
+    /**
+     * Hashes only {@code courseId}, consistent with {@link #equals(Object)}, so that courses can be held in
+     * hash-based collections while their rosters change.
+     */
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, courseId, tags);
+        return courseId.hashCode();
     }
 
     @Override
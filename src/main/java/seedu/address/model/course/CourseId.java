@@ -8,6 +8,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  * Unique identifier for Course
  * courseId is an integer but prints out with prefix C with courseId padded to a total of 5 digits.
  * Current design can only accommodate up to 10^4 different courses
+ * The id is stored as its numeric part only; the {@code C%04d} form is built on first use and then cached.
+ * Ids can only be obtained through {@link #of(String)} and {@link #fromNumber(int)}, which reuse one instance per id.
  */
 public class CourseId {
 
@@ -19,43 +21,98 @@ public class CourseId {
      */
     public static final String VALIDATION_REGEX = "^C\\d{4}$";
 
-    private static int nextCourseId = 0;
+    public static final int MAX_NUMBER = 9999;
 
-    public final String value;
+    private static final char PREFIX = 'C';
+    private static final int DIGITS = 4;
 
+    /** The instance of each id, indexed by its number; see {@code StudentId} on why no locking is needed. */
+    private static final CourseId[] CANONICAL = new CourseId[MAX_NUMBER + 1];
+
+    private final int number;
+    private String value;
+
+    private CourseId(int number) {
+        this.number = number;
+    }
 
     /**
-     * Creates new courseId, automatically generated. No params needed.
+     * Returns the canonical {@code CourseId} for the given id string.
      */
-    public CourseId() {
-        value = "C" + String.format("%04d", nextCourseId);
-        nextCourseId++;
+    public static CourseId of(String courseId) {
+        requireNonNull(courseId);
+        int number = parseNumber(courseId);
+        checkArgument(number >= 0, MESSAGE_CONSTRAINTS);
+        return fromNumber(number);
     }
 
     /**
-     * Creates new courseId with an id string.
+     * Returns the canonical {@code CourseId} with the given numeric part, e.g. 1 for C0001.
      */
-    public CourseId(String courseId) {
-        requireNonNull(courseId);
-        checkArgument(isValidCourseId(courseId), MESSAGE_CONSTRAINTS);
-        value = courseId;
+    public static CourseId fromNumber(int number) {
+        checkArgument(number >= 0 && number <= MAX_NUMBER, MESSAGE_CONSTRAINTS);
+        CourseId canonical = CANONICAL[number];
+        if (canonical == null) {
+            canonical = new CourseId(number);
+            CANONICAL[number] = canonical;
+        }
+        return canonical;
     }
 
     /**
      * Returns true if a given string is a valid courseId.
      */
     public static boolean isValidCourseId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return parseNumber(test) >= 0;
+    }
+
+    /**
+     * Returns the numeric part of {@code test}, or -1 if it is not a valid courseId.
+     */
+    private static int parseNumber(String test) {
+        if (test.length() != DIGITS + 1 || test.charAt(0) != PREFIX) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = 1; i <= DIGITS; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
     }
 
     /**
-     * Checks if duplicate
-     * @return
+     * Returns the string form of this courseId, e.g. C0001.
      */
+    public String getValue() {
+        String formatted = value;
+        if (formatted == null) {
+            char[] chars = new char[DIGITS + 1];
+            chars[0] = PREFIX;
+            int remaining = number;
+            for (int i = DIGITS; i >= 1; i--) {
+                chars[i] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+            formatted = new String(chars);
+            value = formatted;
+        }
+        return formatted;
+    }
+
+    /**
+     * Returns the numeric part of this courseId, e.g. 1 for C0001.
+     */
+    public int getNumber() {
+        return number;
+    }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -67,11 +124,11 @@ public class CourseId {
             return false;
         }
         CourseId courseId = (CourseId) o;
-        return value.equals(courseId.value);
+        return number == courseId.number;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(number);
     }
 }
@@ -1,21 +1,42 @@
 package seedu.address.model.course;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.indexBy;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.IntBitmap;
+import seedu.address.commons.util.NgramIndex;
+import seedu.address.commons.util.PersistentSequence;
+import seedu.address.commons.util.PrefixTrie;
 import seedu.address.model.course.exceptions.CourseNotFoundException;
 import seedu.address.model.course.exceptions.DuplicateCourseIdException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
 
 
 /**
  * A list of courses that enforces uniqueness between its elements and does not allow nulls.
  * A course is considered unique by comparing using {@code Course#equals(Course)}.
+ * Courses are additionally indexed by their {@code CourseId}, which is kept in sync with the backing observable list
+ * by every mutating operation, so that lookups by id do not need to scan the list.
+ * The list also maintains a reverse enrollment index from students to the courses they are enrolled in, which is
+ * updated whenever a course in the list changes its roster.
+ * Finally, the list is mirrored in a {@code PersistentSequence} of {@code CourseSnapshot}s, refreshed on every change
+ * to the list or to a roster, so that {@link #snapshot()} can hand out a consistent image in constant time. As the
+ * list is always in the order of the sequence, it also gives a course's position in the list in O(log n) time.
+ * Course names are indexed by their character n-grams so that name searches need not scan the list.
  * Supports a minimal set of list operations.
  *
  */
@@ -24,13 +45,23 @@ public class CourseList implements Iterable<Course> {
     private final ObservableList<Course> internalList = FXCollections.observableArrayList();
     private final ObservableList<Course> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<CourseId, Course> index = new HashMap<>();
+    private final EnrollmentIndex enrollmentIndex = new EnrollmentIndex();
+    private final EnrollmentListener snapshotUpdater = new SnapshotUpdater();
+    private final Map<CourseId, Long> sequenceNumbers = new HashMap<>();
+    private PersistentSequence<CourseSnapshot> persistentCourses = PersistentSequence.empty();
+    private long nextSequenceNumber;
+    private final NgramIndex nameIndex = new NgramIndex();
+    private final PrefixTrie completions = new PrefixTrie();
+    private final Map<Tag, IntBitmap> tagIndex = new HashMap<>();
+    private final List<EnrollmentListener> enrollmentListeners = new ArrayList<>();
 
     /**
      * Returns true if the list contains an equivalent course as the given argument.
      */
     public boolean contains(Course toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return index.containsKey(toCheck.getCourseId());
     }
 
     /**
@@ -42,6 +73,8 @@ public class CourseList implements Iterable<Course> {
         if (contains(toAdd)) {
             throw new DuplicateCourseIdException();
         }
+        index.put(toAdd.getCourseId(), toAdd);
+        track(toAdd, nextSequenceNumber++);
         internalList.add(toAdd);
     }
 
@@ -53,8 +86,8 @@ public class CourseList implements Iterable<Course> {
     public void setCourse(Course target, Course editedCourse) {
         requireAllNonNull(target, editedCourse);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Course stored = index.get(target.getCourseId());
+        if (stored == null) {
             throw new CourseNotFoundException();
         }
 
@@ -62,7 +95,12 @@ public class CourseList implements Iterable<Course> {
             throw new DuplicateCourseIdException();
         }
 
-        internalList.set(index, editedCourse);
+        int position = persistentCourses.indexOf(sequenceNumbers.get(stored.getCourseId()));
+        index.remove(stored.getCourseId());
+        index.put(editedCourse.getCourseId(), editedCourse);
+        long sequenceNumber = untrack(stored);
+        track(editedCourse, sequenceNumber);
+        internalList.set(position, editedCourse);
     }
 
     /**
@@ -71,13 +109,23 @@ public class CourseList implements Iterable<Course> {
      */
     public void remove(Course toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Course stored = index.remove(toRemove.getCourseId());
+        if (stored == null) {
             throw new CourseNotFoundException();
         }
+        int position = persistentCourses.indexOf(sequenceNumbers.get(stored.getCourseId()));
+        untrack(stored);
+        internalList.remove(position);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setCourses(CourseList replacement) {
         requireNonNull(replacement);
+        index.clear();
+        index.putAll(replacement.index);
+        retrackAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -87,10 +135,14 @@ public class CourseList implements Iterable<Course> {
      */
     public void setCourses(List<Course> course) {
         requireAllNonNull(course);
-        if (!coursesAreUnique(course)) {
+        Map<CourseId, Course> replacementIndex = indexBy(course, Course::getCourseId);
+        if (replacementIndex == null) {
             throw new DuplicateCourseIdException();
         }
 
+        index.clear();
+        index.putAll(replacementIndex);
+        retrackAll(course);
         internalList.setAll(course);
     }
 
@@ -101,6 +153,15 @@ public class CourseList implements Iterable<Course> {
         return internalList.isEmpty();
     }
 
+    /**
+     * Returns an immutable image of the current contents of the list, including each course's roster, in list order.
+     * Takes constant time; later changes to this list or its courses do not affect the returned sequence, which may
+     * be read from any thread.
+     */
+    public PersistentSequence<CourseSnapshot> snapshot() {
+        return persistentCourses;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -137,20 +198,78 @@ public class CourseList implements Iterable<Course> {
         return internalList.toString();
     }
 
+    private void track(Course course, long sequenceNumber) {
+        enrollmentIndex.track(course);
+        indexSearchTerms(course);
+        course.addEnrollmentListener(snapshotUpdater);
+        sequenceNumbers.put(course.getCourseId(), sequenceNumber);
+        persistentCourses = persistentCourses.with(sequenceNumber, course.snapshot());
+    }
+
+    private void indexSearchTerms(Course course) {
+        completions.add(course.getCourseId().getValue());
+        for (Tag tag : course.getTags()) {
+            tagIndex.computeIfAbsent(tag, unused -> new IntBitmap()).add(course.getCourseId().getNumber());
+        }
+        CourseName name = course.getName();
+        if (name != null) {
+            nameIndex.add(course.getCourseId().getNumber(), name.getSearchKey());
+            for (String word : name.fullName.split("\\s+")) {
+                completions.add(word);
+            }
+        }
+    }
+
+    private void unindexSearchTerms(Course course) {
+        nameIndex.remove(course.getCourseId().getNumber());
+        completions.remove(course.getCourseId().getValue());
+        for (Tag tag : course.getTags()) {
+            IntBitmap posting = tagIndex.get(tag);
+            posting.remove(course.getCourseId().getNumber());
+            if (posting.isEmpty()) {
+                tagIndex.remove(tag);
+            }
+        }
+        CourseName name = course.getName();
+        if (name != null) {
+            for (String word : name.fullName.split("\\s+")) {
+                completions.remove(word);
+            }
+        }
+    }
+
     /**
-     * Returns true if {@code courses} contains only unique courses.
+     * Stops tracking {@code course} and returns the sequence number it was stored under.
      */
-    private boolean coursesAreUnique(List<Course> courses) {
-        for (int i = 0; i < courses.size() - 1; i++) {
-            for (int j = i + 1; j < courses.size(); j++) {
-                Course courseA = courses.get(i);
-                Course courseB = courses.get(j);
-                if (courseA == courseB || courseA.getCourseId() == courseB.getCourseId()) {
-                    return false;
-                }
-            }
+    private long untrack(Course course) {
+        enrollmentIndex.untrack(course);
+        unindexSearchTerms(course);
+        course.removeEnrollmentListener(snapshotUpdater);
+        long sequenceNumber = sequenceNumbers.remove(course.getCourseId());
+        persistentCourses = persistentCourses.without(sequenceNumber);
+        return sequenceNumber;
+    }
+
+    private void retrackAll(List<Course> replacement) {
+        for (Course course : internalList) {
+            enrollmentIndex.untrack(course);
+            course.removeEnrollmentListener(snapshotUpdater);
+        }
+        sequenceNumbers.clear();
+        nameIndex.clear();
+        completions.clear();
+        tagIndex.clear();
+        List<CourseSnapshot> snapshots = new ArrayList<>(replacement.size());
+        for (int i = 0; i < replacement.size(); i++) {
+            Course course = replacement.get(i);
+            enrollmentIndex.track(course);
+            indexSearchTerms(course);
+            course.addEnrollmentListener(snapshotUpdater);
+            sequenceNumbers.put(course.getCourseId(), (long) i);
+            snapshots.add(course.snapshot());
         }
-        return true;
+        nextSequenceNumber = replacement.size();
+        persistentCourses = PersistentSequence.of(snapshots);
     }
 
     /**
@@ -158,12 +277,7 @@ public class CourseList implements Iterable<Course> {
      */
     public Course getByCourseId(CourseId courseId) {
         requireNonNull(courseId);
-        for (Course course : internalList) {
-            if (course.getCourseId().equals(courseId)) {
-                return course;
-            }
-        }
-        return null;
+        return index.get(courseId);
     }
 
     /**
@@ -171,11 +285,125 @@ public class CourseList implements Iterable<Course> {
      */
     public boolean containsStudent(Person student) {
         requireNonNull(student);
-        for (Course course : internalList) {
-            if (course.containsStudent(student)) {
-                return true;
+        return enrollmentIndex.isEnrolled(student.getStudentId());
+    }
+
+    /**
+     * Returns an unmodifiable view of the courses in this list that the given student is enrolled in.
+     */
+    public Set<Course> getCoursesOfStudent(Person student) {
+        requireNonNull(student);
+        return enrollmentIndex.getCourses(student.getStudentId());
+    }
+
+    /**
+     * Returns the numeric ids of the courses whose name contains any of {@code keywords}, ignoring case.
+     */
+    public IntBitmap findByName(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameIndex.searchAny(keywords);
+    }
+
+    /**
+     * Returns how closely the name of the course with {@code courseId} matches {@code keywords}, higher being
+     * closer, or 0 if there is no such course.
+     *
+     * @see NgramIndex#score(int, List)
+     */
+    public int scoreName(CourseId courseId, List<String> keywords) {
+        requireAllNonNull(courseId, keywords);
+        return nameIndex.score(courseId.getNumber(), keywords);
+    }
+
+    /**
+     * Returns the numeric ids of the courses tagged with all of {@code tags} if {@code matchAll} is true, or with any
+     * of them otherwise. Only the posting lists of {@code tags} are read, smallest first when intersecting.
+     */
+    public IntBitmap findByTags(Collection<Tag> tags, boolean matchAll) {
+        requireAllNonNull(tags);
+        if (!matchAll) {
+            IntBitmap matches = new IntBitmap();
+            for (Tag tag : tags) {
+                IntBitmap posting = tagIndex.get(tag);
+                if (posting != null) {
+                    matches = matches.or(posting);
+                }
+            }
+            return matches;
+        }
+
+        List<IntBitmap> postings = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            IntBitmap posting = tagIndex.get(tag);
+            if (posting == null) {
+                return new IntBitmap();
+            }
+            postings.add(posting);
+        }
+        if (postings.isEmpty()) {
+            return new IntBitmap();
+        }
+        postings.sort(Comparator.comparingInt(IntBitmap::cardinality));
+        IntBitmap matches = postings.get(0).copy();
+        for (IntBitmap posting : postings.subList(1, postings.size())) {
+            matches = matches.and(posting);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns at most {@code limit} course ids and course name words in this list that start with {@code prefix},
+     * ignoring case, in alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        return completions.complete(prefix, limit);
+    }
+
+    /**
+     * Returns the numeric ids of the students enrolled in at least one course in this list.
+     */
+    public IntBitmap getEnrolledStudentIds() {
+        return enrollmentIndex.getEnrolledStudents();
+    }
+
+    /**
+     * Registers {@code listener} to be notified whenever the roster of a course in this list changes.
+     */
+    public void addEnrollmentListener(EnrollmentListener listener) {
+        requireNonNull(listener);
+        enrollmentListeners.add(listener);
+    }
+
+    /**
+     * Stops notifying {@code listener} of roster changes.
+     */
+    public void removeEnrollmentListener(EnrollmentListener listener) {
+        enrollmentListeners.remove(listener);
+    }
+
+    /**
+     * Refreshes the snapshot of a course in this list whenever its roster changes, then passes the change on to the
+     * listeners registered with this list.
+     */
+    private class SnapshotUpdater implements EnrollmentListener {
+        @Override
+        public void studentEnrolled(Course course, StudentId studentId) {
+            refresh(course);
+            enrollmentListeners.forEach(listener -> listener.studentEnrolled(course, studentId));
+        }
+
+        @Override
+        public void studentUnenrolled(Course course, StudentId studentId) {
+            refresh(course);
+            enrollmentListeners.forEach(listener -> listener.studentUnenrolled(course, studentId));
+        }
+
+        private void refresh(Course course) {
+            Long sequenceNumber = sequenceNumbers.get(course.getCourseId());
+            if (sequenceNumber != null && index.get(course.getCourseId()) == course) {
+                persistentCourses = persistentCourses.with(sequenceNumber, course.snapshot());
             }
         }
-        return false;
     }
 }
@@ -3,20 +3,27 @@ package seedu.address.model.course;
 import java.util.List;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.KeywordMatcher;
+
 /**
  * Tests that a {@code Course}'s {@code CourseName} matches any of the keywords given.
  */
 public class CourseNameContainsKeywordsPredicate implements Predicate<Course> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
     public CourseNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Course course) {
-        return keywords.stream()
-                .anyMatch(keyword -> course.getName().containsIgnoreCase(keyword));
+        return matcher.matches(course.getName().getSearchKey());
     }
 
     @Override
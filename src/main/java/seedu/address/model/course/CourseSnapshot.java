@@ -0,0 +1,39 @@
+package seedu.address.model.course;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable image of a {@code Course} as it was when {@link Course#snapshot()} was called.
+ * It shares its roster with the course, so taking one costs constant time and memory, and it may be read from any
+ * thread while the course keeps changing.
+ */
+public final class CourseSnapshot {
+
+    private final CourseName name;
+    private final CourseId courseId;
+    private final Roster roster;
+    private final Set<Tag> tags;
+
+    CourseSnapshot(CourseName name, CourseId courseId, Roster roster, Set<Tag> tags) {
+        requireAllNonNull(name, courseId, roster, tags);
+        this.name = name;
+        this.courseId = courseId;
+        this.roster = roster;
+        this.tags = tags;
+    }
+
+    public CourseId getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Returns a new {@code Course} with the details and roster captured in this snapshot.
+     */
+    public Course toCourse() {
+        return new Course(name, courseId, roster, tags);
+    }
+}
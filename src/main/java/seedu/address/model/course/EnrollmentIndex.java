@@ -0,0 +1,86 @@
+package seedu.address.model.course;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.IntBitmap;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A reverse index from students to the courses they are enrolled in.
+ * Courses are registered with {@link #track(Course)} and kept up to date through {@link EnrollmentListener}
+ * notifications, so looking up the courses of a student does not need to scan any roster.
+ */
+class EnrollmentIndex implements EnrollmentListener {
+
+    private final Map<StudentId, Set<Course>> coursesByStudent = new HashMap<>();
+    private final IntBitmap enrolledStudents = new IntBitmap();
+
+    /**
+     * Indexes the current roster of {@code course} and listens for future changes to it.
+     */
+    void track(Course course) {
+        requireNonNull(course);
+        course.addEnrollmentListener(this);
+        for (StudentId studentId : course.getEnrolledStudentIds()) {
+            studentEnrolled(course, studentId);
+        }
+    }
+
+    /**
+     * Removes {@code course} from the index and stops listening for changes to its roster.
+     */
+    void untrack(Course course) {
+        requireNonNull(course);
+        course.removeEnrollmentListener(this);
+        for (StudentId studentId : course.getEnrolledStudentIds()) {
+            studentUnenrolled(course, studentId);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the courses the student with {@code studentId} is enrolled in.
+     */
+    Set<Course> getCourses(StudentId studentId) {
+        Set<Course> courses = coursesByStudent.get(studentId);
+        return courses == null ? Collections.emptySet() : Collections.unmodifiableSet(courses);
+    }
+
+    /**
+     * Returns true if the student with {@code studentId} is enrolled in at least one tracked course.
+     */
+    boolean isEnrolled(StudentId studentId) {
+        return coursesByStudent.containsKey(studentId);
+    }
+
+    /**
+     * Returns a copy of the numeric ids of all students enrolled in at least one tracked course.
+     */
+    IntBitmap getEnrolledStudents() {
+        return enrolledStudents.copy();
+    }
+
+    @Override
+    public void studentEnrolled(Course course, StudentId studentId) {
+        coursesByStudent.computeIfAbsent(studentId, unused -> new LinkedHashSet<>()).add(course);
+        enrolledStudents.add(studentId.getNumber());
+    }
+
+    @Override
+    public void studentUnenrolled(Course course, StudentId studentId) {
+        Set<Course> courses = coursesByStudent.get(studentId);
+        if (courses == null) {
+            return;
+        }
+        courses.remove(course);
+        if (courses.isEmpty()) {
+            coursesByStudent.remove(studentId);
+            enrolledStudents.remove(studentId.getNumber());
+        }
+    }
+}
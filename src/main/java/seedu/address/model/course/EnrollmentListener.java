@@ -0,0 +1,19 @@
+package seedu.address.model.course;
+
+import seedu.address.model.person.StudentId;
+
+/**
+ * Receives notifications when the roster of a {@code Course} changes.
+ */
+public interface EnrollmentListener {
+
+    /**
+     * Called after the student with {@code studentId} has been added to {@code course}.
+     */
+    void studentEnrolled(Course course, StudentId studentId);
+
+    /**
+     * Called after the student with {@code studentId} has been removed from {@code course}.
+     */
+    void studentUnenrolled(Course course, StudentId studentId);
+}
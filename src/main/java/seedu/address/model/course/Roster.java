@@ -0,0 +1,160 @@
+package seedu.address.model.course;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import seedu.address.commons.util.IntBitmap;
+import seedu.address.commons.util.PersistentSequence;
+import seedu.address.model.person.StudentId;
+
+/**
+ * An immutable list of the ids of the students enrolled in a course, in enrollment order.
+ *
+ * Each enrollment is stored in a {@code PersistentSequence} under the student's numeric id, together with the
+ * numeric ids of the enrollments before and after it. Enrolling or unenrolling a student therefore costs O(log n)
+ * time and memory without a separate index from students to their place in the order, and returns a new roster that
+ * shares all the enrollments it did not touch with this one. Reading the roster in order costs O(n log n) time.
+ */
+final class Roster implements Iterable<StudentId> {
+
+    static final Roster EMPTY = new Roster(PersistentSequence.empty(), Enrollment.NONE, Enrollment.NONE);
+
+    private final PersistentSequence<Enrollment> enrollments;
+    private final int first;
+    private final int last;
+
+    private Roster(PersistentSequence<Enrollment> enrollments, int first, int last) {
+        this.enrollments = enrollments;
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Returns a roster of {@code studentIds} in the given order, which must not contain duplicates.
+     * Takes O(n log n) time.
+     */
+    static Roster of(List<StudentId> studentIds) {
+        int size = studentIds.size();
+        if (size == 0) {
+            return EMPTY;
+        }
+        Enrollment[] byNumber = new Enrollment[size];
+        for (int i = 0; i < size; i++) {
+            byNumber[i] = new Enrollment(studentIds.get(i),
+                    i == 0 ? Enrollment.NONE : studentIds.get(i - 1).getNumber(),
+                    i == size - 1 ? Enrollment.NONE : studentIds.get(i + 1).getNumber());
+        }
+        Arrays.sort(byNumber, Comparator.comparingInt(enrollment -> enrollment.studentId.getNumber()));
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = byNumber[i].studentId.getNumber();
+        }
+        return new Roster(PersistentSequence.of(keys, Arrays.asList(byNumber)),
+                studentIds.get(0).getNumber(), studentIds.get(size - 1).getNumber());
+    }
+
+    int size() {
+        return enrollments.size();
+    }
+
+    /**
+     * Returns this roster with {@code studentId}, which must not be in it, enrolled last.
+     */
+    Roster with(StudentId studentId) {
+        int number = studentId.getNumber();
+        PersistentSequence<Enrollment> updated = enrollments;
+        if (last != Enrollment.NONE) {
+            updated = updated.with(last, enrollments.get(last).withNext(number));
+        }
+        updated = updated.with(number, new Enrollment(studentId, last, Enrollment.NONE));
+        return new Roster(updated, first == Enrollment.NONE ? number : first, number);
+    }
+
+    /**
+     * Returns this roster without {@code studentId}, which must be in it.
+     */
+    Roster without(StudentId studentId) {
+        int number = studentId.getNumber();
+        Enrollment removed = enrollments.get(number);
+        PersistentSequence<Enrollment> updated = enrollments.without(number);
+        if (removed.previous != Enrollment.NONE) {
+            updated = updated.with(removed.previous, updated.get(removed.previous).withNext(removed.next));
+        }
+        if (removed.next != Enrollment.NONE) {
+            updated = updated.with(removed.next, updated.get(removed.next).withPrevious(removed.previous));
+        }
+        return new Roster(updated, first == number ? removed.next : first, last == number ? removed.previous : last);
+    }
+
+    /**
+     * Returns the numeric ids of the students in this roster, in O(n) time.
+     */
+    IntBitmap toBitmap() {
+        IntBitmap numbers = new IntBitmap();
+        for (Enrollment enrollment : enrollments) {
+            numbers.add(enrollment.studentId.getNumber());
+        }
+        return numbers;
+    }
+
+    /**
+     * Returns the student ids in enrollment order as a new mutable list.
+     */
+    List<StudentId> toList() {
+        List<StudentId> studentIds = new ArrayList<>(size());
+        forEach(studentIds::add);
+        return studentIds;
+    }
+
+    @Override
+    public Iterator<StudentId> iterator() {
+        return new Iterator<>() {
+            private int next = first;
+
+            @Override
+            public boolean hasNext() {
+                return next != Enrollment.NONE;
+            }
+
+            @Override
+            public StudentId next() {
+                if (next == Enrollment.NONE) {
+                    throw new NoSuchElementException();
+                }
+                Enrollment enrollment = enrollments.get(next);
+                next = enrollment.next;
+                return enrollment.studentId;
+            }
+        };
+    }
+
+    /**
+     * A student's place in the roster, between the students with the numeric ids {@code previous} and
+     * {@code next}, or {@link #NONE} at either end.
+     */
+    private static final class Enrollment {
+        static final int NONE = -1;
+
+        private final StudentId studentId;
+        private final int previous;
+        private final int next;
+
+        Enrollment(StudentId studentId, int previous, int next) {
+            this.studentId = studentId;
+            this.previous = previous;
+            this.next = next;
+        }
+
+        Enrollment withPrevious(int newPrevious) {
+            return new Enrollment(studentId, newPrevious, next);
+        }
+
+        Enrollment withNext(int newNext) {
+            return new Enrollment(studentId, previous, newNext);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -22,6 +24,9 @@ public class Name {
 
     public final String fullName;
 
+    /** Normalised form of {@code fullName} for searching, computed on first use. */
+    private String searchKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -40,11 +45,25 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the name in the normalised form used for searching.
+     *
+     * @see StringUtil#toSearchKey(String)
+     */
+    public String getSearchKey() {
+        String key = searchKey;
+        if (key == null) {
+            key = StringUtil.toSearchKey(fullName);
+            searchKey = key;
+        }
+        return key;
+    }
+
     /**
      * Returns true if the name contains the given string (case-insensitive).
      */
     public boolean containsIgnoreCase(String test) {
-        return fullName.toLowerCase().contains(test.toLowerCase());
+        return getSearchKey().contains(StringUtil.toSearchKey(test));
     }
 
 
@@ -2,56 +2,131 @@ package seedu.address.model.person;
 
 /**
  * Represents a student's auto-generated ID.
+ * The ID is stored as its numeric part only; the {@code S%05d} form is built on first use and then cached.
+ * Instances are obtained through {@link #of(String)} or {@link #fromNumber(int)}, which share one instance per ID.
  */
 public class StudentId {
     public static final String MESSAGE_CONSTRAINTS =
             "Student ID must be in the format S followed by exactly 5 digits (e.g., S00001)";
     public static final String VALIDATION_REGEX = "S\\d{5}";
 
-    private final String value;
+    public static final int MAX_NUMBER = 99999;
+
+    private static final char PREFIX = 'S';
+    private static final int DIGITS = 5;
+
+    /**
+     * The shared instance of each ID, created on first request. Concurrent first requests may each create one
+     * without locking; the extra instances are equal to the stored one, so callers cannot tell.
+     */
+    private static final StudentId[] CANONICAL = new StudentId[MAX_NUMBER + 1];
+
+    private final int number;
+    private String value;
+
+    private StudentId(int number) {
+        this.number = number;
+    }
 
     /**
-     * Constructs a {@code StudentId} with the specified value.
+     * Returns the {@code StudentId} for the given value.
      * The value must be in the format S followed by exactly 5 digits (e.g., S00001).
      *
-     * @param value the student ID string
      * @throws NullPointerException if the value is null
      * @throws IllegalArgumentException if the value does not match the required format
      */
-    public StudentId(String value) {
+    public static StudentId of(String value) {
         if (value == null) {
             throw new NullPointerException("Student ID cannot be null");
         }
-        if (!isValidStudentId(value)) {
+        int number = parseNumber(value);
+        if (number < 0) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        return fromNumber(number);
+    }
+
+    /**
+     * Returns the canonical {@code StudentId} with the given numeric part, e.g. 1 for S00001.
+     *
+     * @throws IllegalArgumentException if {@code number} does not fit in 5 digits.
+     */
+    public static StudentId fromNumber(int number) {
+        if (number < 0 || number > MAX_NUMBER) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
-        this.value = value;
+        StudentId canonical = CANONICAL[number];
+        if (canonical == null) {
+            canonical = new StudentId(number);
+            CANONICAL[number] = canonical;
+        }
+        return canonical;
     }
 
     /**
      * Returns true if a given string is a valid student ID.
      */
     public static boolean isValidStudentId(String test) {
-        return test != null && test.matches(VALIDATION_REGEX);
+        return test != null && parseNumber(test) >= 0;
+    }
+
+    /**
+     * Returns the numeric part of {@code test}, or -1 if it is not a valid student ID.
+     */
+    private static int parseNumber(String test) {
+        if (test.length() != DIGITS + 1 || test.charAt(0) != PREFIX) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = 1; i <= DIGITS; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
     }
 
+    /**
+     * Returns the string form of this student ID, e.g. S00001.
+     */
     public String getValue() {
-        return value;
+        String formatted = value;
+        if (formatted == null) {
+            char[] chars = new char[DIGITS + 1];
+            chars[0] = PREFIX;
+            int remaining = number;
+            for (int i = DIGITS; i >= 1; i--) {
+                chars[i] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+            formatted = new String(chars);
+            value = formatted;
+        }
+        return formatted;
+    }
+
+    /**
+     * Returns the numeric part of this student ID, e.g. 1 for S00001.
+     */
+    public int getNumber() {
+        return number;
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this
-                || (other instanceof StudentId && value.equals(((StudentId) other).value));
+                || (other instanceof StudentId && number == ((StudentId) other).number);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(number);
     }
 }
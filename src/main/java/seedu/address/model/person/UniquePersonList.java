@@ -1,13 +1,21 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.indexBy;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.FuzzyWordIndex;
+import seedu.address.commons.util.IntBitmap;
+import seedu.address.commons.util.NgramIndex;
+import seedu.address.commons.util.PersistentSequence;
+import seedu.address.commons.util.PrefixTrie;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +26,13 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object)
  * to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by their {@code StudentId}, so identity lookups, insertions and removals do not
+ * need to scan the list. The index is kept in sync with the backing observable list by every mutating operation.
+ * The list is also mirrored in a {@code PersistentSequence}, keyed by the order in which persons were added, so that
+ * {@link #snapshot()} can hand out a consistent image of the list in constant time. As the list is always in that
+ * order, the sequence also gives a person's position in the list in O(log n) time, for replacing or removing them.
+ * Finally, names are indexed by their character n-grams so that name searches need not scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +42,37 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<StudentId, Person> index = new HashMap<>();
+    private final IntBitmap studentNumbers = new IntBitmap();
+    private final Map<StudentId, Long> sequenceNumbers = new HashMap<>();
+    private PersistentSequence<Person> persistentPersons = PersistentSequence.empty();
+    private long nextSequenceNumber;
+    private final NgramIndex nameIndex = new NgramIndex();
+    private final FuzzyWordIndex fuzzyNameIndex = new FuzzyWordIndex();
+    private final PrefixTrie completions = new PrefixTrie();
+    private final Map<Gender, IntBitmap> genderIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return index.containsKey(toCheck.getStudentId());
+    }
+
+    /**
+     * Returns the person with the given {@code studentId}, or null if there is no such person in the list.
+     */
+    public Person getPerson(StudentId studentId) {
+        requireNonNull(studentId);
+        return index.get(studentId);
+    }
+
+    /**
+     * Returns a copy of the numeric ids of all persons in the list.
+     */
+    public IntBitmap getStudentIdBitmap() {
+        return studentNumbers.copy();
     }
 
     /**
@@ -45,9 +84,27 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        track(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order, with a single change to the list.
+     * None of them may already exist in the list, and {@code toAdd} must not contain duplicates. If either is not the
+     * case, the list is left unchanged.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        IntBitmap added = new IntBitmap();
+        for (Person person : toAdd) {
+            if (contains(person) || !added.add(person.getStudentId().getNumber())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        toAdd.forEach(this::track);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,8 +113,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person stored = index.get(target.getStudentId());
+        if (stored == null || !stored.equals(target)) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +122,21 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        long sequenceNumber = sequenceNumbers.remove(target.getStudentId());
+        int position = persistentPersons.indexOf(sequenceNumber);
+        index.remove(target.getStudentId());
+        index.put(editedPerson.getStudentId(), editedPerson);
+        studentNumbers.remove(target.getStudentId().getNumber());
+        studentNumbers.add(editedPerson.getStudentId().getNumber());
+        sequenceNumbers.put(editedPerson.getStudentId(), sequenceNumber);
+        persistentPersons = persistentPersons.with(sequenceNumber, editedPerson);
+        nameIndex.remove(target.getStudentId().getNumber());
+        nameIndex.add(editedPerson.getStudentId().getNumber(), editedPerson.getName().getSearchKey());
+        fuzzyNameIndex.remove(target.getStudentId().getNumber());
+        fuzzyNameIndex.add(editedPerson.getStudentId().getNumber(), editedPerson.getName().getSearchKey());
+        unindexSearchTerms(stored);
+        indexSearchTerms(editedPerson);
+        internalList.set(position, editedPerson);
     }
 
     /**
@@ -74,13 +145,30 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.removeIf((person -> person.isSamePerson(toRemove)))) {
+        Person stored = index.remove(toRemove.getStudentId());
+        if (stored == null) {
             throw new PersonNotFoundException();
         }
+        studentNumbers.remove(stored.getStudentId().getNumber());
+        long sequenceNumber = sequenceNumbers.remove(stored.getStudentId());
+        int position = persistentPersons.indexOf(sequenceNumber);
+        persistentPersons = persistentPersons.without(sequenceNumber);
+        nameIndex.remove(stored.getStudentId().getNumber());
+        fuzzyNameIndex.remove(stored.getStudentId().getNumber());
+        unindexSearchTerms(stored);
+        internalList.remove(position);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        index.clear();
+        index.putAll(replacement.index);
+        rebuildStudentNumbers();
+        rebuildSequence(replacement.internalList);
+        rebuildNameIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +178,16 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<StudentId, Person> replacementIndex = indexBy(persons, Person::getStudentId);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
+        index.clear();
+        index.putAll(replacementIndex);
+        rebuildStudentNumbers();
+        rebuildSequence(persons);
+        rebuildNameIndex(persons);
         internalList.setAll(persons);
     }
 
@@ -104,6 +198,77 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.isEmpty();
     }
 
+    /**
+     * Returns the numeric ids of the persons whose name contains any of {@code keywords}, ignoring case.
+     */
+    public IntBitmap findByName(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameIndex.searchAny(keywords);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains any of {@code keywords}, ignoring case,
+     * without searching.
+     *
+     * @see NgramIndex#estimate(String)
+     */
+    public int estimateByName(List<String> keywords) {
+        requireAllNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            estimate += nameIndex.estimate(keyword);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the numeric ids of the persons of the given {@code gender}.
+     */
+    public IntBitmap findByGender(Gender gender) {
+        requireNonNull(gender);
+        IntBitmap matches = genderIndex.get(gender);
+        return matches == null ? new IntBitmap() : matches.copy();
+    }
+
+    /**
+     * Returns how closely the name of the person with {@code studentId} matches {@code keywords}, higher being
+     * closer, or 0 if there is no such person.
+     *
+     * @see NgramIndex#score(int, List)
+     */
+    public int scoreName(StudentId studentId, List<String> keywords) {
+        requireAllNonNull(studentId, keywords);
+        return nameIndex.score(studentId.getNumber(), keywords);
+    }
+
+    /**
+     * Returns the numeric ids of at most {@code limit} persons with a name word within a small edit distance of any
+     * of {@code keywords}, closest first.
+     *
+     * @see FuzzyWordIndex#search(List, int)
+     */
+    public List<Integer> findByFuzzyName(List<String> keywords, int limit) {
+        requireAllNonNull(keywords);
+        return fuzzyNameIndex.search(keywords, limit);
+    }
+
+    /**
+     * Returns at most {@code limit} student ids and name words in this list that start with {@code prefix}, ignoring
+     * case, in alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        return completions.complete(prefix, limit);
+    }
+
+    /**
+     * Returns an immutable image of the current contents of the list, in list order, in constant time.
+     * Later changes to this list do not affect the returned sequence, which may be read from any thread.
+     */
+    public PersistentSequence<Person> snapshot() {
+        return persistentPersons;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -141,17 +306,59 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private void track(Person person) {
+        index.put(person.getStudentId(), person);
+        studentNumbers.add(person.getStudentId().getNumber());
+        long sequenceNumber = nextSequenceNumber++;
+        sequenceNumbers.put(person.getStudentId(), sequenceNumber);
+        persistentPersons = persistentPersons.with(sequenceNumber, person);
+        nameIndex.add(person.getStudentId().getNumber(), person.getName().getSearchKey());
+        fuzzyNameIndex.add(person.getStudentId().getNumber(), person.getName().getSearchKey());
+        indexSearchTerms(person);
+    }
+
+    private void indexSearchTerms(Person person) {
+        genderIndex.computeIfAbsent(person.getGender(), unused -> new IntBitmap())
+                .add(person.getStudentId().getNumber());
+        completions.add(person.getStudentId().getValue());
+        for (String word : person.getName().fullName.split("\\s+")) {
+            completions.add(word);
+        }
+    }
+
+    private void unindexSearchTerms(Person person) {
+        genderIndex.get(person.getGender()).remove(person.getStudentId().getNumber());
+        completions.remove(person.getStudentId().getValue());
+        for (String word : person.getName().fullName.split("\\s+")) {
+            completions.remove(word);
+        }
+    }
+
+    private void rebuildSequence(List<Person> persons) {
+        sequenceNumbers.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            sequenceNumbers.put(persons.get(i).getStudentId(), (long) i);
+        }
+        nextSequenceNumber = persons.size();
+        persistentPersons = PersistentSequence.of(persons);
+    }
+
+    private void rebuildNameIndex(List<Person> persons) {
+        nameIndex.clear();
+        fuzzyNameIndex.clear();
+        completions.clear();
+        genderIndex.clear();
+        for (Person person : persons) {
+            nameIndex.add(person.getStudentId().getNumber(), person.getName().getSearchKey());
+            fuzzyNameIndex.add(person.getStudentId().getNumber(), person.getName().getSearchKey());
+            indexSearchTerms(person);
+        }
+    }
+
+    private void rebuildStudentNumbers() {
+        studentNumbers.clear();
+        for (StudentId studentId : index.keySet()) {
+            studentNumbers.add(studentId.getNumber());
         }
-        return true;
     }
 }
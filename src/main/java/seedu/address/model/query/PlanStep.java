@@ -0,0 +1,40 @@
+package seedu.address.model.query;
+
+import seedu.address.commons.util.IntBitmap;
+
+/**
+ * One step of a {@code QueryPlan}, answering a single {@code QueryTerm} either from an index or by testing
+ * candidate students one at a time.
+ */
+abstract class PlanStep {
+
+    private final QueryTerm term;
+
+    PlanStep(QueryTerm term) {
+        this.term = term;
+    }
+
+    QueryTerm getTerm() {
+        return term;
+    }
+
+    /**
+     * Returns the name of the index {@link #scan()} reads, for display.
+     */
+    abstract String getIndexName();
+
+    /**
+     * Returns an upper bound on the number of students {@link #scan()} would return, computed cheaply.
+     */
+    abstract int estimate();
+
+    /**
+     * Returns the numeric ids of all students that satisfy the term, read from the index.
+     */
+    abstract IntBitmap scan();
+
+    /**
+     * Returns true if the student with the numeric id {@code studentNumber} satisfies the term.
+     */
+    abstract boolean test(int studentNumber);
+}
@@ -0,0 +1,24 @@
+package seedu.address.model.query;
+
+/**
+ * The student attributes a {@code StudentQuery} can filter on.
+ */
+public enum QueryField {
+    ID("id"),
+    COURSE("course"),
+    GENDER("gender"),
+    NAME("name");
+
+    private final String keyword;
+
+    QueryField(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns the word that names this field in a query, e.g. {@code gender}.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.query;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.IntBitmap;
+
+/**
+ * An ordered way of answering a {@code StudentQuery}, as chosen by {@code StudentQueryPlanner}.
+ * The first step reads the matching students from an index; every later step only tests the students left by the
+ * steps before it. The plan records the sizes and timings of its last execution for {@link #explain()}.
+ */
+public final class QueryPlan {
+
+    private final StudentQuery query;
+    private final List<PlanStep> steps;
+    private final int[] estimates;
+    private final int[] resultSizes;
+    private final long[] elapsedNanos;
+    private boolean isExecuted;
+
+    QueryPlan(StudentQuery query, List<PlanStep> steps, int[] estimates) {
+        this.query = query;
+        this.steps = List.copyOf(steps);
+        this.estimates = estimates.clone();
+        this.resultSizes = new int[steps.size()];
+        this.elapsedNanos = new long[steps.size()];
+    }
+
+    /**
+     * Returns the terms of the query in the order the plan evaluates them.
+     */
+    public List<QueryTerm> getOrder() {
+        return steps.stream().map(PlanStep::getTerm).collect(Collectors.toList());
+    }
+
+    /**
+     * Runs the plan and returns the numeric ids of the students that match the query.
+     */
+    public IntBitmap execute() {
+        long start = System.nanoTime();
+        IntBitmap candidates = steps.get(0).scan();
+        resultSizes[0] = candidates.cardinality();
+        elapsedNanos[0] = System.nanoTime() - start;
+
+        for (int i = 1; i < steps.size(); i++) {
+            start = System.nanoTime();
+            PlanStep step = steps.get(i);
+            IntBitmap survivors = new IntBitmap();
+            candidates.forEach(studentNumber -> {
+                if (step.test(studentNumber)) {
+                    survivors.add(studentNumber);
+                }
+            });
+            candidates = survivors;
+            resultSizes[i] = candidates.cardinality();
+            elapsedNanos[i] = System.nanoTime() - start;
+        }
+        isExecuted = true;
+        return candidates;
+    }
+
+    /**
+     * Returns a description of the plan, one line per step, with the sizes and timings of its last execution.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder("Plan for " + query + ":");
+        for (int i = 0; i < steps.size(); i++) {
+            PlanStep step = steps.get(i);
+            builder.append('\n').append(i + 1).append(". ");
+            if (i == 0) {
+                builder.append(String.format("Scan %s index for %s (estimated %d)",
+                        step.getIndexName(), step.getTerm(), estimates[i]));
+            } else {
+                builder.append(String.format("Filter candidates by %s (estimated %d)", step.getTerm(), estimates[i]));
+            }
+            if (isExecuted) {
+                builder.append(String.format(Locale.ROOT, ": %d student(s) in %.3f ms",
+                        resultSizes[i], elapsedNanos[i] / 1e6));
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A condition of a {@code StudentQuery}: the student's {@code field} matches any of {@code values}.
+ * Guarantees: immutable; values are not empty.
+ */
+public final class QueryTerm {
+
+    /** The value of a {@code course} term that matches the students who are not enrolled in any course. */
+    public static final String NO_COURSE = "none";
+
+    private final QueryField field;
+    private final List<String> values;
+
+    /**
+     * Creates a term matching students whose {@code field} matches any of {@code values}.
+     */
+    public QueryTerm(QueryField field, List<String> values) {
+        requireAllNonNull(field, values);
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("A query term needs at least one value");
+        }
+        this.field = field;
+        this.values = List.copyOf(values);
+    }
+
+    public QueryField getField() {
+        return field;
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof QueryTerm)) {
+            return false;
+        }
+        QueryTerm otherTerm = (QueryTerm) other;
+        return field == otherTerm.field && values.equals(otherTerm.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, values);
+    }
+
+    /**
+     * Returns the term as it would be typed, e.g. {@code gender/Female}.
+     */
+    @Override
+    public String toString() {
+        return field.getKeyword() + "/" + String.join("|", values);
+    }
+}
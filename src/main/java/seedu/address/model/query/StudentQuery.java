@@ -0,0 +1,51 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A filter over students: the conjunction of its {@code QueryTerm}s, each of which is a disjunction of values.
+ * Guarantees: immutable; has at least one term.
+ */
+public final class StudentQuery {
+
+    private final List<QueryTerm> terms;
+
+    /**
+     * Creates a query matching the students that satisfy every one of {@code terms}.
+     */
+    public StudentQuery(List<QueryTerm> terms) {
+        requireNonNull(terms);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("A query needs at least one term");
+        }
+        this.terms = List.copyOf(terms);
+    }
+
+    public List<QueryTerm> getTerms() {
+        return terms;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof StudentQuery)) {
+            return false;
+        }
+        return terms.equals(((StudentQuery) other).terms);
+    }
+
+    @Override
+    public int hashCode() {
+        return terms.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return terms.stream().map(QueryTerm::toString).collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,246 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.IntBitmap;
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CourseBook;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Compiles a {@code StudentQuery} into a {@code QueryPlan} over the indexes of an address book and a course book.
+ *
+ * Every term is given a cheap upper bound on the students it matches: the number of ids asked for, the sizes of the
+ * course rosters (and of the students in no course, for {@link QueryTerm#NO_COURSE}), the size of the gender
+ * posting list, or the size of the rarest n-gram posting list of the name keywords. The term with the smallest bound
+ * is answered from its index, and the other terms are then only tested against the students it returned,
+ * cheapest-to-test fields first among equal bounds.
+ */
+public class StudentQueryPlanner {
+
+    private final AddressBook addressBook;
+    private final CourseBook courseBook;
+
+    /**
+     * Creates a planner over the indexes of {@code addressBook} and {@code courseBook}.
+     */
+    public StudentQueryPlanner(AddressBook addressBook, CourseBook courseBook) {
+        requireAllNonNull(addressBook, courseBook);
+        this.addressBook = addressBook;
+        this.courseBook = courseBook;
+    }
+
+    /**
+     * Returns a plan for {@code query}. The plan reads the current indexes when it is executed, so it should be
+     * executed before the data changes.
+     */
+    public QueryPlan plan(StudentQuery query) {
+        requireAllNonNull(query);
+        List<PlanStep> steps = new ArrayList<>();
+        for (QueryTerm term : query.getTerms()) {
+            steps.add(toStep(term));
+        }
+        List<Integer> estimates = new ArrayList<>();
+        steps.forEach(step -> estimates.add(step.estimate()));
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < steps.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparing((Integer i) -> estimates.get(i))
+                .thenComparing(i -> steps.get(i).getTerm().getField()));
+
+        List<PlanStep> orderedSteps = new ArrayList<>();
+        int[] orderedEstimates = new int[steps.size()];
+        for (int i = 0; i < order.size(); i++) {
+            orderedSteps.add(steps.get(order.get(i)));
+            orderedEstimates[i] = estimates.get(order.get(i));
+        }
+        return new QueryPlan(query, orderedSteps, orderedEstimates);
+    }
+
+    private PlanStep toStep(QueryTerm term) {
+        return switch (term.getField()) {
+        case ID -> new IdStep(term);
+        case COURSE -> new CourseStep(term);
+        case GENDER -> new GenderStep(term);
+        case NAME -> new NameStep(term);
+        };
+    }
+
+    private Person getPerson(int studentNumber) {
+        return addressBook.getPersonById(StudentId.fromNumber(studentNumber));
+    }
+
+    private class IdStep extends PlanStep {
+        private final IntBitmap studentNumbers = new IntBitmap();
+
+        IdStep(QueryTerm term) {
+            super(term);
+            term.getValues().forEach(value -> studentNumbers.add(StudentId.of(value).getNumber()));
+        }
+
+        @Override
+        String getIndexName() {
+            return "student id";
+        }
+
+        @Override
+        int estimate() {
+            return studentNumbers.cardinality();
+        }
+
+        @Override
+        IntBitmap scan() {
+            return studentNumbers.and(addressBook.getStudentIdBitmap());
+        }
+
+        @Override
+        boolean test(int studentNumber) {
+            return studentNumbers.contains(studentNumber);
+        }
+    }
+
+    private class CourseStep extends PlanStep {
+        private final List<Course> courses = new ArrayList<>();
+        private final boolean includesUnenrolled;
+        private IntBitmap unenrolledStudents;
+
+        CourseStep(QueryTerm term) {
+            super(term);
+            includesUnenrolled = term.getValues().contains(QueryTerm.NO_COURSE);
+            for (String value : term.getValues()) {
+                if (value.equals(QueryTerm.NO_COURSE)) {
+                    continue;
+                }
+                Course course = courseBook.getCourseById(CourseId.of(value));
+                if (course != null) {
+                    courses.add(course);
+                }
+            }
+        }
+
+        @Override
+        String getIndexName() {
+            return "enrollment";
+        }
+
+        @Override
+        int estimate() {
+            int enrolled = courses.stream().mapToInt(Course::getStudentCount).sum();
+            return includesUnenrolled ? enrolled + getUnenrolledStudents().cardinality() : enrolled;
+        }
+
+        @Override
+        IntBitmap scan() {
+            IntBitmap students = includesUnenrolled ? getUnenrolledStudents() : new IntBitmap();
+            for (Course course : courses) {
+                students = students.or(course.getStudentIdBitmap());
+            }
+            return students;
+        }
+
+        @Override
+        boolean test(int studentNumber) {
+            if (includesUnenrolled && getUnenrolledStudents().contains(studentNumber)) {
+                return true;
+            }
+            StudentId studentId = StudentId.fromNumber(studentNumber);
+            return courses.stream().anyMatch(course -> course.containsStudentId(studentId));
+        }
+
+        private IntBitmap getUnenrolledStudents() {
+            if (unenrolledStudents == null) {
+                unenrolledStudents = addressBook.getStudentIdBitmap().andNot(courseBook.getEnrolledStudentIds());
+            }
+            return unenrolledStudents;
+        }
+    }
+
+    private class GenderStep extends PlanStep {
+        private final Set<Gender> genders = new HashSet<>();
+        private IntBitmap students;
+
+        GenderStep(QueryTerm term) {
+            super(term);
+            term.getValues().forEach(value -> genders.add(new Gender(value)));
+        }
+
+        @Override
+        String getIndexName() {
+            return "gender";
+        }
+
+        @Override
+        int estimate() {
+            return scan().cardinality();
+        }
+
+        @Override
+        IntBitmap scan() {
+            if (students == null) {
+                students = new IntBitmap();
+                for (Gender gender : genders) {
+                    students = students.or(addressBook.findByGender(gender));
+                }
+            }
+            return students;
+        }
+
+        @Override
+        boolean test(int studentNumber) {
+            Person person = getPerson(studentNumber);
+            return person != null && genders.contains(person.getGender());
+        }
+    }
+
+    private class NameStep extends PlanStep {
+        private final List<String> keywords = new ArrayList<>();
+        private final KeywordMatcher matcher;
+
+        NameStep(QueryTerm term) {
+            super(term);
+            for (String value : term.getValues()) {
+                for (String keyword : StringUtil.toSearchKey(value).split(" ")) {
+                    if (!keyword.isEmpty()) {
+                        keywords.add(keyword);
+                    }
+                }
+            }
+            matcher = new KeywordMatcher(keywords);
+        }
+
+        @Override
+        String getIndexName() {
+            return "name n-gram";
+        }
+
+        @Override
+        int estimate() {
+            return addressBook.estimateByName(keywords);
+        }
+
+        @Override
+        IntBitmap scan() {
+            return addressBook.findByName(keywords);
+        }
+
+        @Override
+        boolean test(int studentNumber) {
+            Person person = getPerson(studentNumber);
+            return person != null && matcher.matches(person.getName().getSearchKey());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package seedu.address.model.stats;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CourseBook;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.course.EnrollmentListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Keeps enrollment counters for every course of a course book, and for all of them together, up to date as the
+ * data changes, so that they can be read in constant time.
+ *
+ * Each enrollment or unenrollment changes a handful of counters. Editing a student's gender moves the student between
+ * gender counters in each of the student's courses only. A course's roster is read once, when the course is added to
+ * the course book, e.g. when it is created or loaded. Editing a course's name or ID keeps its counters.
+ */
+public class EnrollmentStatistics {
+
+    /** The gender under which students missing from the address book are counted. */
+    public static final String UNKNOWN_GENDER = "Unknown";
+
+    private final AddressBook addressBook;
+    private final CourseBook courseBook;
+    private final Map<CourseId, Counters> courseCounters = new HashMap<>();
+    private final Counters totals = new Counters();
+
+    /**
+     * Creates statistics over the courses of {@code courseBook}, whose students are looked up in
+     * {@code addressBook}, and keeps them up to date with both.
+     */
+    public EnrollmentStatistics(AddressBook addressBook, CourseBook courseBook) {
+        requireAllNonNull(addressBook, courseBook);
+        this.addressBook = addressBook;
+        this.courseBook = courseBook;
+        courseBook.getCourseList().forEach(this::courseAdded);
+        courseBook.getCourseList().addListener(this::courseListChanged);
+        addressBook.getPersonList().addListener(this::personListChanged);
+        courseBook.addEnrollmentListener(new RosterTracker());
+    }
+
+    /**
+     * Returns the statistics of the course with {@code courseId}, or null if there is no such course.
+     */
+    public EnrollmentStats getCourseStats(CourseId courseId) {
+        Counters counters = courseCounters.get(courseId);
+        return counters == null ? null : counters.toStats();
+    }
+
+    /**
+     * Returns the statistics of all courses together, in which a student enrolled in several courses is counted
+     * once for each of them.
+     */
+    public EnrollmentStats getOverallStats() {
+        return totals.toStats();
+    }
+
+    private void courseListChanged(ListChangeListener.Change<? extends Course> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            if (change.wasReplaced() && change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                courseReplaced(change.getRemoved().get(0), change.getAddedSubList().get(0));
+                continue;
+            }
+            change.getRemoved().forEach(this::courseRemoved);
+            change.getAddedSubList().forEach(this::courseAdded);
+        }
+    }
+
+    /**
+     * Moves the counters of {@code target} to {@code editedCourse}, which replaces it, e.g. as it is renamed or given
+     * another course ID, so that they keep counting since the course was loaded. The roster of {@code editedCourse} is
+     * only read if it holds other students.
+     */
+    private void courseReplaced(Course target, Course editedCourse) {
+        Counters counters = courseCounters.get(target.getCourseId());
+        if (counters == null || !target.hasSameStudents(editedCourse)) {
+            courseRemoved(target);
+            courseAdded(editedCourse);
+            return;
+        }
+        courseCounters.remove(target.getCourseId());
+        courseCounters.put(editedCourse.getCourseId(), counters);
+    }
+
+    private void courseAdded(Course course) {
+        Counters counters = new Counters();
+        courseCounters.put(course.getCourseId(), counters);
+        for (StudentId studentId : course.getEnrolledStudentIds()) {
+            String gender = genderOf(studentId);
+            counters.addStudent(gender, 1);
+            totals.addStudent(gender, 1);
+        }
+    }
+
+    private void courseRemoved(Course course) {
+        Counters counters = courseCounters.remove(course.getCourseId());
+        if (counters == null) {
+            return;
+        }
+        counters.genderCounts.forEach((gender, count) -> totals.addStudent(gender, -count));
+    }
+
+    private void personListChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Person removed : change.getRemoved()) {
+                moveStudent(removed, removed.getGender().value, UNKNOWN_GENDER);
+            }
+            for (Person added : change.getAddedSubList()) {
+                moveStudent(added, UNKNOWN_GENDER, added.getGender().value);
+            }
+        }
+    }
+
+    /**
+     * Moves {@code student} from the {@code from} to the {@code to} gender counter of each of the student's courses.
+     */
+    private void moveStudent(Person student, String from, String to) {
+        for (Course course : courseBook.getCoursesOfStudent(student)) {
+            Counters counters = courseCounters.get(course.getCourseId());
+            if (counters != null) {
+                counters.addStudent(from, -1);
+                counters.addStudent(to, 1);
+                totals.addStudent(from, -1);
+                totals.addStudent(to, 1);
+            }
+        }
+    }
+
+    private String genderOf(StudentId studentId) {
+        Person student = addressBook.getPersonById(studentId);
+        return student == null ? UNKNOWN_GENDER : student.getGender().value;
+    }
+
+    /**
+     * Updates the counters of a course as students are enrolled in it and unenrolled from it.
+     */
+    private class RosterTracker implements EnrollmentListener {
+        @Override
+        public void studentEnrolled(Course course, StudentId studentId) {
+            Counters counters = courseCounters.get(course.getCourseId());
+            if (counters == null) {
+                return;
+            }
+            String gender = genderOf(studentId);
+            counters.addStudent(gender, 1);
+            counters.enrollments++;
+            totals.addStudent(gender, 1);
+            totals.enrollments++;
+        }
+
+        @Override
+        public void studentUnenrolled(Course course, StudentId studentId) {
+            Counters counters = courseCounters.get(course.getCourseId());
+            if (counters == null) {
+                return;
+            }
+            String gender = genderOf(studentId);
+            counters.addStudent(gender, -1);
+            counters.unenrollments++;
+            totals.addStudent(gender, -1);
+            totals.unenrollments++;
+        }
+    }
+
+    private static class Counters {
+        private final Map<String, Integer> genderCounts = new HashMap<>();
+        private int studentCount;
+        private int enrollments;
+        private int unenrollments;
+
+        void addStudent(String gender, int delta) {
+            studentCount += delta;
+            if (genderCounts.merge(gender, delta, Integer::sum) == 0) {
+                genderCounts.remove(gender);
+            }
+        }
+
+        EnrollmentStats toStats() {
+            return new EnrollmentStats(studentCount, genderCounts, enrollments, unenrollments);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An immutable summary of the enrollments of one course, or of all courses together: how many students are enrolled,
+ * how they split by gender, and how many enrollments and unenrollments there have been since the data was loaded.
+ */
+public final class EnrollmentStats {
+
+    private final int studentCount;
+    private final Map<String, Integer> genderCounts;
+    private final int enrollments;
+    private final int unenrollments;
+
+    /**
+     * Creates a summary of {@code studentCount} enrolled students split by gender as in {@code genderCounts}, after
+     * {@code enrollments} enrollments and {@code unenrollments} unenrollments since the data was loaded.
+     */
+    public EnrollmentStats(int studentCount, Map<String, Integer> genderCounts, int enrollments, int unenrollments) {
+        requireNonNull(genderCounts);
+        this.studentCount = studentCount;
+        this.genderCounts = Map.copyOf(genderCounts);
+        this.enrollments = enrollments;
+        this.unenrollments = unenrollments;
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    /**
+     * Returns the number of enrolled students of the given gender, which is 0 for a gender with no student.
+     */
+    public int getGenderCount(String gender) {
+        return genderCounts.getOrDefault(gender, 0);
+    }
+
+    /**
+     * Returns the number of enrolled students of each gender that has any, by gender name. Students whose record
+     * is missing from the address book are counted under {@link EnrollmentStatistics#UNKNOWN_GENDER}.
+     */
+    public Map<String, Integer> getGenderCounts() {
+        return genderCounts;
+    }
+
+    public int getEnrollments() {
+        return enrollments;
+    }
+
+    public int getUnenrollments() {
+        return unenrollments;
+    }
+
+    /**
+     * Returns the change in the number of enrolled students since the data was loaded.
+     */
+    public int getGrowth() {
+        return enrollments - unenrollments;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof EnrollmentStats)) {
+            return false;
+        }
+        EnrollmentStats otherStats = (EnrollmentStats) other;
+        return studentCount == otherStats.studentCount
+                && genderCounts.equals(otherStats.genderCounts)
+                && enrollments == otherStats.enrollments
+                && unenrollments == otherStats.unenrollments;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentCount, genderCounts, enrollments, unenrollments);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentCount", studentCount)
+                .add("genderCounts", genderCounts)
+                .add("enrollments", enrollments)
+                .add("unenrollments", unenrollments)
+                .toString();
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.commons.util.IntBitmap;
+
+/**
+ * Allocates numeric ids within a fixed range in constant time.
+ *
+ * New ids are handed out above a high-water mark, the largest id ever in use, which is persisted with the data so
+ * that ids of removed entries are not immediately handed out again. Only once the high-water mark reaches the top
+ * of the range are freed ids reused, found through a bitmap of the ids currently in use.
+ * All methods are thread-safe.
+ */
+public class IdAllocator {
+
+    private final int minId;
+    private final int maxId;
+    private final IntBitmap usedIds = new IntBitmap();
+    private int highWaterMark;
+
+    /**
+     * Creates an allocator for ids from {@code minId} to {@code maxId} inclusive, with no id in use.
+     */
+    public IdAllocator(int minId, int maxId) {
+        checkArgument(0 <= minId && minId <= maxId, "Invalid id range");
+        this.minId = minId;
+        this.maxId = maxId;
+        this.highWaterMark = minId - 1;
+    }
+
+    /**
+     * Returns the id that the next call to {@link #allocate()} would return, or -1 if every id is in use.
+     */
+    public synchronized int peekNext() {
+        if (highWaterMark < maxId) {
+            return highWaterMark + 1;
+        }
+        int freeId = usedIds.nextAbsent(minId);
+        return freeId <= maxId ? freeId : -1;
+    }
+
+    /**
+     * Marks the next free id as used and returns it, or returns -1 if every id is in use.
+     */
+    public synchronized int allocate() {
+        int id = peekNext();
+        if (id >= 0) {
+            markUsed(id);
+        }
+        return id;
+    }
+
+    /**
+     * Marks {@code id} as used, e.g. when an entry with an explicitly chosen id is added.
+     * Ids below the allocation range may be marked, but are never allocated.
+     */
+    public synchronized void markUsed(int id) {
+        checkArgument(0 <= id && id <= maxId, "Id out of range");
+        usedIds.add(id);
+        highWaterMark = Math.max(highWaterMark, id);
+    }
+
+    /**
+     * Marks {@code id} as free. The high-water mark is unchanged, so the id is only reused once the range above it
+     * is exhausted.
+     */
+    public synchronized void release(int id) {
+        usedIds.remove(id);
+    }
+
+    /**
+     * Replaces the ids in use with {@code ids} and sets the high-water mark to {@code persistedHighWaterMark}, or to
+     * the largest of {@code ids} if that is higher, even if the mark was higher before.
+     */
+    public synchronized void reset(IntBitmap ids, int persistedHighWaterMark) {
+        requireNonNull(ids);
+        usedIds.clear();
+        ids.forEach(usedIds::add);
+        int largestUsed = ids.last();
+        highWaterMark = Math.max(minId - 1, Math.min(maxId, Math.max(persistedHighWaterMark, largestUsed)));
+    }
+
+    /**
+     * Returns the largest id ever in use, or one less than the smallest id if none has been used.
+     */
+    public synchronized int getHighWaterMark() {
+        return highWaterMark;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.util;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -16,7 +17,6 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.StudentId;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -25,24 +25,22 @@ import seedu.address.model.tag.Tag;
 public class SampleDataUtil {
     public static Person[] getSamplePersons() {
         return new Person[] {
-            new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Gender("male"), new StudentId("S00001")),
-            new Person(new Name("Bernice Yu"), new Phone("99272758"), new Gender("female"), new StudentId("S00002")),
+            new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Gender("male"), StudentId.of("S00001")),
+            new Person(new Name("Bernice Yu"), new Phone("99272758"), new Gender("female"), StudentId.of("S00002")),
             new Person(new Name("Charlotte Oliveiro"),
-                    new Phone("93210283"), new Gender("female"), new StudentId("S00003")),
+                    new Phone("93210283"), new Gender("female"), StudentId.of("S00003")),
             new Person(new Name("David Li"), new Phone("91031282"),
-                    new Gender("male"), new StudentId("S00004")),
-            new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Gender("male"), new StudentId("S00005")),
-            new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Gender("male"), new StudentId("S00006"))
+                    new Gender("male"), StudentId.of("S00004")),
+            new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Gender("male"), StudentId.of("S00005")),
+            new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Gender("male"), StudentId.of("S00006"))
         };
     }
 
     public static Course[] getSampleCourse() {
-        UniquePersonList studentList = new UniquePersonList();
         Person[] sample = getSamplePersons();
-        studentList.add(sample[0]);
-        studentList.add(sample[1]);
+        List<StudentId> studentIds = List.of(sample[0].getStudentId(), sample[1].getStudentId());
         return new Course[] {
-            new Course(new CourseName("Mathematics"), new CourseId("C1231"), studentList, getTagSet())
+            new Course(new CourseName("Mathematics"), CourseId.of("C1231"), studentIds, getTagSet())
         };
     }
 
@@ -0,0 +1,221 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A filtered view of an {@code ObservableList}, like {@code FilteredList}, whose contents can also be set to a given
+ * selection of the source's elements without testing the others.
+ *
+ * {@link #setPredicate(Predicate)} tests every element of the source and shows the accepted ones in source order.
+ * {@link #select(List, Predicate)} shows the given elements in the given order, e.g. the matches of a search found
+ * through an index and already ranked, in time proportional to their number.
+ *
+ * Either way, the view follows later changes to the source. A removed element leaves the view, a replaced one is
+ * replaced in place if it is still accepted, and an added one is shown if it is accepted: in source order after
+ * {@code setPredicate}, or after the selected elements after {@code select}. A change of more than one element at
+ * a time, e.g. replacing the whole source, tests the whole source again and shows the accepted elements in source
+ * order.
+ */
+public class SelectionList<E> extends TransformationList<E, E> {
+
+    private final Set<E> shown = Collections.newSetFromMap(new IdentityHashMap<>());
+    private List<E> view = new ArrayList<>();
+    private Predicate<? super E> isAccepted = element -> true;
+    private boolean isSelection;
+
+    /**
+     * Creates a view of every element of {@code source}.
+     */
+    public SelectionList(ObservableList<? extends E> source) {
+        super(source);
+        view.addAll(source);
+        shown.addAll(source);
+    }
+
+    /**
+     * Shows the elements of the source that {@code predicate} accepts, in source order, or all of them if it is null.
+     * Takes O(n) time.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        isAccepted = predicate == null ? element -> true : predicate;
+        isSelection = false;
+        beginChange();
+        refilter();
+        endChange();
+    }
+
+    /**
+     * Shows {@code selected}, which must be distinct elements of the source, in the given order. Elements added to the
+     * source later are shown after them if {@code isSelected} accepts them. Takes time proportional to the number of
+     * elements shown before and after, but not to the size of the source.
+     */
+    public void select(List<? extends E> selected, Predicate<? super E> isSelected) {
+        requireAllNonNull(selected, isSelected);
+        isAccepted = isSelected;
+        isSelection = true;
+        beginChange();
+        replaceView(new ArrayList<>(selected));
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        beginChange();
+        if (isSingleElementChange(change)) {
+            applySingleElementChanges(change);
+        } else {
+            refilter();
+        }
+        endChange();
+    }
+
+    private static boolean isSingleElementChange(Change<?> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+                change.reset();
+                return false;
+            }
+        }
+        change.reset();
+        return true;
+    }
+
+    private void applySingleElementChanges(Change<? extends E> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    E element = getSource().get(i);
+                    replaceElement(element, element, i);
+                }
+            } else if (change.wasReplaced()) {
+                replaceElement(change.getRemoved().get(0), change.getAddedSubList().get(0), change.getFrom());
+            } else if (change.wasRemoved()) {
+                removeElement(change.getRemoved().get(0));
+            } else if (change.wasAdded()) {
+                addElement(change.getAddedSubList().get(0), change.getFrom());
+            }
+        }
+    }
+
+    private void replaceElement(E removed, E added, int sourceIndex) {
+        int index = positionOf(removed);
+        if (index < 0) {
+            addElement(added, sourceIndex);
+            return;
+        }
+        if (!isAccepted.test(added)) {
+            removeElement(removed);
+            return;
+        }
+        shown.remove(removed);
+        shown.add(added);
+        view.set(index, added);
+        nextSet(index, removed);
+    }
+
+    private void removeElement(E removed) {
+        int index = positionOf(removed);
+        if (index < 0) {
+            return;
+        }
+        shown.remove(removed);
+        view.remove(index);
+        nextRemove(index, removed);
+    }
+
+    private void addElement(E added, int sourceIndex) {
+        if (!isAccepted.test(added)) {
+            return;
+        }
+        int index = isSelection ? view.size() : countShownBefore(sourceIndex);
+        shown.add(added);
+        view.add(index, added);
+        nextAdd(index, index + 1);
+    }
+
+    /**
+     * Returns the number of elements shown among the first {@code sourceIndex} elements of the source, which is
+     * where an element at {@code sourceIndex} belongs in source order.
+     */
+    private int countShownBefore(int sourceIndex) {
+        int count = 0;
+        for (int i = 0; i < sourceIndex; i++) {
+            if (shown.contains(getSource().get(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void refilter() {
+        List<E> accepted = new ArrayList<>();
+        for (E element : getSource()) {
+            if (isAccepted.test(element)) {
+                accepted.add(element);
+            }
+        }
+        replaceView(accepted);
+    }
+
+    private void replaceView(List<E> newView) {
+        List<E> previous = view;
+        view = newView;
+        shown.clear();
+        shown.addAll(newView);
+        if (!previous.isEmpty()) {
+            nextRemove(0, previous);
+        }
+        if (!newView.isEmpty()) {
+            nextAdd(0, newView.size());
+        }
+    }
+
+    /**
+     * Returns the position of {@code element} itself in the view, or -1 if it is not shown.
+     */
+    private int positionOf(E element) {
+        if (!shown.contains(element)) {
+            return -1;
+        }
+        for (int i = 0; i < view.size(); i++) {
+            if (view.get(i) == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public E get(int index) {
+        return view.get(index);
+    }
+
+    @Override
+    public int size() {
+        return view.size();
+    }
+
+    /**
+     * Returns the position in the source of the element at {@code index} in this view. Takes O(n) time.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        return getSource().indexOf(get(index));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return positionOf(getSource().get(index));
+    }
+}
@@ -0,0 +1,380 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A sorted view of an {@code ObservableList} that keeps its order up to date in O(log n) per change.
+ *
+ * Unlike {@code SortedList}, which moves array elements on every insertion, the view keeps its elements in an AVL
+ * tree annotated with subtree sizes, so that inserting, removing and locating an element by position all take
+ * logarithmic time. Each element's node is also kept in an identity map, so an element can be found and moved
+ * without comparing it, e.g. after its sort key changed in place; see {@link #reposition(Object)}.
+ *
+ * Elements that the comparator considers equal are ordered by the tie-breaker given on construction, which must
+ * order distinct elements of the source strictly. Without a comparator, the view shows the source in its own order.
+ */
+public class TreeSortedList<E> extends TransformationList<E, E> {
+
+    private final Comparator<? super E> tieBreaker;
+    private final Map<E, Node<E>> nodes = new IdentityHashMap<>();
+    private Comparator<? super E> comparator;
+    private Comparator<E> order;
+    private Node<E> root;
+
+    /**
+     * Creates a view of {@code source} in source order, breaking the ties of later comparators with
+     * {@code tieBreaker}.
+     */
+    public TreeSortedList(ObservableList<? extends E> source, Comparator<? super E> tieBreaker) {
+        super(source);
+        requireNonNull(tieBreaker);
+        this.tieBreaker = tieBreaker;
+    }
+
+    public Comparator<? super E> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Sorts the view by {@code comparator}, then by the tie-breaker, or shows the source order if it is null.
+     * Takes O(n log n) time.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        List<E> previous = new ArrayList<>(size());
+        if (order == null) {
+            previous.addAll(getSource());
+        } else {
+            collect(root, previous);
+        }
+        this.comparator = comparator;
+        order = comparator == null ? null : (first, second) -> {
+            int result = comparator.compare(first, second);
+            return result != 0 ? result : tieBreaker.compare(first, second);
+        };
+
+        nodes.clear();
+        root = null;
+        if (order != null) {
+            List<E> sorted = new ArrayList<>(getSource());
+            sorted.sort(order);
+            root = build(sorted, 0, sorted.size());
+        }
+
+        beginChange();
+        if (!previous.isEmpty()) {
+            nextRemove(0, previous);
+        }
+        if (!isEmpty()) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    /**
+     * Moves {@code element} to its place in the view after its sort key has changed in place.
+     * Does nothing if the view is not sorted or does not contain {@code element}.
+     */
+    public void reposition(E element) {
+        Node<E> node = nodes.get(element);
+        if (order == null || node == null) {
+            return;
+        }
+        beginChange();
+        int from = indexOf(node);
+        root = detach(deleteAt(root, from));
+        nextRemove(from, element);
+        node.reset();
+        root = detach(insert(root, node));
+        int to = indexOf(node);
+        nextAdd(to, to + 1);
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        if (order == null) {
+            forward(change);
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // The order of the view does not depend on the order of the source.
+                continue;
+            }
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    reposition(getSource().get(i));
+                }
+                continue;
+            }
+            for (E removed : change.getRemoved()) {
+                removeElement(removed);
+            }
+            for (E added : change.getAddedSubList()) {
+                insertElement(added);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Passes {@code change} on unchanged, as the view shows the source as it is.
+     */
+    private void forward(Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    private void insertElement(E element) {
+        Node<E> node = new Node<>(element);
+        nodes.put(element, node);
+        root = detach(insert(root, node));
+        int index = indexOf(node);
+        nextAdd(index, index + 1);
+    }
+
+    private void removeElement(E element) {
+        Node<E> node = nodes.remove(element);
+        if (node == null) {
+            return;
+        }
+        int index = indexOf(node);
+        root = detach(deleteAt(root, index));
+        nextRemove(index, element);
+    }
+
+    @Override
+    public E get(int index) {
+        if (order == null) {
+            return getSource().get(index);
+        }
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return order == null ? getSource().size() : size(root);
+    }
+
+    /**
+     * Returns the position in the source of the element at {@code index} in this view.
+     * Takes O(n) time when the view is sorted.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        return order == null ? index : getSource().indexOf(get(index));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (order == null) {
+            return index;
+        }
+        Node<E> node = nodes.get(getSource().get(index));
+        return node == null ? -1 : indexOf(node);
+    }
+
+    //// tree operations
+
+    /**
+     * Returns the position of {@code node} in the view, counting the nodes before it on the way up to the root.
+     */
+    private static int indexOf(Node<?> node) {
+        int index = size(node.left);
+        for (Node<?> current = node; current.parent != null; current = current.parent) {
+            if (current == current.parent.right) {
+                index += size(current.parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Appends the elements of {@code subtree} to {@code elements} in order.
+     */
+    private static <E> void collect(Node<E> subtree, List<E> elements) {
+        if (subtree != null) {
+            collect(subtree.left, elements);
+            elements.add(subtree.value);
+            collect(subtree.right, elements);
+        }
+    }
+
+    private Node<E> build(List<E> sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<E> node = new Node<>(sorted.get(middle));
+        nodes.put(node.value, node);
+        node.left = build(sorted, from, middle);
+        node.right = build(sorted, middle + 1, to);
+        update(node);
+        return node;
+    }
+
+    private Node<E> insert(Node<E> subtree, Node<E> node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (order.compare(node.value, subtree.value) < 0) {
+            subtree.left = insert(subtree.left, node);
+        } else {
+            subtree.right = insert(subtree.right, node);
+        }
+        return rebalance(subtree);
+    }
+
+    private Node<E> deleteAt(Node<E> subtree, int index) {
+        int leftSize = size(subtree.left);
+        if (index < leftSize) {
+            subtree.left = deleteAt(subtree.left, index);
+        } else if (index > leftSize) {
+            subtree.right = deleteAt(subtree.right, index - leftSize - 1);
+        } else if (subtree.left == null) {
+            return subtree.right;
+        } else if (subtree.right == null) {
+            return subtree.left;
+        } else {
+            // Nodes are moved rather than their values, as the identity map points at them.
+            Node<E> successor = subtree.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node<E> rest = deleteAt(subtree.right, 0);
+            successor.right = rest;
+            successor.left = subtree.left;
+            return rebalance(successor);
+        }
+        return rebalance(subtree);
+    }
+
+    private static <E> Node<E> detach(Node<E> newRoot) {
+        if (newRoot != null) {
+            newRoot.parent = null;
+        }
+        return newRoot;
+    }
+
+    private static <E> Node<E> rebalance(Node<E> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <E> Node<E> rotateLeft(Node<E> node) {
+        Node<E> right = node.right;
+        node.right = right.left;
+        update(node);
+        right.left = node;
+        update(right);
+        return right;
+    }
+
+    private static <E> Node<E> rotateRight(Node<E> node) {
+        Node<E> left = node.left;
+        node.left = left.right;
+        update(node);
+        left.right = node;
+        update(left);
+        return left;
+    }
+
+    private static <E> void update(Node<E> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+        if (node.left != null) {
+            node.left.parent = node;
+        }
+        if (node.right != null) {
+            node.right.parent = node;
+        }
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<E> {
+        private final E value;
+        private Node<E> left;
+        private Node<E> right;
+        private Node<E> parent;
+        private int height = 1;
+        private int size = 1;
+
+        Node(E value) {
+            this.value = value;
+        }
+
+        void reset() {
+            left = null;
+            right = null;
+            parent = null;
+            height = 1;
+            size = 1;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.ModelSnapshot;
+
+/**
+ * Saves the model to {@code Storage} on a background thread, so that commands do not wait for the data files to be
+ * written.
+ *
+ * Snapshots handed over while an earlier one is still waiting to be written replace it, so a burst of commands causes
+ * at most one write after the one in progress, of the latest data. Failures, including runtime exceptions thrown
+ * while serialising the data, are passed to the handler given on construction, on the background thread.
+ *
+ * Given a {@code JournalStorage}, the saver appends the changes handed over with each snapshot to the journal instead,
+ * all that are waiting in one group, and only writes the latest snapshot in full and empties the journal once the
+ * journal holds {@value #MAX_JOURNAL_RECORDS} change sets or {@value #MAX_JOURNAL_BYTES} bytes. The snapshot is also
+ * written in full on the first save, after a failure and for an overflowed change set, so that the journal always
+ * applies to the data last written in full.
+ */
+public class BackgroundSaver {
+
+    /** The number of change sets in the journal at which the data is written in full. */
+    static final int MAX_JOURNAL_RECORDS = 1000;
+
+    /** The size of the journal at which the data is written in full. */
+    static final long MAX_JOURNAL_BYTES = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final Storage storage;
+    private final JournalStorage journal;
+    private final Consumer<Exception> failureHandler;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this saver.
+    private ModelSnapshot pendingSnapshot;
+    private List<ChangeSet> pendingChanges = new ArrayList<>();
+
+    // Used by the background thread only.
+    private ModelSnapshot lastSnapshot;
+    private boolean isCompactionNeeded = true;
+
+    /**
+     * Creates a saver that writes snapshots in full to {@code storage} and reports failures to
+     * {@code failureHandler}.
+     */
+    public BackgroundSaver(Storage storage, Consumer<Exception> failureHandler) {
+        requireAllNonNull(storage, failureHandler);
+        this.storage = storage;
+        this.journal = null;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Creates a saver that appends changes to {@code journal}, writes snapshots in full to {@code storage} when
+     * compacting it, and reports failures to {@code failureHandler}.
+     */
+    public BackgroundSaver(Storage storage, JournalStorage journal, Consumer<Exception> failureHandler) {
+        requireAllNonNull(storage, journal, failureHandler);
+        this.storage = storage;
+        this.journal = journal;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written, in place of any snapshot that is still waiting to be, or the
+     * {@code changes} that led to it to be journaled. Returns without waiting for the write.
+     */
+    public void save(ModelSnapshot snapshot, ChangeSet changes) {
+        requireAllNonNull(snapshot, changes);
+        synchronized (this) {
+            boolean isScheduled = pendingSnapshot != null;
+            pendingSnapshot = snapshot;
+            if (journal != null && !changes.isEmpty()) {
+                pendingChanges.add(changes);
+            }
+            if (isScheduled) {
+                return;
+            }
+        }
+        executor.execute(this::writePending);
+    }
+
+    /**
+     * Waits until every snapshot handed over so far has been written, or has failed to be.
+     */
+    public void flush() {
+        await(() -> { });
+    }
+
+    /**
+     * Writes every snapshot handed over so far, folds the journal into the data files, and stops the background
+     * thread. No more snapshots may be handed over afterwards.
+     */
+    public void close() {
+        flush();
+        if (journal != null) {
+            await(this::compactOnClose);
+        }
+        executor.shutdown();
+    }
+
+    private void await(Runnable task) {
+        try {
+            executor.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Saving tasks pass their exceptions to the handler, so only an Error can end up here.
+            logger.severe("Saving task failed: " + e.getCause());
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private void writePending() {
+        ModelSnapshot snapshot;
+        List<ChangeSet> changeSets;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            changeSets = pendingChanges;
+            pendingSnapshot = null;
+            pendingChanges = new ArrayList<>();
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            if (journal == null) {
+                writeInFull(snapshot);
+                return;
+            }
+            if (changeSets.isEmpty()) {
+                return;
+            }
+            lastSnapshot = snapshot;
+            if (isCompactionNeeded || changeSets.stream().anyMatch(ChangeSet::isOverflowed)) {
+                compact(snapshot);
+                return;
+            }
+            journal.appendToJournal(changeSets);
+            if (journal.getJournalRecordCount() >= MAX_JOURNAL_RECORDS
+                    || journal.getJournalSize() >= MAX_JOURNAL_BYTES) {
+                compact(snapshot);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Whatever part of the changes reached the journal, it no longer describes the data in full.
+            isCompactionNeeded = true;
+            logger.warning("Failed to save data: " + e.getMessage());
+            failureHandler.accept(e);
+        }
+    }
+
+    private void compactOnClose() {
+        try {
+            if (lastSnapshot != null && (isCompactionNeeded || journal.getJournalSize() > 0)) {
+                compact(lastSnapshot);
+            }
+        } catch (IOException | RuntimeException e) {
+            isCompactionNeeded = true;
+            logger.warning("Failed to save data: " + e.getMessage());
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} in full, then empties the journal, as it has been applied to the data files.
+     * The data files are forced to the device before they replace the old ones, so the journal is only deleted once
+     * its changes are durable without it. Should the journal survive, replaying it on the new data files changes
+     * nothing, as replaying is idempotent.
+     */
+    private void compact(ModelSnapshot snapshot) throws IOException {
+        writeInFull(snapshot);
+        journal.clearJournal();
+        isCompactionNeeded = false;
+    }
+
+    private void writeInFull(ModelSnapshot snapshot) throws IOException {
+        storage.saveAddressBook(snapshot.getAddressBook());
+        storage.saveCourseBook(snapshot.getCourseBook());
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ *
+ * After the layout shared with {@link BinaryCourseBookStorage} (see {@link BinarySnapshot}), the file holds the
+ * student ID high-water mark as an int, a string table of the persons' names and genders, and a section of persons,
+ * each as varints of the numeric part of its student ID and the indexes of its name and gender, followed by its
+ * phone as a string.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+
+    /** "EBAB", for EduBase address book. */
+    static final int MAGIC = 0x45424142;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(decode(BinarySnapshot.readFile(filePath, MAGIC)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinarySnapshot.writeFile(filePath, MAGIC, encode(addressBook));
+    }
+
+    private static BinarySnapshot.Writer encode(ReadOnlyAddressBook addressBook) {
+        BinarySnapshot.StringTableWriter strings =
+                new BinarySnapshot.StringTableWriter(addressBook.getPersonList().size());
+        BinarySnapshot.Writer persons = new BinarySnapshot.Writer();
+        persons.writeVarInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            persons.writeVarInt(person.getStudentId().getNumber());
+            persons.writeVarInt(strings.indexOf(person.getName().fullName));
+            persons.writeVarInt(strings.indexOf(person.getGender().value));
+            persons.writeString(person.getPhone().value);
+        }
+
+        BinarySnapshot.Writer content = new BinarySnapshot.Writer();
+        content.writeInt(addressBook.getStudentIdHighWaterMark());
+        strings.writeTo(content);
+        content.writeSection(persons);
+        return content;
+    }
+
+    private static AddressBook decode(BinarySnapshot.Reader content) throws IllegalValueException {
+        int studentIdHighWaterMark = content.readInt();
+        BinarySnapshot.StringTable strings = BinarySnapshot.StringTable.read(content);
+        Name[] names = new Name[strings.size()];
+        Gender[] genders = new Gender[strings.size()];
+
+        BinarySnapshot.Reader section = content.readSection();
+        int count = section.readCount();
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StudentId studentId;
+            try {
+                studentId = StudentId.fromNumber(section.readVarInt());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+            }
+            Name name = strings.get(section.readVarInt(), names, Name::new);
+            Gender gender = strings.get(section.readVarInt(), genders, Gender::new);
+            Phone phone;
+            try {
+                phone = new Phone(section.readString());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+            }
+            persons.add(new Person(name, phone, gender, studentId));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.addPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.setStudentIdHighWaterMark(studentIdHighWaterMark);
+        return addressBook;
+    }
+
+}
@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.IntBitmap;
+import seedu.address.model.CourseBook;
+import seedu.address.model.ReadOnlyCourseBook;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.course.CourseName;
+import seedu.address.model.course.exceptions.DuplicateCourseIdException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access CourseBook data stored as a compact binary snapshot on the hard disk.
+ *
+ * After the layout shared with {@link BinaryAddressBookStorage} (see {@link BinarySnapshot}), the file holds a string
+ * table of the courses' names and tags, and a section of courses, each as varints of the numeric part of its course
+ * ID, the index of its name, its number of tags and their indexes, and its number of students followed by the numeric
+ * parts of their student IDs, each as a signed varint of its difference from the one before, in roster order.
+ */
+public class BinaryCourseBookStorage implements CourseBookStorage {
+
+    public static final String MESSAGE_DUPLICATE_COURSE = "Courses list contains duplicate course(s).";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "Course roster contains duplicate student(s).";
+    public static final String MESSAGE_UNKNOWN_STUDENT = "Course roster contains student(s) not in the address book.";
+
+    /** "EBCB", for EduBase course book. */
+    static final int MAGIC = 0x45424342;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCourseBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryCourseBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getCourseBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCourseBook> readCourseBook(ObservableList<Person> studentList) throws DataLoadingException {
+        return readCourseBook(filePath, studentList);
+    }
+
+    /**
+     * Similar to {@link #readCourseBook(ObservableList)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyCourseBook> readCourseBook(Path filePath,
+                                                       ObservableList<Person> studentList) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(decode(BinarySnapshot.readFile(filePath, MAGIC), studentList));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveCourseBook(ReadOnlyCourseBook courseBook) throws IOException {
+        saveCourseBook(courseBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCourseBook(ReadOnlyCourseBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveCourseBook(ReadOnlyCourseBook courseBook, Path filePath) throws IOException {
+        requireNonNull(courseBook);
+        requireNonNull(filePath);
+
+        BinarySnapshot.writeFile(filePath, MAGIC, encode(courseBook));
+    }
+
+    private static BinarySnapshot.Writer encode(ReadOnlyCourseBook courseBook) {
+        BinarySnapshot.StringTableWriter strings =
+                new BinarySnapshot.StringTableWriter(courseBook.getCourseList().size());
+        BinarySnapshot.Writer courses = new BinarySnapshot.Writer();
+        courses.writeVarInt(courseBook.getCourseList().size());
+        for (Course course : courseBook.getCourseList()) {
+            courses.writeVarInt(course.getCourseId().getNumber());
+            courses.writeVarInt(strings.indexOf(course.getName().fullName));
+            courses.writeVarInt(course.getTags().size());
+            for (Tag tag : course.getTags()) {
+                courses.writeVarInt(strings.indexOf(tag.tagName));
+            }
+            List<StudentId> studentIds = course.getEnrolledStudentIds();
+            courses.writeVarInt(studentIds.size());
+            int previous = 0;
+            for (StudentId studentId : studentIds) {
+                courses.writeSignedVarInt(studentId.getNumber() - previous);
+                previous = studentId.getNumber();
+            }
+        }
+
+        BinarySnapshot.Writer content = new BinarySnapshot.Writer();
+        strings.writeTo(content);
+        content.writeSection(courses);
+        return content;
+    }
+
+    private static CourseBook decode(BinarySnapshot.Reader content, List<Person> studentList)
+            throws IllegalValueException {
+        BinarySnapshot.StringTable strings = BinarySnapshot.StringTable.read(content);
+        CourseName[] names = new CourseName[strings.size()];
+        Tag[] tags = new Tag[strings.size()];
+        IntBitmap knownIds = new IntBitmap();
+        for (Person student : studentList) {
+            knownIds.add(student.getStudentId().getNumber());
+        }
+
+        BinarySnapshot.Reader section = content.readSection();
+        int count = section.readCount();
+        CourseBook courseBook = new CourseBook();
+        for (int i = 0; i < count; i++) {
+            CourseId courseId;
+            try {
+                courseId = CourseId.fromNumber(section.readVarInt());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(CourseId.MESSAGE_CONSTRAINTS);
+            }
+            CourseName name = strings.get(section.readVarInt(), names, CourseName::new);
+            int tagCount = section.readCount();
+            Set<Tag> courseTags = new HashSet<>();
+            for (int j = 0; j < tagCount; j++) {
+                courseTags.add(strings.get(section.readVarInt(), tags, Tag::new));
+            }
+            int studentCount = section.readCount();
+            List<StudentId> studentIds = new ArrayList<>(studentCount);
+            int number = 0;
+            for (int j = 0; j < studentCount; j++) {
+                number += section.readSignedVarInt();
+                if (!knownIds.contains(number)) {
+                    throw new IllegalValueException(MESSAGE_UNKNOWN_STUDENT);
+                }
+                studentIds.add(StudentId.fromNumber(number));
+            }
+
+            try {
+                courseBook.addCourse(new Course(name, courseId, studentIds, courseTags));
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+            } catch (DuplicateCourseIdException e) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_COURSE);
+            }
+        }
+        return courseBook;
+    }
+
+}
@@ -0,0 +1,376 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads and writes the layout shared by the binary address book and course book files.
+ *
+ * A file starts with a 4-byte magic number, which tells which book it holds, and a 4-byte format version, and ends
+ * with the CRC-32 of everything before it. In between, the data is made of 4-byte big-endian ints, unsigned LEB128
+ * variable-length ints ("varints"), strings as a varint byte length followed by their UTF-8 bytes, and sections as a
+ * 4-byte byte length followed by their content. Repeated strings are written once, to a string table section, and
+ * referred to by their index in it.
+ */
+final class BinarySnapshot {
+
+    /** The version of the format written, which is also the only version read. */
+    static final int VERSION = 1;
+
+    static final String MESSAGE_TRUNCATED = "Binary data file is truncated.";
+    static final String MESSAGE_CORRUPTED = "Binary data file is corrupted.";
+    static final String MESSAGE_WRONG_FILE = "Binary data file does not hold the expected data.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file has unsupported format version %d.";
+
+    private static final int HEADER_LENGTH = 8;
+    private static final int CHECKSUM_LENGTH = 4;
+
+    private BinarySnapshot() {}
+
+    /**
+     * Writes a file holding {@code content}, with the header for {@code magic} and the checksum, replacing any file
+     * at {@code filePath} only once it is written in full.
+     */
+    static void writeFile(Path filePath, int magic, Writer content) throws IOException {
+        Writer header = new Writer();
+        header.writeInt(magic);
+        header.writeInt(VERSION);
+        CRC32 checksum = new CRC32();
+        checksum.update(header.bytes, 0, header.size);
+        checksum.update(content.bytes, 0, content.size);
+        Writer trailer = new Writer();
+        trailer.writeInt((int) checksum.getValue());
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeAtomically(filePath, out -> {
+            out.write(header.bytes, 0, header.size);
+            out.write(content.bytes, 0, content.size);
+            out.write(trailer.bytes, 0, trailer.size);
+        });
+    }
+
+    /**
+     * Reads the file at {@code filePath}, checking its header against {@code magic} and its checksum, and returns a
+     * reader of its content.
+     *
+     * @throws IllegalValueException if the file is not a binary file for {@code magic} of this version, or is
+     *     truncated or corrupted.
+     */
+    static Reader readFile(Path filePath, int magic) throws IOException, IllegalValueException {
+        byte[] bytes = Files.readAllBytes(filePath);
+        if (bytes.length < HEADER_LENGTH + CHECKSUM_LENGTH) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+        int contentEnd = bytes.length - CHECKSUM_LENGTH;
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, contentEnd);
+        Reader file = new Reader(bytes, 0, bytes.length);
+        if (file.readInt() != magic) {
+            throw new IllegalValueException(MESSAGE_WRONG_FILE);
+        }
+        int version = file.readInt();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (new Reader(bytes, contentEnd, bytes.length).readInt() != (int) checksum.getValue()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return new Reader(bytes, HEADER_LENGTH, contentEnd);
+    }
+
+    /**
+     * Appends values to a growing byte array.
+     */
+    static final class Writer {
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        void writeInt(int value) {
+            ensureCapacity(4);
+            bytes[size++] = (byte) (value >>> 24);
+            bytes[size++] = (byte) (value >>> 16);
+            bytes[size++] = (byte) (value >>> 8);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeVarInt(int value) {
+            ensureCapacity(5);
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            bytes[size++] = (byte) remaining;
+        }
+
+        /**
+         * Writes {@code value} as a zigzag-encoded varint, which is short for values close to zero of either sign.
+         */
+        void writeSignedVarInt(int value) {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        void writeString(String value) {
+            int length = value.length();
+            ensureCapacity(5 + length);
+            int start = size;
+            writeVarInt(length);
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    // Not ASCII, so the UTF-8 byte length differs from the char count.
+                    size = start;
+                    writeEncodedString(value);
+                    return;
+                }
+                bytes[size++] = (byte) c;
+            }
+        }
+
+        private void writeEncodedString(String value) {
+            byte[] encoded = value.getBytes(UTF_8);
+            writeVarInt(encoded.length);
+            ensureCapacity(encoded.length);
+            System.arraycopy(encoded, 0, bytes, size, encoded.length);
+            size += encoded.length;
+        }
+
+        void writeSection(Writer section) {
+            writeInt(section.size);
+            writeBytes(section);
+        }
+
+        private void writeBytes(Writer other) {
+            ensureCapacity(other.size);
+            System.arraycopy(other.bytes, 0, bytes, size, other.size);
+            size += other.size;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (bytes.length - size < extra) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+
+    /**
+     * Reads values from part of a byte array, checking that each lies within it.
+     */
+    static final class Reader {
+        private final byte[] bytes;
+        private final int limit;
+        private int position;
+
+        private Reader(byte[] bytes, int position, int limit) {
+            this.bytes = bytes;
+            this.position = position;
+            this.limit = limit;
+        }
+
+        int readInt() throws IllegalValueException {
+            require(4);
+            int value = (bytes[position] & 0xFF) << 24
+                    | (bytes[position + 1] & 0xFF) << 16
+                    | (bytes[position + 2] & 0xFF) << 8
+                    | bytes[position + 3] & 0xFF;
+            position += 4;
+            return value;
+        }
+
+        int readVarInt() throws IllegalValueException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                require(1);
+                byte next = bytes[position++];
+                value |= (next & 0x7F) << shift;
+                if (next >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        /**
+         * Reads a value written by {@link Writer#writeSignedVarInt(int)}.
+         */
+        int readSignedVarInt() throws IllegalValueException {
+            int encoded = readVarInt();
+            return (encoded >>> 1) ^ -(encoded & 1);
+        }
+
+        /**
+         * Reads a varint that counts items of at least one byte each that follow it, checking that they can fit.
+         */
+        int readCount() throws IllegalValueException {
+            int count = readVarInt();
+            require(count);
+            return count;
+        }
+
+        String readString() throws IllegalValueException {
+            int length = readCount();
+            String value = new String(bytes, position, length, UTF_8);
+            position += length;
+            return value;
+        }
+
+        Reader readSection() throws IllegalValueException {
+            int length = readInt();
+            require(length);
+            Reader section = new Reader(bytes, position, position + length);
+            position += length;
+            return section;
+        }
+
+        private void require(int count) throws IllegalValueException {
+            if (count < 0 || limit - position < count) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+        }
+    }
+
+    /**
+     * Numbers distinct strings in the order they are first seen, to be written once to a string table section.
+     *
+     * The strings seen are found through an open-addressing hash table in which each slot packs a string's hash code
+     * with its index, rather than through a {@code HashMap}. Most names in a large address book are distinct, and a
+     * map entry and a boxed index for each of them, spread across the heap, made building the table the slowest part
+     * of a save. A string already in the table is only compared with the one being added if their hash codes match.
+     */
+    static final class StringTableWriter {
+        private long[] slots;
+        private String[] values;
+        private int size;
+        private final Writer strings = new Writer();
+
+        /**
+         * Creates a table for about {@code expectedSize} distinct strings.
+         */
+        StringTableWriter(int expectedSize) {
+            slots = new long[Integer.highestOneBit(Math.max(expectedSize, 4) * 2 - 1) << 1];
+            values = new String[Math.max(expectedSize, 4)];
+        }
+
+        /**
+         * Returns the index of {@code value} in the table, adding it if it is not there yet.
+         */
+        int indexOf(String value) {
+            int hash = value.hashCode();
+            int mask = slots.length - 1;
+            int slot = spread(hash) & mask;
+            for (long entry = slots[slot]; entry != 0; entry = slots[slot]) {
+                int index = (int) entry - 1;
+                if ((int) (entry >>> 32) == hash && values[index].equals(value)) {
+                    return index;
+                }
+                slot = (slot + 1) & mask;
+            }
+            int index = size++;
+            slots[slot] = toEntry(hash, index);
+            if (index == values.length) {
+                values = Arrays.copyOf(values, index * 2);
+            }
+            values[index] = value;
+            strings.writeString(value);
+            if (size * 2 > slots.length) {
+                grow();
+            }
+            return index;
+        }
+
+        void writeTo(Writer out) {
+            Writer count = new Writer();
+            count.writeVarInt(size);
+            out.writeInt(count.size + strings.size);
+            out.writeBytes(count);
+            out.writeBytes(strings);
+        }
+
+        private void grow() {
+            long[] oldSlots = slots;
+            slots = new long[oldSlots.length * 2];
+            int mask = slots.length - 1;
+            for (long entry : oldSlots) {
+                if (entry != 0) {
+                    int slot = spread((int) (entry >>> 32)) & mask;
+                    while (slots[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    slots[slot] = entry;
+                }
+            }
+        }
+
+        /**
+         * Returns a slot entry for the string with {@code hash} at {@code index}, which is never 0, the empty slot.
+         */
+        private static long toEntry(int hash, int index) {
+            return (long) hash << 32 | (index + 1);
+        }
+
+        /**
+         * Mixes the high bits of {@code hash} into the low bits that pick a slot, as similar strings such as names
+         * that differ in their last letter have hash codes that differ little.
+         */
+        private static int spread(int hash) {
+            int mixed = hash * 0x9E3779B9;
+            return mixed ^ (mixed >>> 16);
+        }
+    }
+
+    /**
+     * The strings of a string table section.
+     */
+    static final class StringTable {
+        private final String[] strings;
+
+        private StringTable(String[] strings) {
+            this.strings = strings;
+        }
+
+        static StringTable read(Reader in) throws IllegalValueException {
+            Reader section = in.readSection();
+            String[] strings = new String[section.readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = section.readString();
+            }
+            return new StringTable(strings);
+        }
+
+        int size() {
+            return strings.length;
+        }
+
+        /**
+         * Returns the string at {@code index} converted by {@code converter}, converting it only the first time it is
+         * asked for with {@code cache}, an array of {@link #size()} elements, so that repeated names and tags share
+         * one object.
+         *
+         * @throws IllegalValueException if there is no string at {@code index}, or {@code converter} rejects it.
+         */
+        <T> T get(int index, T[] cache, Function<String, T> converter) throws IllegalValueException {
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            T value = cache[index];
+            if (value == null) {
+                try {
+                    value = converter.apply(strings[index]);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalValueException(e.getMessage(), e);
+                }
+                cache[index] = value;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that saves to one storage, and reads from it or from another storage, in a different
+ * format, whichever was saved last. Switching formats thus carries the data over: it is read from the other format's
+ * file once, and saved in the new format from then on.
+ */
+public class ConvertingAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ConvertingAddressBookStorage.class);
+
+    private final AddressBookStorage target;
+    private final AddressBookStorage source;
+
+    /**
+     * Creates a storage that saves to {@code target}, and also reads from {@code source} if it was saved last.
+     */
+    public ConvertingAddressBookStorage(AddressBookStorage target, AddressBookStorage source) {
+        requireAllNonNull(target, source);
+        this.target = target;
+        this.source = source;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return target.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads from {@code filePath} in the target's format, or, if it is the target's own file, from the source instead
+     * if that was saved last.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            if (filePath.equals(target.getAddressBookFilePath())
+                    && FileUtil.isNewerThan(source.getAddressBookFilePath(), filePath)) {
+                logger.info("Converting address book data from " + source.getAddressBookFilePath()
+                        + " to be saved to " + filePath);
+                return source.readAddressBook();
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return target.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        target.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        target.saveAddressBook(addressBook, filePath);
+    }
+
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyCourseBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code CourseBookStorage} that saves to one storage, and reads from it or from another storage, in a different
+ * format, whichever was saved last. See {@link ConvertingAddressBookStorage}.
+ */
+public class ConvertingCourseBookStorage implements CourseBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ConvertingCourseBookStorage.class);
+
+    private final CourseBookStorage target;
+    private final CourseBookStorage source;
+
+    /**
+     * Creates a storage that saves to {@code target}, and also reads from {@code source} if it was saved last.
+     */
+    public ConvertingCourseBookStorage(CourseBookStorage target, CourseBookStorage source) {
+        requireAllNonNull(target, source);
+        this.target = target;
+        this.source = source;
+    }
+
+    @Override
+    public Path getCourseBookFilePath() {
+        return target.getCourseBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyCourseBook> readCourseBook(ObservableList<Person> studentList) throws DataLoadingException {
+        return readCourseBook(getCourseBookFilePath(), studentList);
+    }
+
+    /**
+     * Reads from {@code filePath} in the target's format, or, if it is the target's own file, from the source instead
+     * if that was saved last.
+     */
+    @Override
+    public Optional<ReadOnlyCourseBook> readCourseBook(Path filePath, ObservableList<Person> studentList)
+            throws DataLoadingException {
+        try {
+            if (filePath.equals(target.getCourseBookFilePath())
+                    && FileUtil.isNewerThan(source.getCourseBookFilePath(), filePath)) {
+                logger.info("Converting course book data from " + source.getCourseBookFilePath()
+                        + " to be saved to " + filePath);
+                return source.readCourseBook(studentList);
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return target.readCourseBook(filePath, studentList);
+    }
+
+    @Override
+    public void saveCourseBook(ReadOnlyCourseBook courseBook) throws IOException {
+        target.saveCourseBook(courseBook);
+    }
+
+    @Override
+    public void saveCourseBook(ReadOnlyCourseBook courseBook, Path filePath) throws IOException {
+        target.saveCourseBook(courseBook, filePath);
+    }
+
+}
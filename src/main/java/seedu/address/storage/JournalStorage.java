@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.CourseBook;
+
+/**
+ * Represents an append-only journal of the changes made to the address book and course book since they were last
+ * saved in full.
+ */
+public interface JournalStorage {
+
+    /**
+     * Returns the file path of the journal file.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Appends {@code changeSets} to the journal, in order, and forces them to the storage device before returning.
+     * None of them may be overflowed.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToJournal(List<ChangeSet> changeSets) throws IOException;
+
+    /**
+     * Makes the changes in the journal to {@code addressBook} and {@code courseBook}, which should hold the data as
+     * it was last saved in full, and returns the number of change sets made.
+     * A change set that cannot be read, such as one torn by a crash while it was being appended, ends the journal:
+     * it and everything after it are dropped from the journal.
+     *
+     * @throws DataLoadingException if the journal could not be read at all, or holds a change set that cannot be
+     *     made to the books, in which case the change sets before it have been made and the journal is unchanged.
+     */
+    int replayJournal(AddressBook addressBook, CourseBook courseBook) throws DataLoadingException;
+
+    /**
+     * Empties the journal, after the data has been saved in full.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void clearJournal() throws IOException;
+
+    /**
+     * Moves the journal to a new backup file next to it, where it is kept but no longer replayed or appended to, e.g.
+     * when the data it applies to could not be loaded. Returns the backup file, or null if the journal is empty.
+     *
+     * @throws IOException if there was any problem moving the file.
+     */
+    Path moveJournalAside() throws IOException;
+
+    /**
+     * Returns the number of change sets in the journal.
+     *
+     * @throws IOException if there was any problem reading the file.
+     */
+    int getJournalRecordCount() throws IOException;
+
+    /**
+     * Returns the size of the journal in bytes.
+     *
+     * @throws IOException if there was any problem reading the file.
+     */
+    long getJournalSize() throws IOException;
+}
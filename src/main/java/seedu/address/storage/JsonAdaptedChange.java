@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ModelChange.Kind;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Jackson-friendly version of {@link ModelChange}. Fields that the kind of change does not use are left out.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String UNKNOWN_KIND_MESSAGE_FORMAT = "Unknown kind of change: %s";
+
+    private final String kind;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedCourse course;
+    private final String studentId;
+    private final String courseId;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("kind") String kind, @JsonProperty("person") JsonAdaptedPerson person,
+                             @JsonProperty("course") JsonAdaptedCourse course,
+                             @JsonProperty("studentId") String studentId, @JsonProperty("courseId") String courseId) {
+        this.kind = kind;
+        this.person = person;
+        this.course = course;
+        this.studentId = studentId;
+        this.courseId = courseId;
+    }
+
+    /**
+     * Converts a given {@code ModelChange} into this class for Jackson use.
+     */
+    public JsonAdaptedChange(ModelChange source) {
+        kind = source.getKind().name();
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+        course = source.getCourse() == null ? null : new JsonAdaptedCourse(source.getCourse().toCourse());
+        studentId = source.getStudentId() == null ? null : source.getStudentId().getValue();
+        courseId = source.getCourseId() == null ? null : source.getCourseId().getValue();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code ModelChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public ModelChange toModelType() throws IllegalValueException {
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Kind.class.getSimpleName()));
+        }
+        Kind modelKind;
+        try {
+            modelKind = Kind.valueOf(kind);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(UNKNOWN_KIND_MESSAGE_FORMAT, kind));
+        }
+
+        return switch (modelKind) {
+        case ADD_PERSON -> ModelChange.addPerson(getPerson());
+        case SET_PERSON -> ModelChange.setPerson(getStudentId(), getPerson());
+        case REMOVE_PERSON -> ModelChange.removePerson(getStudentId());
+        case ADD_COURSE -> ModelChange.addCourse(getCourse().snapshot());
+        case SET_COURSE -> ModelChange.setCourse(getCourseId(), getCourse().snapshot());
+        case REMOVE_COURSE -> ModelChange.removeCourse(getCourseId());
+        case ENROLL -> ModelChange.enroll(getCourseId(), getStudentId());
+        case UNENROLL -> ModelChange.unenroll(getCourseId(), getStudentId());
+        };
+    }
+
+    private Person getPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Person.class.getSimpleName()));
+        }
+        return person.toModelType();
+    }
+
+    private Course getCourse() throws IllegalValueException {
+        if (course == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Course.class.getSimpleName()));
+        }
+        return course.toModelTypeUnchecked();
+    }
+
+    private StudentId getStudentId() throws IllegalValueException {
+        if (studentId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    StudentId.class.getSimpleName()));
+        }
+        if (!StudentId.isValidStudentId(studentId)) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+        return StudentId.of(studentId);
+    }
+
+    private CourseId getCourseId() throws IllegalValueException {
+        if (courseId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    CourseId.class.getSimpleName()));
+        }
+        if (!CourseId.isValidCourseId(courseId)) {
+            throw new IllegalValueException(CourseId.MESSAGE_CONSTRAINTS);
+        }
+        return CourseId.of(courseId);
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.ModelChange;
+
+/**
+ * Jackson-friendly version of {@link ChangeSet}, as written to one line of the journal.
+ */
+class JsonAdaptedChangeSet {
+
+    private final List<JsonAdaptedChange> changes = new ArrayList<>();
+    private final int studentIdHighWaterMark;
+
+    /**
+     * Constructs a {@code JsonAdaptedChangeSet} with the given changes and student id high-water mark.
+     */
+    @JsonCreator
+    public JsonAdaptedChangeSet(@JsonProperty("changes") List<JsonAdaptedChange> changes,
+                                @JsonProperty("studentIdHighWaterMark") int studentIdHighWaterMark) {
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+        this.studentIdHighWaterMark = studentIdHighWaterMark;
+    }
+
+    /**
+     * Converts a given {@code ChangeSet}, which must not be overflowed, into this class for Jackson use.
+     */
+    public JsonAdaptedChangeSet(ChangeSet source) {
+        changes.addAll(source.getChanges().stream().map(JsonAdaptedChange::new).toList());
+        studentIdHighWaterMark = source.getStudentIdHighWaterMark();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change set object into the model's {@code ChangeSet} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted changes.
+     */
+    public ChangeSet toModelType() throws IllegalValueException {
+        final List<ModelChange> modelChanges = new ArrayList<>(changes.size());
+        for (JsonAdaptedChange change : changes) {
+            modelChanges.add(change.toModelType());
+        }
+        return new ChangeSet(modelChanges, studentIdHighWaterMark);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -16,7 +18,6 @@ import seedu.address.model.course.CourseId;
 import seedu.address.model.course.CourseName;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -25,6 +26,7 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedCourse {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Course's %s field is missing!";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "Course roster contains duplicate student(s).";
 
     private final String name;
     private final String courseId;
@@ -64,6 +66,41 @@ class JsonAdaptedCourse {
      * @throws IllegalValueException if there were any data constraints violated in the adapted course.
      */
     public Course toModelType(ObservableList<Person> studentList) throws IllegalValueException {
+        return toModelType(getKnownIds(studentList));
+    }
+
+    /**
+     * Similar to {@link #toModelType(ObservableList)}, with the ids of the students in the list given as
+     * {@code knownIds}, so that they can be collected once for many courses.
+     */
+    Course toModelType(Set<StudentId> knownIds) throws IllegalValueException {
+        requireNonNull(knownIds);
+        return convert(knownIds);
+    }
+
+    /**
+     * Returns the ids of the students in {@code studentList}, as checked against by {@link #toModelType(Set)}.
+     */
+    static Set<StudentId> getKnownIds(List<Person> studentList) {
+        final Set<StudentId> knownIds = new HashSet<>();
+        for (Person student : studentList) {
+            knownIds.add(student.getStudentId());
+        }
+        return knownIds;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted course object into the model's {@code Course} object, without checking
+     * that the enrolled students exist, e.g. for a change replayed from the journal, whose students may be missing
+     * until the changes after it have been replayed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted course.
+     */
+    public Course toModelTypeUnchecked() throws IllegalValueException {
+        return convert(null);
+    }
+
+    private Course convert(Set<StudentId> knownIds) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
@@ -85,33 +122,37 @@ class JsonAdaptedCourse {
         if (!CourseId.isValidCourseId(courseId)) {
             throw new IllegalValueException(CourseId.MESSAGE_CONSTRAINTS);
         }
-        final CourseId modelCourseId = new CourseId(courseId);
-        final UniquePersonList modelStudents = getPeople(studentList);
+        final CourseId modelCourseId = CourseId.of(courseId);
+        final List<StudentId> modelStudentIds = getStudentIds(knownIds);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Course(modelName, modelCourseId, modelStudents, modelTags);
+        return new Course(modelName, modelCourseId, modelStudentIds, modelTags);
     }
 
-    private UniquePersonList getPeople(ObservableList<Person> studentList) throws IllegalValueException {
-        final UniquePersonList modelStudents = new UniquePersonList();
+    /**
+     * Converts the saved student ids, checking each against {@code knownIds} unless it is null.
+     *
+     * @throws IllegalValueException if an id is invalid or appears more than once
+     */
+    private List<StudentId> getStudentIds(Set<StudentId> knownIds) throws IllegalValueException {
+        final List<StudentId> modelStudentIds = new ArrayList<>(studentIds.size());
+        final Set<StudentId> seenIds = new HashSet<>();
         for (String id : studentIds) {
+            StudentId studentId;
             try {
-                StudentId studentId = new StudentId(id);
-                for (int i = 0; i < studentList.size(); i++) {
-                    Person student = studentList.get(i);
-                    if (student.isSameStudentId(studentId)) {
-                        modelStudents.add(student);
-                        break;
-                    }
-                    if (i == studentList.size() - 1) {
-                        throw new ItemNotFoundException("Student Id not found.");
-                    }
-                }
+                studentId = StudentId.of(id);
             } catch (IllegalArgumentException e) {
                 throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
             }
+            if (knownIds != null && !knownIds.contains(studentId)) {
+                throw new ItemNotFoundException("Student Id not found.");
+            }
+            if (!seenIds.add(studentId)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+            }
+            modelStudentIds.add(studentId);
         }
-        return modelStudents;
+        return modelStudentIds;
     }
 
 }
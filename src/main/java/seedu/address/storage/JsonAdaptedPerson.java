@@ -91,7 +91,7 @@ class JsonAdaptedPerson {
         }
         final StudentId modelStudentId;
         try {
-            modelStudentId = new StudentId(studentId);
+            modelStudentId = StudentId.of(studentId);
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
         }
@@ -48,14 +48,8 @@ public class JsonCourseBookStorage implements CourseBookStorage {
                                                        ObservableList<Person> studentList) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableCourseBook> jsonCourseBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableCourseBook.class);
-        if (!jsonCourseBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonCourseBook.get().toModelType(studentList));
+            return JsonUtil.readJsonFile(filePath, parser -> JsonSerializableCourseBook.read(parser, studentList));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -77,7 +71,7 @@ public class JsonCourseBookStorage implements CourseBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableCourseBook(courseBook), filePath);
+        JsonUtil.saveJsonFile(generator -> JsonSerializableCourseBook.write(courseBook, generator), filePath);
     }
 
 }
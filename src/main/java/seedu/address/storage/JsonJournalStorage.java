@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.CourseBook;
+
+/**
+ * A class to access the journal stored as a JSON Lines file on the hard disk, one change set per line.
+ *
+ * Appending costs time in proportion to the size of the change sets appended, not of the data, and the change sets
+ * handed over in one call are forced to the device together, so that a burst of commands costs one sync.
+ */
+public class JsonJournalStorage implements JournalStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalStorage.class);
+
+    private final Path filePath;
+    private int recordCount = -1;
+
+    public JsonJournalStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void appendToJournal(List<ChangeSet> changeSets) throws IOException {
+        requireAllNonNull(changeSets);
+        if (changeSets.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (ChangeSet changeSet : changeSets) {
+            lines.append(JsonUtil.toJsonLine(new JsonAdaptedChangeSet(changeSet))).append('\n');
+        }
+        int count = getJournalRecordCount();
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(lines.toString());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        recordCount = count + changeSets.size();
+    }
+
+    @Override
+    public int replayJournal(AddressBook addressBook, CourseBook courseBook) throws DataLoadingException {
+        requireAllNonNull(addressBook, courseBook);
+        if (!FileUtil.isFileExists(filePath)) {
+            recordCount = 0;
+            return 0;
+        }
+
+        long validLength = 0;
+        int count = 0;
+        boolean isTorn = false;
+        boolean isNewlineMissing = false;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int next;
+            do {
+                next = in.read();
+                if (next != -1 && next != '\n') {
+                    line.write(next);
+                    continue;
+                }
+                if (line.size() > 0) {
+                    if (!replayLine(line.toString(StandardCharsets.UTF_8), addressBook, courseBook)) {
+                        isTorn = true;
+                        break;
+                    }
+                    count++;
+                    isNewlineMissing = next == -1;
+                }
+                validLength += line.size() + (next == -1 ? 0 : 1);
+                line.reset();
+            } while (next != -1);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        // Later appends must start on a line of their own.
+        try {
+            if (isTorn) {
+                logger.warning("Dropping the unreadable end of " + filePath + " after " + count + " change set(s)");
+                try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+                    channel.truncate(validLength);
+                    channel.force(false);
+                }
+            } else if (isNewlineMissing) {
+                Files.writeString(filePath, "\n", StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        recordCount = count;
+        return count;
+    }
+
+    /**
+     * Makes the change set on {@code line} to the books, and returns false if it cannot be read.
+     *
+     * @throws DataLoadingException if the change set can be read but not made to the books.
+     */
+    private boolean replayLine(String line, AddressBook addressBook, CourseBook courseBook)
+            throws DataLoadingException {
+        ChangeSet changeSet;
+        try {
+            changeSet = JsonUtil.fromJsonString(line, JsonAdaptedChangeSet.class).toModelType();
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Unreadable change set in " + filePath + ": " + e.getMessage());
+            return false;
+        }
+        try {
+            changeSet.applyTo(addressBook, courseBook);
+        } catch (RuntimeException e) {
+            logger.warning("Change set in " + filePath + " conflicts with the data: " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        Files.deleteIfExists(filePath);
+        recordCount = 0;
+    }
+
+    @Override
+    public Path moveJournalAside() throws IOException {
+        if (!FileUtil.isFileExists(filePath) || Files.size(filePath) == 0) {
+            return null;
+        }
+        Path backupPath = filePath.resolveSibling(filePath.getFileName() + "." + System.currentTimeMillis() + ".bak");
+        Files.move(filePath, backupPath);
+        recordCount = 0;
+        return backupPath;
+    }
+
+    @Override
+    public int getJournalRecordCount() throws IOException {
+        if (recordCount < 0) {
+            recordCount = countLines();
+        }
+        return recordCount;
+    }
+
+    private int countLines() throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return 0;
+        }
+        int count = 0;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            for (int next = in.read(); next != -1; next = in.read()) {
+                if (next == '\n') {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long getJournalSize() throws IOException {
+        return FileUtil.isFileExists(filePath) ? Files.size(filePath) : 0;
+    }
+}
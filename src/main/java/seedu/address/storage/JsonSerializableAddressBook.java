@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,8 +8,13 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -22,13 +28,17 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final Integer studentIdHighWaterMark;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and student ID high-water mark.
+     * The high-water mark may be absent in files saved by older versions.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                       @JsonProperty("studentIdHighWaterMark") Integer studentIdHighWaterMark) {
         this.persons.addAll(persons);
+        this.studentIdHighWaterMark = studentIdHighWaterMark;
     }
 
     /**
@@ -38,6 +48,7 @@ class JsonSerializableAddressBook {
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        studentIdHighWaterMark = source.getStudentIdHighWaterMark();
     }
 
     /**
@@ -48,13 +59,67 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            addPerson(addressBook, jsonAdaptedPerson);
+        }
+        if (studentIdHighWaterMark != null) {
+            addressBook.setStudentIdHighWaterMark(studentIdHighWaterMark);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book in this class's JSON format from {@code parser}, converting each person as it is parsed,
+     * without building the whole adapted address book first.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        Integer studentIdHighWaterMark = null;
+        boolean hasPersons = false;
+        JsonUtil.startObject(parser);
+        for (String field = JsonUtil.nextField(parser); field != null; field = JsonUtil.nextField(parser)) {
+            switch (field) {
+            case "persons" -> {
+                JsonUtil.readArray(parser, JsonAdaptedPerson.class, person -> addPerson(addressBook, person));
+                hasPersons = true;
+            }
+            case "studentIdHighWaterMark" -> studentIdHighWaterMark = parser.currentToken() == JsonToken.VALUE_NULL
+                    ? null : parser.getIntValue();
+            default -> parser.skipChildren();
             }
-            addressBook.addPerson(person);
+        }
+        if (!hasPersons) {
+            throw new JsonParseException(parser, "Missing field \"persons\"");
+        }
+        // Set after the persons are added, wherever it is in the file, as it accounts for their ids.
+        if (studentIdHighWaterMark != null) {
+            addressBook.setStudentIdHighWaterMark(studentIdHighWaterMark);
         }
         return addressBook;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in this class's JSON format, converting one person at a time.
+     */
+    static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeNumberField("studentIdHighWaterMark", source.getStudentIdHighWaterMark());
+        generator.writeEndObject();
+    }
+
+    private static void addPerson(AddressBook addressBook, JsonAdaptedPerson jsonAdaptedPerson)
+            throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
 }
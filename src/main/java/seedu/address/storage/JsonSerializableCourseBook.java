@@ -1,20 +1,27 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.CourseBook;
 import seedu.address.model.ReadOnlyCourseBook;
 import seedu.address.model.course.Course;
 import seedu.address.model.course.exceptions.DuplicateCourseIdException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 
 /**
  * An Immutable CourseBook that is serializable to JSON format.
@@ -50,18 +57,64 @@ class JsonSerializableCourseBook {
      */
     public CourseBook toModelType(ObservableList<Person> studentList) throws IllegalValueException {
         CourseBook courseBook = new CourseBook();
+        Set<StudentId> knownIds = JsonAdaptedCourse.getKnownIds(studentList);
         for (JsonAdaptedCourse jsonAdaptedCourse : courses) {
-            Course course = jsonAdaptedCourse.toModelType(studentList);
-            if (courseBook.hasCourse(course)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_COURSE);
+            addCourse(courseBook, jsonAdaptedCourse, knownIds);
+        }
+        return courseBook;
+    }
+
+    /**
+     * Reads a course book in this class's JSON format from {@code parser}, converting each course as it is parsed,
+     * without building the whole adapted course book first.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static CourseBook read(JsonParser parser, ObservableList<Person> studentList)
+            throws IOException, IllegalValueException {
+        CourseBook courseBook = new CourseBook();
+        Set<StudentId> knownIds = JsonAdaptedCourse.getKnownIds(studentList);
+        boolean hasCourses = false;
+        JsonUtil.startObject(parser);
+        for (String field = JsonUtil.nextField(parser); field != null; field = JsonUtil.nextField(parser)) {
+            switch (field) {
+            case "courses" -> {
+                JsonUtil.readArray(parser, JsonAdaptedCourse.class, course -> addCourse(courseBook, course, knownIds));
+                hasCourses = true;
             }
-            try {
-                courseBook.addCourse(course);
-            } catch (DuplicateCourseIdException e) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_COURSE);
+            default -> parser.skipChildren();
             }
         }
+        if (!hasCourses) {
+            throw new JsonParseException(parser, "Missing field \"courses\"");
+        }
         return courseBook;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in this class's JSON format, converting one course at a time.
+     */
+    static void write(ReadOnlyCourseBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("courses");
+        for (Course course : source.getCourseList()) {
+            generator.writeObject(new JsonAdaptedCourse(course));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void addCourse(CourseBook courseBook, JsonAdaptedCourse jsonAdaptedCourse,
+                                  Set<StudentId> knownIds) throws IllegalValueException {
+        Course course = jsonAdaptedCourse.toModelType(knownIds);
+        if (courseBook.hasCourse(course)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_COURSE);
+        }
+        try {
+            courseBook.addCourse(course);
+        } catch (DuplicateCourseIdException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_COURSE);
+        }
+    }
+
 }
@@ -16,6 +16,8 @@ import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * A book is only written if its version differs from that of the data last written to the same file through this
+ * manager, so saving after a command that changed nothing costs nothing.
  */
 public class StorageManager implements Storage {
 
@@ -23,6 +25,8 @@ public class StorageManager implements Storage {
     private final AddressBookStorage addressBookStorage;
     private final CourseBookStorage courseBookStorage;
     private final UserPrefsStorage userPrefsStorage;
+    private final SavedVersion savedAddressBook = new SavedVersion();
+    private final SavedVersion savedCourseBook = new SavedVersion();
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -77,8 +81,13 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (savedAddressBook.isSaved(filePath, addressBook.getVersion())) {
+            logger.fine("Address book unchanged, not writing to data file: " + filePath);
+            return;
+        }
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        savedAddressBook.set(filePath, addressBook.getVersion());
     }
 
     // ================ CourseBook methods ==============================
@@ -107,8 +116,30 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveCourseBook(ReadOnlyCourseBook courseBook, Path filePath) throws IOException {
+        if (savedCourseBook.isSaved(filePath, courseBook.getVersion())) {
+            logger.fine("Course book unchanged, not writing to data file: " + filePath);
+            return;
+        }
         logger.fine("Attempting to write to data file: " + filePath);
         courseBookStorage.saveCourseBook(courseBook, filePath);
+        savedCourseBook.set(filePath, courseBook.getVersion());
+    }
+
+    /**
+     * The file that a book was last written to, and the version of the book that was written.
+     */
+    private static class SavedVersion {
+        private Path filePath;
+        private long version;
+
+        synchronized boolean isSaved(Path filePath, long version) {
+            return filePath.equals(this.filePath) && version == this.version;
+        }
+
+        synchronized void set(Path filePath, long version) {
+            this.filePath = filePath;
+            this.version = version;
+        }
     }
 
 }
@@ -1,8 +1,15 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,18 +24,23 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+    private final ContextMenu suggestions = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, text) -> updateSuggestions(text));
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleTabPressed);
     }
 
     /**
@@ -49,6 +61,47 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Completes the word being typed with the first suggestion when Tab is pressed while suggestions are shown.
+     */
+    private void handleTabPressed(KeyEvent event) {
+        if (event.getCode() != KeyCode.TAB || suggestions.getItems().isEmpty()) {
+            return;
+        }
+        acceptCompletion(suggestions.getItems().get(0).getText());
+        event.consume();
+    }
+
+    /**
+     * Lists the completions of the word being typed at the end of {@code text} below the command box.
+     */
+    private void updateSuggestions(String text) {
+        List<String> completions = commandCompleter.getCompletions(text);
+        suggestions.getItems().clear();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(unused -> acceptCompletion(completion));
+            suggestions.getItems().add(item);
+        }
+
+        if (completions.isEmpty() || commandTextField.getScene() == null
+                || commandTextField.getScene().getWindow() == null) {
+            suggestions.hide();
+        } else if (!suggestions.isShowing()) {
+            suggestions.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Replaces the word being typed with {@code completion}, followed by a space.
+     */
+    private void acceptCompletion(String completion) {
+        String text = commandTextField.getText();
+        int wordStart = Math.max(text.lastIndexOf(' '), text.lastIndexOf('/')) + 1;
+        commandTextField.setText(text.substring(0, wordStart) + completion + " ");
+        commandTextField.positionCaret(commandTextField.getText().length());
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +135,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests completions for a partly typed command.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the completions of the word being typed at the end of {@code commandText}, best first.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String commandText);
+    }
+
 }
@@ -1,6 +1,5 @@
 package seedu.address.ui;
 
-import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -37,10 +36,9 @@ public class CourseCard extends UiPart<Region> {
         this.course = course;
         id.setText(displayedIndex + ". ");
         name.setText(course.getName().fullName);
-        courseIdValue.setText(course.getCourseId().value);
+        courseIdValue.setText(course.getCourseId().getValue());
 
         courseSizeLabel.setText("Student(s) enrolled:");
-        courseSizeValue.textProperty().bind(
-                Bindings.size(course.getStudentList().asUnmodifiableObservableList()).asString());
+        courseSizeValue.textProperty().bind(course.studentCountProperty().asString());
     }
 }
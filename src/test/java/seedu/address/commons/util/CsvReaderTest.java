@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRow_plainFields_splitsOnDelimiter() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b,c\nd,,f"), ',');
+
+        assertEquals(List.of("a", "b", "c"), reader.readRow());
+        assertEquals(1, reader.getRowLineNumber());
+        assertEquals(List.of("d", "", "f"), reader.readRow());
+        assertEquals(2, reader.getRowLineNumber());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_quotedFields_keepsDelimitersQuotesAndLineBreaks() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"a,b\",\"say \"\"hi\"\"\"\n\"x\ny\",z\nlast,row"), ',');
+
+        assertEquals(List.of("a,b", "say \"hi\""), reader.readRow());
+        assertEquals(List.of("x\ny", "z"), reader.readRow());
+        assertEquals(List.of("last", "row"), reader.readRow());
+        assertEquals(4, reader.getRowLineNumber());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_mixedLineEndings_endsRowsAtEach() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a\tb\r\nc\td\re\tf\n"), '\t');
+
+        assertEquals(List.of("a", "b"), reader.readRow());
+        assertEquals(List.of("c", "d"), reader.readRow());
+        assertEquals(List.of("e", "f"), reader.readRow());
+        assertEquals(3, reader.getRowLineNumber());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_blankLine_returnsSingleEmptyField() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a\n\nb"), ',');
+
+        assertEquals(List.of("a"), reader.readRow());
+        assertEquals(List.of(""), reader.readRow());
+        assertEquals(List.of("b"), reader.readRow());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_unterminatedQuote_throwsIoException() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("ok\n\"never closed,x"), ',');
+
+        assertEquals(List.of("ok"), reader.readRow());
+        assertThrows(IOException.class, reader::readRow);
+    }
+
+    @Test
+    public void readRow_unterminatedQuote_resumesAtNextLine() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("ok\n\"never closed,x\nnext,row\r\nlast"), ',');
+
+        assertEquals(List.of("ok"), reader.readRow());
+        assertThrows(CsvReader.MalformedRowException.class, reader::readRow);
+        assertEquals(2, reader.getRowLineNumber());
+        assertEquals(List.of("next", "row"), reader.readRow());
+        assertEquals(3, reader.getRowLineNumber());
+        assertEquals(List.of("last"), reader.readRow());
+        assertEquals(4, reader.getRowLineNumber());
+        assertNull(reader.readRow());
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void writeRow_plainFields_writesThemUnquoted() throws Exception {
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output, ',')) {
+            writer.writeRow(List.of("a", "b c", ""));
+            writer.writeRow(List.of("d"));
+        }
+
+        assertEquals("a,b c,\nd\n", output.toString());
+    }
+
+    @Test
+    public void writeRow_specialFields_quotesOnlyThose() throws Exception {
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output, '\t')) {
+            writer.writeRow(List.of("a,b", "tab\there", "say \"hi\"", "two\nlines"));
+        }
+
+        assertEquals("a,b\t\"tab\there\"\t\"say \"\"hi\"\"\"\t\"two\nlines\"\n", output.toString());
+    }
+
+    @Test
+    public void writeRow_readBackByCsvReader_returnsSameFields() throws Exception {
+        List<String> first = List.of("plain", "with,comma", "\"quoted\"", "line\r\nbreak");
+        List<String> second = List.of("", "last");
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output, ',')) {
+            writer.writeRow(first);
+            writer.writeRow(second);
+        }
+
+        CsvReader reader = new CsvReader(new StringReader(output.toString()), ',');
+        assertEquals(first, reader.readRow());
+        assertEquals(second, reader.readRow());
+        assertNull(reader.readRow());
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class FuzzyWordIndexTest {
+
+    @Test
+    public void distance() {
+        assertEquals(0, FuzzyWordIndex.distance("kurz", "kurz", 2));
+        assertEquals(1, FuzzyWordIndex.distance("kurz", "kunz", 2));
+        assertEquals(2, FuzzyWordIndex.distance("jmaes", "james", 2));
+        assertEquals(3, FuzzyWordIndex.distance("alice", "bob", 2));
+        assertEquals(3, FuzzyWordIndex.distance("", "abcdef", 2));
+        assertEquals(3, FuzzyWordIndex.distance("kitten", "sitting", 3));
+    }
+
+    @Test
+    public void search_typos_rankedByKeywordsThenDistance() {
+        FuzzyWordIndex index = new FuzzyWordIndex();
+        index.add(1, "Alice Pauline");
+        index.add(2, "Benson Meier");
+        index.add(3, "Elle Meyer");
+        index.add(4, "Carl Kurz");
+
+        assertEquals(List.of(4), index.search(List.of("KURTZ"), 10));
+        assertEquals(List.of(3), index.search(List.of("meyr"), 10));
+        assertEquals(List.of(2, 3), index.search(List.of("meiyer"), 10));
+        assertEquals(List.of(3, 1, 2), index.search(List.of("meiyer", "alic", "ele"), 10));
+        assertEquals(List.of(3, 1), index.search(List.of("meyer", "ele", "paulin"), 2));
+        assertEquals(List.of(), index.search(List.of("zz", ""), 10));
+        assertThrows(IllegalArgumentException.class, () -> index.search(List.of("kurz"), 0));
+    }
+
+    @Test
+    public void addRemove_keepsIndexInSync() {
+        FuzzyWordIndex index = new FuzzyWordIndex();
+        index.add(1, "Alice Pauline");
+        index.add(1, "Alice Tan");
+        assertEquals(List.of(), index.search(List.of("pauline"), 10));
+        assertEquals(List.of(1), index.search(List.of("tan"), 10));
+
+        index.remove(1);
+        assertEquals(List.of(), index.search(List.of("alice"), 10));
+        index.add(2, "Alice Lim");
+        assertEquals(List.of(2), index.search(List.of("alice"), 10));
+    }
+
+    @Test
+    public void search_randomNamesWithRemovals_matchesBruteForce() {
+        Random random = new Random(2103);
+        String alphabet = "abcdefg";
+        Map<Integer, String> names = new HashMap<>();
+        FuzzyWordIndex index = new FuzzyWordIndex();
+        for (int id = 0; id < 600; id++) {
+            String name = randomString(random, alphabet, 1 + random.nextInt(7)) + " "
+                    + randomString(random, alphabet, 1 + random.nextInt(7));
+            names.put(id, name);
+            index.add(id, name);
+        }
+        // Removing most names leaves enough unused words behind to make the tree rebuild itself.
+        for (int id = 0; id < 500; id++) {
+            names.remove(id);
+            index.remove(id);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            List<String> keywords = List.of(randomString(random, alphabet, 1 + random.nextInt(7)),
+                    randomString(random, alphabet, 1 + random.nextInt(7)));
+            int limit = 1 + random.nextInt(15);
+            assertEquals(bruteForceSearch(names, keywords, limit), index.search(keywords, limit), keywords.toString());
+        }
+    }
+
+    private static List<Integer> bruteForceSearch(Map<Integer, String> names, List<String> keywords, int limit) {
+        Map<Integer, int[]> matches = new HashMap<>();
+        for (Map.Entry<Integer, String> entry : names.entrySet()) {
+            for (String keyword : keywords) {
+                int bound = FuzzyWordIndex.maxDistance(keyword);
+                int best = bound + 1;
+                for (String word : entry.getValue().split(" ")) {
+                    best = Math.min(best, FuzzyWordIndex.distance(keyword, word, bound));
+                }
+                if (best <= bound) {
+                    int[] match = matches.computeIfAbsent(entry.getKey(), unused -> new int[2]);
+                    match[0]++;
+                    match[1] += best;
+                }
+            }
+        }
+        List<Integer> ids = new ArrayList<>(matches.keySet());
+        ids.sort(Comparator.comparingInt((Integer id) -> -matches.get(id)[0])
+                .thenComparingInt(id -> matches.get(id)[1])
+                .thenComparingInt(id -> id));
+        return ids.subList(0, Math.min(limit, ids.size()));
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
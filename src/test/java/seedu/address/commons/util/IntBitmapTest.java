@@ -0,0 +1,167 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntBitmapTest {
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IntBitmap().add(-1));
+    }
+
+    @Test
+    public void addRemoveContains_sparseValues_success() {
+        IntBitmap bitmap = new IntBitmap();
+        assertTrue(bitmap.add(5));
+        assertTrue(bitmap.add(70000));
+        assertFalse(bitmap.add(5));
+        assertTrue(bitmap.contains(5));
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(6));
+        assertEquals(2, bitmap.cardinality());
+
+        assertTrue(bitmap.remove(5));
+        assertFalse(bitmap.remove(5));
+        assertFalse(bitmap.contains(5));
+        assertArrayEquals(new int[] {70000}, bitmap.toArray());
+    }
+
+    @Test
+    public void addRemove_denseValues_convertsBetweenRepresentations() {
+        IntBitmap bitmap = new IntBitmap();
+        for (int i = 0; i < 10000; i++) {
+            bitmap.add(i * 2);
+        }
+        assertEquals(10000, bitmap.cardinality());
+        assertTrue(bitmap.contains(19998));
+        assertFalse(bitmap.contains(19999));
+
+        for (int i = 0; i < 9000; i++) {
+            bitmap.remove(i * 2);
+        }
+        IntBitmap expected = new IntBitmap();
+        for (int i = 9000; i < 10000; i++) {
+            expected.add(i * 2);
+        }
+        assertEquals(expected, bitmap);
+        assertEquals(expected.hashCode(), bitmap.hashCode());
+    }
+
+    @Test
+    public void setOperations_matchBitSet() {
+        Random random = new Random(2103);
+        IntBitmap sparse = new IntBitmap();
+        IntBitmap dense = new IntBitmap();
+        BitSet sparseBits = new BitSet();
+        BitSet denseBits = new BitSet();
+        for (int i = 0; i < 3000; i++) {
+            int value = random.nextInt(200000);
+            sparse.add(value);
+            sparseBits.set(value);
+        }
+        for (int i = 0; i < 60000; i++) {
+            int value = random.nextInt(100000);
+            dense.add(value);
+            denseBits.set(value);
+        }
+
+        BitSet expectedAnd = (BitSet) sparseBits.clone();
+        expectedAnd.and(denseBits);
+        BitSet expectedOr = (BitSet) sparseBits.clone();
+        expectedOr.or(denseBits);
+        BitSet expectedAndNot = (BitSet) denseBits.clone();
+        expectedAndNot.andNot(sparseBits);
+
+        assertArrayEquals(expectedAnd.stream().toArray(), sparse.and(dense).toArray());
+        assertArrayEquals(expectedAnd.stream().toArray(), dense.and(sparse).toArray());
+        assertArrayEquals(expectedOr.stream().toArray(), sparse.or(dense).toArray());
+        assertArrayEquals(expectedAndNot.stream().toArray(), dense.andNot(sparse).toArray());
+        assertEquals(sparse.or(dense), dense.or(sparse));
+    }
+
+    @Test
+    public void setOperations_doNotModifyOperands() {
+        IntBitmap first = IntBitmap.of(1, 2, 3);
+        IntBitmap second = IntBitmap.of(3, 4);
+        first.or(second).add(10);
+        first.and(second).add(11);
+        first.andNot(second).add(12);
+        assertEquals(IntBitmap.of(1, 2, 3), first);
+        assertEquals(IntBitmap.of(3, 4), second);
+    }
+
+    @Test
+    public void firstAndLast() {
+        assertEquals(-1, new IntBitmap().first());
+        assertEquals(-1, new IntBitmap().last());
+        assertEquals(3, IntBitmap.of(70000, 3, 9).first());
+        assertEquals(70000, IntBitmap.of(70000, 3, 9).last());
+
+        IntBitmap dense = new IntBitmap();
+        for (int i = 100; i < 6000; i++) {
+            dense.add(i);
+        }
+        assertEquals(100, dense.first());
+        assertEquals(5999, dense.last());
+    }
+
+    @Test
+    public void nextAbsent() {
+        IntBitmap bitmap = IntBitmap.of(0, 1, 2, 4);
+        assertEquals(3, bitmap.nextAbsent(0));
+        assertEquals(5, bitmap.nextAbsent(4));
+        assertEquals(7, bitmap.nextAbsent(7));
+
+        IntBitmap full = new IntBitmap();
+        for (int i = 0; i < 65536; i++) {
+            full.add(i);
+        }
+        assertEquals(65536, full.nextAbsent(1));
+        full.remove(40000);
+        assertEquals(40000, full.nextAbsent(1));
+    }
+
+    @Test
+    public void nextValue() {
+        IntBitmap bitmap = IntBitmap.of(2, 4, 70000);
+        assertEquals(2, bitmap.nextValue(0));
+        assertEquals(4, bitmap.nextValue(3));
+        assertEquals(70000, bitmap.nextValue(5));
+        assertEquals(-1, bitmap.nextValue(70001));
+
+        IntBitmap dense = new IntBitmap();
+        for (int i = 0; i < 6000; i += 2) {
+            dense.add(i);
+        }
+        dense.add(200000);
+        assertEquals(1000, dense.nextValue(999));
+        assertEquals(200000, dense.nextValue(5999));
+    }
+
+    @Test
+    public void equals() {
+        IntBitmap bitmap = IntBitmap.of(1, 100, 100000);
+
+        // same values -> returns true
+        assertEquals(IntBitmap.of(100000, 100, 1), bitmap);
+
+        // same object -> returns true
+        assertEquals(bitmap, bitmap);
+
+        // null -> returns false
+        assertNotEquals(null, bitmap);
+
+        // different values -> returns false
+        assertNotEquals(IntBitmap.of(1, 100), bitmap);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void matches_anyKeyword() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("Kurz", "ELLE", "he"));
+        assertTrue(matcher.matches("carl kurz"));
+        assertTrue(matcher.matches("elle meyer"));
+        assertTrue(matcher.matches("shelley"));
+        assertFalse(matcher.matches("alice pauline"));
+    }
+
+    @Test
+    public void matches_overlappingKeywords() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("abcd", "bce"));
+        assertTrue(matcher.matches("xabce"));
+        assertFalse(matcher.matches("abcbd"));
+    }
+
+    @Test
+    public void matches_noOrEmptyKeywords() {
+        assertFalse(new KeywordMatcher(List.of()).matches("alice"));
+        assertTrue(new KeywordMatcher(List.of("")).matches("alice"));
+    }
+
+    @Test
+    public void matches_randomKeywords_matchesContains() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 200; round++) {
+            List<String> keywords = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(4); i++) {
+                keywords.add(randomString(random, 1 + random.nextInt(4)));
+            }
+            KeywordMatcher matcher = new KeywordMatcher(keywords);
+            String key = randomString(random, random.nextInt(20));
+            boolean expected = keywords.stream().anyMatch(key::contains);
+            assertEquals(expected, matcher.matches(key), keywords + " in " + key);
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class NgramIndexTest {
+
+    @Test
+    public void search_shortAndLongKeywords_caseInsensitive() {
+        NgramIndex index = new NgramIndex();
+        index.add(1, "Alice Pauline");
+        index.add(2, "Benson Meier");
+        index.add(3, "Carl Kurz");
+
+        assertEquals(IntBitmap.of(1), index.search("PAUL"));
+        assertEquals(IntBitmap.of(2, 3), index.search("r"));
+        assertEquals(IntBitmap.of(1, 2), index.search("n m").or(index.search("ice")));
+        assertEquals(IntBitmap.of(), index.search("Pauline Meier"));
+        assertEquals(IntBitmap.of(1, 2, 3), index.search(""));
+        assertEquals(IntBitmap.of(1, 3), index.searchAny(List.of("alice", "kurz")));
+    }
+
+    @Test
+    public void addRemove_keepsIndexInSync() {
+        NgramIndex index = new NgramIndex();
+        index.add(1, "Alice Pauline");
+        index.add(1, "Alice Tan");
+        assertEquals(IntBitmap.of(), index.search("pauline"));
+        assertEquals(IntBitmap.of(1), index.search("tan"));
+
+        index.remove(1);
+        assertTrue(index.search("alice").isEmpty());
+        assertTrue(index.search("").isEmpty());
+    }
+
+    @Test
+    public void search_randomNames_matchesSubstringScan() {
+        Random random = new Random(2103);
+        String alphabet = "abcde ";
+        String[] names = new String[500];
+        NgramIndex index = new NgramIndex();
+        for (int id = 0; id < names.length; id++) {
+            names[id] = randomString(random, alphabet, 1 + random.nextInt(12)).toUpperCase(Locale.ROOT);
+            index.add(id, names[id]);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String keyword = randomString(random, alphabet, 1 + random.nextInt(6));
+            IntBitmap expected = new IntBitmap();
+            for (int id = 0; id < names.length; id++) {
+                if (StringUtil.toSearchKey(names[id]).contains(StringUtil.toSearchKey(keyword))) {
+                    expected.add(id);
+                }
+            }
+            assertEquals(expected, index.search(keyword), keyword);
+        }
+    }
+
+    @Test
+    public void score() {
+        NgramIndex index = new NgramIndex();
+        index.add(1, "Ann Lee");
+        assertEquals(3, index.score(1, List.of("ann")));
+        assertEquals(2, index.score(1, List.of("le")));
+        assertEquals(1, index.score(1, List.of("nn")));
+        assertEquals(4, index.score(1, List.of("ann", "ee")));
+        assertEquals(0, index.score(1, List.of("bob")));
+        assertEquals(0, index.score(2, List.of("ann")));
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
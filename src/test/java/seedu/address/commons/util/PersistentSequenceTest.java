@@ -0,0 +1,92 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentSequenceTest {
+
+    @Test
+    public void empty() {
+        PersistentSequence<String> sequence = PersistentSequence.empty();
+        assertTrue(sequence.isEmpty());
+        assertEquals(0, sequence.size());
+        assertNull(sequence.get(0));
+        assertSame(sequence, sequence.without(0));
+    }
+
+    @Test
+    public void of_keepsOrderUnderPositionKeys() {
+        PersistentSequence<String> sequence = PersistentSequence.of(List.of("a", "b", "c", "d"));
+        assertEquals(List.of("a", "b", "c", "d"), sequence.toList());
+        assertEquals("c", sequence.get(2));
+        assertEquals(List.of("a", "b", "d", "e"), sequence.without(2).with(10, "e").toList());
+    }
+
+    @Test
+    public void of_givenKeys_storesEachValueUnderItsKey() {
+        PersistentSequence<String> sequence = PersistentSequence.of(new long[] {3, 7, 20}, List.of("a", "b", "c"));
+        assertEquals(List.of("a", "b", "c"), sequence.toList());
+        assertEquals("b", sequence.get(7));
+        assertNull(sequence.get(1));
+        assertEquals(List.of("a", "x", "b", "c"), sequence.with(5, "x").toList());
+
+        assertThrows(IllegalArgumentException.class, () -> PersistentSequence.of(new long[] {2, 1}, List.of("a", "b")));
+        assertThrows(IllegalArgumentException.class, () -> PersistentSequence.of(new long[] {1}, List.of("a", "b")));
+    }
+
+    @Test
+    public void indexOf_givenKeys_returnsPositionInKeyOrder() {
+        PersistentSequence<String> sequence = PersistentSequence.of(new long[] {3, 7, 20, 21}, List.of("a", "b", "c",
+                "d"));
+        assertEquals(0, sequence.indexOf(3));
+        assertEquals(2, sequence.indexOf(20));
+        assertEquals(3, sequence.indexOf(21));
+        assertEquals(-1, sequence.indexOf(8));
+        assertEquals(1, sequence.without(3).indexOf(20));
+        assertEquals(-1, PersistentSequence.empty().indexOf(0));
+    }
+
+    @Test
+    public void updates_doNotModifyOriginal() {
+        PersistentSequence<String> original = PersistentSequence.of(List.of("a", "b"));
+        PersistentSequence<String> replaced = original.with(1, "x");
+        PersistentSequence<String> removed = original.without(0);
+
+        assertEquals(List.of("a", "b"), original.toList());
+        assertEquals(List.of("a", "x"), replaced.toList());
+        assertEquals(List.of("b"), removed.toList());
+    }
+
+    @Test
+    public void randomUpdates_matchTreeMap() {
+        Random random = new Random(2103);
+        TreeMap<Long, Integer> expected = new TreeMap<>();
+        PersistentSequence<Integer> sequence = PersistentSequence.empty();
+        for (int i = 0; i < 5000; i++) {
+            long key = random.nextInt(1000);
+            if (random.nextBoolean()) {
+                expected.put(key, i);
+                sequence = sequence.with(key, i);
+            } else {
+                expected.remove(key);
+                sequence = sequence.without(key);
+            }
+        }
+
+        assertEquals(new ArrayList<>(expected.values()), sequence.toList());
+        assertEquals(expected.size(), sequence.size());
+        for (long key = 0; key < 1000; key++) {
+            assertEquals(expected.get(key), sequence.get(key));
+        }
+    }
+}
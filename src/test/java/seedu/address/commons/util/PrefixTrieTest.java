@@ -0,0 +1,89 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    @Test
+    public void complete_caseInsensitiveAlphabeticalAndBounded() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("S00002");
+        trie.add("S00001");
+        trie.add("Alice");
+        trie.add("alex");
+        trie.add("Al");
+        trie.add(" ");
+
+        assertEquals(List.of("S00001", "S00002"), trie.complete("s", 5));
+        assertEquals(List.of("Al", "alex", "Alice"), trie.complete("AL", 5));
+        assertEquals(List.of("Al", "alex"), trie.complete("al", 2));
+        assertEquals(List.of(), trie.complete("bob", 5));
+        assertEquals(List.of("Al", "alex", "Alice", "S00001", "S00002"), trie.complete("", 10));
+        assertThrows(IllegalArgumentException.class, () -> trie.complete("a", 0));
+    }
+
+    @Test
+    public void remove_countsOccurrences() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("Meier");
+        trie.add("meier");
+        trie.add("Meyer");
+
+        trie.remove("MEIER");
+        assertEquals(List.of("Meier", "Meyer"), trie.complete("me", 5));
+        trie.remove("meier");
+        assertEquals(List.of("Meyer"), trie.complete("me", 5));
+        trie.remove("meier");
+        trie.remove("bob");
+        assertEquals(List.of("Meyer"), trie.complete("me", 5));
+
+        trie.clear();
+        assertEquals(List.of(), trie.complete("", 5));
+    }
+
+    @Test
+    public void complete_randomTerms_matchesSortedScan() {
+        Random random = new Random(2103);
+        PrefixTrie trie = new PrefixTrie();
+        TreeMap<String, Integer> counts = new TreeMap<>();
+        for (int i = 0; i < 2000; i++) {
+            String term = randomString(random, 1 + random.nextInt(5));
+            if (random.nextInt(3) == 0) {
+                trie.remove(term);
+                counts.computeIfPresent(term, (unused, count) -> count == 1 ? null : count - 1);
+            } else {
+                trie.add(term);
+                counts.merge(term, 1, Integer::sum);
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String prefix = randomString(random, random.nextInt(3)).toUpperCase(Locale.ROOT);
+            int limit = 1 + random.nextInt(20);
+            List<String> expected = new ArrayList<>();
+            for (String term : counts.keySet()) {
+                if (term.startsWith(prefix.toLowerCase(Locale.ROOT)) && expected.size() < limit) {
+                    expected.add(term);
+                }
+            }
+            assertEquals(expected, trie.complete(prefix, limit), prefix);
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append("abcd".charAt(random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -123,6 +125,23 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toSearchKey --------------------------------------
+
+    @Test
+    public void toSearchKey() {
+        assertEquals("alex yeoh", StringUtil.toSearchKey("  Alex \t  YEOH "));
+        assertEquals("", StringUtil.toSearchKey("   "));
+
+        // already normalised -> returns the same instance
+        String key = "alex yeoh";
+        assertSame(key, StringUtil.toSearchKey(key));
+    }
+
+    @Test
+    public void toSearchKey_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSearchKey(null));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
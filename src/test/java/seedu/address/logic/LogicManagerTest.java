@@ -11,6 +11,8 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeregisterCommand;
+import seedu.address.logic.commands.FindStudentByIdCommand;
+import seedu.address.logic.commands.FindStudentByNameCommand;
+import seedu.address.logic.commands.FuzzyFindStudentCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RegisterCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -31,6 +36,7 @@ import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonCourseBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.CourseBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -73,17 +79,45 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_validCommand_savesAfterFlush() throws Exception {
+        logic.execute(RegisterCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + GENDER_DESC_AMY);
+        logic.flush();
+
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get();
+        assertEquals(model.getAddressBook().getPersonList(), saved.getPersonList());
+        logic.shutdown();
+    }
+
+    @Test
+    public void getCompletions() {
+        assertEquals(List.of(), logic.getCompletions(""));
+        assertEquals(List.of(FuzzyFindStudentCommand.COMMAND_WORD), logic.getCompletions("  FUZ"));
+        assertEquals(List.of(FindStudentByIdCommand.COMMAND_WORD, FindStudentByNameCommand.COMMAND_WORD),
+                logic.getCompletions("find_s"));
+
+        model.addPerson(new PersonBuilder().withName("Alice Pauline").withStudentId("S00001").build());
+        model.addCourse(new CourseBuilder().withCourseId("C0001").withName("Algorithms").build());
+        assertEquals(List.of("Algorithms", "Alice"), logic.getCompletions("find_student_by_name al"));
+        assertEquals(List.of("S00001"), logic.getCompletions("add_student s0"));
+        assertEquals(List.of("C0001"), logic.getCompletions("add_student S00001 C"));
+        assertEquals(List.of("Pauline"), logic.getCompletions("register n/pau"));
+        assertEquals(List.of(), logic.getCompletions("register n/"));
+        assertEquals(List.of(), logic.getCompletions("find_student_by_name alice "));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -143,12 +177,13 @@ public class LogicManagerTest {
     }
 
     /**
-     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component: the command
+     * succeeds, and the failure to save it is reported to the save failure handler.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -167,12 +202,18 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, courseBookStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reported = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(reported::add);
 
         // Triggers the saveAddressBook method by executing a register command
         String registerCommand = RegisterCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + GENDER_DESC_AMY;
         Person expectedPerson = new PersonBuilder(AMY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(registerCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(registerCommand);
+        logic.shutdown();
+
+        assertEquals(expectedModel, model);
+        assertEquals(List.of(expectedMessage), reported);
     }
 }
@@ -64,7 +64,7 @@ public class AddStudentCommandTest {
     @Test
     public void execute_courseNotFound_throwsCommandException() {
         Person student = new PersonBuilder().withStudentId("S00001").build();
-        CourseId nonExistentCourseId = new CourseId("C9999");
+        CourseId nonExistentCourseId = CourseId.of("C9999");
         model.addPerson(student);
 
         AddStudentCommand addStudentCommand = new AddStudentCommand(student.getStudentId(), nonExistentCourseId);
@@ -81,7 +81,7 @@ public class AddStudentCommandTest {
     @Test
     public void execute_studentNotFound_throwsCommandException() {
         Course course = new CourseBuilder().withCourseId("C0001").build();
-        StudentId nonExistentStudentId = new StudentId("S99999");
+        StudentId nonExistentStudentId = StudentId.of("S99999");
         model.addCourse(course);
 
         AddStudentCommand addStudentCommand = new AddStudentCommand(nonExistentStudentId, course.getCourseId());
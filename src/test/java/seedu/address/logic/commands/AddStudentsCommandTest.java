@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.CourseBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddStudentsCommandTest {
+
+    private Model model;
+    private Course course;
+    private List<StudentId> studentIds;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        studentIds = new ArrayList<>();
+        for (int number = 1; number <= 12; number++) {
+            StudentId studentId = StudentId.fromNumber(number);
+            model.addPerson(new PersonBuilder().withStudentId(studentId.getValue()).build());
+            studentIds.add(studentId);
+        }
+        course = new CourseBuilder().withCourseId("C0001").withName("Calculus").build();
+        model.addCourse(course);
+    }
+
+    @Test
+    public void execute_allValid_addsAllInOrder() throws Exception {
+        CommandResult result = new AddStudentsCommand(studentIds, course.getCourseId()).execute(model);
+
+        assertEquals(String.format(AddStudentsCommand.MESSAGE_SUCCESS, 12, course.getName(), course.getCourseId(),
+                12), result.getFeedbackToUser());
+        assertEquals(studentIds, course.getEnrolledStudentIds());
+        assertEquals(12, model.getFilteredPersonList().size());
+        assertEquals(List.of(course), model.getFilteredCourseList());
+    }
+
+    @Test
+    public void execute_someAlreadyEnrolled_addsNone() {
+        course.addStudentId(studentIds.get(3));
+
+        assertThrows(CommandException.class, String.format(AddStudentsCommand.MESSAGE_DUPLICATE_STUDENTS, "S00004"), ()
+                -> new AddStudentsCommand(studentIds, course.getCourseId()).execute(model));
+        assertEquals(List.of(studentIds.get(3)), course.getEnrolledStudentIds());
+    }
+
+    @Test
+    public void execute_manyMissing_listsFirstFewAndAddsNone() {
+        List<StudentId> unknownIds = new ArrayList<>();
+        for (int number = 101; number <= 112; number++) {
+            unknownIds.add(StudentId.fromNumber(number));
+        }
+
+        assertThrows(CommandException.class, String.format(AddStudentsCommand.MESSAGE_STUDENTS_NOT_FOUND,
+                "S00101, S00102, S00103, S00104, S00105, S00106, S00107, S00108, S00109, S00110 and 2 more"), ()
+                -> new AddStudentsCommand(unknownIds, course.getCourseId()).execute(model));
+        assertEquals(0, course.getStudentCount());
+    }
+
+    @Test
+    public void execute_unknownCourse_throwsCommandException() {
+        assertThrows(CommandException.class, String.format(AddStudentCommand.MESSAGE_COURSE_NOT_FOUND, "C0009"), ()
+                -> new AddStudentsCommand(studentIds, CourseId.of("C0009")).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        AddStudentsCommand command = new AddStudentsCommand(studentIds, course.getCourseId());
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new AddStudentsCommand(new ArrayList<>(studentIds), CourseId.of("C0001"))));
+        assertFalse(command.equals(new AddStudentsCommand(studentIds.subList(0, 1), course.getCourseId())));
+        assertFalse(command.equals(new AddStudentsCommand(studentIds, CourseId.of("C0002"))));
+        assertFalse(command.equals(null));
+    }
+}
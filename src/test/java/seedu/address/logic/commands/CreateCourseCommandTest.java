@@ -10,7 +10,9 @@ import static seedu.address.testutil.TypicalCourses.CS1010;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,14 +21,22 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ChangeSet;
 import seedu.address.model.CourseBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.Page;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyCourseBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.course.Course;
 import seedu.address.model.course.CourseId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.StudentQuery;
+import seedu.address.model.stats.EnrollmentStats;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.CourseBuilder;
 
 public class CreateCourseCommandTest {
@@ -241,6 +251,91 @@ public class CreateCourseCommandTest {
         public void updateFilteredCourseListForCourse(Course course) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Person getPersonById(StudentId studentId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getStudentsOfCourse(Course course) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot snapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredCourseListByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByFuzzyName(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> completeWord(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredCourseListByTags(Set<Tag> tags, boolean matchAll) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan updateFilteredPersonListByQuery(StudentQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredCourseList(Comparator<Course> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public EnrollmentStats getCourseStats(CourseId courseId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public EnrollmentStats getOverallStats() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Person> getFilteredPersonPage(int offset, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Page<Person> getFilteredPersonPageAfter(StudentId after, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ChangeSet takeChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
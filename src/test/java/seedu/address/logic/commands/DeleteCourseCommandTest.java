@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -23,7 +24,7 @@ import seedu.address.model.course.Course;
 import seedu.address.model.course.CourseId;
 import seedu.address.model.course.CourseName;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
@@ -35,7 +36,7 @@ public class DeleteCourseCommandTest {
     @BeforeEach
     public void setUp() {
         model = new ModelManager();
-        validCourseId = new CourseId("C0001");
+        validCourseId = CourseId.of("C0001");
         validCourse = new Course(new CourseName("English 101"), validCourseId,
                 Collections.emptySet());
         model.addCourse(validCourse);
@@ -59,17 +60,16 @@ public class DeleteCourseCommandTest {
 
     @Test
     public void execute_nonExistentCourseId_failure() throws CommandException {
-        CourseId nonExistentId = new CourseId("C9999");
+        CourseId nonExistentId = CourseId.of("C9999");
         DeleteCourseCommand command = new DeleteCourseCommand(nonExistentId);
         assertCommandFailure(command, model, String.format(DeleteCourseCommand.MESSAGE_NOT_FOUND, nonExistentId));
     }
 
     @Test
     public void execute_courseWithStudents_success() throws CommandException {
-        UniquePersonList students = new UniquePersonList();
         Person p = new PersonBuilder().build();
-        students.add(p);
-        CourseId cid = new CourseId("C0002");
+        List<StudentId> students = List.of(p.getStudentId());
+        CourseId cid = CourseId.of("C0002");
         Course courseWithStudents = new Course(new CourseName("With Students"), cid,
                 students, Collections.emptySet());
         model.addCourse(courseWithStudents);
@@ -88,7 +88,7 @@ public class DeleteCourseCommandTest {
     @Test
     public void execute_courseNameNull_returnsGenericSuccessMessage() throws CommandException {
         class CourseWithNullName extends Course {
-            CourseWithNullName(CourseName name, CourseId id, UniquePersonList students,
+            CourseWithNullName(CourseName name, CourseId id, List<StudentId> students,
                     Set<Tag> tags) {
                 super(name, id, students, tags);
             }
@@ -99,8 +99,8 @@ public class DeleteCourseCommandTest {
             }
         }
 
-        UniquePersonList students = new UniquePersonList();
-        CourseId cid = new CourseId("C0003");
+        List<StudentId> students = List.of();
+        CourseId cid = CourseId.of("C0003");
         Course courseNullName = new CourseWithNullName(new CourseName("Temp"), cid,
                 students, Collections.emptySet());
         model.addCourse(courseNullName);
@@ -117,8 +117,8 @@ public class DeleteCourseCommandTest {
 
     @Test
     public void equals() {
-        CourseId courseId1 = new CourseId("C0001");
-        CourseId courseId2 = new CourseId("C0002");
+        CourseId courseId1 = CourseId.of("C0001");
+        CourseId courseId2 = CourseId.of("C0002");
         DeleteCourseCommand deleteCommand1 = new DeleteCourseCommand(courseId1);
         DeleteCourseCommand deleteCommand2 = new DeleteCourseCommand(courseId1);
         DeleteCourseCommand deleteCommand3 = new DeleteCourseCommand(courseId2);
@@ -141,8 +141,8 @@ public class DeleteCourseCommandTest {
 
     @Test
     public void hashCode_test() {
-        CourseId courseId1 = new CourseId("C0001");
-        CourseId courseId2 = new CourseId("C0001");
+        CourseId courseId1 = CourseId.of("C0001");
+        CourseId courseId2 = CourseId.of("C0001");
         DeleteCourseCommand deleteCommand1 = new DeleteCourseCommand(courseId1);
         DeleteCourseCommand deleteCommand2 = new DeleteCourseCommand(courseId2);
 
@@ -44,7 +44,7 @@ public class DeregisterCommandTest {
 
     @Test
     public void execute_invalidStudentIdUnfilteredList_throwsCommandException() {
-        StudentId invalidStudentId = new StudentId("S99999");
+        StudentId invalidStudentId = StudentId.of("S99999");
         DeregisterCommand deregisterCommand = new DeregisterCommand(invalidStudentId);
 
         assertCommandFailure(deregisterCommand, model,
@@ -95,8 +95,8 @@ public class DeregisterCommandTest {
 
     @Test
     public void equals() {
-        StudentId firstStudentId = new StudentId("S00001");
-        StudentId secondStudentId = new StudentId("S00002");
+        StudentId firstStudentId = StudentId.of("S00001");
+        StudentId secondStudentId = StudentId.of("S00002");
         DeregisterCommand deregisterFirstCommand = new DeregisterCommand(firstStudentId);
         DeregisterCommand deregisterSecondCommand = new DeregisterCommand(secondStudentId);
 
@@ -119,7 +119,7 @@ public class DeregisterCommandTest {
 
     @Test
     public void toStringMethod() {
-        StudentId targetId = new StudentId("S00001");
+        StudentId targetId = StudentId.of("S00001");
         DeregisterCommand deregisterCommand = new DeregisterCommand(targetId);
         String expected = DeregisterCommand.class.getCanonicalName() + "{targetId=" + targetId + "}";
         assertEquals(expected, deregisterCommand.toString());
@@ -0,0 +1,154 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportCommand.Target;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.CourseBuilder;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Course course;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addPerson(CARL);
+        course = new CourseBuilder().withCourseId("C0001").withName("Calculus Part 1").withTags("math", "core")
+                .build();
+        model.addCourse(course);
+        course.addStudentId(BENSON.getStudentId());
+    }
+
+    @Test
+    public void execute_studentsToCsv_writesHeaderAndAllStudents() throws Exception {
+        Path file = testFolder.resolve("out").resolve("students.csv");
+
+        CommandResult result = new ExportCommand(Target.STUDENTS, null, false, false, file).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 3, "student(s)", file), result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(List.of("id,name,phone,gender", csvLine(ALICE), csvLine(BENSON), csvLine(CARL)), lines);
+    }
+
+    @Test
+    public void execute_filteredStudents_writesOnlyShownStudents() throws Exception {
+        model.updateFilteredPersonList(person -> person.equals(CARL));
+        Path file = testFolder.resolve("students.csv");
+
+        new ExportCommand(Target.STUDENTS, null, true, false, file).execute(model);
+
+        assertEquals(List.of("id,name,phone,gender", csvLine(CARL)), Files.readAllLines(file));
+    }
+
+    @Test
+    public void execute_coursesToJsonLines_writesOneObjectPerLine() throws Exception {
+        Path file = testFolder.resolve("courses.jsonl");
+
+        new ExportCommand(Target.COURSES, null, false, false, file).execute(model);
+
+        String expected = "{\"id\":\"C0001\",\"name\":\"Calculus Part 1\",\"students\":\"1\","
+                + "\"tags\":\"core math\"}";
+        assertEquals(List.of(expected), Files.readAllLines(file));
+    }
+
+    @Test
+    public void execute_rosterToTsv_writesEnrolledStudents() throws Exception {
+        Path file = testFolder.resolve("roster.tsv");
+
+        CommandResult result = new ExportCommand(Target.ROSTER, course.getCourseId(), false, false, file)
+                .execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, "enrolled student(s)", file),
+                result.getFeedbackToUser());
+        assertEquals(List.of("id\tname\tphone\tgender", csvLine(BENSON).replace(',', '\t')),
+                Files.readAllLines(file));
+    }
+
+    @Test
+    public void execute_unknownCourse_throwsCommandException() {
+        ExportCommand command = new ExportCommand(Target.ROSTER, CourseId.of("C0009"), false, false,
+                testFolder.resolve("roster.csv"));
+
+        assertThrows(CommandException.class, String.format(ExportCommand.MESSAGE_COURSE_NOT_FOUND, "C0009"), ()
+                -> command.execute(model));
+    }
+
+    @Test
+    public void execute_existingFile_keptUnlessOverwrite() throws Exception {
+        Path file = testFolder.resolve("students.csv");
+        Files.writeString(file, "keep me");
+
+        assertThrows(CommandException.class, String.format(ExportCommand.MESSAGE_FILE_EXISTS, file), ()
+                -> new ExportCommand(Target.STUDENTS, null, false, false, file).execute(model));
+        assertEquals("keep me", Files.readString(file));
+
+        new ExportCommand(Target.STUDENTS, null, false, true, file).execute(model);
+        assertEquals(List.of("id,name,phone,gender", csvLine(ALICE), csvLine(BENSON), csvLine(CARL)),
+                Files.readAllLines(file));
+        assertEquals(List.of(file), Files.list(testFolder).toList());
+    }
+
+    @Test
+    public void execute_dataFile_throwsCommandExceptionEvenWithOverwrite() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+        userPrefs.setJournalFilePath(testFolder.resolve("journal.jsonl"));
+        model.setUserPrefs(userPrefs);
+        Files.writeString(userPrefs.getAddressBookFilePath(), "{}");
+
+        Path dataFile = testFolder.resolve("sub").resolve("..").resolve("addressbook.json");
+        assertThrows(CommandException.class, String.format(ExportCommand.MESSAGE_DATA_FILE, dataFile), ()
+                -> new ExportCommand(Target.STUDENTS, null, false, true, dataFile).execute(model));
+        assertEquals("{}", Files.readString(userPrefs.getAddressBookFilePath()));
+
+        Path journal = userPrefs.getJournalFilePath();
+        assertThrows(CommandException.class, String.format(ExportCommand.MESSAGE_DATA_FILE, journal), ()
+                -> new ExportCommand(Target.STUDENTS, null, false, false, journal).execute(model));
+        assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand first = new ExportCommand(Target.STUDENTS, null, false, false, Path.of("a.csv"));
+
+        assertTrue(first.equals(first));
+        assertTrue(first.equals(new ExportCommand(Target.STUDENTS, null, false, false, Path.of("a.csv"))));
+        assertFalse(first.equals(new ExportCommand(Target.STUDENTS, null, true, false, Path.of("a.csv"))));
+        assertFalse(first.equals(new ExportCommand(Target.STUDENTS, null, false, true, Path.of("a.csv"))));
+        assertFalse(first.equals(new ExportCommand(Target.COURSES, null, false, false, Path.of("a.csv"))));
+        assertFalse(first.equals(new ExportCommand(Target.STUDENTS, null, false, false, Path.of("b.csv"))));
+        assertFalse(first.equals(null));
+    }
+
+    private static String csvLine(Person person) {
+        return String.join(",", person.getStudentId().getValue(), person.getName().fullName,
+                person.getPhone().value, person.getGender().getValue());
+    }
+}
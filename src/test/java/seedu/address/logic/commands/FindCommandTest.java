@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.QueryField;
+import seedu.address.model.query.QueryTerm;
+import seedu.address.model.query.StudentQuery;
+import seedu.address.testutil.TypicalCourses;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindCommand}.
+ */
+public class FindCommandTest {
+    private static final StudentQuery FEMALE = new StudentQuery(
+            List.of(new QueryTerm(QueryField.GENDER, List.of("Female"))));
+    private static final StudentQuery FEMALE_MEYER = new StudentQuery(List.of(
+            new QueryTerm(QueryField.GENDER, List.of("Female")), new QueryTerm(QueryField.NAME, List.of("meyer"))));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), TypicalCourses.getTypicalCourseBook(),
+            new UserPrefs());
+
+    @Test
+    public void execute_query_matchingPersonsListed() {
+        CommandResult result = new FindCommand(FEMALE, false).execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(ALICE, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_planShown() {
+        CommandResult result = new FindCommand(FEMALE_MEYER, true).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1)
+                + "\nPlan for gender/Female name/meyer:\n1. Scan name n-gram index for name/meyer"));
+        assertEquals(Arrays.asList(ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noMatch_noPersonFound() {
+        StudentQuery query = new StudentQuery(List.of(new QueryTerm(QueryField.ID, List.of("S09999"))));
+        CommandResult result = new FindCommand(query, false).execute(model);
+        assertEquals(FindStudentByNameCommand.MESSAGE_STUDENT_NOT_FOUND, result.getFeedbackToUser());
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        FindCommand command = new FindCommand(FEMALE, false);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FindCommand(FEMALE, false)));
+        assertFalse(command.equals(new FindCommand(FEMALE, true)));
+        assertFalse(command.equals(new FindCommand(FEMALE_MEYER, false)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+    }
+}
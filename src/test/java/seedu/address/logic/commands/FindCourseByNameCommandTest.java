@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,10 +16,19 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ChangeSet;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.Page;
 import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
 import seedu.address.model.course.CourseNameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.StudentQuery;
+import seedu.address.model.stats.EnrollmentStats;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.CourseBuilder;
 
 class FindCourseByNameCommandTest {
@@ -84,6 +95,11 @@ class FindCourseByNameCommandTest {
             filteredCourses.setAll(courses.filtered(predicate));
         }
 
+        @Override
+        public void updateFilteredCourseListByName(List<String> keywords) {
+            updateFilteredCourseList(new CourseNameContainsKeywordsPredicate(keywords));
+        }
+
         // All other Model methods throw UnsupportedOperationException
         @Override public void setUserPrefs(seedu.address.model.ReadOnlyUserPrefs userPrefs) {
             throw new UnsupportedOperationException();
@@ -175,6 +191,86 @@ class FindCourseByNameCommandTest {
         public void updateFilteredCourseListForCourse(Course course) {
             throw new UnsupportedOperationException();
         }
+
+        @Override
+        public Person getPersonById(StudentId studentId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Person> getStudentsOfCourse(Course course) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ModelSnapshot snapshot() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updateFilteredPersonListByName(List<String> keywords) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updateFilteredPersonListByFuzzyName(List<String> keywords, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> completeWord(String prefix, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updateFilteredCourseListByTags(Set<Tag> tags, boolean matchAll) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public QueryPlan updateFilteredPersonListByQuery(StudentQuery query) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sortFilteredCourseList(Comparator<Course> comparator) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public EnrollmentStats getCourseStats(CourseId courseId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public EnrollmentStats getOverallStats() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Page<Person> getFilteredPersonPage(int offset, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Page<Person> getFilteredPersonPageAfter(StudentId after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ChangeSet takeChanges() {
+            throw new UnsupportedOperationException();
+        }
     }
 
     @Test
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_COURSES_LISTED_OVERVIEW;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.course.Course;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.CourseBuilder;
+
+public class FindCourseByTagCommandTest {
+    private static final Set<Tag> CORE_AND_MATH = Set.of(new Tag("core"), new Tag("math"));
+
+    private Model model;
+    private Course calculus;
+    private Course statistics;
+
+    @BeforeEach
+    public void setUp() {
+        calculus = new CourseBuilder().withCourseId("C0001").withName("Calculus").withTags("core", "math").build();
+        statistics = new CourseBuilder().withCourseId("C0002").withName("Statistics").withTags("math").build();
+        model = new ModelManager();
+        model.addCourse(calculus);
+        model.addCourse(statistics);
+        model.addCourse(new CourseBuilder().withCourseId("C0003").withName("Drawing").withTags("art").build());
+    }
+
+    @Test
+    public void execute_matchAny_coursesWithAnyTagFound() {
+        CommandResult result = new FindCourseByTagCommand(CORE_AND_MATH, false).execute(model);
+        assertEquals(String.format(MESSAGE_COURSES_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(calculus, statistics), model.getFilteredCourseList());
+    }
+
+    @Test
+    public void execute_matchAll_coursesWithEveryTagFound() {
+        CommandResult result = new FindCourseByTagCommand(CORE_AND_MATH, true).execute(model);
+        assertEquals(String.format(MESSAGE_COURSES_LISTED_OVERVIEW, 1), result.getFeedbackToUser());
+        assertEquals(Collections.singletonList(calculus), model.getFilteredCourseList());
+    }
+
+    @Test
+    public void execute_unknownTag_noCourseFound() {
+        CommandResult result = new FindCourseByTagCommand(Set.of(new Tag("history")), false).execute(model);
+        assertEquals(FindCourseByNameCommand.MESSAGE_COURSE_NOT_FOUND, result.getFeedbackToUser());
+        assertTrue(model.getFilteredCourseList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        FindCourseByTagCommand command = new FindCourseByTagCommand(CORE_AND_MATH, true);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FindCourseByTagCommand(Set.of(new Tag("math"), new Tag("core")), true)));
+        assertFalse(command.equals(new FindCourseByTagCommand(CORE_AND_MATH, false)));
+        assertFalse(command.equals(new FindCourseByTagCommand(Set.of(new Tag("core")), true)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+    }
+}
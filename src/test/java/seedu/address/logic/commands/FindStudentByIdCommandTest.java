@@ -25,9 +25,9 @@ import seedu.address.testutil.TypicalCourses;
 
 public class FindStudentByIdCommandTest {
 
-    private final StudentId first = new StudentId("S00001");
-    private final StudentId second = new StudentId("S00002");
-    private final StudentId third = new StudentId("S00003");
+    private final StudentId first = StudentId.of("S00001");
+    private final StudentId second = StudentId.of("S00002");
+    private final StudentId third = StudentId.of("S00003");
 
     private Model model = new ModelManager(getTypicalAddressBook(), TypicalCourses.getTypicalCourseBook(),
             new UserPrefs());
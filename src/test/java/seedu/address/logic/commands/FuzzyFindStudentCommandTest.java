@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.TypicalCourses;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindStudentCommand}.
+ */
+public class FuzzyFindStudentCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), TypicalCourses.getTypicalCourseBook(),
+            new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), TypicalCourses.getTypicalCourseBook(),
+            new UserPrefs());
+
+    @Test
+    public void equals() {
+        FuzzyFindStudentCommand findFirstCommand = new FuzzyFindStudentCommand(Collections.singletonList("first"));
+        FuzzyFindStudentCommand findSecondCommand = new FuzzyFindStudentCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FuzzyFindStudentCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noCloseName_noPersonFound() {
+        List<String> keywords = Arrays.asList("Zelda");
+        FuzzyFindStudentCommand command = new FuzzyFindStudentCommand(keywords);
+        expectedModel.updateFilteredPersonListByFuzzyName(keywords, FuzzyFindStudentCommand.MAX_RESULTS);
+        assertCommandSuccess(command, model, FindStudentByNameCommand.MESSAGE_STUDENT_NOT_FOUND, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_misspeltKeywords_closestPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        List<String> keywords = Arrays.asList("Meyr", "Kurtz");
+        FuzzyFindStudentCommand command = new FuzzyFindStudentCommand(keywords);
+        expectedModel.updateFilteredPersonListByFuzzyName(keywords, FuzzyFindStudentCommand.MAX_RESULTS);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = Arrays.asList("keyword");
+        FuzzyFindStudentCommand command = new FuzzyFindStudentCommand(keywords);
+        String expected = FuzzyFindStudentCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, command.toString());
+    }
+}
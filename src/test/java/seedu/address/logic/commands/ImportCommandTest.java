@@ -0,0 +1,168 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.course.Course;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.CourseBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Course course;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        course = new CourseBuilder().withCourseId("C0001").withName("Calculus").build();
+        model.addCourse(course);
+    }
+
+    @Test
+    public void execute_validCsv_importsAndEnrollsAll() throws Exception {
+        Path file = write("students.csv", "Name,Phone,Gender,Courses\n"
+                + "Alice Pauline,94351253,female,C0001\n"
+                + "\"Benson Meier\",98765432,Male,\n"
+                + "\n"
+                + "Carl Kurz,95352563,other\n");
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 3, file), result.getFeedbackToUser());
+        List<Person> persons = model.getFilteredPersonList();
+        assertEquals(3, persons.size());
+        assertEquals("Alice Pauline", persons.get(0).getName().fullName);
+        assertEquals(StudentId.fromNumber(1), persons.get(0).getStudentId());
+        assertEquals("Male", persons.get(1).getGender().getValue());
+        assertEquals(StudentId.fromNumber(3), persons.get(2).getStudentId());
+        assertEquals(List.of(StudentId.fromNumber(1)), course.getEnrolledStudentIds());
+    }
+
+    @Test
+    public void execute_invalidRows_skipsThemAndImportsTheRest() throws Exception {
+        Path file = write("students.tsv", "Alice Pauline\t94351253\tfemale\n"
+                + "Bad Phone\tabc\tmale\n"
+                + "Too Few\t98765432\n"
+                + "No Course\t98765432\tmale\tC0009\n"
+                + "Carl Kurz\t95352563\tother\tC0001\n");
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        String expected = String.format(ImportCommand.MESSAGE_SUCCESS, 2, file)
+                + String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 3)
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 2, Phone.MESSAGE_CONSTRAINTS)
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 3,
+                        String.format(ImportCommand.MESSAGE_WRONG_FIELD_COUNT, 2))
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4,
+                        String.format(ImportCommand.MESSAGE_COURSE_NOT_FOUND, "C0009"));
+        assertEquals(expected, result.getFeedbackToUser());
+        assertEquals(2, model.getFilteredPersonList().size());
+        // Ids are only allocated to rows that are imported.
+        assertEquals(List.of(StudentId.fromNumber(2)), course.getEnrolledStudentIds());
+    }
+
+    @Test
+    public void execute_manyRows_importsInBatchesAndCapsErrors() throws Exception {
+        StringBuilder content = new StringBuilder();
+        int rows = ImportCommand.BATCH_SIZE * 2 + 7;
+        for (int i = 0; i < rows; i++) {
+            content.append("Student ").append(i).append(",9").append(String.format("%07d", i)).append(",male\n");
+        }
+        int badRows = ImportCommand.MAX_ERRORS_SHOWN + 5;
+        for (int i = 0; i < badRows; i++) {
+            content.append("Bad,1,male\n");
+        }
+        Path file = write("many.csv", content.toString());
+
+        String feedback = new ImportCommand(file).execute(model).getFeedbackToUser();
+
+        assertEquals(rows, model.getFilteredPersonList().size());
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, rows, file)));
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 5)));
+    }
+
+    @Test
+    public void execute_unterminatedQuote_skipsRowAndImportsRest() throws Exception {
+        Path file = write("students.csv", "Alice Pauline,94351253,female\n"
+                + "\"Benson Meier,98765432,Male\n"
+                + "Carl Kurz,95352563,other\n");
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, file)
+                + String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 1)
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 2, "Unterminated quoted field"),
+                result.getFeedbackToUser());
+        assertEquals(2, model.getFilteredPersonList().size());
+        assertEquals("Carl Kurz", model.getFilteredPersonList().get(1).getName().fullName);
+    }
+
+    @Test
+    public void execute_unreadableRestOfFile_keepsAndReportsRowsBefore() throws Exception {
+        Path file = testFolder.resolve("students.csv");
+        // Longer than the reader's buffers, so that the rows before the invalid byte are read before it is decoded.
+        int rowCount = ImportCommand.BATCH_SIZE + 100;
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < rowCount; i++) {
+            rows.append("Student ").append(i).append(",94351253,female\n");
+        }
+        byte[] rowBytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] content = Arrays.copyOf(rowBytes, rowBytes.length + 1);
+        content[rowBytes.length] = (byte) 0xFF; // not valid UTF-8
+        Files.write(file, content);
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        String feedback = result.getFeedbackToUser();
+        int importedCount = model.getFilteredPersonList().size();
+        assertTrue(importedCount > ImportCommand.BATCH_SIZE && importedCount <= rowCount);
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, importedCount, file)
+                + "\nStopped after line " + importedCount + ","));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        ImportCommand command = new ImportCommand(testFolder.resolve("missing.csv"));
+
+        assertThrows(CommandException.class, () -> command.execute(model));
+        assertEquals(0, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand first = new ImportCommand(Path.of("a.csv"));
+
+        assertTrue(first.equals(first));
+        assertTrue(first.equals(new ImportCommand(Path.of("a.csv"))));
+        assertFalse(first.equals(new ImportCommand(Path.of("b.csv"))));
+        assertFalse(first.equals(null));
+        assertFalse(first.equals(1));
+    }
+
+    private Path write(String fileName, String content) throws Exception {
+        Path file = testFolder.resolve(fileName);
+        Files.writeString(file, content);
+        return file;
+    }
+}
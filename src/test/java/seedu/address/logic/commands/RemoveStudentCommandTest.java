@@ -66,7 +66,7 @@ public class RemoveStudentCommandTest {
     @Test
     public void execute_courseNotFound_throwsCommandException() {
         Person student = new PersonBuilder().withStudentId("S00001").build();
-        CourseId nonExistentCourseId = new CourseId("C9999");
+        CourseId nonExistentCourseId = CourseId.of("C9999");
         model.addPerson(student);
 
         RemoveStudentCommand removeStudentCommand = new RemoveStudentCommand(student.getStudentId(),
@@ -84,7 +84,7 @@ public class RemoveStudentCommandTest {
     @Test
     public void execute_studentNotFound_throwsCommandException() {
         Course course = new CourseBuilder().withCourseId("C0001").build();
-        StudentId nonExistentStudentId = new StudentId("S99999");
+        StudentId nonExistentStudentId = StudentId.of("S99999");
         model.addCourse(course);
 
         RemoveStudentCommand removeStudentCommand = new RemoveStudentCommand(nonExistentStudentId,
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.course.Course;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.CourseBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class RemoveStudentsCommandTest {
+
+    private static final StudentId FIRST = StudentId.fromNumber(1);
+    private static final StudentId SECOND = StudentId.fromNumber(2);
+    private static final StudentId THIRD = StudentId.fromNumber(3);
+
+    private Model model;
+    private Course course;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        for (StudentId studentId : List.of(FIRST, SECOND, THIRD)) {
+            model.addPerson(new PersonBuilder().withStudentId(studentId.getValue()).build());
+        }
+        course = new CourseBuilder().withCourseId("C0001").withName("Calculus").build();
+        model.addCourse(course);
+        course.addStudentIds(List.of(FIRST, SECOND, THIRD));
+    }
+
+    @Test
+    public void execute_allEnrolled_removesAll() throws Exception {
+        CommandResult result = new RemoveStudentsCommand(List.of(THIRD, FIRST), course.getCourseId()).execute(model);
+
+        assertEquals(String.format(RemoveStudentsCommand.MESSAGE_SUCCESS, 2, course.getName(), course.getCourseId(),
+                1), result.getFeedbackToUser());
+        assertEquals(List.of(SECOND), course.getEnrolledStudentIds());
+        assertEquals(course.snapshot().toCourse().getEnrolledStudentIds(), course.getEnrolledStudentIds());
+    }
+
+    @Test
+    public void execute_someNotEnrolled_removesNone() {
+        StudentId unknown = StudentId.fromNumber(9);
+
+        assertThrows(CommandException.class, String.format(RemoveStudentsCommand.MESSAGE_STUDENTS_NOT_IN_COURSE,
+                "S00009"), () -> new RemoveStudentsCommand(List.of(FIRST, unknown), course.getCourseId())
+                .execute(model));
+        assertEquals(List.of(FIRST, SECOND, THIRD), course.getEnrolledStudentIds());
+    }
+
+    @Test
+    public void equals() {
+        RemoveStudentsCommand command = new RemoveStudentsCommand(List.of(FIRST, SECOND), course.getCourseId());
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new RemoveStudentsCommand(List.of(FIRST, SECOND), course.getCourseId())));
+        assertFalse(command.equals(new RemoveStudentsCommand(List.of(SECOND, FIRST), course.getCourseId())));
+        assertFalse(command.equals(null));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.course.Course;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.CourseBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortCoursesCommandTest {
+
+    private Model model;
+    private Course calculus;
+    private Course statistics;
+    private Course drawing;
+    private Person student;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        calculus = new CourseBuilder().withCourseId("C0001").withName("Calculus").build();
+        statistics = new CourseBuilder().withCourseId("C0002").withName("statistics").build();
+        drawing = new CourseBuilder().withCourseId("C0003").withName("Drawing").build();
+        student = new PersonBuilder().withStudentId("S00001").build();
+        model.addPerson(student);
+        model.addCourse(calculus);
+        model.addCourse(statistics);
+        model.addCourse(drawing);
+    }
+
+    @Test
+    public void execute_byName_sortedIgnoringCase() {
+        CommandResult result = new SortCoursesCommand(SortCoursesCommand.KEY_NAME, false).execute(model);
+        assertEquals(String.format(SortCoursesCommand.MESSAGE_SUCCESS, SortCoursesCommand.KEY_NAME, ""),
+                result.getFeedbackToUser());
+        assertEquals(Arrays.asList(calculus, drawing, statistics), model.getFilteredCourseList());
+    }
+
+    @Test
+    public void execute_bySizeDescending_followsEnrollmentChanges() {
+        new SortCoursesCommand(SortCoursesCommand.KEY_SIZE, true).execute(model);
+        assertEquals(Arrays.asList(calculus, statistics, drawing), model.getFilteredCourseList());
+
+        drawing.addStudent(student);
+        assertEquals(Arrays.asList(drawing, calculus, statistics), model.getFilteredCourseList());
+        drawing.removeStudent(student);
+        assertEquals(Arrays.asList(calculus, statistics, drawing), model.getFilteredCourseList());
+    }
+
+    @Test
+    public void execute_byIdDescending_keptAcrossFilterChanges() {
+        new SortCoursesCommand(SortCoursesCommand.KEY_ID, true).execute(model);
+        model.updateFilteredCourseListForCourse(calculus);
+        assertEquals(Collections.singletonList(calculus), model.getFilteredCourseList());
+
+        model.updateFilteredCourseList(Model.PREDICATE_SHOW_ALL_COURSES);
+        assertEquals(Arrays.asList(drawing, statistics, calculus), model.getFilteredCourseList());
+    }
+
+    @Test
+    public void equals() {
+        SortCoursesCommand command = new SortCoursesCommand(SortCoursesCommand.KEY_SIZE, true);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new SortCoursesCommand(SortCoursesCommand.KEY_SIZE, true)));
+        assertFalse(command.equals(new SortCoursesCommand(SortCoursesCommand.KEY_SIZE, false)));
+        assertFalse(command.equals(new SortCoursesCommand(SortCoursesCommand.KEY_NAME, true)));
+        assertFalse(command.equals(null));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortStudentsCommandTest {
+
+    private Model model;
+    private Person carl;
+    private Person alice;
+    private Person bob;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        carl = new PersonBuilder().withStudentId("S00001").withName("Carl Kurz").build();
+        alice = new PersonBuilder().withStudentId("S00002").withName("alice Pauline").build();
+        bob = new PersonBuilder().withStudentId("S00003").withName("Bob Choo").build();
+        model.addPerson(carl);
+        model.addPerson(alice);
+        model.addPerson(bob);
+    }
+
+    @Test
+    public void execute_byName_followsEdits() {
+        CommandResult result = new SortStudentsCommand(SortStudentsCommand.KEY_NAME, false).execute(model);
+        assertEquals(String.format(SortStudentsCommand.MESSAGE_SUCCESS, SortStudentsCommand.KEY_NAME, ""),
+                result.getFeedbackToUser());
+        assertEquals(Arrays.asList(alice, bob, carl), model.getFilteredPersonList());
+
+        Person aaron = new PersonBuilder(carl).withName("Aaron Kurz").build();
+        model.setPerson(carl, aaron);
+        assertEquals(Arrays.asList(aaron, alice, bob), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_rankedSearch_ordersByRelevanceUntilNextListing() {
+        new SortStudentsCommand(SortStudentsCommand.KEY_ID, true).execute(model);
+        assertEquals(Arrays.asList(bob, alice, carl), model.getFilteredPersonList());
+
+        model.updateFilteredPersonListByName(List.of("carl", "ali"));
+        assertEquals(Arrays.asList(carl, alice), model.getFilteredPersonList());
+
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(bob, alice, carl), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        SortStudentsCommand command = new SortStudentsCommand(SortStudentsCommand.KEY_NAME, false);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new SortStudentsCommand(SortStudentsCommand.KEY_NAME, false)));
+        assertFalse(command.equals(new SortStudentsCommand(SortStudentsCommand.KEY_NAME, true)));
+        assertFalse(command.equals(new SortStudentsCommand(SortStudentsCommand.KEY_ID, false)));
+        assertFalse(command.equals(null));
+    }
+}
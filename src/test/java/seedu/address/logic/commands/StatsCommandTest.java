@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.CourseBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class StatsCommandTest {
+
+    private Model model;
+    private Course calculus;
+    private Person alice;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        alice = new PersonBuilder().withStudentId("S00001").withGender("Female").build();
+        Person bob = new PersonBuilder().withStudentId("S00002").withGender("Male").build();
+        model.addPerson(alice);
+        model.addPerson(bob);
+        calculus = new CourseBuilder().withCourseId("C0001").withName("Calculus").build();
+        model.addCourse(calculus);
+        model.addCourse(new CourseBuilder().withCourseId("C0002").withName("Drawing").build());
+        calculus.addStudent(alice);
+        calculus.addStudent(bob);
+        calculus.removeStudent(bob);
+    }
+
+    @Test
+    public void execute_course_showsCourseStats() throws Exception {
+        CommandResult result = new StatsCommand(calculus.getCourseId()).execute(model);
+        String expectedStats = String.format(StatsCommand.MESSAGE_STATS, 1, "Female 1", 2, 1, 1);
+        assertEquals(String.format(StatsCommand.MESSAGE_COURSE_STATS, calculus.getCourseId(), expectedStats),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noCourse_showsOverallStats() throws Exception {
+        model.getCourseById(CourseId.of("C0002")).addStudent(alice);
+        CommandResult result = new StatsCommand(null).execute(model);
+        String expectedStats = String.format(StatsCommand.MESSAGE_STATS, 2, "Female 2", 3, 1, 2);
+        assertEquals(String.format(StatsCommand.MESSAGE_OVERALL_STATS, 2, expectedStats), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_unknownCourse_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new StatsCommand(CourseId.of("C0009")).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand command = new StatsCommand(CourseId.of("C0001"));
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new StatsCommand(CourseId.of("C0001"))));
+        assertTrue(new StatsCommand(null).equals(new StatsCommand(null)));
+        assertFalse(command.equals(new StatsCommand(null)));
+        assertFalse(command.equals(null));
+    }
+}
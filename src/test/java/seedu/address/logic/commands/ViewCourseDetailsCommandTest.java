@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -19,7 +21,6 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.course.Course;
 import seedu.address.model.course.CourseId;
-import seedu.address.model.person.UniquePersonList;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ViewCourseDetailsCommand.
@@ -40,7 +41,7 @@ public class ViewCourseDetailsCommandTest {
         Course courseToShow = new Course(
                 CS1010.getName(),
                 CS1010.getCourseId(),
-                new UniquePersonList(),
+                List.of(),
                 CS1010.getTags()
         );
         courseToShow.addStudent(ALICE);
@@ -59,7 +60,7 @@ public class ViewCourseDetailsCommandTest {
         String expectedMessage = String.format(
                 ViewCourseDetailsCommand.MESSAGE_SUCCESS,
                 courseToShow.getName().fullName,
-                courseToShow.getCourseId().value,
+                courseToShow.getCourseId().getValue(),
                 2
         );
 
@@ -72,7 +73,7 @@ public class ViewCourseDetailsCommandTest {
         Course courseToShow = new Course(
                 MA1521.getName(),
                 MA1521.getCourseId(),
-                new UniquePersonList(),
+                List.of(),
                 MA1521.getTags()
         );
 
@@ -83,7 +84,7 @@ public class ViewCourseDetailsCommandTest {
         String expectedMessage = String.format(
                 ViewCourseDetailsCommand.MESSAGE_SUCCESS,
                 courseToShow.getName().fullName,
-                courseToShow.getCourseId().value,
+                courseToShow.getCourseId().getValue(),
                 0
         );
 
@@ -93,8 +94,8 @@ public class ViewCourseDetailsCommandTest {
 
     @Test
     public void equals() {
-        CourseId courseId1 = new CourseId("C1234");
-        CourseId courseId2 = new CourseId("C5678");
+        CourseId courseId1 = CourseId.of("C1234");
+        CourseId courseId2 = CourseId.of("C5678");
 
         ViewCourseDetailsCommand viewCommand1 = new ViewCourseDetailsCommand(courseId1);
         ViewCourseDetailsCommand viewCommand1Copy = new ViewCourseDetailsCommand(courseId1);
@@ -118,7 +119,7 @@ public class ViewCourseDetailsCommandTest {
 
     @Test
     public void toStringMethod() {
-        CourseId targetId = new CourseId("C1234");
+        CourseId targetId = CourseId.of("C1234");
         ViewCourseDetailsCommand command = new ViewCourseDetailsCommand(targetId);
         String expected = ViewCourseDetailsCommand.class.getCanonicalName() + "{targetId=" + targetId + "}";
         assertEquals(expected, command.toString());
@@ -19,7 +19,7 @@ public class AddStudentCommandParserTest {
         assertParseSuccess(
                 parser,
                 "S00001 C0001",
-                new AddStudentCommand(new StudentId("S00001"), new CourseId("C0001"))
+                new AddStudentCommand(StudentId.of("S00001"), CourseId.of("C0001"))
         );
     }
 
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddStudentsCommand;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.StudentId;
+
+public class AddStudentsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddStudentsCommand.MESSAGE_USAGE);
+
+    private final AddStudentsCommandParser parser = new AddStudentsCommandParser();
+
+    @Test
+    public void parse_rangesAndLists_returnsAddStudentsCommand() {
+        List<StudentId> expectedIds = List.of(StudentId.of("S00003"), StudentId.of("S00001"), StudentId.of("S00002"),
+                StudentId.of("S00007"));
+        assertParseSuccess(parser, " S00003,S00001-S00003  S00007 C0001",
+                new AddStudentsCommand(expectedIds, CourseId.of("C0001")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " C0001", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " , C0001", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " S00005-S00001 C0001", ParserUtil.MESSAGE_INVALID_STUDENT_ID_RANGE);
+        assertParseFailure(parser, " S00001 S00002", CourseId.MESSAGE_CONSTRAINTS);
+    }
+}
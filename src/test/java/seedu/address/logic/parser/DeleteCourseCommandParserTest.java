@@ -15,7 +15,7 @@ public class DeleteCourseCommandParserTest {
     @Test
     public void parse_validCourseId_success() throws Exception {
         DeleteCourseCommand command = (DeleteCourseCommand) parser.parse("C1234");
-        assertEquals(new DeleteCourseCommand(new CourseId("C1234")), command);
+        assertEquals(new DeleteCourseCommand(CourseId.of("C1234")), command);
     }
 
     @Test
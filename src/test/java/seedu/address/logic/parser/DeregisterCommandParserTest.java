@@ -22,11 +22,11 @@ public class DeregisterCommandParserTest {
 
     @Test
     public void parse_validArgs_returnsDeregisterCommand() {
-        StudentId validStudentId = new StudentId("S00001");
+        StudentId validStudentId = StudentId.of("S00001");
         assertParseSuccess(parser, "S00001", new DeregisterCommand(validStudentId));
 
         // Test with different valid student ID
-        StudentId anotherValidStudentId = new StudentId("S99999");
+        StudentId anotherValidStudentId = StudentId.of("S99999");
         assertParseSuccess(parser, "S99999", new DeregisterCommand(anotherValidStudentId));
     }
 
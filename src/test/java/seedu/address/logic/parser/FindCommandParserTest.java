@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.query.QueryField;
+import seedu.address.model.query.QueryTerm;
+import seedu.address.model.query.StudentQuery;
+
+public class FindCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+    private final FindCommandParser parser = new FindCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFindCommand() {
+        StudentQuery query = new StudentQuery(List.of(
+                new QueryTerm(QueryField.COURSE, List.of("C0001")),
+                new QueryTerm(QueryField.GENDER, List.of("Female")),
+                new QueryTerm(QueryField.NAME, List.of("ali", "bo"))));
+
+        // terms are grouped by field whatever their order, values are normalised
+        assertParseSuccess(parser, " name/ali gender/female course/C0001 name/bo", new FindCommand(query, false));
+        assertParseSuccess(parser, " explain course/C0001 gender/Female name/ali  bo",
+                new FindCommand(query, true));
+
+        StudentQuery byIds = new StudentQuery(List.of(new QueryTerm(QueryField.ID, List.of("S00001", "S00002"))));
+        assertParseSuccess(parser, " id/S00001 S00002", new FindCommand(byIds, false));
+
+        StudentQuery byCourses = new StudentQuery(List.of(
+                new QueryTerm(QueryField.COURSE, List.of("C0001", QueryTerm.NO_COURSE))));
+        assertParseSuccess(parser, " course/C0001 None", new FindCommand(byCourses, false));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " explain", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " describe name/ali", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " name/", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " id/1", StudentId.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " course/1", CourseId.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " gender/robot", Gender.MESSAGE_CONSTRAINTS);
+    }
+}
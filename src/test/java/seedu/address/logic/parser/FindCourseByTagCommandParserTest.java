@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCourseByTagCommand;
+import seedu.address.model.tag.Tag;
+
+public class FindCourseByTagCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCourseByTagCommand.MESSAGE_USAGE);
+
+    private final FindCourseByTagCommandParser parser = new FindCourseByTagCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFindCourseByTagCommand() {
+        Set<Tag> tags = Set.of(new Tag("core"), new Tag("math"));
+
+        // no match mode -> any
+        assertParseSuccess(parser, " t/core t/math", new FindCourseByTagCommand(tags, false));
+        assertParseSuccess(parser, " any t/core  t/math ", new FindCourseByTagCommand(tags, false));
+        assertParseSuccess(parser, " all t/math t/core", new FindCourseByTagCommand(tags, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " all", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " some t/core", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " t/core t/bad-tag", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -16,8 +16,8 @@ public class FindStudentByIdCommandParserTest {
 
     private FindStudentByIdCommandParser parser = new FindStudentByIdCommandParser();
 
-    private final StudentId first = new StudentId("S00001");
-    private final StudentId second = new StudentId("S00002");
+    private final StudentId first = StudentId.of("S00001");
+    private final StudentId second = StudentId.of("S00002");
 
     @Test
     public void parse_emptyArg_throwsParseException() {
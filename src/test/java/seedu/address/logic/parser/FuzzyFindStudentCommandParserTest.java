@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FuzzyFindStudentCommand;
+
+public class FuzzyFindStudentCommandParserTest {
+
+    private FuzzyFindStudentCommandParser parser = new FuzzyFindStudentCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FuzzyFindStudentCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFuzzyFindStudentCommand() {
+        // no leading and trailing whitespaces
+        FuzzyFindStudentCommand expectedFuzzyFindStudentCommand =
+                new FuzzyFindStudentCommand(Arrays.asList("Alice", "Bob"));
+        assertParseSuccess(parser, "Alice Bob", expectedFuzzyFindStudentCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFuzzyFindStudentCommand);
+    }
+
+}
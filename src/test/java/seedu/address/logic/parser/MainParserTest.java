@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -8,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_COURSE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,6 +17,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.AddStudentsCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CreateCourseCommand;
 import seedu.address.logic.commands.DeleteCourseCommand;
@@ -24,16 +27,25 @@ import seedu.address.logic.commands.EditCourseCommand.EditCourseDescriptor;
 import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.EditStudentCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Target;
 import seedu.address.logic.commands.FindCourseByNameCommand;
 import seedu.address.logic.commands.FindStudentByIdCommand;
 import seedu.address.logic.commands.FindStudentByNameCommand;
+import seedu.address.logic.commands.FuzzyFindStudentCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RegisterCommand;
 import seedu.address.logic.commands.RemoveStudentCommand;
+import seedu.address.logic.commands.RemoveStudentsCommand;
+import seedu.address.logic.commands.SortCoursesCommand;
+import seedu.address.logic.commands.SortStudentsCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.ViewCourseCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
 import seedu.address.model.person.IdMatchesKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -72,7 +84,7 @@ public class MainParserTest {
 
     @Test
     public void parseCommand_deregister() throws Exception {
-        StudentId studentId = new StudentId("S00001");
+        StudentId studentId = StudentId.of("S00001");
         DeregisterCommand command = (DeregisterCommand) parser.parseCommand(
                 DeregisterCommand.COMMAND_WORD + " " + studentId);
         assertEquals(new DeregisterCommand(studentId), command);
@@ -124,10 +136,65 @@ public class MainParserTest {
         assertEquals(new FindStudentByNameCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_fuzzyFind() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        FuzzyFindStudentCommand command = (FuzzyFindStudentCommand) parser.parseCommand(
+                FuzzyFindStudentCommand.COMMAND_WORD + " " + String.join(" ", keywords));
+        assertEquals(new FuzzyFindStudentCommand(keywords), command);
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortStudentsCommand(SortStudentsCommand.KEY_NAME, true),
+                parser.parseCommand(SortStudentsCommand.COMMAND_WORD + " name desc"));
+        assertEquals(new SortCoursesCommand(SortCoursesCommand.KEY_SIZE, false),
+                parser.parseCommand(SortCoursesCommand.COMMAND_WORD + " size"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(null), parser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(CourseId.of("C0001")), parser.parseCommand(StatsCommand.COMMAND_WORD + " C0001"));
+    }
+
+    @Test
+    public void parseCommand_bulkEnrollment() throws Exception {
+        List<StudentId> studentIds = List.of(StudentId.of("S00001"), StudentId.of("S00002"));
+        assertEquals(new AddStudentsCommand(studentIds, CourseId.of("C0001")),
+                parser.parseCommand(AddStudentsCommand.COMMAND_WORD + " S00001-S00002 C0001"));
+        assertEquals(new RemoveStudentsCommand(studentIds, CourseId.of("C0001")),
+                parser.parseCommand(RemoveStudentsCommand.COMMAND_WORD + " S00001,S00002 C0001"));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("data", "students.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " data/students.csv"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ImportCommand.MESSAGE_USAGE), () -> parser.parseCommand(ImportCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Target.STUDENTS, null, false, false, Paths.get("students.csv")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " students students.csv"));
+        assertEquals(new ExportCommand(Target.COURSES, null, true, false, Paths.get("data", "my courses.jsonl")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " courses filtered data/my courses.jsonl"));
+        assertEquals(new ExportCommand(Target.ROSTER, CourseId.of("C0001"), false, false, Paths.get("roster.tsv")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " roster C0001 roster.tsv"));
+        assertEquals(new ExportCommand(Target.STUDENTS, null, true, true, Paths.get("students.csv")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " students filtered overwrite students.csv"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ExportCommand.MESSAGE_USAGE), () -> parser.parseCommand(ExportCommand.COMMAND_WORD + " roster C0001"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ExportCommand.MESSAGE_USAGE), () -> parser.parseCommand(ExportCommand.COMMAND_WORD + " people a.csv"));
+    }
+
     @Test
     public void parseCommand_findById() throws Exception {
         List<String> keywords = Arrays.asList("S00001", "S00002", "S00003");
-        List<StudentId> ids = keywords.stream().map(StudentId::new).toList();
+        List<StudentId> ids = keywords.stream().map(StudentId::of).toList();
         FindStudentByIdCommand command = (FindStudentByIdCommand) parser.parseCommand(
                 FindStudentByIdCommand.COMMAND_WORD
                         + " "
@@ -159,6 +226,17 @@ public class MainParserTest {
                 parser.parseCommand("unknownCommand"));
     }
 
+    @Test
+    public void parseCommand_everyCommandWord_recognised() {
+        for (String commandWord : MainParser.COMMAND_WORDS) {
+            try {
+                parser.parseCommand(commandWord);
+            } catch (ParseException e) {
+                assertNotEquals(MESSAGE_UNKNOWN_COMMAND, e.getMessage());
+            }
+        }
+    }
+
     @Test
     public void parseCommand_viewCourse() throws Exception {
         assertTrue(parser.parseCommand(ViewCourseCommand.COMMAND_WORD) instanceof ViewCourseCommand);
@@ -19,7 +19,7 @@ public class RemoveStudentCommandParserTest {
         assertParseSuccess(
                 parser,
                 "S00001 C0001",
-                new RemoveStudentCommand(new StudentId("S00001"), new CourseId("C0001"))
+                new RemoveStudentCommand(StudentId.of("S00001"), CourseId.of("C0001"))
         );
     }
 
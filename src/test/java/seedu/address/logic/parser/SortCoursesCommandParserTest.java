@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCoursesCommand;
+
+public class SortCoursesCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCoursesCommand.MESSAGE_USAGE);
+
+    private final SortCoursesCommandParser parser = new SortCoursesCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCoursesCommand() {
+        assertParseSuccess(parser, " name", new SortCoursesCommand(SortCoursesCommand.KEY_NAME, false));
+        assertParseSuccess(parser, "  id   desc ", new SortCoursesCommand(SortCoursesCommand.KEY_ID, true));
+        assertParseSuccess(parser, " size desc", new SortCoursesCommand(SortCoursesCommand.KEY_SIZE, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " phone", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " name asc", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " name desc extra", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortStudentsCommand;
+
+public class SortStudentsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortStudentsCommand.MESSAGE_USAGE);
+
+    private final SortStudentsCommandParser parser = new SortStudentsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortStudentsCommand() {
+        assertParseSuccess(parser, " name", new SortStudentsCommand(SortStudentsCommand.KEY_NAME, false));
+        assertParseSuccess(parser, "  id   desc ", new SortStudentsCommand(SortStudentsCommand.KEY_ID, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " phone", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " name asc", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " name desc extra", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -16,11 +16,11 @@ public class ViewCourseDetailsCommandParserTest {
     @Test
     public void parse_validArgs_returnsViewCourseDetailsCommand() {
         // No leading/trailing whitespaces
-        CourseId expectedCourseId = new CourseId("C1234");
+        CourseId expectedCourseId = CourseId.of("C1234");
         assertParseSuccess(parser, "C1234", new ViewCourseDetailsCommand(expectedCourseId));
 
         // Leading/trailing whitespaces
-        assertParseSuccess(parser, "  C5678  ", new ViewCourseDetailsCommand(new CourseId("C5678")));
+        assertParseSuccess(parser, "  C5678  ", new ViewCourseDetailsCommand(CourseId.of("C5678")));
     }
 
     @Test
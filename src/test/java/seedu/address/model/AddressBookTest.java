@@ -110,6 +110,35 @@ public class AddressBookTest {
                 Integer.parseInt(thirdId.getValue().substring(1)));
     }
 
+    @Test
+    public void getLatestStudentId_highestStudentRemoved_doesNotReuseId() {
+        Person first = new PersonBuilder().withStudentId("S00001").build();
+        Person second = new PersonBuilder().withStudentId("S00002").build();
+        addressBook.addPerson(first);
+        addressBook.addPerson(second);
+        addressBook.removePerson(second);
+        assertEquals(StudentId.of("S00003"), addressBook.getLatestStudentId());
+    }
+
+    @Test
+    public void resetData_withHighWaterMark_restoresHighWaterMark() {
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withStudentId("S00001").build());
+        original.setStudentIdHighWaterMark(41);
+        addressBook.resetData(original);
+        assertEquals(41, addressBook.getStudentIdHighWaterMark());
+        assertEquals(StudentId.of("S00042"), addressBook.getLatestStudentId());
+    }
+
+    @Test
+    public void setStudentIdHighWaterMark_lowerMark_lowersToHighestIdInUse() {
+        addressBook.addPerson(new PersonBuilder().withStudentId("S00003").build());
+        addressBook.setStudentIdHighWaterMark(41);
+        addressBook.setStudentIdHighWaterMark(1);
+        assertEquals(3, addressBook.getStudentIdHighWaterMark());
+        assertEquals(StudentId.of("S00004"), addressBook.getLatestStudentId());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -130,6 +159,22 @@ public class AddressBookTest {
         assertFalse(addressBook.isEmpty());
     }
 
+    @Test
+    public void getVersion_changesWithEveryModification() {
+        long initial = addressBook.getVersion();
+        assertNotEquals(new AddressBook().getVersion(), initial);
+
+        addressBook.addPerson(ALICE);
+        long afterAdd = addressBook.getVersion();
+        assertNotEquals(initial, afterAdd);
+        assertEquals(afterAdd, addressBook.snapshot().getVersion());
+        addressBook.hasPerson(ALICE);
+        assertEquals(afterAdd, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertNotEquals(afterAdd, addressBook.getVersion());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -149,5 +194,15 @@ public class AddressBookTest {
         public boolean isEmpty() {
             return persons.isEmpty();
         }
+
+        @Override
+        public int getStudentIdHighWaterMark() {
+            return 0;
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
@@ -0,0 +1,107 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.CourseBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ChangeRecorderTest {
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void takeChanges_nothingChanged_returnsEmpty() {
+        assertTrue(model.takeChanges().isEmpty());
+        model.addPerson(ALICE);
+        model.takeChanges();
+        assertTrue(model.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void takeChanges_afterEdits_replaysToSameData() {
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        AddressBook addressBook = new AddressBook(model.getAddressBook(), new UserPrefs());
+        CourseBook courseBook = new CourseBook(model.getCourseBook());
+        model.takeChanges();
+
+        model.addPerson(CARL);
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        model.deletePerson(BENSON);
+        model.addCourse(new CourseBuilder().withCourseId("C0001").build());
+        model.addCourse(new CourseBuilder().withCourseId("C0002").build());
+        Course course = model.getCourseById(CourseId.of("C0001"));
+        course.addStudent(CARL);
+        course.addStudent(ALICE);
+        course.removeStudent(CARL);
+        model.setCourse(course, new CourseBuilder(course).withName("Renamed").build());
+        model.deleteCourse(model.getCourseById(CourseId.of("C0002")));
+        ChangeSet changes = model.takeChanges();
+
+        assertFalse(changes.isEmpty());
+        changes.applyTo(addressBook, courseBook);
+        assertSameData(addressBook, courseBook);
+    }
+
+    @Test
+    public void takeChanges_replayedTwice_givesSameData() {
+        AddressBook addressBook = new AddressBook(model.getAddressBook(), new UserPrefs());
+        CourseBook courseBook = new CourseBook(model.getCourseBook());
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addCourse(new CourseBuilder().withCourseId("C0001").build());
+        model.getCourseById(CourseId.of("C0001")).addStudent(ALICE);
+        ChangeSet first = model.takeChanges();
+        model.getCourseById(CourseId.of("C0001")).removeStudent(ALICE);
+        model.deletePerson(ALICE);
+        ChangeSet second = model.takeChanges();
+
+        first.applyTo(addressBook, courseBook);
+        second.applyTo(addressBook, courseBook);
+        first.applyTo(addressBook, courseBook);
+        second.applyTo(addressBook, courseBook);
+        assertSameData(addressBook, courseBook);
+    }
+
+    @Test
+    public void takeChanges_tooManyChanges_returnsOverflowed() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 1; i <= ChangeRecorder.MAX_RECORDED_CHANGES + 1; i++) {
+            persons.add(new PersonBuilder().withStudentId(String.format("S%05d", i)).build());
+        }
+        model.addPersons(persons);
+
+        ChangeSet changes = model.takeChanges();
+        assertTrue(changes.isOverflowed());
+        assertEquals(List.of(), changes.getChanges());
+        assertEquals(persons.size(), changes.getStudentIdHighWaterMark());
+        assertFalse(model.takeChanges().isOverflowed());
+    }
+
+    private void assertSameData(AddressBook addressBook, CourseBook courseBook) {
+        assertEquals(model.getAddressBook().getPersonList(), addressBook.getPersonList());
+        assertEquals(rosters(model.getCourseBook()), rosters(courseBook));
+        assertEquals(model.getCourseBook().getCourseList(), courseBook.getCourseList());
+        assertEquals(model.getAddressBook().getStudentIdHighWaterMark(), addressBook.getStudentIdHighWaterMark());
+    }
+
+    private static Map<String, List<String>> rosters(ReadOnlyCourseBook courseBook) {
+        return courseBook.getCourseList().stream()
+                .collect(Collectors.toMap(course -> course.getCourseId().getValue(), Course::getStudentIds));
+    }
+}
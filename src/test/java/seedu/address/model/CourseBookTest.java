@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -25,7 +26,10 @@ import seedu.address.model.course.Course;
 import seedu.address.model.course.CourseId;
 import seedu.address.model.course.exceptions.CourseNotFoundException;
 import seedu.address.model.course.exceptions.DuplicateCourseIdException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 import seedu.address.testutil.CourseBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class CourseBookTest {
 
@@ -146,7 +150,7 @@ public class CourseBookTest {
     @Test
     public void getCourseById_idNotInBook_returnsNull() {
         courseBook.addCourse(CS1010);
-        assertNull(courseBook.getCourseById(new CourseId("C9999")));
+        assertNull(courseBook.getCourseById(CourseId.of("C9999")));
     }
 
     @Test
@@ -212,6 +216,41 @@ public class CourseBookTest {
         assertFalse(courseBook.isEmpty());
     }
 
+    @Test
+    public void getVersion_changesWithEveryModificationIncludingRosters() {
+        long initial = courseBook.getVersion();
+        Course course = new CourseBuilder().withCourseId("C0001").build();
+        courseBook.addCourse(course);
+        long afterAdd = courseBook.getVersion();
+        assertNotEquals(initial, afterAdd);
+        assertEquals(afterAdd, courseBook.snapshot().getVersion());
+
+        course.addStudentId(StudentId.of("S00001"));
+        long afterEnroll = courseBook.getVersion();
+        assertNotEquals(afterAdd, afterEnroll);
+        course.removeStudentId(StudentId.of("S00001"));
+        assertNotEquals(afterEnroll, courseBook.getVersion());
+    }
+
+    @Test
+    public void constructor_copiedBook_rostersChangeIndependently() {
+        Course course = new CourseBuilder().withCourseId("C0001").build();
+        courseBook.addCourse(course);
+        CourseBook copy = new CourseBook(courseBook);
+        Person first = new PersonBuilder().withStudentId("S00001").build();
+        Person second = new PersonBuilder().withStudentId("S00002").build();
+        long version = courseBook.getVersion();
+
+        copy.getCourseList().get(0).addStudentId(StudentId.of("S00001"));
+        assertFalse(course.containsStudentId(StudentId.of("S00001")));
+        assertEquals(version, courseBook.getVersion());
+        assertTrue(courseBook.getCoursesOfStudent(first).isEmpty());
+
+        course.addStudentId(StudentId.of("S00002"));
+        assertFalse(copy.getCourseList().get(0).containsStudentId(StudentId.of("S00002")));
+        assertTrue(copy.getCoursesOfStudent(second).isEmpty());
+    }
+
     /**
      * A stub ReadOnlyCourseBook whose courses list can violate interface constraints.
      * This is used for testing scenarios with duplicate courses.
@@ -232,5 +271,10 @@ public class CourseBookTest {
         public boolean isEmpty() {
             return courses.isEmpty();
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
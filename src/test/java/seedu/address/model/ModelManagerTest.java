@@ -2,23 +2,32 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCourses.CS1010;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseName;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.CourseBookBuilder;
+import seedu.address.testutil.CourseBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -95,6 +104,56 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getFilteredPersonPage_byPosition_returnsWindow() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build());
+
+        assertEquals(new Page<>(List.of(ALICE, BENSON), 3, true), modelManager.getFilteredPersonPage(0, 2));
+        assertEquals(new Page<>(List.of(CARL), 3, false), modelManager.getFilteredPersonPage(2, 2));
+        assertEquals(new Page<>(List.of(), 3, false), modelManager.getFilteredPersonPage(5, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> modelManager.getFilteredPersonPage(-1, 2));
+        assertThrows(IllegalArgumentException.class, () -> modelManager.getFilteredPersonPage(0, 0));
+    }
+
+    @Test
+    public void getFilteredPersonPageAfter_byStudentId_skipsFilteredOutPersons() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build());
+        modelManager.updateFilteredPersonList(person -> !person.equals(BENSON));
+
+        Page<Person> firstPage = modelManager.getFilteredPersonPageAfter(null, 1);
+        assertEquals(new Page<>(List.of(ALICE), 2, true), firstPage);
+        assertEquals(new Page<>(List.of(CARL), 2, false),
+                modelManager.getFilteredPersonPageAfter(ALICE.getStudentId(), 1));
+
+        // persons removed before the cursor do not shift the next page
+        modelManager.deletePerson(ALICE);
+        assertEquals(new Page<>(List.of(CARL), 1, false),
+                modelManager.getFilteredPersonPageAfter(ALICE.getStudentId(), 5));
+    }
+
+    @Test
+    public void getFilteredPersonPageAfter_sortedAndEdited_followsStudentIdOfView() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build());
+        modelManager.sortFilteredPersonList(Comparator.comparing((Person person) -> person.getName().fullName)
+                .reversed());
+        modelManager.updateFilteredPersonList(person -> !person.equals(ALICE));
+
+        assertEquals(new Page<>(List.of(BENSON, CARL), 2, false), modelManager.getFilteredPersonPageAfter(null, 5));
+
+        // edits and filter changes leave the pages and their count in step with the view
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Tan").build();
+        modelManager.setPerson(CARL, editedCarl);
+        assertEquals(new Page<>(List.of(editedCarl), 2, false),
+                modelManager.getFilteredPersonPageAfter(BENSON.getStudentId(), 5));
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+        assertEquals(new Page<>(List.of(BENSON), 1, false), modelManager.getFilteredPersonPageAfter(null, 5));
+        assertEquals(new Page<>(List.of(), 1, false),
+                modelManager.getFilteredPersonPageAfter(BENSON.getStudentId(), 5));
+    }
+
     @Test
     public void setCourseBookFilePath_nullPath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setCourseBookFilePath(null));
@@ -128,6 +187,185 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredCourseList().remove(0));
     }
 
+    @Test
+    public void getCoursesOfStudent_rosterChanges_reflectedInResult() {
+        Course programming = new CourseBuilder().withCourseId("C0101").build();
+        Course algorithms = new CourseBuilder().withName("Algorithms").withCourseId("C0102").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addCourse(programming);
+        modelManager.addCourse(algorithms);
+        assertFalse(modelManager.checkStudentInAllCourse(ALICE));
+
+        programming.addStudent(ALICE);
+        algorithms.addStudent(ALICE);
+        assertEquals(List.of(programming, algorithms), modelManager.getCoursesOfStudent(ALICE));
+        assertTrue(modelManager.checkStudentInAllCourse(ALICE));
+
+        programming.removeStudent(ALICE);
+        assertEquals(List.of(algorithms), modelManager.getCoursesOfStudent(ALICE));
+
+        modelManager.deleteCourse(algorithms);
+        assertEquals(List.of(), modelManager.getCoursesOfStudent(ALICE));
+        assertFalse(modelManager.checkStudentInAllCourse(ALICE));
+    }
+
+    @Test
+    public void getCoursesOfStudent_courseReplaced_returnsEditedCourse() {
+        Course programming = new CourseBuilder().withCourseId("C0101").build();
+        modelManager.addCourse(programming);
+        programming.addStudent(BENSON);
+
+        Course editedProgramming = new Course(new CourseName("Programming Methodology"), programming.getCourseId(),
+                programming.getEnrolledStudentIds(), programming.getTags());
+        modelManager.setCourse(programming, editedProgramming);
+        assertEquals(List.of(editedProgramming), modelManager.getCoursesOfStudent(BENSON));
+        assertSame(editedProgramming, modelManager.getCoursesOfStudent(BENSON).get(0));
+    }
+
+    @Test
+    public void getStudentsOfCourse_studentEdited_returnsEditedStudent() {
+        Course programming = new CourseBuilder().withCourseId("C0101").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addCourse(programming);
+        programming.addStudent(BENSON);
+        programming.addStudent(ALICE);
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(BENSON, editedAlice), modelManager.getStudentsOfCourse(programming));
+        assertEquals(List.of(BENSON.getStudentId(), ALICE.getStudentId()), programming.getEnrolledStudentIds());
+    }
+
+    @Test
+    public void snapshot_modelChangedAfterwards_snapshotUnchanged() {
+        Course programming = new CourseBuilder().withCourseId("C0101").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addCourse(programming);
+        programming.addStudent(ALICE);
+
+        ModelSnapshot snapshot = modelManager.snapshot();
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        modelManager.deletePerson(BENSON);
+        modelManager.addPerson(CARL);
+        programming.addStudent(CARL);
+        modelManager.addCourse(new CourseBuilder().withName("Algorithms").withCourseId("C0102").build());
+
+        assertEquals(List.of(ALICE, BENSON), snapshot.getAddressBook().getPersonList());
+        assertEquals(List.of(programming), snapshot.getCourseBook().getCourseList());
+        assertEquals(List.of(ALICE.getStudentId()),
+                snapshot.getCourseBook().getCourseList().get(0).getEnrolledStudentIds());
+
+        ModelSnapshot laterSnapshot = modelManager.snapshot();
+        assertEquals(modelManager.getAddressBook().getPersonList(), laterSnapshot.getAddressBook().getPersonList());
+        assertEquals(List.of(ALICE.getStudentId(), CARL.getStudentId()),
+                laterSnapshot.getCourseBook().getCourseList().get(0).getEnrolledStudentIds());
+        assertEquals(2, laterSnapshot.getCourseBook().getCourseList().size());
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_rankedByCloseness() {
+        Person annabel = new PersonBuilder().withName("Annabel Lim").withStudentId("S00101").build();
+        Person joanna = new PersonBuilder().withName("Joanna Tan").withStudentId("S00102").build();
+        Person ann = new PersonBuilder().withName("Ann Lee").withStudentId("S00103").build();
+        modelManager.addPerson(joanna);
+        modelManager.addPerson(annabel);
+        modelManager.addPerson(ann);
+        modelManager.addPerson(BENSON);
+
+        modelManager.updateFilteredPersonListByName(List.of("ANN"));
+        assertEquals(List.of(ann, annabel, joanna), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(joanna, annabel, ann, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_thenEdits_followedInRankedOrder() {
+        Person annabel = new PersonBuilder().withName("Annabel Lim").withStudentId("S00101").build();
+        Person ann = new PersonBuilder().withName("Ann Lee").withStudentId("S00102").build();
+        modelManager.addPerson(annabel);
+        modelManager.addPerson(ann);
+        modelManager.addPerson(BENSON);
+
+        modelManager.updateFilteredPersonListByName(List.of("ANN"));
+        Person editedAnnabel = new PersonBuilder(annabel).withPhone("99999999").build();
+        modelManager.setPerson(annabel, editedAnnabel);
+        assertEquals(List.of(ann, editedAnnabel), modelManager.getFilteredPersonList());
+        assertEquals(List.of(editedAnnabel, ann), modelManager.getFilteredPersonPageAfter(null, 10).getItems());
+
+        modelManager.deletePerson(ann);
+        assertEquals(List.of(editedAnnabel), modelManager.getFilteredPersonList());
+        assertEquals(List.of(editedAnnabel), modelManager.getFilteredPersonPageAfter(null, 10).getItems());
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_differentMatchesBackToBack_rankedByNewSearch() {
+        Person alexLi = new PersonBuilder().withName("Alex Li").withStudentId("S00101").build();
+        Person alexTan = new PersonBuilder().withName("Alex Tan").withStudentId("S00102").build();
+        Person lina = new PersonBuilder().withName("Lina Wong").withStudentId("S00103").build();
+        Person li = new PersonBuilder().withName("Li Mei").withStudentId("S00104").build();
+        modelManager.addPerson(alexLi);
+        modelManager.addPerson(alexTan);
+        modelManager.addPerson(lina);
+        modelManager.addPerson(li);
+
+        modelManager.updateFilteredPersonListByName(List.of("alex"));
+        assertEquals(List.of(alexLi, alexTan), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonListByName(List.of("li"));
+        assertEquals(3, modelManager.getFilteredPersonList().size());
+        assertTrue(modelManager.getFilteredPersonList().containsAll(List.of(alexLi, lina, li)));
+    }
+
+    @Test
+    public void updateFilteredPersonListByFuzzyName_afterOtherSearches_rankedByNewSearch() {
+        Person kurz = new PersonBuilder().withName("Anna Kurz").withStudentId("S00101").build();
+        Person kunz = new PersonBuilder().withName("Bella Kunz").withStudentId("S00102").build();
+        Person meier = new PersonBuilder().withName("Carla Meier").withStudentId("S00103").build();
+        Person meyer = new PersonBuilder().withName("Dora Meyer").withStudentId("S00104").build();
+        modelManager.addPerson(kurz);
+        modelManager.addPerson(kunz);
+        modelManager.addPerson(meier);
+        modelManager.addPerson(meyer);
+
+        modelManager.updateFilteredPersonListByFuzzyName(List.of("kurz"), 10);
+        assertEquals(List.of(kurz, kunz), modelManager.getFilteredPersonList());
+
+        // fuzzy -> fuzzy
+        modelManager.updateFilteredPersonListByFuzzyName(List.of("meier"), 10);
+        assertEquals(List.of(meier, meyer), modelManager.getFilteredPersonList());
+
+        // fuzzy -> name
+        modelManager.updateFilteredPersonListByName(List.of("anna", "bella"));
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+        assertTrue(modelManager.getFilteredPersonList().containsAll(List.of(kurz, kunz)));
+
+        // name -> fuzzy
+        modelManager.updateFilteredPersonListByFuzzyName(List.of("meyer"), 10);
+        assertEquals(List.of(meyer, meier), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredCourseListByName_differentMatchesBackToBack_rankedByNewSearch() {
+        Course programming = new CourseBuilder().withName("Programming").withCourseId("C0101").build();
+        Course programmingLab = new CourseBuilder().withName("Programming Lab").withCourseId("C0102").build();
+        Course physics = new CourseBuilder().withName("Physics").withCourseId("C0103").build();
+        Course physicsLab = new CourseBuilder().withName("Physics Lab").withCourseId("C0104").build();
+        modelManager.addCourse(programming);
+        modelManager.addCourse(programmingLab);
+        modelManager.addCourse(physics);
+        modelManager.addCourse(physicsLab);
+
+        modelManager.updateFilteredCourseListByName(List.of("programming"));
+        assertEquals(2, modelManager.getFilteredCourseList().size());
+
+        modelManager.updateFilteredCourseListByName(List.of("lab"));
+        assertEquals(2, modelManager.getFilteredCourseList().size());
+        assertTrue(modelManager.getFilteredCourseList().containsAll(List.of(programmingLab, physicsLab)));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -3,19 +3,21 @@ package seedu.address.model.course;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
 public class CourseIdTest {
 
     @Test
-    public void constructor_autoGeneratesUniqueCourseIds() {
-        CourseId id1 = new CourseId();
-        CourseId id2 = new CourseId();
-        CourseId id3 = new CourseId();
+    public void fromNumber_differentNumbers_uniqueCourseIds() {
+        CourseId id1 = CourseId.fromNumber(1);
+        CourseId id2 = CourseId.fromNumber(2);
+        CourseId id3 = CourseId.fromNumber(3);
 
-        // Each new CourseId should be unique
+        // Each CourseId should be unique
         assertNotEquals(id1, id2);
         assertNotEquals(id2, id3);
         assertNotEquals(id1, id3);
@@ -23,8 +25,8 @@ public class CourseIdTest {
 
     @Test
     public void toString_correctFormat() {
-        CourseId id = new CourseId();
-        String idString = id.value;
+        CourseId id = CourseId.fromNumber(7);
+        String idString = id.getValue();
 
         // Should start with 'C'
         assertTrue(idString.startsWith("C"));
@@ -38,10 +40,8 @@ public class CourseIdTest {
 
     @Test
     public void toString_paddedWithZeros() {
-        // Create multiple course IDs to test padding
-        // Assuming we start from a clean state, but this test is general
-        CourseId id = new CourseId();
-        String idString = id.value;
+        CourseId id = CourseId.fromNumber(42);
+        String idString = id.getValue();
 
         // Should have exactly 4 digits after 'C'
         assertEquals(4, idString.substring(1).length());
@@ -50,6 +50,19 @@ public class CourseIdTest {
         assertTrue(idString.substring(1).matches("\\d{4}"));
     }
 
+    @Test
+    public void of_sameValue_returnsCanonicalInstance() {
+        assertSame(CourseId.of("C0042"), CourseId.of("C0042"));
+        assertSame(CourseId.of("C0042"), CourseId.fromNumber(42));
+        assertEquals("C0042", CourseId.fromNumber(42).getValue());
+    }
+
+    @Test
+    public void of_invalidValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CourseId.of("C12345"));
+        assertThrows(IllegalArgumentException.class, () -> CourseId.fromNumber(10000));
+    }
+
     // ================== isValidCourseId tests ======================
 
     @Test
@@ -80,8 +93,8 @@ public class CourseIdTest {
 
     @Test
     public void equals() {
-        CourseId id1 = new CourseId();
-        CourseId id2 = new CourseId();
+        CourseId id1 = CourseId.fromNumber(1);
+        CourseId id2 = CourseId.fromNumber(2);
 
         // same object -> returns true
         assertTrue(id1.equals(id1));
@@ -98,14 +111,14 @@ public class CourseIdTest {
 
     @Test
     public void hashCode_sameId_sameHashCode() {
-        CourseId id = new CourseId();
-        assertEquals(id.hashCode(), id.hashCode());
+        CourseId id = CourseId.fromNumber(1);
+        assertEquals(id.hashCode(), CourseId.of("C0001").hashCode());
     }
 
     @Test
     public void hashCode_differentIds_differentHashCodes() {
-        CourseId id1 = new CourseId();
-        CourseId id2 = new CourseId();
+        CourseId id1 = CourseId.fromNumber(1);
+        CourseId id2 = CourseId.fromNumber(2);
         assertNotEquals(id1.hashCode(), id2.hashCode());
     }
 }
@@ -2,6 +2,8 @@ package seedu.address.model.course;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_COURSE_ID_C2660;
@@ -9,12 +11,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_COURSE_NAME_ENG
 import static seedu.address.testutil.TypicalCourses.CS1010;
 import static seedu.address.testutil.TypicalCourses.CS2040;
 
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.IntBitmap;
 import seedu.address.model.course.exceptions.CourseNotFoundException;
 import seedu.address.model.course.exceptions.DuplicateCourseIdException;
 import seedu.address.model.tag.Tag;
@@ -33,8 +38,8 @@ public class CourseListTest {
     public void setUp() {
         courseList = new CourseList();
         emptyTags = new HashSet<>();
-        mathematics = new Course(new CourseName("Mathematics"), new CourseId("C0001"), emptyTags);
-        physics = new Course(new CourseName("Physics"), new CourseId("C0002"), emptyTags);
+        mathematics = new Course(new CourseName("Mathematics"), CourseId.of("C0001"), emptyTags);
+        physics = new Course(new CourseName("Physics"), CourseId.of("C0002"), emptyTags);
     }
 
     @Test
@@ -152,6 +157,50 @@ public class CourseListTest {
         assertTrue(courseList.contains(physics));
     }
 
+    @Test
+    public void removeAndSetCourse_afterEarlierRemovals_changeTheCoursesOwnPosition() {
+        Course chemistry = new Course(new CourseName("Chemistry"), CourseId.of("C0003"), emptyTags);
+        Course biology = new Course(new CourseName("Biology"), CourseId.of("C0004"), emptyTags);
+        courseList.setCourses(List.of(mathematics, physics, chemistry));
+        courseList.remove(mathematics);
+        courseList.add(biology);
+        Course editedChemistry = new CourseBuilder(chemistry).withName("Organic Chemistry").build();
+        courseList.setCourse(chemistry, editedChemistry);
+        courseList.remove(physics);
+
+        assertEquals(List.of(editedChemistry, biology), courseList.asUnmodifiableObservableList());
+        assertEquals(List.of(editedChemistry, biology),
+                courseList.snapshot().toList().stream().map(CourseSnapshot::toCourse).toList());
+    }
+
+    @Test
+    public void getByCourseId_courseInList_returnsCourse() {
+        courseList.add(mathematics);
+        courseList.add(physics);
+        assertSame(physics, courseList.getByCourseId(CourseId.of("C0002")));
+    }
+
+    @Test
+    public void getByCourseId_courseNotInList_returnsNull() {
+        courseList.add(mathematics);
+        assertNull(courseList.getByCourseId(CourseId.of("C0002")));
+    }
+
+    @Test
+    public void getByCourseId_afterSetCourse_returnsEditedCourse() {
+        courseList.add(mathematics);
+        Course editedMathematics = new Course(new CourseName("Calculus"), CourseId.of("C0001"), emptyTags);
+        courseList.setCourse(mathematics, editedMathematics);
+        assertSame(editedMathematics, courseList.getByCourseId(CourseId.of("C0001")));
+    }
+
+    @Test
+    public void setCourses_listWithDuplicateCourseIds_throwsDuplicateCourseIdException() {
+        Course otherMathematics = new Course(new CourseName("Algebra"), CourseId.of("C0001"), emptyTags);
+        assertThrows(DuplicateCourseIdException.class, () ->
+                courseList.setCourses(Arrays.asList(mathematics, otherMathematics)));
+    }
+
     @Test
     public void setCourses_nullCourseList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> courseList.setCourses((CourseList) null));
@@ -256,4 +305,26 @@ public class CourseListTest {
         String result = courseList.toString();
         assertTrue(result.contains("Mathematics"));
     }
+
+    @Test
+    public void findByTags_anyAndAll_followsEdits() {
+        Course core = new CourseBuilder().withCourseId("C0003").withName("Core").withTags("core", "math").build();
+        Course elective = new CourseBuilder().withCourseId("C0004").withName("Elective").withTags("math").build();
+        courseList.add(mathematics);
+        courseList.add(core);
+        courseList.add(elective);
+        Set<Tag> coreAndMath = Set.of(new Tag("core"), new Tag("math"));
+
+        assertEquals(IntBitmap.of(3, 4), courseList.findByTags(coreAndMath, false));
+        assertEquals(IntBitmap.of(3), courseList.findByTags(coreAndMath, true));
+        assertEquals(IntBitmap.of(), courseList.findByTags(Set.of(new Tag("core"), new Tag("art")), true));
+        assertEquals(IntBitmap.of(), courseList.findByTags(Set.of(), true));
+
+        courseList.setCourse(core, new CourseBuilder(core).withTags("core").build());
+        assertEquals(IntBitmap.of(), courseList.findByTags(coreAndMath, true));
+        courseList.remove(elective);
+        assertEquals(IntBitmap.of(3), courseList.findByTags(coreAndMath, false));
+        courseList.setCourses(Arrays.asList(elective));
+        assertEquals(IntBitmap.of(4), courseList.findByTags(coreAndMath, false));
+    }
 }
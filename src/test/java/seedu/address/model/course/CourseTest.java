@@ -9,16 +9,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
 
 public class CourseTest {
 
     private static final CourseName VALID_NAME = new CourseName("Mathematics");
-    private static final CourseId VALID_COURSE_ID = new CourseId("C9999");
+    private static final CourseId VALID_COURSE_ID = CourseId.of("C9999");
     private static final Set<Tag> VALID_TAGS = new HashSet<>();
 
     @Test
@@ -65,7 +69,7 @@ public class CourseTest {
     @Test
     public void equals() {
         Course course1 = new Course(VALID_NAME, VALID_COURSE_ID, VALID_TAGS);
-        CourseId differentId = new CourseId("C0101");
+        CourseId differentId = CourseId.of("C0101");
         Course course2 = new Course(new CourseName("Physics"), differentId, VALID_TAGS);
 
         // same object -> returns true
@@ -96,10 +100,26 @@ public class CourseTest {
         assertEquals(course.hashCode(), course.hashCode());
     }
 
+    @Test
+    public void hashCode_sameCourseIdDifferentFields_sameHashCode() {
+        Course course1 = new Course(VALID_NAME, VALID_COURSE_ID, VALID_TAGS);
+        Course course2 = new Course(new CourseName("Physics"), VALID_COURSE_ID, Set.of(new Tag("science")));
+        assertEquals(course1.hashCode(), course2.hashCode());
+    }
+
+    @Test
+    public void hashCode_rosterChanges_courseStillFoundInHashSet() {
+        Course course = new Course(VALID_NAME, VALID_COURSE_ID, VALID_TAGS);
+        Set<Course> courses = new HashSet<>(Set.of(course));
+        course.addStudentId(ALICE.getStudentId());
+        assertTrue(courses.contains(course));
+        assertTrue(courses.remove(course));
+    }
+
     @Test
     public void hashCode_differentCourses_differentHashCodes() {
         Course course1 = new Course(VALID_NAME, VALID_COURSE_ID, VALID_TAGS);
-        CourseId differentId = new CourseId("C0101");
+        CourseId differentId = CourseId.of("C0101");
         Course course2 = new Course(new CourseName("Physics"), differentId, VALID_TAGS);
         assertNotEquals(course1.hashCode(), course2.hashCode());
     }
@@ -123,7 +143,7 @@ public class CourseTest {
         Course course1 = new Course(VALID_NAME, VALID_COURSE_ID, VALID_TAGS);
         assertEquals(VALID_COURSE_ID, course1.getCourseId());
 
-        CourseId anotherId = new CourseId("C0101");
+        CourseId anotherId = CourseId.of("C0101");
         Course course2 = new Course(VALID_NAME, anotherId, VALID_TAGS);
         assertEquals(anotherId, course2.getCourseId());
 
@@ -140,7 +160,21 @@ public class CourseTest {
     public void addStudent_valid() {
         Course course1 = new Course(VALID_NAME, VALID_COURSE_ID, VALID_TAGS);
         course1.addStudent(ALICE);
-        assertTrue(course1.getStudentList().contains(ALICE));
+        assertTrue(course1.containsStudent(ALICE));
+    }
+
+    @Test
+    public void addStudent_alreadyEnrolled_throwsDuplicatePersonException() {
+        Course course1 = new Course(VALID_NAME, VALID_COURSE_ID, VALID_TAGS);
+        course1.addStudent(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> course1.addStudentId(ALICE.getStudentId()));
+        assertEquals(List.of(ALICE.getStudentId()), course1.getEnrolledStudentIds());
+    }
+
+    @Test
+    public void removeStudent_notEnrolled_throwsPersonNotFoundException() {
+        Course course1 = new Course(VALID_NAME, VALID_COURSE_ID, VALID_TAGS);
+        assertThrows(PersonNotFoundException.class, () -> course1.removeStudent(ALICE));
     }
 
     @Test
@@ -153,9 +187,9 @@ public class CourseTest {
     public void removeStudent_valid() {
         Course course1 = new Course(VALID_NAME, VALID_COURSE_ID, VALID_TAGS);
         course1.addStudent(ALICE);
-        assertTrue(course1.getStudentList().contains(ALICE));
+        assertTrue(course1.containsStudent(ALICE));
         course1.removeStudent(ALICE);
-        assertFalse(course1.getStudentList().contains(ALICE));
+        assertFalse(course1.containsStudent(ALICE));
     }
 
     @Test
@@ -176,4 +210,22 @@ public class CourseTest {
         Course course1 = new Course(VALID_NAME, VALID_COURSE_ID, VALID_TAGS);
         assertFalse(() -> course1.containsStudent(ALICE));
     }
+
+    @Test
+    public void removeStudentId_middleOfRoster_keepsEnrollmentOrderAndSnapshot() {
+        StudentId first = StudentId.fromNumber(7);
+        StudentId second = StudentId.fromNumber(2);
+        StudentId third = StudentId.fromNumber(5);
+        Course course = new Course(VALID_NAME, VALID_COURSE_ID, List.of(first, second, third), VALID_TAGS);
+        CourseSnapshot snapshot = course.snapshot();
+
+        course.removeStudentId(second);
+        course.addStudentId(second);
+        course.removeStudentId(first);
+
+        assertEquals(List.of(third, second), course.getEnrolledStudentIds());
+        assertEquals(2, course.studentCountProperty().get());
+        assertEquals(List.of(first, second, third), snapshot.toCourse().getEnrolledStudentIds());
+        assertTrue(snapshot.toCourse().containsStudentId(first));
+    }
 }
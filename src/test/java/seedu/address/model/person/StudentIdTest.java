@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -9,14 +11,14 @@ import org.junit.jupiter.api.Test;
 public class StudentIdTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new StudentId(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StudentId.of(null));
     }
 
     @Test
-    public void constructor_invalidStudentId_throwsIllegalArgumentException() {
+    public void of_emptyValue_throwsIllegalArgumentException() {
         String invalidStudentId = "";
-        assertThrows(IllegalArgumentException.class, () -> new StudentId(invalidStudentId));
+        assertThrows(IllegalArgumentException.class, () -> StudentId.of(invalidStudentId));
     }
 
     @Test
@@ -56,12 +58,31 @@ public class StudentIdTest {
         assertTrue(StudentId.isValidStudentId("S54321")); // another typical case
     }
 
+    @Test
+    public void of_sameValue_returnsCanonicalInstance() {
+        assertSame(StudentId.of("S00042"), StudentId.of("S00042"));
+        assertSame(StudentId.of("S00042"), StudentId.fromNumber(42));
+    }
+
+    @Test
+    public void of_invalidValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StudentId.of("S1234"));
+        assertThrows(IllegalArgumentException.class, () -> StudentId.fromNumber(100000));
+    }
+
+    @Test
+    public void fromNumber_formatsWithLeadingZeros() {
+        assertEquals("S00007", StudentId.fromNumber(7).getValue());
+        assertEquals("S99999", StudentId.fromNumber(99999).toString());
+        assertEquals(7, StudentId.of("S00007").getNumber());
+    }
+
     @Test
     public void equals() {
-        StudentId studentId = new StudentId("S12345");
+        StudentId studentId = StudentId.of("S12345");
 
         // same values -> returns true
-        assertTrue(studentId.equals(new StudentId("S12345")));
+        assertTrue(studentId.equals(StudentId.of("S12345")));
 
         // same object -> returns true
         assertTrue(studentId.equals(studentId));
@@ -73,14 +94,14 @@ public class StudentIdTest {
         assertFalse(studentId.equals(5.0f));
 
         // different values -> returns false
-        assertFalse(studentId.equals(new StudentId("S67890")));
+        assertFalse(studentId.equals(StudentId.of("S67890")));
     }
 
     @Test
     public void hashCode_test() {
-        StudentId studentId1 = new StudentId("S12345");
-        StudentId studentId2 = new StudentId("S12345");
-        StudentId studentId3 = new StudentId("S67890");
+        StudentId studentId1 = StudentId.of("S12345");
+        StudentId studentId2 = StudentId.of("S12345");
+        StudentId studentId3 = StudentId.of("S67890");
 
         // same values -> same hash code
         assertTrue(studentId1.hashCode() == studentId2.hashCode());
@@ -91,14 +112,14 @@ public class StudentIdTest {
 
     @Test
     public void toString_test() {
-        StudentId studentId = new StudentId("S12345");
+        StudentId studentId = StudentId.of("S12345");
         String expected = "S12345";
         assertTrue(studentId.toString().equals(expected));
     }
 
     @Test
     public void getValue_test() {
-        StudentId studentId = new StudentId("S12345");
+        StudentId studentId = StudentId.of("S12345");
         String expected = "S12345";
         assertTrue(studentId.getValue().equals(expected));
     }
@@ -2,13 +2,18 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -49,6 +54,18 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void getPerson_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getPerson(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void getPerson_personNotInList_returnsNull() {
+        uniquePersonList.add(ALICE);
+        assertNull(uniquePersonList.getPerson(BOB.getStudentId()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -102,6 +119,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -127,6 +146,21 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAndSetPerson_afterEarlierRemovals_changeThePersonsOwnPosition() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL, DANIEL, ELLE));
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.add(BOB);
+        Person editedDaniel = new PersonBuilder(DANIEL).withName(VALID_NAME_BOB).build();
+        uniquePersonList.setPerson(DANIEL, editedDaniel);
+        uniquePersonList.remove(ALICE);
+
+        List<Person> expected = List.of(CARL, editedDaniel, ELLE, BOB);
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(expected, uniquePersonList.snapshot().toList());
     }
 
     @Test
@@ -156,6 +190,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(BOB, uniquePersonList.getPerson(BOB.getStudentId()));
     }
 
     @Test
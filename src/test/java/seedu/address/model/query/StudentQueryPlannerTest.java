@@ -0,0 +1,97 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.IntBitmap;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CourseBook;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.course.CourseName;
+import seedu.address.model.person.StudentId;
+
+public class StudentQueryPlannerTest {
+
+    private static final QueryTerm COURSE_C0001 = new QueryTerm(QueryField.COURSE, List.of("C0001"));
+    private static final QueryTerm FEMALE = new QueryTerm(QueryField.GENDER, List.of("Female"));
+    private static final QueryTerm NAME_E = new QueryTerm(QueryField.NAME, List.of("e"));
+
+    private StudentQueryPlanner planner;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = getTypicalAddressBook();
+        CourseBook courseBook = new CourseBook();
+        courseBook.addCourse(new Course(new CourseName("Mathematics"), CourseId.of("C0001"),
+                List.of(StudentId.of("S00001"), StudentId.of("S00002"), StudentId.of("S00005")), new HashSet<>()));
+        planner = new StudentQueryPlanner(addressBook, courseBook);
+    }
+
+    @Test
+    public void plan_mostSelectiveIndexFirst() {
+        // course and gender both estimate 3 students; the course roster is cheaper to test, so it is scanned first
+        QueryPlan plan = planner.plan(new StudentQuery(List.of(NAME_E, FEMALE, COURSE_C0001)));
+        assertEquals(List.of(COURSE_C0001, FEMALE, NAME_E), plan.getOrder());
+        assertEquals(IntBitmap.of(1, 5), plan.execute());
+
+        QueryTerm carl = new QueryTerm(QueryField.ID, List.of("S00003", "S00099"));
+        QueryTerm male = new QueryTerm(QueryField.GENDER, List.of("Male"));
+        plan = planner.plan(new StudentQuery(List.of(male, carl)));
+        assertEquals(List.of(carl, male), plan.getOrder());
+        assertEquals(IntBitmap.of(3), plan.execute());
+    }
+
+    @Test
+    public void execute_disjunctionWithinTerm() {
+        QueryTerm names = new QueryTerm(QueryField.NAME, List.of("kurz", "kunz"));
+        QueryTerm genders = new QueryTerm(QueryField.GENDER, List.of("Male", "Female"));
+        QueryPlan plan = planner.plan(new StudentQuery(List.of(genders, names)));
+        assertEquals(IntBitmap.of(3, 6), plan.execute());
+
+        QueryTerm unknownCourse = new QueryTerm(QueryField.COURSE, List.of("C9999"));
+        plan = planner.plan(new StudentQuery(List.of(names, unknownCourse)));
+        assertEquals(List.of(unknownCourse, names), plan.getOrder());
+        assertTrue(plan.execute().isEmpty());
+    }
+
+    @Test
+    public void execute_noCourse_matchesUnenrolledStudents() {
+        QueryTerm noCourse = new QueryTerm(QueryField.COURSE, List.of(QueryTerm.NO_COURSE));
+        QueryPlan plan = planner.plan(new StudentQuery(List.of(noCourse)));
+        assertEquals(IntBitmap.of(3, 4, 6, 7), plan.execute());
+
+        QueryTerm male = new QueryTerm(QueryField.GENDER, List.of("Male"));
+        plan = planner.plan(new StudentQuery(List.of(noCourse, male)));
+        assertEquals(IntBitmap.of(3, 4, 7), plan.execute());
+
+        // C0001 and no course together estimate 7 students, more than the 5 names with an e
+        QueryTerm mathsOrNone = new QueryTerm(QueryField.COURSE, List.of("C0001", QueryTerm.NO_COURSE));
+        plan = planner.plan(new StudentQuery(List.of(NAME_E, mathsOrNone)));
+        assertEquals(List.of(NAME_E, mathsOrNone), plan.getOrder());
+        assertEquals(IntBitmap.of(1, 2, 4, 5, 7), plan.execute());
+    }
+
+    @Test
+    public void explain() {
+        QueryPlan plan = planner.plan(new StudentQuery(List.of(FEMALE, COURSE_C0001)));
+        String unexecuted = plan.explain();
+        assertEquals("Plan for gender/Female course/C0001:\n"
+                + "1. Scan enrollment index for course/C0001 (estimated 3)\n"
+                + "2. Filter candidates by gender/Female (estimated 3)", unexecuted);
+
+        plan.execute();
+        String executed = plan.explain();
+        assertTrue(executed.matches("(?s).*course/C0001 \\(estimated 3\\): 3 student\\(s\\) in \\d+\\.\\d{3} ms\n.*"));
+        assertTrue(executed.matches("(?s).*gender/Female \\(estimated 3\\): 2 student\\(s\\) in \\d+\\.\\d{3} ms"));
+        assertFalse(executed.equals(unexecuted));
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.model.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.CourseBook;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.model.course.CourseName;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.CourseBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class EnrollmentStatisticsTest {
+
+    private AddressBook addressBook;
+    private CourseBook courseBook;
+    private Person alice;
+    private Person bob;
+    private Course calculus;
+    private Course drawing;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        courseBook = new CourseBook();
+        alice = new PersonBuilder().withStudentId("S00001").withName("Alice").withGender("Female").build();
+        bob = new PersonBuilder().withStudentId("S00002").withName("Bob").withGender("Male").build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+        calculus = new CourseBuilder().withCourseId("C0001").withName("Calculus").build();
+        drawing = new CourseBuilder().withCourseId("C0002").withName("Drawing").build();
+        calculus.addStudent(alice);
+        courseBook.addCourse(calculus);
+        courseBook.addCourse(drawing);
+    }
+
+    @Test
+    public void constructor_existingRosters_counted() {
+        EnrollmentStatistics statistics = new EnrollmentStatistics(addressBook, courseBook);
+        assertEquals(new EnrollmentStats(1, Map.of("Female", 1), 0, 0),
+                statistics.getCourseStats(calculus.getCourseId()));
+        assertEquals(new EnrollmentStats(0, Map.of(), 0, 0), statistics.getCourseStats(drawing.getCourseId()));
+        assertNull(statistics.getCourseStats(CourseId.of("C0003")));
+    }
+
+    @Test
+    public void enrollmentsAndEdits_matchRecount() {
+        EnrollmentStatistics statistics = new EnrollmentStatistics(addressBook, courseBook);
+
+        calculus.addStudent(bob);
+        drawing.addStudent(bob);
+        assertEquals(new EnrollmentStats(2, Map.of("Female", 1, "Male", 1), 1, 0),
+                statistics.getCourseStats(calculus.getCourseId()));
+        assertEquals(new EnrollmentStats(3, Map.of("Female", 1, "Male", 2), 2, 0), statistics.getOverallStats());
+
+        Person editedBob = new PersonBuilder(bob).withGender("Other").build();
+        addressBook.setPerson(bob, editedBob);
+        assertEquals(recount(), statistics.getOverallStats().getGenderCounts());
+
+        calculus.removeStudent(alice);
+        assertEquals(new EnrollmentStats(1, Map.of("Other", 1), 1, 1),
+                statistics.getCourseStats(calculus.getCourseId()));
+        assertEquals(recount(), statistics.getOverallStats().getGenderCounts());
+
+        courseBook.removeCourse(drawing);
+        assertNull(statistics.getCourseStats(drawing.getCourseId()));
+        assertEquals(new EnrollmentStats(1, Map.of("Other", 1), 2, 1), statistics.getOverallStats());
+    }
+
+    @Test
+    public void courseEdited_countersKept() {
+        EnrollmentStatistics statistics = new EnrollmentStatistics(addressBook, courseBook);
+        calculus.addStudent(bob);
+        calculus.removeStudent(alice);
+        EnrollmentStats calculusStats = statistics.getCourseStats(calculus.getCourseId());
+        EnrollmentStats overallStats = statistics.getOverallStats();
+
+        Course renamed = new Course(new CourseName("Calculus II"), calculus.getCourseId(),
+                calculus.getEnrolledStudentIds(), calculus.getTags());
+        courseBook.setCourse(calculus, renamed);
+        assertEquals(calculusStats, statistics.getCourseStats(renamed.getCourseId()));
+
+        Course renumbered = new Course(renamed.getName(), CourseId.of("C0009"), renamed.getEnrolledStudentIds(),
+                renamed.getTags());
+        courseBook.setCourse(renamed, renumbered);
+        assertNull(statistics.getCourseStats(calculus.getCourseId()));
+        assertEquals(calculusStats, statistics.getCourseStats(renumbered.getCourseId()));
+        assertEquals(overallStats, statistics.getOverallStats());
+
+        // a replacement with another roster is counted afresh
+        courseBook.setCourse(renumbered, new Course(renumbered.getName(), renumbered.getCourseId(), List.of(),
+                renumbered.getTags()));
+        assertEquals(new EnrollmentStats(0, Map.of(), 0, 0), statistics.getCourseStats(renumbered.getCourseId()));
+        assertEquals(recount(), statistics.getOverallStats().getGenderCounts());
+    }
+
+    @Test
+    public void missingStudent_countedAsUnknownUntilAdded() {
+        Person carl = new PersonBuilder().withStudentId("S00003").withName("Carl").withGender("Male").build();
+        Course art = new CourseBuilder().withCourseId("C0003").withName("Art").build();
+        art.addStudent(carl);
+        courseBook.addCourse(art);
+        EnrollmentStatistics statistics = new EnrollmentStatistics(addressBook, courseBook);
+        assertEquals(Map.of(EnrollmentStatistics.UNKNOWN_GENDER, 1),
+                statistics.getCourseStats(art.getCourseId()).getGenderCounts());
+
+        addressBook.addPerson(carl);
+        assertEquals(Map.of("Male", 1), statistics.getCourseStats(art.getCourseId()).getGenderCounts());
+
+        addressBook.setPersons(List.of());
+        assertEquals(Map.of(EnrollmentStatistics.UNKNOWN_GENDER, 2), statistics.getOverallStats().getGenderCounts());
+    }
+
+    /**
+     * Returns the gender split of all enrollments, counted by reading every roster.
+     */
+    private Map<String, Integer> recount() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Course course : courseBook.getCourseList()) {
+            course.getEnrolledStudentIds().forEach(studentId -> {
+                Person student = addressBook.getPersonById(studentId);
+                String gender = student == null ? EnrollmentStatistics.UNKNOWN_GENDER : student.getGender().value;
+                counts.merge(gender, 1, Integer::sum);
+            });
+        }
+        return counts;
+    }
+}
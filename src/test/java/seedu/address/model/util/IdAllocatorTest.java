@@ -0,0 +1,56 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.IntBitmap;
+
+public class IdAllocatorTest {
+
+    @Test
+    public void constructor_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IdAllocator(5, 4));
+    }
+
+    @Test
+    public void allocate_emptyAllocator_returnsIdsInOrder() {
+        IdAllocator allocator = new IdAllocator(1, 10);
+        assertEquals(1, allocator.peekNext());
+        assertEquals(1, allocator.peekNext());
+        assertEquals(1, allocator.allocate());
+        assertEquals(2, allocator.allocate());
+        assertEquals(2, allocator.getHighWaterMark());
+    }
+
+    @Test
+    public void release_belowHighWaterMark_notReusedUntilRangeExhausted() {
+        IdAllocator allocator = new IdAllocator(1, 3);
+        allocator.allocate();
+        allocator.allocate();
+        allocator.release(1);
+        assertEquals(3, allocator.allocate());
+
+        // range exhausted, freed id is reused
+        assertEquals(1, allocator.allocate());
+        assertEquals(-1, allocator.peekNext());
+        assertEquals(-1, allocator.allocate());
+    }
+
+    @Test
+    public void markUsed_outOfRange_throwsIllegalArgumentException() {
+        IdAllocator allocator = new IdAllocator(1, 3);
+        assertThrows(IllegalArgumentException.class, () -> allocator.markUsed(4));
+    }
+
+    @Test
+    public void reset_persistedHighWaterMark_allocatesAboveIt() {
+        IdAllocator allocator = new IdAllocator(1, 100);
+        allocator.reset(IntBitmap.of(3, 7), 20);
+        assertEquals(21, allocator.peekNext());
+
+        allocator.reset(IntBitmap.of(3, 7), 0);
+        assertEquals(8, allocator.peekNext());
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SelectionListTest {
+
+    private static final Predicate<Item> IS_EVEN = item -> item.value % 2 == 0;
+
+    @Test
+    public void select_showsSelectionInGivenOrderWithoutTestingOthers() {
+        Item a = new Item(0);
+        Item b = new Item(1);
+        Item c = new Item(2);
+        ObservableList<Item> source = FXCollections.observableArrayList(a, b, c);
+        SelectionList<Item> selection = new SelectionList<>(source);
+        List<Item> tested = new ArrayList<>();
+
+        selection.select(List.of(c, a), item -> tested.add(item) && item != b);
+        assertEquals(List.of(c, a), selection);
+        assertEquals(List.of(), tested);
+    }
+
+    @Test
+    public void select_sourceChanges_followedAfterSelection() {
+        Item a = new Item(0);
+        Item b = new Item(1);
+        Item c = new Item(2);
+        ObservableList<Item> source = FXCollections.observableArrayList(a, b, c);
+        SelectionList<Item> selection = new SelectionList<>(source);
+        List<Item> mirror = new ArrayList<>(selection);
+        selection.addListener((ListChangeListener<Item>) change -> applyChange(change, mirror));
+        selection.select(List.of(c, a), IS_EVEN);
+
+        Item d = new Item(4);
+        source.add(0, d);
+        source.add(new Item(5));
+        assertEquals(List.of(c, a, d), selection);
+
+        Item editedC = new Item(6);
+        source.set(source.indexOf(c), editedC);
+        source.remove(a);
+        assertEquals(List.of(editedC, d), selection);
+
+        source.set(source.indexOf(d), new Item(7));
+        assertEquals(List.of(editedC), selection);
+        assertEquals(selection, mirror);
+    }
+
+    @Test
+    public void setPredicate_sourceChanges_matchFullFilterAndReportedChanges() {
+        Random random = new Random(9);
+        ObservableList<Item> source = FXCollections.observableArrayList();
+        SelectionList<Item> selection = new SelectionList<>(source);
+        selection.setPredicate(IS_EVEN);
+        List<Item> mirror = new ArrayList<>();
+        selection.addListener((ListChangeListener<Item>) change -> applyChange(change, mirror));
+
+        for (int step = 0; step < 2000; step++) {
+            int operation = random.nextInt(4);
+            if (source.isEmpty() || operation <= 1) {
+                source.add(random.nextInt(source.size() + 1), new Item(random.nextInt(50)));
+            } else if (operation == 2) {
+                source.remove(random.nextInt(source.size()));
+            } else {
+                source.set(random.nextInt(source.size()), new Item(random.nextInt(50)));
+            }
+
+            List<Item> expected = source.stream().filter(IS_EVEN).toList();
+            assertEquals(expected, selection);
+            assertEquals(expected, mirror);
+        }
+
+        source.setAll(new Item(2), new Item(3));
+        assertEquals(List.of(source.get(0)), selection);
+        assertEquals(selection, mirror);
+        selection.setPredicate(null);
+        assertEquals(source, selection);
+        assertEquals(1, selection.getSourceIndex(selection.getViewIndex(1)));
+    }
+
+    /**
+     * Replays {@code change} on {@code mirror}, so that it ends up equal to the list that fired the change.
+     */
+    private static void applyChange(ListChangeListener.Change<? extends Item> change, List<Item> mirror) {
+        while (change.next()) {
+            mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            mirror.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+
+    /**
+     * An element compared by identity, so that equal values can be told apart.
+     */
+    private static final class Item {
+        private final int value;
+
+        Item(int value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class TreeSortedListTest {
+
+    private static final Comparator<Key> BY_VALUE = Comparator.comparingInt(key -> key.value);
+    private static final Comparator<Key> BY_ID = Comparator.comparingInt(key -> key.id);
+
+    @Test
+    public void noComparator_showsSourceOrder() {
+        ObservableList<Key> source = FXCollections.observableArrayList(new Key(0, 5), new Key(1, 3));
+        TreeSortedList<Key> sorted = new TreeSortedList<>(source, BY_ID);
+
+        assertNull(sorted.getComparator());
+        assertEquals(source, sorted);
+        source.add(0, new Key(2, 4));
+        assertEquals(source, sorted);
+    }
+
+    @Test
+    public void setComparator_equalKeys_brokenByTieBreaker() {
+        Key first = new Key(0, 1);
+        Key second = new Key(1, 1);
+        Key third = new Key(2, 0);
+        ObservableList<Key> source = FXCollections.observableArrayList(second, third, first);
+        TreeSortedList<Key> sorted = new TreeSortedList<>(source, BY_ID);
+
+        sorted.setComparator(BY_VALUE);
+        assertEquals(List.of(third, first, second), sorted);
+        sorted.setComparator(null);
+        assertEquals(source, sorted);
+    }
+
+    @Test
+    public void sourceChanges_matchFullSortAndReportedChanges() {
+        Random random = new Random(15);
+        ObservableList<Key> source = FXCollections.observableArrayList();
+        TreeSortedList<Key> sorted = new TreeSortedList<>(source, BY_ID);
+        sorted.setComparator(BY_VALUE.reversed());
+        List<Key> mirror = new ArrayList<>();
+        sorted.addListener((ListChangeListener<Key>) change -> applyChange(change, mirror));
+
+        int nextId = 0;
+        for (int step = 0; step < 2000; step++) {
+            int operation = random.nextInt(5);
+            if (source.isEmpty() || operation <= 1) {
+                source.add(random.nextInt(source.size() + 1), new Key(nextId++, random.nextInt(50)));
+            } else if (operation == 2) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 3) {
+                source.set(random.nextInt(source.size()), new Key(nextId++, random.nextInt(50)));
+            } else {
+                Key key = source.get(random.nextInt(source.size()));
+                key.value = random.nextInt(50);
+                sorted.reposition(key);
+            }
+
+            List<Key> expected = new ArrayList<>(source);
+            expected.sort(BY_VALUE.reversed().thenComparing(BY_ID));
+            assertEquals(expected, sorted);
+            assertEquals(expected, mirror);
+        }
+
+        for (int i = 0; i < source.size(); i++) {
+            assertEquals(source.get(i), sorted.get(sorted.getViewIndex(i)));
+            assertEquals(i, sorted.getSourceIndex(sorted.getViewIndex(i)));
+        }
+    }
+
+    /**
+     * Replays {@code change} on {@code mirror}, so that it ends up equal to the list that fired the change.
+     */
+    private static void applyChange(ListChangeListener.Change<? extends Key> change, List<Key> mirror) {
+        while (change.next()) {
+            mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            mirror.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+
+    private static class Key {
+        private final int id;
+        private int value;
+
+        Key(int id, int value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return id + ":" + value;
+        }
+    }
+}
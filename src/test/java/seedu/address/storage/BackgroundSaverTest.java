@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ChangeSet;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_burstWhileWriting_writesOnlyLatestAfterwards() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> savedSizes = new CopyOnWriteArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                savedSizes.add(addressBook.getPersonList().size());
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        BackgroundSaver saver = new BackgroundSaver(storage(addressBookStorage), e -> { });
+        Model model = new ModelManager();
+
+        model.addPerson(ALICE);
+        saver.save(model.snapshot(), model.takeChanges());
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        model.addPerson(BENSON);
+        saver.save(model.snapshot(), model.takeChanges());
+        model.addPerson(CARL);
+        saver.save(model.snapshot(), model.takeChanges());
+        release.countDown();
+        saver.close();
+
+        assertEquals(List.of(1, 3), savedSizes);
+    }
+
+    @Test
+    public void save_storageFails_reportsFailure() {
+        IOException failure = new IOException("disk full");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        List<Exception> reported = new CopyOnWriteArrayList<>();
+        BackgroundSaver saver = new BackgroundSaver(storage(addressBookStorage), reported::add);
+
+        saver.save(new ModelManager().snapshot(), ChangeSet.EMPTY);
+        saver.flush();
+
+        assertEquals(List.of(failure), reported);
+        saver.close();
+    }
+
+    @Test
+    public void save_withJournal_appendsChangesBetweenFullSaves() throws Exception {
+        List<Integer> savedSizes = new CopyOnWriteArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                savedSizes.add(addressBook.getPersonList().size());
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("journal.jsonl"));
+        BackgroundSaver saver = new BackgroundSaver(storage(addressBookStorage), journal, e -> { });
+        Model model = new ModelManager();
+
+        // The first save is in full, so that the journal applies to the data files.
+        model.addPerson(ALICE);
+        saver.save(model.snapshot(), model.takeChanges());
+        saver.flush();
+        assertEquals(List.of(1), savedSizes);
+        assertEquals(0, journal.getJournalRecordCount());
+
+        model.addPerson(BENSON);
+        saver.save(model.snapshot(), model.takeChanges());
+        model.addPerson(CARL);
+        saver.save(model.snapshot(), model.takeChanges());
+        saver.flush();
+        assertEquals(List.of(1), savedSizes);
+        assertEquals(2, journal.getJournalRecordCount());
+
+        saver.close();
+        assertEquals(List.of(1, 3), savedSizes);
+        assertEquals(0, journal.getJournalSize());
+    }
+
+    @Test
+    public void save_journalThrowsRuntimeException_reportsFailureAndSavesInFullNextTime() {
+        IllegalStateException failure = new IllegalStateException("cannot serialise");
+        List<Integer> savedSizes = new CopyOnWriteArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                savedSizes.add(addressBook.getPersonList().size());
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("journal.jsonl")) {
+            private boolean hasFailed;
+
+            @Override
+            public void appendToJournal(List<ChangeSet> changeSets) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw failure;
+                }
+                super.appendToJournal(changeSets);
+            }
+        };
+        List<Exception> reported = new CopyOnWriteArrayList<>();
+        BackgroundSaver saver = new BackgroundSaver(storage(addressBookStorage), journal, reported::add);
+        Model model = new ModelManager();
+
+        model.addPerson(ALICE);
+        saver.save(model.snapshot(), model.takeChanges());
+        saver.flush();
+        model.addPerson(BENSON);
+        saver.save(model.snapshot(), model.takeChanges());
+        saver.flush();
+        assertEquals(List.of(failure), reported);
+
+        // BENSON never reached the journal, so the next save must be in full.
+        model.addPerson(CARL);
+        saver.save(model.snapshot(), model.takeChanges());
+        saver.close();
+        assertEquals(List.of(1, 3), savedSizes);
+        assertEquals(List.of(failure), reported);
+    }
+
+    private Storage storage(AddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonCourseBookStorage(testFolder.resolve("cb.json")));
+    }
+}
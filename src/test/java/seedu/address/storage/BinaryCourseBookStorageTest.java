@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCourses.getTypicalCourseBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getObservablePerson;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CourseBook;
+import seedu.address.model.ReadOnlyCourseBook;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.testutil.CourseBuilder;
+
+public class BinaryCourseBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryCourseBookStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readCourseBook(getObservablePerson()).isPresent());
+    }
+
+    @Test
+    public void read_addressBookFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        assertThrows(DataLoadingException.class, () ->
+                new BinaryCourseBookStorage(filePath).readCourseBook(getObservablePerson()));
+    }
+
+    @Test
+    public void read_unknownStudent_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("cb.bin");
+        CourseBook courseBook = getTypicalCourseBook();
+        courseBook.getCourseById(CourseId.of("C1010")).addStudent(ALICE);
+        BinaryCourseBookStorage storage = new BinaryCourseBookStorage(filePath);
+        storage.saveCourseBook(courseBook);
+
+        assertThrows(DataLoadingException.class, () ->
+                storage.readCourseBook(new AddressBook().getPersonList()));
+    }
+
+    @Test
+    public void readAndSaveCourseBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempCourseBook.bin");
+        CourseBook original = getTypicalCourseBook();
+        original.addCourse(new CourseBuilder().withCourseId("C0007").withTags("core", "lab").build());
+        Course course = original.getCourseById(CourseId.of("C1010"));
+        course.addStudent(CARL);
+        course.addStudent(ALICE);
+        course.addStudent(BENSON);
+        original.removeCourse(original.getCourseById(CourseId.of("C9876")));
+        BinaryCourseBookStorage binaryCourseBookStorage = new BinaryCourseBookStorage(filePath);
+
+        binaryCourseBookStorage.saveCourseBook(original);
+        ReadOnlyCourseBook readBack = binaryCourseBookStorage.readCourseBook(getObservablePerson()).get();
+        assertEquals(original, new CourseBook(readBack));
+        assertEquals(List.of(CARL.getStudentId().getValue(), ALICE.getStudentId().getValue(),
+                BENSON.getStudentId().getValue()), readBack.getCourseList().get(0).getStudentIds());
+        Course tagged = new CourseBook(readBack).getCourseById(CourseId.of("C0007"));
+        assertEquals(original.getCourseById(CourseId.of("C0007")).getTags(), tagged.getTags());
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+
+public class ConvertingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_noFiles_emptyResult() throws Exception {
+        assertFalse(new ConvertingAddressBookStorage(binary(), json()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_onlySourceSaved_convertsSource() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        json().saveAddressBook(original);
+        ConvertingAddressBookStorage storage = new ConvertingAddressBookStorage(binary(), json());
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get(), new UserPrefs()));
+
+        // Saving goes to the target, which is read from then on.
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(binary().readAddressBook().get(), new UserPrefs()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get(), new UserPrefs()));
+    }
+
+    @Test
+    public void readAddressBook_sourceSavedLast_readsSource() throws Exception {
+        binary().saveAddressBook(getTypicalAddressBook());
+        AddressBook latest = getTypicalAddressBook();
+        latest.addPerson(HOON);
+        json().saveAddressBook(latest);
+        Files.setLastModifiedTime(binary().getAddressBookFilePath(), FileTime.fromMillis(0));
+
+        assertEquals(latest, new AddressBook(new ConvertingAddressBookStorage(binary(), json()).readAddressBook().get(),
+                new UserPrefs()));
+        assertEquals(latest, new AddressBook(new ConvertingAddressBookStorage(json(), binary()).readAddressBook().get(),
+                new UserPrefs()));
+    }
+
+    @Test
+    public void readAddressBook_throughStorageManager_convertsSource() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        json().saveAddressBook(original);
+        StorageManager storage = new StorageManager(new ConvertingAddressBookStorage(binary(), json()),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonCourseBookStorage(testFolder.resolve("coursebook.json")));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get(), new UserPrefs()));
+    }
+
+    private BinaryAddressBookStorage binary() {
+        return new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+    }
+
+    private JsonAddressBookStorage json() {
+        return new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+    }
+}
@@ -38,7 +38,7 @@ public class JsonAdaptedCourseTest {
     // A valid sample Course object for testing the constructor
     private static final Course SAMPLE_COURSE = new Course(
             new CourseName("Software Engineering"),
-            new CourseId("C2103"),
+            CourseId.of("C2103"),
             Set.of(new Tag("core"), new Tag("popular"))
     );
 
@@ -151,8 +151,18 @@ public class JsonAdaptedCourseTest {
         } catch (IllegalValueException e) {
             throw new AssertionError("This will not happen.");
         }
-        assertEquals("S00001", c.getStudentList().asUnmodifiableObservableList().get(0).getStudentId()
-                .getValue());
+        assertEquals(List.of(StudentId.of("S00001")), c.getEnrolledStudentIds());
+    }
+
+    @Test
+    public void toModelType_duplicateStudents_throwsIllegalValueException() {
+        List<String> duplicateStudents = List.of("S00001", "S00002", "S00001");
+        JsonAdaptedCourse course = new JsonAdaptedCourse(VALID_NAME, VALID_COURSE_ID, duplicateStudents,
+                new ArrayList<>());
+
+        IllegalValueException thrown = assertThrows(IllegalValueException.class, () ->
+                course.toModelType(getObservablePerson()));
+        assertEquals(JsonAdaptedCourse.MESSAGE_DUPLICATE_STUDENT, thrown.getMessage());
     }
 
     @Test
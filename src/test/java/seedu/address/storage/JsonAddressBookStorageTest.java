@@ -85,6 +85,11 @@ public class JsonAddressBookStorageTest {
         readBack = jsonAddressBookStorage.readAddressBook().get(); // file path not specified
         assertEquals(original, new AddressBook(readBack, new UserPrefs()));
 
+        // Deregistered ids are not handed out again after a reload
+        original.removePerson(IDA);
+        jsonAddressBookStorage.saveAddressBook(original);
+        readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(original.getLatestStudentId(), new AddressBook(readBack, new UserPrefs()).getLatestStudentId());
     }
 
     @Test
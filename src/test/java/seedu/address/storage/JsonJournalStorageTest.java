@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.CourseBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.course.Course;
+import seedu.address.model.course.CourseId;
+import seedu.address.testutil.CourseBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonJournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void replayJournal_missingFile_replaysNothing() throws Exception {
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("missing.jsonl"));
+        assertEquals(0, journal.replayJournal(new AddressBook(), new CourseBook()));
+        assertEquals(0, journal.getJournalRecordCount());
+        assertEquals(0, journal.getJournalSize());
+    }
+
+    @Test
+    public void appendToJournal_thenReplay_givesSameData() throws Exception {
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("data").resolve("journal.jsonl"));
+        journal.appendToJournal(List.of(makeFirstChanges()));
+        journal.appendToJournal(List.of(makeSecondChanges()));
+        assertEquals(2, journal.getJournalRecordCount());
+
+        AddressBook addressBook = new AddressBook();
+        CourseBook courseBook = new CourseBook();
+        assertEquals(2, new JsonJournalStorage(journal.getJournalFilePath()).replayJournal(addressBook, courseBook));
+        assertSameData(addressBook, courseBook);
+    }
+
+    @Test
+    public void replayJournal_tornLastLine_dropsIt() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        JsonJournalStorage journal = new JsonJournalStorage(filePath);
+        journal.appendToJournal(List.of(makeFirstChanges()));
+        long validSize = journal.getJournalSize();
+        Files.writeString(filePath, "{\"changes\":[{\"kind\":\"ADD_PE", StandardOpenOption.APPEND);
+
+        AddressBook addressBook = new AddressBook();
+        CourseBook courseBook = new CourseBook();
+        JsonJournalStorage reopened = new JsonJournalStorage(filePath);
+        assertEquals(1, reopened.replayJournal(addressBook, courseBook));
+        assertEquals(validSize, Files.size(filePath));
+        assertEquals(1, reopened.getJournalRecordCount());
+
+        // Appends after the dropped line can be replayed.
+        reopened.appendToJournal(List.of(makeSecondChanges()));
+        addressBook = new AddressBook();
+        courseBook = new CourseBook();
+        assertEquals(2, new JsonJournalStorage(filePath).replayJournal(addressBook, courseBook));
+        assertSameData(addressBook, courseBook);
+    }
+
+    @Test
+    public void replayJournal_conflictingChangeSet_throwsAndKeepsJournal() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        JsonJournalStorage journal = new JsonJournalStorage(filePath);
+        model.addPerson(ALICE);
+        model.takeChanges();
+        // Gives Alice the student id of a person that the data being replayed onto already has.
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withStudentId(BENSON.getStudentId().toString()).build());
+        journal.appendToJournal(List.of(model.takeChanges()));
+        long size = journal.getJournalSize();
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertThrows(DataLoadingException.class, () -> new JsonJournalStorage(filePath)
+                .replayJournal(addressBook, new CourseBook()));
+        assertEquals(size, Files.size(filePath));
+    }
+
+    @Test
+    public void moveJournalAside_afterAppend_keepsBackupAndEmptiesJournal() throws Exception {
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("journal.jsonl"));
+        assertNull(journal.moveJournalAside());
+        journal.appendToJournal(List.of(makeFirstChanges()));
+        long size = journal.getJournalSize();
+
+        Path backupPath = journal.moveJournalAside();
+        assertEquals(size, Files.size(backupPath));
+        assertEquals(0, journal.getJournalRecordCount());
+        assertEquals(0, journal.getJournalSize());
+        assertEquals(1, new JsonJournalStorage(backupPath).replayJournal(new AddressBook(), new CourseBook()));
+    }
+
+    @Test
+    public void clearJournal_afterAppend_emptiesJournal() throws Exception {
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("journal.jsonl"));
+        journal.appendToJournal(List.of(makeFirstChanges()));
+        journal.clearJournal();
+
+        assertEquals(0, journal.getJournalRecordCount());
+        assertEquals(0, journal.getJournalSize());
+        assertEquals(0, journal.replayJournal(new AddressBook(), new CourseBook()));
+    }
+
+    private ChangeSet makeFirstChanges() {
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addCourse(new CourseBuilder().withCourseId("C0001").withTags("core").build());
+        model.getCourseById(CourseId.of("C0001")).addStudent(ALICE);
+        return model.takeChanges();
+    }
+
+    private ChangeSet makeSecondChanges() {
+        Course course = model.getCourseById(CourseId.of("C0001"));
+        course.addStudent(BENSON);
+        course.removeStudent(ALICE);
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Tan").build());
+        model.deletePerson(ALICE);
+        return model.takeChanges();
+    }
+
+    private void assertSameData(AddressBook addressBook, CourseBook courseBook) {
+        assertEquals(model.getAddressBook().getPersonList(), addressBook.getPersonList());
+        assertEquals(model.getCourseBook().getCourseList(), courseBook.getCourseList());
+        Course course = courseBook.getCourseById(CourseId.of("C0001"));
+        assertEquals(model.getCourseById(CourseId.of("C0001")).getStudentIds(), course.getStudentIds());
+        assertEquals(model.getCourseById(CourseId.of("C0001")).getTags(), course.getTags());
+        assertEquals(model.getAddressBook().getStudentIdHighWaterMark(), addressBook.getStudentIdHighWaterMark());
+    }
+}
@@ -3,10 +3,12 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
@@ -20,6 +22,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -44,4 +49,29 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook::read).get();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE, JsonSerializableAddressBook::read));
+    }
+
+    @Test
+    public void write_typicalPersons_sameAsAdaptedAddressBook() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonUtil.saveJsonFile(generator -> JsonSerializableAddressBook.write(addressBook, generator), filePath);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)), Files.readString(filePath));
+        AddressBook readBack = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook::read).get();
+        assertEquals(addressBook, readBack);
+        assertEquals(addressBook.getStudentIdHighWaterMark(), readBack.getStudentIdHighWaterMark());
+    }
+
 }
@@ -4,10 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getObservablePerson;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
@@ -21,6 +23,9 @@ public class JsonSerializableCourseBookTest {
     private static final Path INVALID_COURSE_FILE = TEST_DATA_FOLDER.resolve("invalidCourseCourseBook.json");
     private static final Path DUPLICATE_COURSE_FILE = TEST_DATA_FOLDER.resolve("duplicateCourseCourseBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalCourseFile_success() throws Exception {
         JsonSerializableCourseBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_COURSE_FILE,
@@ -45,4 +50,30 @@ public class JsonSerializableCourseBookTest {
                 dataFromFile.toModelType(getObservablePerson()));
     }
 
+    @Test
+    public void read_typicalCourseFile_success() throws Exception {
+        CourseBook courseBookFromFile = JsonUtil.readJsonFile(TYPICAL_COURSE_FILE, parser ->
+                JsonSerializableCourseBook.read(parser, getObservablePerson())).get();
+        assertEquals(TypicalCourses.getTypicalCourseBook(), courseBookFromFile);
+    }
+
+    @Test
+    public void read_duplicateCourse_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableCourseBook.MESSAGE_DUPLICATE_COURSE, () ->
+                JsonUtil.readJsonFile(DUPLICATE_COURSE_FILE, parser ->
+                        JsonSerializableCourseBook.read(parser, getObservablePerson())));
+    }
+
+    @Test
+    public void write_typicalCourses_sameAsAdaptedCourseBook() throws Exception {
+        CourseBook courseBook = TypicalCourses.getTypicalCourseBook();
+        Path filePath = testFolder.resolve("courseBook.json");
+        JsonUtil.saveJsonFile(generator -> JsonSerializableCourseBook.write(courseBook, generator), filePath);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableCourseBook(courseBook)), Files.readString(filePath));
+        CourseBook readBack = JsonUtil.readJsonFile(filePath, parser ->
+                JsonSerializableCourseBook.read(parser, getObservablePerson())).get();
+        assertEquals(courseBook, readBack);
+    }
+
 }
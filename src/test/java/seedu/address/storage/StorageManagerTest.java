@@ -1,11 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalCourses.getTypicalCourseBook;
 import static seedu.address.testutil.TypicalPersons.getObservablePerson;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +21,7 @@ import seedu.address.model.CourseBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyCourseBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.StudentId;
 
 public class StorageManagerTest {
 
@@ -65,6 +69,34 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved, new UserPrefs()));
     }
 
+    @Test
+    public void saveAddressBook_unchangedSinceLastSave_skipsWrite() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(original.snapshot());
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        original.removePerson(original.getPersonList().get(0));
+        storageManager.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get(), new UserPrefs()));
+    }
+
+    @Test
+    public void saveCourseBook_rosterChanged_writes() throws Exception {
+        CourseBook original = getTypicalCourseBook();
+        storageManager.saveCourseBook(original);
+        Files.delete(storageManager.getCourseBookFilePath());
+
+        storageManager.saveCourseBook(original);
+        assertFalse(Files.exists(storageManager.getCourseBookFilePath()));
+
+        original.getCourseList().get(0).addStudentId(StudentId.of("S00099"));
+        storageManager.saveCourseBook(original);
+        assertTrue(Files.exists(storageManager.getCourseBookFilePath()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -26,7 +26,7 @@ public class CourseBuilder {
      */
     public CourseBuilder() {
         name = new CourseName(DEFAULT_NAME);
-        courseId = new CourseId(DEFAULT_COURSEID);
+        courseId = CourseId.of(DEFAULT_COURSEID);
         tags = new HashSet<>();
     }
 
@@ -60,7 +60,7 @@ public class CourseBuilder {
      * Sets the {@code Email} of the {@code Course} that we are building.
      */
     public CourseBuilder withCourseId(String id) {
-        this.courseId = new CourseId(id);
+        this.courseId = CourseId.of(id);
         return this;
     }
 
@@ -18,7 +18,7 @@ public class CourseUtil {
         descriptor.getCourseName().ifPresent(courseName -> sb.append(PREFIX_NAME)
                 .append(courseName.fullName).append(" "));
         descriptor.getCourseId().ifPresent(courseId -> sb.append(PREFIX_ID)
-                .append(courseId.value).append(" "));
+                .append(courseId.getValue()).append(" "));
         return sb.toString();
     }
 }
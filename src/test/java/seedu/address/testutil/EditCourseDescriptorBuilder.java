@@ -42,7 +42,7 @@ public class EditCourseDescriptorBuilder {
      * Sets the {@code CourseId} of the {@code EditCourseDescriptor} that we are building.
      */
     public EditCourseDescriptorBuilder withCourseId(String courseId) {
-        descriptor.setCourseId(new CourseId(courseId));
+        descriptor.setCourseId(CourseId.of(courseId));
         return this;
     }
 
@@ -28,7 +28,7 @@ public class PersonBuilder {
         name = new Name(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         gender = new Gender(DEFAULT_GENDER);
-        studentId = new StudentId(DEFAULT_STUDENT_ID);
+        studentId = StudentId.of(DEFAULT_STUDENT_ID);
     }
 
     /**
@@ -69,7 +69,7 @@ public class PersonBuilder {
      * Sets the {@code StudentId} of the {@code Person} that we are building.
      */
     public PersonBuilder withStudentId(String studentId) {
-        this.studentId = new StudentId(studentId);
+        this.studentId = StudentId.of(studentId);
         return this;
     }
 